@@ -93,6 +93,9 @@ dependencies {
 
     // resilience4j
     implementation("org.springframework.cloud:spring-cloud-starter-circuitbreaker-resilience4j")
+
+    // PG HTTP 클라이언트 커넥션 풀
+    implementation("org.apache.httpcomponents.client5:httpclient5")
 }
 
 tasks.withType<Test> {
@@ -336,3 +339,50 @@ dependencyManagement {
         mavenBom("org.springframework.cloud:spring-cloud-dependencies:$springCloudVersion")
     }
 }
+
+/** -----------------------------
+ *  WebSocket 부하 하네스 (src/loadtest/java)
+ *  ./gradlew wsLoadTest -Pws.sessions=10000 -Pws.jwtSecret=... -Pws.seatIds=1,2,3
+ *  ----------------------------- */
+val loadtest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+}
+
+tasks.register<JavaExec>("wsLoadTest") {
+    description = "Run STOMP fan-out load harness against a running backend"
+    group = "verification"
+
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("com.back.loadtest.WsLoadTest")
+    jvmArgs("-Xms1g", "-Xmx4g", "-XX:+UseZGC", "-XX:+ZGenerational")
+    systemProperties(project.properties.filterKeys { it.startsWith("ws.") }.mapValues { it.value.toString() })
+}
+
+/** -----------------------------
+ *  JMH 마이크로 벤치마크 (src/jmh/java)
+ *  ./gradlew jmh -Pjmh.include=SeatAllocatorBenchmark
+ *  ./gradlew jmh -Pjmh.include=SeatAllocationContentionBenchmark -Pbench.db.url=jdbc:postgresql://...
+ *  ./gradlew jmh -Pjmh.include=JwtCodecBenchmark
+ *  ----------------------------- */
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.register<JavaExec>("jmh") {
+    description = "Run JMH benchmarks"
+    group = "verification"
+
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    systemProperties(project.properties.filterKeys { it.startsWith("bench.") }.mapValues { it.value.toString() })
+    args(project.findProperty("jmh.include")?.toString() ?: ".*", "-rf", "json",
+            "-rff", layout.buildDirectory.file("reports/jmh/results.json").get().asFile.absolutePath)
+    doFirst { layout.buildDirectory.dir("reports/jmh").get().asFile.mkdirs() }
+}
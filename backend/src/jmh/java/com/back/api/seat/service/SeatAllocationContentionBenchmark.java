@@ -0,0 +1,203 @@
+package com.back.api.seat.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 동시 구매자 수량 배정 비교 (스탠딩 구역 1개)
+ *
+ * - pickFirstShown: 화면에 먼저 보이는 빈 좌석을 골라 조건부 UPDATE (좌석 지정 선택 경로와 같은 방식, 실패 시 다시 조회)
+ * - skipLocked: FOR UPDATE SKIP LOCKED로 잠기지 않은 빈 행을 가져와 UPDATE (SeatService.allocateGeneralAdmission)
+ * - conflicts: 배정 1건당 다른 구매자와 같은 행을 두고 경합해 버린 시도 수
+ *
+ * 기본은 H2(PostgreSQL 모드) 메모리 DB, 실제 비교는 -Pbench.db.url=jdbc:postgresql://... (-Pbench.db.user, -Pbench.db.password)
+ * units는 iteration 1회 배정량보다 충분히 커야 한다 (매진 후 호출은 즉시 반환)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class SeatAllocationContentionBenchmark {
+
+	private static final String DEFAULT_URL = "jdbc:h2:mem:seat_bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000";
+
+	private static final String PICK_SQL = """
+		SELECT id, version FROM bench_seats
+		WHERE seat_status = 'AVAILABLE'
+		ORDER BY id
+		LIMIT 1
+		""";
+
+	private static final String RESERVE_IF_UNCHANGED_SQL = """
+		UPDATE bench_seats SET seat_status = 'RESERVED', version = version + 1
+		WHERE id = ? AND version = ?
+		""";
+
+	private static final String LOCK_SKIP_LOCKED_SQL = """
+		SELECT id FROM bench_seats
+		WHERE seat_status = 'AVAILABLE'
+		ORDER BY id
+		LIMIT 1
+		FOR UPDATE SKIP LOCKED
+		""";
+
+	private static final String RESERVE_SQL = """
+		UPDATE bench_seats SET seat_status = 'RESERVED', version = version + 1
+		WHERE id = ?
+		""";
+
+	@Param({"200000"})
+	private int units;
+
+	@Setup(Level.Trial)
+	public void createUnits() throws SQLException {
+		try (Connection conn = connect(); Statement st = conn.createStatement()) {
+			st.execute("DROP TABLE IF EXISTS bench_seats");
+			st.execute("""
+				CREATE TABLE bench_seats (
+					id BIGINT PRIMARY KEY,
+					seat_status VARCHAR(16) NOT NULL,
+					version INT NOT NULL
+				)
+				""");
+			st.execute("CREATE INDEX idx_bench_seats_status_id ON bench_seats (seat_status, id)");
+
+			try (PreparedStatement ps = conn.prepareStatement(
+				"INSERT INTO bench_seats (id, seat_status, version) VALUES (?, 'AVAILABLE', 0)")) {
+				for (int id = 1; id <= units; id++) {
+					ps.setLong(1, id);
+					ps.addBatch();
+					if (id % 1_000 == 0) {
+						ps.executeBatch();
+					}
+				}
+				ps.executeBatch();
+			}
+			conn.commit();
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void resetUnits() throws SQLException {
+		try (Connection conn = connect(); Statement st = conn.createStatement()) {
+			st.executeUpdate("UPDATE bench_seats SET seat_status = 'AVAILABLE' WHERE seat_status <> 'AVAILABLE'");
+			conn.commit();
+		}
+	}
+
+	@Benchmark
+	public long pickFirstShown(Session session, Conflicts conflicts) throws SQLException {
+		Connection conn = session.conn;
+		while (true) {
+			long id;
+			int version;
+			try (ResultSet rs = session.pick.executeQuery()) {
+				if (!rs.next()) {
+					conn.commit();
+					return -1;
+				}
+				id = rs.getLong(1);
+				version = rs.getInt(2);
+			}
+
+			session.reserveIfUnchanged.setLong(1, id);
+			session.reserveIfUnchanged.setInt(2, version);
+			int updated = session.reserveIfUnchanged.executeUpdate();
+			conn.commit();
+			if (updated == 1) {
+				return id;
+			}
+			conflicts.conflicts++;
+		}
+	}
+
+	@Benchmark
+	public long skipLocked(Session session) throws SQLException {
+		Connection conn = session.conn;
+		long id;
+		try (ResultSet rs = session.lockSkipLocked.executeQuery()) {
+			if (!rs.next()) {
+				conn.commit();
+				return -1;
+			}
+			id = rs.getLong(1);
+		}
+
+		session.reserve.setLong(1, id);
+		session.reserve.executeUpdate();
+		conn.commit();
+		return id;
+	}
+
+	private static Connection connect() throws SQLException {
+		Connection conn = DriverManager.getConnection(
+			System.getProperty("bench.db.url", DEFAULT_URL),
+			System.getProperty("bench.db.user", "sa"),
+			System.getProperty("bench.db.password", "")
+		);
+		conn.setAutoCommit(false);
+		conn.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+		return conn;
+	}
+
+	@State(Scope.Thread)
+	public static class Session {
+
+		private Connection conn;
+		private PreparedStatement pick;
+		private PreparedStatement reserveIfUnchanged;
+		private PreparedStatement lockSkipLocked;
+		private PreparedStatement reserve;
+
+		// 벤치마크 state를 인자로 받아 bench_seats 생성 이후에 준비되도록 순서 보장
+		@Setup(Level.Trial)
+		public void open(SeatAllocationContentionBenchmark benchmark) throws SQLException {
+			conn = connect();
+			pick = conn.prepareStatement(PICK_SQL);
+			reserveIfUnchanged = conn.prepareStatement(RESERVE_IF_UNCHANGED_SQL);
+			lockSkipLocked = conn.prepareStatement(LOCK_SKIP_LOCKED_SQL);
+			reserve = conn.prepareStatement(RESERVE_SQL);
+		}
+
+		@TearDown(Level.Trial)
+		public void close() throws SQLException {
+			conn.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Conflicts {
+
+		public long conflicts;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			conflicts = 0;
+		}
+	}
+}
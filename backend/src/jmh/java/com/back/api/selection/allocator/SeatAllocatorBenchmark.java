@@ -0,0 +1,88 @@
+package com.back.api.selection.allocator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.back.api.seat.dto.response.SeatResponse;
+import com.back.domain.seat.entity.SeatGrade;
+
+/**
+ * 6만 석 공연장 기준 자동 배정 비용
+ *
+ * - buildIndex: 좌석 맵 버전이 바뀔 때마다 드는 인덱스 재생성 비용
+ * - findBest: 요청마다 드는 후보 탐색 비용 (occupancy = 이미 선택/판매된 좌석 비율)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeatAllocatorBenchmark {
+
+	private static final int ROWS = 200;
+	private static final int SEATS_PER_ROW = 300;
+	private static final SeatGrade[] GRADES = {SeatGrade.VIP, SeatGrade.R, SeatGrade.S, SeatGrade.A};
+
+	@Param({"0.0", "0.6", "0.95"})
+	private double occupancy;
+
+	@Param({"2", "4"})
+	private int quantity;
+
+	private List<SeatResponse> seats;
+	private SeatBlockIndex index;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42);
+		seats = new ArrayList<>(ROWS * SEATS_PER_ROW);
+		long id = 1;
+		for (int row = 0; row < ROWS; row++) {
+			String label = rowLabel(row);
+			String grade = GRADES[row * GRADES.length / ROWS].getDisplayName();
+			for (int number = 1; number <= SEATS_PER_ROW; number++) {
+				String status = random.nextDouble() < occupancy ? "RESERVED" : "AVAILABLE";
+				seats.add(new SeatResponse(id++, 1L, label + number, grade, 100000, status));
+			}
+		}
+		index = SeatBlockIndex.build(seats).get(SeatGrade.A);
+	}
+
+	@Benchmark
+	public Map<SeatGrade, SeatBlockIndex> buildIndex() {
+		return SeatBlockIndex.build(seats);
+	}
+
+	@Benchmark
+	public List<SeatBlock> findBest() {
+		return index.findBest(quantity, 8, row -> 0);
+	}
+
+	// A..Z, AA..ZZ
+	private static String rowLabel(int row) {
+		StringBuilder label = new StringBuilder();
+		int n = row;
+		do {
+			label.insert(0, (char)('A' + n % 26));
+			n = n / 26 - 1;
+		} while (n >= 0);
+		return label.toString();
+	}
+}
@@ -0,0 +1,134 @@
+package com.back.global.utils;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 토큰 종류별 서명/검증 비용 (JwtProvider access/refresh, QrService QR 토큰과 같은 claim 구성)
+ *
+ * - sign*, verify*: secret별로 캐시된 키/파서 사용 (JwtCodec)
+ * - verifyAccessRebuildingKey: 캐시 이전 방식 (호출마다 secret 디코딩 + 키/파서 생성)
+ * - 검증은 요청 스레드 여러 개가 파서를 공유하는 상황을 보기 위해 4스레드로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtCodecBenchmark {
+
+	private static final long ACCESS_SECONDS = 3600;
+	private static final long REFRESH_SECONDS = 1_209_600;
+	private static final long QR_SECONDS = 60;
+
+	private String secret;
+	private String qrSecret;
+	private JwtCodec codec;
+	private JwtCodec qrCodec;
+
+	private Map<String, Object> accessClaims;
+	private Map<String, Object> refreshClaims;
+	private Map<String, Object> qrClaims;
+
+	private String accessToken;
+	private String refreshToken;
+	private String qrToken;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		secret = randomSecret();
+		qrSecret = randomSecret();
+		codec = JwtCodec.of(secret);
+		qrCodec = JwtCodec.of(qrSecret);
+
+		accessClaims = userClaims("access");
+		refreshClaims = userClaims("refresh");
+		qrClaims = Map.of("ticketId", 1L, "eventId", 1L, "userId", 100L, "iat", Instant.now().getEpochSecond());
+
+		accessToken = codec.sign(ACCESS_SECONDS, accessClaims);
+		refreshToken = codec.sign(REFRESH_SECONDS, refreshClaims);
+		// 측정 시간보다 길게 유효한 QR 토큰 (만료로 검증이 실패하면 실패 경로를 재게 됨)
+		qrToken = qrCodec.sign(3600, qrClaims);
+	}
+
+	@Benchmark
+	public String signAccess() {
+		return codec.sign(ACCESS_SECONDS, accessClaims);
+	}
+
+	@Benchmark
+	public Claims verifyAccess() {
+		return codec.claimsOrNull(accessToken);
+	}
+
+	@Benchmark
+	public String signRefresh() {
+		return codec.sign(REFRESH_SECONDS, refreshClaims);
+	}
+
+	@Benchmark
+	public Claims verifyRefresh() {
+		return codec.claimsOrNull(refreshToken);
+	}
+
+	@Benchmark
+	public String signQr() {
+		return qrCodec.sign(QR_SECONDS, qrClaims);
+	}
+
+	@Benchmark
+	public Claims verifyQr() {
+		return qrCodec.claimsOrNull(qrToken);
+	}
+
+	@Benchmark
+	public Claims verifyAccessRebuildingKey() {
+		return Jwts.parser()
+			.verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret.trim())))
+			.build()
+			.parseSignedClaims(accessToken)
+			.getPayload();
+	}
+
+	private static Map<String, Object> userClaims(String tokenType) {
+		return Map.of(
+			"id", 1L,
+			"nickname", "bench-user",
+			"role", "NORMAL",
+			"tokenType", tokenType,
+			"jti", UUID.randomUUID().toString(),
+			"sid", UUID.randomUUID().toString(),
+			"tokenVersion", 1L
+		);
+	}
+
+	private static String randomSecret() {
+		byte[] key = new byte[64];
+		new SecureRandom().nextBytes(key);
+		return Base64.getEncoder().encodeToString(key);
+	}
+}
@@ -0,0 +1,51 @@
+package com.back.loadtest;
+
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 드라이버가 상태 변경을 요청한 시점부터 각 구독자가 해당 프레임을 받기까지의 지연 측정
+ *
+ * 드라이버(단일 스레드)가 start()로 라운드를 올리고, 구독자는 라운드마다 처음 받은 프레임 1개만 기록한다.
+ */
+final class FanoutProbe {
+
+	private final Timer latency;
+
+	private volatile long startedAtNanos;
+	private volatile long targetId;
+	private volatile long round;
+
+	FanoutProbe(MeterRegistry registry, String topic) {
+		this.latency = Timer.builder("loadtest.fanout.latency")
+			.tag("topic", topic)
+			.publishPercentiles(0.5, 0.9, 0.99, 0.999)
+			.register(registry);
+	}
+
+	void start(long targetId) {
+		this.startedAtNanos = System.nanoTime();
+		this.targetId = targetId;
+		this.round = round + 1; // 단일 writer
+	}
+
+	/**
+	 * @param lastSeenRound 구독자가 마지막으로 기록한 라운드
+	 * @param frameTargetId 프레임 대상 (좌석 ID 등, 대상 구분이 없으면 -1)
+	 * @return 구독자가 기억할 라운드
+	 */
+	long record(long lastSeenRound, long frameTargetId) {
+		long current = round;
+		if (current <= lastSeenRound || (frameTargetId != -1 && frameTargetId != targetId)) {
+			return lastSeenRound;
+		}
+		latency.record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+		return current;
+	}
+
+	Timer latency() {
+		return latency;
+	}
+}
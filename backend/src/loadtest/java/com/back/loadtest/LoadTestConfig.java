@@ -0,0 +1,71 @@
+package com.back.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 하네스 설정 (시스템 프로퍼티 -Dws.*, 미지정 시 기본값)
+ *
+ * ./gradlew wsLoadTest -Pws.sessions=10000 -Pws.jwtSecret=... -Pws.seatIds=1,2,3
+ */
+record LoadTestConfig(
+	String wsUrl, // STOMP endpoint (네이티브: /ws-native)
+	String httpUrl, // 입장/좌석 변경 요청 및 actuator 조회용
+	String jwtSecret,
+	int sessions,
+	long userIdOffset, // 구독자 userId = offset + i
+	long driverUserId, // 입장/좌석 변경 요청 사용자 (대기열 입장 상태여야 함)
+	long eventId,
+	int connectRatePerSecond,
+	int connectRetries,
+	int durationSeconds,
+	long admitIntervalMs,
+	int admitBatch,
+	long flipIntervalMs,
+	List<Long> seatIds
+) {
+
+	static LoadTestConfig fromSystemProperties() {
+		String secret = property("ws.jwtSecret", System.getenv("JWT_SECRET"));
+		if (secret == null || secret.isBlank()) {
+			throw new IllegalArgumentException("ws.jwtSecret 또는 JWT_SECRET 환경변수가 필요합니다");
+		}
+
+		String seatIds = property("ws.seatIds", "");
+		return new LoadTestConfig(
+			property("ws.url", "ws://localhost:8080/ws-native"),
+			property("ws.httpUrl", "http://localhost:8080"),
+			secret,
+			Integer.parseInt(property("ws.sessions", "1000")),
+			Long.parseLong(property("ws.userIdOffset", "1")),
+			Long.parseLong(property("ws.driverUserId", "1")),
+			Long.parseLong(property("ws.eventId", "3")),
+			Integer.parseInt(property("ws.connectRate", "500")),
+			Integer.parseInt(property("ws.connectRetries", "5")),
+			Integer.parseInt(property("ws.durationSeconds", "60")),
+			Long.parseLong(property("ws.admitIntervalMs", "2000")),
+			Integer.parseInt(property("ws.admitBatch", "10")),
+			Long.parseLong(property("ws.flipIntervalMs", "1000")),
+			parseIds(seatIds)
+		);
+	}
+
+	String queueTopic() {
+		return "/topic/events/" + eventId + "/queue";
+	}
+
+	String seatTopic() {
+		return "/topic/events/" + eventId + "/seats";
+	}
+
+	private static List<Long> parseIds(String ids) {
+		if (ids.isBlank()) {
+			return List.of();
+		}
+		return Arrays.stream(ids.split(",")).map(String::trim).map(Long::valueOf).toList();
+	}
+
+	private static String property(String key, String defaultValue) {
+		return System.getProperty(key, defaultValue);
+	}
+}
@@ -0,0 +1,57 @@
+package com.back.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.back.global.utils.JwtUtil;
+
+import io.jsonwebtoken.io.Decoders;
+
+/**
+ * 부하 테스트용 access token / 입장권 생성 (perf 데이터 초기화와 같은 sid/tokenVersion 패턴)
+ */
+final class LoadTestTokens {
+
+	private static final long DURATION_SECONDS = 3600;
+	private static final String PASS_ALGORITHM = "HmacSHA256";
+	private static final String PASS_SIGNING_PREFIX = "admission-pass:";
+
+	private LoadTestTokens() {
+	}
+
+	static String accessToken(String secret, long userId) {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put("id", userId);
+		claims.put("nickname", "PerfUser" + userId);
+		claims.put("role", "NORMAL");
+		claims.put("tokenType", "access");
+		claims.put("jti", UUID.randomUUID().toString());
+		claims.put("sid", "00000000-0000-0000-0000-%012d".formatted(userId));
+		claims.put("tokenVersion", 1L);
+		return JwtUtil.sign(secret, DURATION_SECONDS, claims);
+	}
+
+	/**
+	 * 서명된 입장권 (AdmissionPassService와 같은 형식: eventId.userId.issuedAtMs.expiresAtMs.base64url(HMAC))
+	 * 좌석 선택 요청이 대기열 Redis/DB 확인 대신 실제 사용자 경로처럼 입장권 검증을 타도록
+	 */
+	static String admissionPass(String secret, long eventId, long userId, long validSeconds) {
+		long now = System.currentTimeMillis();
+		String payload = eventId + "." + userId + "." + now + "." + (now + validSeconds * 1000);
+		try {
+			Mac mac = Mac.getInstance(PASS_ALGORITHM);
+			mac.init(new SecretKeySpec(Decoders.BASE64.decode(secret.trim()), PASS_ALGORITHM));
+			byte[] signature = mac.doFinal((PASS_SIGNING_PREFIX + payload).getBytes(StandardCharsets.UTF_8));
+			return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.back.loadtest;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 구독자 1명의 STOMP 세션 핸들러
+ * 대기열/좌석 토픽을 구독하고 프레임 수신 시 fan-out 지연을 기록한다.
+ */
+final class SubscriberSession extends StompSessionHandlerAdapter {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final LoadTestConfig config;
+	private final FanoutProbe queueProbe;
+	private final FanoutProbe seatProbe;
+	private final LongAdder framesReceived;
+
+	private volatile long retryAfterMs;
+	private long lastQueueRound;
+	private long lastSeatRound;
+
+	SubscriberSession(LoadTestConfig config, FanoutProbe queueProbe, FanoutProbe seatProbe, LongAdder framesReceived) {
+		this.config = config;
+		this.queueProbe = queueProbe;
+		this.seatProbe = seatProbe;
+		this.framesReceived = framesReceived;
+	}
+
+	@Override
+	public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+		session.subscribe(config.queueTopic(), new TopicHandler(false));
+		session.subscribe(config.seatTopic(), new TopicHandler(true));
+	}
+
+	@Override
+	public Type getPayloadType(StompHeaders headers) {
+		return byte[].class;
+	}
+
+	/**
+	 * CONNECT 거절(ERROR) 프레임 - 서버가 준 retry-after를 보관해 재접속 대기에 사용
+	 */
+	@Override
+	public void handleFrame(StompHeaders headers, Object payload) {
+		String retryAfter = headers.getFirst("retry-after");
+		if (retryAfter != null) {
+			retryAfterMs = Long.parseLong(retryAfter);
+		}
+	}
+
+	@Override
+	public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload,
+		Throwable exception) {
+		// 수신 처리 오류는 지표에만 반영 (세션 유지)
+	}
+
+	long retryAfterMs() {
+		return retryAfterMs;
+	}
+
+	private final class TopicHandler extends StompSessionHandlerAdapter {
+
+		private final boolean seatTopic;
+
+		private TopicHandler(boolean seatTopic) {
+			this.seatTopic = seatTopic;
+		}
+
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return byte[].class;
+		}
+
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			framesReceived.increment();
+			if (seatTopic) {
+				lastSeatRound = seatProbe.record(lastSeatRound, seatIdOf((byte[])payload));
+			} else {
+				lastQueueRound = queueProbe.record(lastQueueRound, -1);
+			}
+		}
+
+		private long seatIdOf(byte[] payload) {
+			try {
+				JsonNode seatId = OBJECT_MAPPER.readTree(payload).get("seatId");
+				return seatId != null ? seatId.asLong() : -2;
+			} catch (Exception e) {
+				return -2;
+			}
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.back.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.back.api.queue.service.AdmissionPassService;
+
+/**
+ * 부하 구간 동안 상태 변경을 발생시키는 드라이버
+ * - 대기열 입장 처리 (process-entries) → /topic/events/{id}/queue 브로드캐스트
+ * - 좌석 선택/해제 반복 → /topic/events/{id}/seats 브로드캐스트 (입장권 헤더 포함, 실제 클라이언트와 같은 경로)
+ */
+final class TrafficDriver {
+
+	private final LoadTestConfig config;
+	private final FanoutProbe queueProbe;
+	private final FanoutProbe seatProbe;
+	private final String driverToken;
+	private final String admissionPass;
+	private final HttpClient httpClient = HttpClient.newBuilder()
+		.connectTimeout(Duration.ofSeconds(5))
+		.build();
+
+	private final AtomicBoolean running = new AtomicBoolean(true);
+	private final LongAdder requestFailures = new LongAdder();
+
+	TrafficDriver(LoadTestConfig config, FanoutProbe queueProbe, FanoutProbe seatProbe) {
+		this.config = config;
+		this.queueProbe = queueProbe;
+		this.seatProbe = seatProbe;
+		this.driverToken = LoadTestTokens.accessToken(config.jwtSecret(), config.driverUserId());
+		// 부하 구간 + 여유 시간 동안 유효 (드라이버 사용자는 대기열 입장 상태여야 함)
+		this.admissionPass = LoadTestTokens.admissionPass(
+			config.jwtSecret(), config.eventId(), config.driverUserId(), config.durationSeconds() + 60L);
+	}
+
+	void start() {
+		Thread.ofVirtual().name("driver-admit").start(this::admitLoop);
+		if (!config.seatIds().isEmpty()) {
+			Thread.ofVirtual().name("driver-seat").start(this::seatFlipLoop);
+		}
+	}
+
+	void stop() {
+		running.set(false);
+	}
+
+	long requestFailures() {
+		return requestFailures.sum();
+	}
+
+	private void admitLoop() {
+		String path = "/api/v1/queues/" + config.eventId() + "/process-entries";
+		String body = "{\"count\":" + config.admitBatch() + "}";
+		while (running.get() && sleep(config.admitIntervalMs())) {
+			queueProbe.start(-1);
+			send(HttpRequest.newBuilder(URI.create(config.httpUrl() + path))
+				.POST(HttpRequest.BodyPublishers.ofString(body)));
+		}
+	}
+
+	private void seatFlipLoop() {
+		int index = 0;
+		boolean select = true;
+		while (running.get() && sleep(config.flipIntervalMs())) {
+			long seatId = config.seatIds().get(index);
+			String path = "/api/v1/events/" + config.eventId() + "/seats/" + seatId
+				+ (select ? "/select" : "/deselect");
+
+			seatProbe.start(seatId);
+			send(HttpRequest.newBuilder(URI.create(config.httpUrl() + path))
+				.header(AdmissionPassService.HEADER, admissionPass)
+				.method(select ? "POST" : "DELETE", HttpRequest.BodyPublishers.noBody()));
+
+			// 선택 → 해제 후 다음 좌석
+			if (!select) {
+				index = (index + 1) % config.seatIds().size();
+			}
+			select = !select;
+		}
+	}
+
+	private void send(HttpRequest.Builder builder) {
+		HttpRequest request = builder
+			.header("Authorization", "Bearer " + driverToken)
+			.header("Content-Type", "application/json")
+			.timeout(Duration.ofSeconds(10))
+			.build();
+		try {
+			HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+			if (response.statusCode() >= 400) {
+				requestFailures.increment();
+			}
+		} catch (Exception e) {
+			requestFailures.increment();
+		}
+	}
+
+	private boolean sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,228 @@
+package com.back.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * WebSocket 확장성 부하 하네스 (Spring STOMP client + virtual thread)
+ *
+ * 1. N개 인증 세션을 connectRate로 연결 (CONNECT 거절 시 retry-after 만큼 대기 후 재시도)
+ * 2. 각 세션이 대기열/좌석 토픽 구독
+ * 3. durationSeconds 동안 입장 처리/좌석 선택·해제를 주기적으로 요청
+ * 4. 요청 시점 → 구독자 수신까지 fan-out 지연 백분위, 클라이언트/서버 heap·GC 출력
+ *
+ * 클라이언트 1대당 수만 개 연결 시 ulimit -n, 로컬 포트 범위(net.ipv4.ip_local_port_range) 확인 필요
+ */
+public final class WsLoadTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private final LoadTestConfig config;
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final FanoutProbe queueProbe;
+	private final FanoutProbe seatProbe;
+	private final Timer connectLatency;
+
+	private final Queue<StompSession> sessions = new ConcurrentLinkedQueue<>();
+	private final LongAdder connectFailures = new LongAdder();
+	private final LongAdder connectDeferred = new LongAdder();
+	private final LongAdder framesReceived = new LongAdder();
+
+	private WsLoadTest(LoadTestConfig config) {
+		this.config = config;
+		this.queueProbe = new FanoutProbe(registry, "queue");
+		this.seatProbe = new FanoutProbe(registry, "seats");
+		this.connectLatency = Timer.builder("loadtest.connect.latency")
+			.publishPercentiles(0.5, 0.9, 0.99)
+			.register(registry);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new WsLoadTest(LoadTestConfig.fromSystemProperties()).run();
+	}
+
+	private void run() throws Exception {
+		WebSocketStompClient stompClient = stompClient();
+
+		long connectStartedAt = System.nanoTime();
+		connectAll(stompClient);
+		long connectElapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStartedAt);
+		System.out.printf("연결 완료: %d/%d (실패 %d, retry-after 재시도 %d) - %dms%n",
+			sessions.size(), config.sessions(), connectFailures.sum(), connectDeferred.sum(), connectElapsedMs);
+
+		TrafficDriver driver = new TrafficDriver(config, queueProbe, seatProbe);
+		driver.start();
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+		while (System.nanoTime() < deadline) {
+			Thread.sleep(Math.min(10_000, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()) + 1));
+			System.out.printf("진행: 수신 프레임 %d, 클라이언트 heap %dMB%n",
+				framesReceived.sum(), clientHeap().getUsed() / (1024 * 1024));
+		}
+		driver.stop();
+
+		report(driver);
+
+		sessions.forEach(StompSession::disconnect);
+		stompClient.stop();
+	}
+
+	private WebSocketStompClient stompClient() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ws-client-");
+		executor.setVirtualThreads(true);
+
+		StandardWebSocketClient webSocketClient = new StandardWebSocketClient();
+		webSocketClient.setTaskExecutor(executor);
+
+		WebSocketStompClient stompClient = new WebSocketStompClient(webSocketClient);
+		stompClient.setDefaultHeartbeat(new long[] {0, 0});
+		stompClient.setInboundMessageSizeLimit(1024 * 1024);
+		return stompClient;
+	}
+
+	/**
+	 * connectRate에 맞춰 연결 시작 시점을 분산하고, 각 연결은 virtual thread에서 동기 대기
+	 */
+	private void connectAll(WebSocketStompClient stompClient) throws InterruptedException {
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, config.connectRatePerSecond());
+		long startedAt = System.nanoTime();
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < config.sessions(); i++) {
+				long userId = config.userIdOffset() + i;
+				long waitNanos = startedAt + i * intervalNanos - System.nanoTime();
+				if (waitNanos > 0) {
+					TimeUnit.NANOSECONDS.sleep(waitNanos);
+				}
+				executor.submit(() -> connect(stompClient, userId));
+			}
+		}
+	}
+
+	private void connect(WebSocketStompClient stompClient, long userId) {
+		StompHeaders connectHeaders = new StompHeaders();
+		connectHeaders.add("Authorization", "Bearer " + LoadTestTokens.accessToken(config.jwtSecret(), userId));
+
+		for (int attempt = 0; attempt <= config.connectRetries(); attempt++) {
+			SubscriberSession handler = new SubscriberSession(config, queueProbe, seatProbe, framesReceived);
+			long startedAt = System.nanoTime();
+			try {
+				StompSession session = stompClient
+					.connectAsync(config.wsUrl(), null, connectHeaders, handler)
+					.get(30, TimeUnit.SECONDS);
+				connectLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+				sessions.add(session);
+				return;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			} catch (Exception e) {
+				long retryAfterMs = handler.retryAfterMs();
+				if (retryAfterMs > 0) {
+					connectDeferred.increment();
+				}
+				if (!backoff(retryAfterMs > 0 ? retryAfterMs : 500L * (attempt + 1))) {
+					break;
+				}
+			}
+		}
+		connectFailures.increment();
+	}
+
+	private boolean backoff(long millis) {
+		try {
+			Thread.sleep(millis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void report(TrafficDriver driver) {
+		System.out.println("==================== WebSocket 부하 결과 ====================");
+		System.out.printf("세션: %d, 수신 프레임: %d, 드라이버 요청 실패: %d%n",
+			sessions.size(), framesReceived.sum(), driver.requestFailures());
+		printTimer("CONNECT 지연", connectLatency);
+		printTimer("대기열 fan-out 지연", queueProbe.latency());
+		printTimer("좌석 fan-out 지연", seatProbe.latency());
+
+		MemoryUsage heap = clientHeap();
+		System.out.printf("클라이언트 heap: used=%dMB, max=%dMB%n",
+			heap.getUsed() / (1024 * 1024), heap.getMax() / (1024 * 1024));
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+			System.out.printf("클라이언트 GC %s: count=%d, time=%dms%n",
+				gc.getName(), gc.getCollectionCount(), gc.getCollectionTime());
+		}
+
+		printServerMetric("jvm.memory.used?tag=area:heap", "서버 heap used(bytes)");
+		printServerMetric("jvm.gc.pause", "서버 GC pause");
+		printServerMetric("websocket.outbound.queued.bytes", "서버 outbound 대기 bytes");
+		printServerMetric("websocket.dispatch.lag", "서버 dispatch 지연");
+	}
+
+	private void printTimer(String label, Timer timer) {
+		StringBuilder line = new StringBuilder(label).append(": count=").append(timer.count());
+		for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+			line.append(", p").append(percentile.percentile() * 100)
+				.append('=').append(Math.round(percentile.value(TimeUnit.MILLISECONDS))).append("ms");
+		}
+		line.append(", max=").append(Math.round(timer.max(TimeUnit.MILLISECONDS))).append("ms");
+		System.out.println(line);
+	}
+
+	private MemoryUsage clientHeap() {
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+	}
+
+	/**
+	 * actuator metrics endpoint 조회 (미노출 시 건너뜀)
+	 */
+	private void printServerMetric(String metric, String label) {
+		try {
+			HttpResponse<String> response = HttpClient.newHttpClient().send(
+				HttpRequest.newBuilder(URI.create(config.httpUrl() + "/actuator/metrics/" + metric))
+					.timeout(Duration.ofSeconds(5))
+					.build(),
+				HttpResponse.BodyHandlers.ofString()
+			);
+			if (response.statusCode() != 200) {
+				return;
+			}
+
+			StringBuilder line = new StringBuilder(label).append(":");
+			for (JsonNode measurement : OBJECT_MAPPER.readTree(response.body()).path("measurements")) {
+				line.append(' ').append(measurement.path("statistic").asText())
+					.append('=').append(measurement.path("value").asDouble());
+			}
+			System.out.println(line);
+		} catch (Exception e) {
+			System.out.printf("%s: 조회 실패 (%s)%n", label, e.getMessage());
+		}
+	}
+}
@@ -55,13 +55,13 @@ public class AuthTokenService {
 			throw new ErrorException(AuthErrorCode.REFRESH_TOKEN_REQUIRED);
 		}
 
-		if (jwtProvider.isExpired(refreshTokenStr)) {
+		// 서명/만료 검증 실패(만료 포함)는 재로그인 필요
+		JwtClaims claims = jwtProvider.payloadOrNull(refreshTokenStr);
+		if (claims == null) {
 			throw new ErrorException(AuthErrorCode.TOKEN_EXPIRED);
 		}
 
-		JwtClaims claims = jwtProvider.payloadOrNull(refreshTokenStr);
-
-		if (claims == null || !"refresh".equals(claims.tokenType())) {
+		if (!"refresh".equals(claims.tokenType())) {
 			throw new ErrorException(AuthErrorCode.INVALID_TOKEN);
 		}
 
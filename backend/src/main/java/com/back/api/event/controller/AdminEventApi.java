@@ -63,7 +63,8 @@ public interface AdminEventApi {
 	@Operation(
 		summary = "전체 이벤트 대시보드 현황 조회 (관리자)",
 		description = "관리자 대시보드에서 모든 이벤트의 전체 현황을 페이징을 통해 조회합니다. "
-			+ "각 이벤트별 상태, 사전등록 인원 수, 총 판매 좌석, 총 판매 금액을 포함합니다."
+			+ "각 이벤트별 상태, 사전등록 인원 수, 상태별 좌석 수, 총 판매 금액을 포함합니다. "
+			+ "현황은 상태 전이마다 누적되는 카운터에서 읽습니다."
 	)
 	ApiResponse<Page<AdminEventDashboardResponse>> getAllEventsDashboard(
 		@Parameter(description = "페이지 번호 (0부터 시작)")
@@ -73,6 +74,13 @@ public interface AdminEventApi {
 		@RequestParam(defaultValue = "20") int size
 	);
 
+	@Operation(
+		summary = "이벤트 현황 카운터 재계산 (관리자)",
+		description = "스토어의 모든 이벤트 현황 카운터를 좌석/사전등록 데이터 기준으로 다시 집계합니다. "
+			+ "초기 적재나 카운터 보정용이며, 판매가 몰리는 시간에는 실행하지 않습니다. 재계산된 이벤트 수를 반환합니다."
+	)
+	ApiResponse<Integer> rebuildSalesCounters();
+
 
 	@Operation(
 		summary = "이벤트 단건 조회 (관리자)",
@@ -85,6 +85,16 @@ public class AdminEventController implements AdminEventApi {
 		return ApiResponse.ok("이벤트 현황 조회 성공", responses);
 	}
 
+	@Override
+	@PostMapping("/dashboard/rebuild")
+	public ApiResponse<Integer> rebuildSalesCounters() {
+		long storeId = httpRequestContext.getStoreId().orElseThrow(
+			() -> new ErrorException(AuthErrorCode.FORBIDDEN)
+		);
+		int rebuilt = adminEventService.rebuildSalesCounters(storeId);
+		return ApiResponse.ok("이벤트 현황을 재계산했습니다.", rebuilt);
+	}
+
 	@Override
 	@GetMapping("/{eventId}")
 	public ApiResponse<EventResponse> getEvent(
@@ -19,6 +19,12 @@ public record AdminEventDashboardResponse(
 	@Schema(description = "현재 사전등록 인원 수", example = "1523")
 	Long preRegisterCount,
 
+	@Schema(description = "판매 가능 좌석 수", example = "1200")
+	Long availableSeats,
+
+	@Schema(description = "선택(결제 대기) 중인 좌석 수", example = "35")
+	Long reservedSeats,
+
 	@Schema(description = "총 판매 좌석 수", example = "850")
 	Long totalSoldSeats,
 
@@ -33,6 +39,8 @@ public record AdminEventDashboardResponse(
 		String title,
 		EventStatus status,
 		Long preRegisterCount,
+		Long availableSeats,
+		Long reservedSeats,
 		Long totalSoldSeats,
 		Long totalSalesAmount,
 		Boolean deleted
@@ -42,6 +50,8 @@ public record AdminEventDashboardResponse(
 			title,
 			status,
 			preRegisterCount,
+			availableSeats,
+			reservedSeats,
 			totalSoldSeats,
 			totalSalesAmount,
 			deleted
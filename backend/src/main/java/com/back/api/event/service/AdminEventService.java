@@ -1,5 +1,8 @@
 package com.back.api.event.service;
 
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,10 +15,7 @@ import com.back.api.event.dto.response.AdminEventDashboardResponse;
 import com.back.api.event.dto.response.EventResponse;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.repository.EventRepository;
-import com.back.domain.preregister.entity.PreRegisterStatus;
-import com.back.domain.preregister.repository.PreRegisterRepository;
-import com.back.domain.seat.entity.SeatStatus;
-import com.back.domain.seat.repository.SeatRepository;
+import com.back.domain.event.repository.EventSalesCounterRepository.Summary;
 import com.back.global.error.code.AuthErrorCode;
 import com.back.global.error.exception.ErrorException;
 
@@ -28,8 +28,7 @@ public class AdminEventService {
 
 	private final EventService eventService;
 	private final EventRepository eventRepository;
-	private final PreRegisterRepository preRegisterRepository;
-	private final SeatRepository seatRepository;
+	private final EventSalesCounterService eventSalesCounterService;
 
 	@Transactional
 	public EventResponse createEvent(EventCreateRequest request, long storeId) {
@@ -46,37 +45,41 @@ public class AdminEventService {
 		eventService.deleteEvent(eventId, storeId);
 	}
 
+	/**
+	 * 이벤트 현황 목록: 이벤트 페이지 1회 + 판매 현황 카운터 1회 조회 (이벤트별 집계 쿼리 없음)
+	 */
 	public Page<AdminEventDashboardResponse> getAllEventsDashboard(int page, int size, long storeId) {
 		Pageable pageable = PageRequest.of(page, size);
 		Page<Event> eventPage = eventRepository.findAllByStore_Id(pageable, storeId);
 
-		return eventPage.map(event -> {
-			Long eventId = event.getId();
-
-			// 1. 이벤트별 현재 사전등록 인원 수 조회
-			Long preRegisterCount = preRegisterRepository.countByEvent_IdAndPreRegisterStatus(
-				eventId,
-				PreRegisterStatus.REGISTERED
-			);
-
-			// 2. 이벤트별 총 판매 좌석 조회 (SOLD 상태인 좌석)
-			Long totalSoldSeats = seatRepository.countByEventIdAndSeatStatus(eventId, SeatStatus.SOLD);
+		List<Long> eventIds = eventPage.getContent().stream().map(Event::getId).toList();
+		Map<Long, Summary> summaries = eventSalesCounterService.getSummaries(eventIds);
 
-			// 3. 이벤트별 총 판매 금액 조회
-			Long totalSalesAmount = seatRepository.sumPriceByEventIdAndSeatStatus(eventId, SeatStatus.SOLD);
+		return eventPage.map(event -> {
+			Summary summary = summaries.getOrDefault(event.getId(), Summary.EMPTY);
 
 			return AdminEventDashboardResponse.of(
 				event.getId(),
 				event.getTitle(),
 				event.getStatus(),
-				preRegisterCount,
-				totalSoldSeats,
-				totalSalesAmount != null ? totalSalesAmount : 0L,
+				summary.preRegisterCount(),
+				summary.availableSeats(),
+				summary.reservedSeats(),
+				summary.soldSeats(),
+				summary.salesAmount(),
 				event.isDeleted()
 			);
 		});
 	}
 
+	/**
+	 * 스토어 이벤트 판매 현황 카운터 재계산
+	 */
+	@Transactional
+	public int rebuildSalesCounters(long storeId) {
+		return eventSalesCounterService.rebuild(storeId);
+	}
+
 	@Transactional(readOnly = true)
 	public EventResponse getEventForAdmin(Long eventId, Long storeId) {
 		Event event = eventService.findEventById(eventId);
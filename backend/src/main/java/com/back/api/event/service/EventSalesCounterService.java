@@ -0,0 +1,86 @@
+package com.back.api.event.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.domain.event.repository.EventSalesCounterRepository;
+import com.back.domain.event.repository.EventSalesCounterRepository.Delta;
+import com.back.domain.event.repository.EventSalesCounterRepository.Summary;
+import com.back.domain.seat.entity.SeatStatus;
+import com.back.global.properties.SalesCounterProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트 판매 현황 카운터
+ *
+ * - 좌석/사전등록 상태가 바뀌는 트랜잭션 안에서 증감 → 롤백되면 카운터도 함께 롤백
+ * - 대시보드는 카운터 합만 읽는다 (이벤트마다 COUNT/SUM 집계 없음)
+ * - 초기 데이터/시드처럼 서비스를 거치지 않은 변경은 rebuild로 보정
+ */
+@Service
+@RequiredArgsConstructor
+public class EventSalesCounterService {
+
+	private final EventSalesCounterRepository eventSalesCounterRepository;
+	private final SalesCounterProperties salesCounterProperties;
+
+	/**
+	 * 좌석 count개가 from → to 로 전이 (null = 생성 전/삭제 후)
+	 *
+	 * @param totalPrice 전이한 좌석들의 가격 합 (SOLD 진입/이탈 시 판매 금액 증감)
+	 */
+	@Transactional
+	public void seatsMoved(Long eventId, SeatStatus from, SeatStatus to, int count, long totalPrice) {
+		if (from == to || count == 0) {
+			return;
+		}
+		long available = seatDelta(SeatStatus.AVAILABLE, from, to) * count;
+		long reserved = seatDelta(SeatStatus.RESERVED, from, to) * count;
+		long sold = seatDelta(SeatStatus.SOLD, from, to) * count;
+		long amount = seatDelta(SeatStatus.SOLD, from, to) * totalPrice;
+		increment(eventId, new Delta(0, available, reserved, sold, amount));
+	}
+
+	@Transactional
+	public void seatMoved(Long eventId, SeatStatus from, SeatStatus to, int price) {
+		seatsMoved(eventId, from, to, 1, price);
+	}
+
+	@Transactional
+	public void preRegisterChanged(Long eventId, int delta) {
+		increment(eventId, new Delta(delta, 0, 0, 0, 0));
+	}
+
+	@Transactional
+	public void resetSeats(Long eventId) {
+		eventSalesCounterRepository.resetSeats(eventId);
+	}
+
+	@Transactional(readOnly = true)
+	public Map<Long, Summary> getSummaries(List<Long> eventIds) {
+		return eventSalesCounterRepository.findSummaries(eventIds);
+	}
+
+	/**
+	 * 스토어 이벤트 카운터 전체 재계산 (최초 적재 / 드리프트 보정용)
+	 * 판매 중 실행하면 집계 시점과 겹친 전이가 빠질 수 있으므로 한산한 시간에 실행
+	 */
+	@Transactional
+	public int rebuild(Long storeId) {
+		return eventSalesCounterRepository.rebuildByStore(storeId);
+	}
+
+	private void increment(Long eventId, Delta delta) {
+		int slot = ThreadLocalRandom.current().nextInt(salesCounterProperties.getSlots());
+		eventSalesCounterRepository.increment(eventId, slot, delta);
+	}
+
+	private static long seatDelta(SeatStatus status, SeatStatus from, SeatStatus to) {
+		return (to == status ? 1 : 0) - (from == status ? 1 : 0);
+	}
+}
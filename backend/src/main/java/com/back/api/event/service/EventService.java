@@ -16,6 +16,7 @@ import com.back.api.event.dto.response.EventResponse;
 import com.back.api.s3.service.S3MoveService;
 import com.back.api.s3.service.S3PresignedService;
 import com.back.api.store.service.StoreService;
+import com.back.api.ticket.service.MyTicketCache;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.entity.EventCategory;
 import com.back.domain.event.entity.EventStatus;
@@ -36,6 +37,7 @@ public class EventService {
 	private final S3MoveService s3MoveService;
 	private final S3PresignedService s3PresignedService;
 	private final StoreService storeService;
+	private final MyTicketCache myTicketCache;
 
 	@Transactional
 	public EventResponse createEvent(EventCreateRequest request, long storeId) {
@@ -100,6 +102,8 @@ public class EventService {
 		);
 
 		String imageUrl = event.getImageUrl();
+		// 내 티켓 목록에는 이벤트 제목만 들어가므로 제목이 바뀔 때만 무효화
+		boolean titleChanged = !event.getTitle().equals(request.title());
 
 		// 이미지가 변경된 경우
 		if (request.imageUrl() != null && request.imageUrl().startsWith("events/temp/")) {
@@ -127,6 +131,10 @@ public class EventService {
 		);
 		event.changeStatus(request.status());
 
+		if (titleChanged) {
+			myTicketCache.evictEventAfterCommit(eventId);
+		}
+
 		return EventResponse.from(event);
 	}
 
@@ -139,6 +147,7 @@ public class EventService {
 		}
 
 		event.delete();
+		myTicketCache.evictEventAfterCommit(eventId);
 	}
 
 	public EventResponse getEvent(Long eventId) {
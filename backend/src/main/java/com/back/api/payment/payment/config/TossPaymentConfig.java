@@ -2,24 +2,69 @@ package com.back.api.payment.payment.config;
 
 import java.util.Base64;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import com.back.global.properties.TossPaymentProperties;
+
+/**
+ * 토스페이먼츠 RestClient
+ * - 전용 커넥션 풀 (풀 대기 / 연결 / 응답 타임아웃 모두 상한)
+ * - 자동 재시도 없음: 승인 요청은 재전송하지 않고, 결과를 모르면 복구 스케줄러가 PG 조회로 확정
+ */
 @Configuration
 public class TossPaymentConfig {
 
-	@Value("${toss.payments.secret}")
-	private String secretKey;
+	private final String secretKey;
+	private final TossPaymentProperties properties;
+
+	public TossPaymentConfig(@Value("${toss.payments.secret}") String secretKey, TossPaymentProperties properties) {
+		this.secretKey = secretKey;
+		this.properties = properties;
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient tossHttpClient() {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(properties.getMaxConnections())
+			.setMaxConnPerRoute(properties.getMaxConnections())
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectTimeoutMs()))
+				.setSocketTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutMs()))
+				.setTimeToLive(TimeValue.ofMinutes(5))
+				.build())
+			.build();
+
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.ofMilliseconds(properties.getPoolWaitMs()))
+				.setResponseTimeout(Timeout.ofMilliseconds(properties.getReadTimeoutMs()))
+				.build())
+			.evictIdleConnections(TimeValue.ofSeconds(30))
+			.disableAutomaticRetries()
+			.build();
+	}
 
 	@Bean
-	public RestClient tossRestClient() {
+	public RestClient tossRestClient(CloseableHttpClient tossHttpClient) {
 		String encodedKey = Base64.getEncoder()
 			.encodeToString((secretKey + ":").getBytes());
 
 		return RestClient.builder()
-			.baseUrl("https://api.tosspayments.com")
+			.baseUrl(properties.getBaseUrl())
+			.requestFactory(new HttpComponentsClientHttpRequestFactory(tossHttpClient))
 			.defaultHeader("Authorization", "Basic " + encodedKey)
 			.defaultHeader("Content-Type", "application/json")
 			.build();
@@ -0,0 +1,82 @@
+package com.back.api.payment.payment.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+import com.back.api.payment.payment.service.PaymentConfirmTxService;
+import com.back.api.payment.payment.service.PaymentService;
+import com.back.global.logging.MdcContext;
+import com.back.global.properties.PaymentConfirmProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CONFIRMING에 남은 v2 주문 복구
+ * - 승인 도중 노드가 죽었거나 PG 응답을 받지 못한 주문을 PG 결제 조회 결과로 PAID / FAILED 확정
+ * - 주문마다 별도 트랜잭션 (한 건 실패가 나머지를 막지 않음, 실패한 주문은 다음 주기에 재시도)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentConfirmRecoveryScheduler {
+
+	private final PaymentService paymentService;
+	private final PaymentConfirmTxService paymentConfirmTxService;
+	private final PaymentConfirmProperties properties;
+
+	@Scheduled(fixedDelayString = "${payment.confirm.recovery.interval-ms:60000}")
+	@SchedulerLock(
+		name = "PaymentConfirmRecovery",
+		lockAtMostFor = "5m",
+		lockAtLeastFor = "10s"
+	)
+	public void recoverConfirmingOrders() {
+		String runId = UUID.randomUUID().toString();
+		long startAt = System.currentTimeMillis();
+
+		int recovered = 0;
+		int failed = 0;
+
+		try {
+			MdcContext.putRunId(runId);
+			PaymentConfirmProperties.Recovery recovery = properties.getRecovery();
+			LocalDateTime before = LocalDateTime.now().minusSeconds(recovery.getAfterSeconds());
+
+			List<String> orderIds = paymentConfirmTxService.findStuckOrderIds(before, recovery.getBatchSize());
+			if (orderIds.isEmpty()) {
+				return;
+			}
+
+			log.info("SCHED_START job=PaymentConfirmRecovery candidates={}", orderIds.size());
+
+			for (String orderId : orderIds) {
+				try {
+					paymentService.v2_recoverConfirmingOrder(orderId);
+					recovered++;
+				} catch (Exception ex) {
+					failed++;
+					log.warn("SCHED_ITEM_FAIL job=PaymentConfirmRecovery orderId={} error={}", orderId, ex.toString());
+				}
+			}
+
+			log.info(
+				"SCHED_END job=PaymentConfirmRecovery recovered={} failed={} durationMs={}",
+				recovered, failed, System.currentTimeMillis() - startAt
+			);
+		} catch (Exception ex) {
+			log.error(
+				"SCHED_FAIL job=PaymentConfirmRecovery durationMs={} error={}",
+				System.currentTimeMillis() - startAt, ex.toString(), ex
+			);
+		} finally {
+			MdcContext.removeRunId();
+		}
+	}
+}
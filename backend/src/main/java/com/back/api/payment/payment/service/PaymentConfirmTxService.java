@@ -0,0 +1,194 @@
+package com.back.api.payment.payment.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.api.payment.order.service.OrderService;
+import com.back.api.payment.payment.dto.request.V2_PaymentConfirmRequest;
+import com.back.api.payment.payment.dto.response.TossPaymentResponse;
+import com.back.api.payment.payment.dto.response.V2_PaymentConfirmResponse;
+import com.back.api.queue.service.QueueEntryProcessService;
+import com.back.api.ticket.scheduler.SeatHoldTimer;
+import com.back.api.ticket.service.TicketService;
+import com.back.domain.notification.systemMessage.OrderSuccessV2Message;
+import com.back.domain.payment.order.entity.OrderStatus;
+import com.back.domain.payment.order.entity.V2_Order;
+import com.back.domain.payment.order.repository.V2_OrderRepository;
+import com.back.domain.payment.payment.entity.Payment;
+import com.back.domain.payment.payment.repository.PaymentRepository;
+import com.back.domain.ticket.entity.Ticket;
+import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.TicketRepository;
+import com.back.global.error.code.OrderErrorCode;
+import com.back.global.error.code.TicketErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.properties.PaymentConfirmProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * v2 결제 승인의 DB 단계 (PG 호출 전후의 짧은 트랜잭션)
+ * - begin: PENDING → CONFIRMING, 커밋 후 PaymentService가 커넥션 없이 PG 호출
+ * - complete / fail / release: PG 결과로 CONFIRMING 주문을 확정 (조건부 UPDATE라 승인 요청과 복구 중 한쪽만 반영)
+ */
+@Service
+@RequiredArgsConstructor
+public class PaymentConfirmTxService {
+
+	private final OrderService orderService;
+	private final TicketService ticketService;
+	private final SeatHoldTimer seatHoldTimer;
+	private final QueueEntryProcessService queueEntryProcessService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final V2_OrderRepository v2_orderRepository;
+	private final PaymentRepository paymentRepository;
+	private final TicketRepository ticketRepository;
+	private final PaymentConfirmProperties properties;
+
+	/**
+	 * 승인 시작: 주문 검증 후 CONFIRMING으로 표시하고 PG 요청을 만든다
+	 * - 이미 만료/실패한 Draft면 PG 승인 전에 거절 (승인 후에는 되돌릴 수 없음)
+	 * - PG 응답/복구를 기다리는 동안 홀드가 만료되지 않도록 연장, 연장된 만료 시각을 홀드 타이머에 다시 등록
+	 */
+	@Transactional
+	public V2_PaymentConfirmRequest begin(String orderId, String paymentKey, Long clientAmount, Long userId) {
+		// OrderService가 order의 정합성(주문자/주문상태/amount) 보장
+		V2_Order order = orderService.v2_getOrderForPayment(orderId, userId, clientAmount);
+		Ticket ticket = order.getTicket();
+		LocalDateTime now = LocalDateTime.now();
+
+		// 확인과 연장을 조건부 UPDATE 한 번으로 (만료 처리와 경합해도 연장 후 FAILED가 되는 일 없음)
+		LocalDateTime holdExpiresAt = now.plusSeconds(properties.getHoldSeconds());
+		int extended = ticketRepository.extendHold(ticket.getId(), TicketStatus.DRAFT, holdExpiresAt, now);
+		if (extended == 0) {
+			throw new ErrorException(TicketErrorCode.INVALID_TICKET_STATE);
+		}
+		// 기존 만료 시각의 타이머는 연장된 홀드를 건너뛰므로, PG 거절로 PENDING에 돌아가도 연장 시각에 해제되도록 등록
+		seatHoldTimer.scheduleAfterCommit(ticket.getId(), holdExpiresAt);
+
+		// 같은 주문의 동시 승인 요청은 한 건만 통과
+		int started = v2_orderRepository.startConfirming(
+			orderId, paymentKey, OrderStatus.PENDING, OrderStatus.CONFIRMING, now);
+		if (started == 0) {
+			throw new ErrorException(OrderErrorCode.INVALID_ORDER_STATUS);
+		}
+
+		return new V2_PaymentConfirmRequest(orderId, paymentKey, order.getAmount());
+	}
+
+	/**
+	 * PG 승인 완료 반영: 주문 PAID + 결제 저장 + 티켓 발급 + 좌석 SOLD + 대기열 완료
+	 */
+	@Transactional
+	public V2_PaymentConfirmResponse complete(String orderId, TossPaymentResponse result) {
+		int claimed = v2_orderRepository.updateStatus(
+			orderId, OrderStatus.CONFIRMING, OrderStatus.PAID, LocalDateTime.now());
+		if (claimed == 0) {
+			throw new ErrorException(OrderErrorCode.INVALID_ORDER_STATUS);
+		}
+
+		V2_Order order = v2_orderRepository.findById(orderId)
+			.orElseThrow(() -> new ErrorException(OrderErrorCode.ORDER_NOT_FOUND));
+		Long userId = order.getTicket().getOwner().getId();
+
+		//결제 엔티티 생성 및 DB 저장 (결제 정보 저장)
+		Payment savedPayment = paymentRepository.save(
+			new Payment(
+				order.getPaymentKey(),
+				orderId,
+				order.getAmount(),
+				result.method(),
+				result.status()
+			)
+		);
+
+		order.setPayment(savedPayment);
+		order.markPaid(result.paymentKey());
+
+		// Ticket 발급
+		Ticket ticket = ticketService.confirmPayment(
+			order.getTicket().getId(),
+			userId
+		);
+
+		// Queue 완료
+		queueEntryProcessService.completePayment(
+			ticket.getEvent().getId(),
+			userId
+		);
+
+		// 알림 메시지 발행
+		eventPublisher.publishEvent(
+			new OrderSuccessV2Message(
+				userId,
+				orderId,
+				order.getAmount(),
+				ticket.getEvent().getTitle()
+			)
+		);
+
+		return V2_PaymentConfirmResponse.from(order, true);
+	}
+
+	/**
+	 * PG 승인 실패 반영: 주문 FAILED + Ticket FAILED + 좌석 해제
+	 *
+	 * @return 반영 여부 (이미 다른 쪽에서 확정했으면 false)
+	 */
+	@Transactional
+	public boolean fail(String orderId) {
+		if (!transition(orderId, OrderStatus.FAILED)) {
+			return false;
+		}
+
+		V2_Order order = v2_orderRepository.findById(orderId)
+			.orElseThrow(() -> new ErrorException(OrderErrorCode.ORDER_NOT_FOUND));
+		ticketService.failPayment(order.getTicket().getId()); // Ticket FAILED + Seat 해제
+		return true;
+	}
+
+	/**
+	 * PG가 요청을 거절 (승인되지 않음이 확실): PENDING으로 되돌려 다시 결제할 수 있게 함
+	 */
+	@Transactional
+	public boolean release(String orderId) {
+		return transition(orderId, OrderStatus.PENDING);
+	}
+
+	/**
+	 * PG는 승인했지만 DB에 반영할 수 없는 주문 (티켓이 이미 만료/취소 등): 복구 대상에서 제외
+	 */
+	@Transactional
+	public boolean abandon(String orderId) {
+		return transition(orderId, OrderStatus.FAILED);
+	}
+
+	/**
+	 * 복구 대상: before 이전부터 CONFIRMING인 주문 (오래된 순)
+	 */
+	@Transactional(readOnly = true)
+	public List<String> findStuckOrderIds(LocalDateTime before, int limit) {
+		return v2_orderRepository.findOrderIdsByStatusAndModifiedAtBefore(
+			OrderStatus.CONFIRMING, before, PageRequest.of(0, limit));
+	}
+
+	/**
+	 * CONFIRMING 주문의 paymentKey (PG 조회 키), 이미 확정됐으면 null
+	 */
+	@Transactional(readOnly = true)
+	public String getConfirmingPaymentKey(String orderId) {
+		return v2_orderRepository.findById(orderId)
+			.filter(order -> order.getStatus() == OrderStatus.CONFIRMING)
+			.map(V2_Order::getPaymentKey)
+			.orElse(null);
+	}
+
+	private boolean transition(String orderId, OrderStatus to) {
+		return v2_orderRepository.updateStatus(orderId, OrderStatus.CONFIRMING, to, LocalDateTime.now()) == 1;
+	}
+}
@@ -3,6 +3,8 @@ package com.back.api.payment.payment.service;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 
 import com.back.api.payment.order.service.OrderService;
 import com.back.api.payment.payment.client.PaymentClient;
@@ -15,12 +17,8 @@ import com.back.api.payment.payment.dto.response.V2_PaymentConfirmResponse;
 import com.back.api.queue.service.QueueEntryProcessService;
 import com.back.api.ticket.service.TicketService;
 import com.back.domain.notification.systemMessage.OrderSuccessMessage;
-import com.back.domain.notification.systemMessage.OrderSuccessV2Message;
 import com.back.domain.payment.order.entity.Order;
-import com.back.domain.payment.order.entity.V2_Order;
 import com.back.domain.payment.payment.entity.ApproveStatus;
-import com.back.domain.payment.payment.entity.Payment;
-import com.back.domain.payment.payment.repository.PaymentRepository;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.global.error.code.PaymentErrorCode;
 import com.back.global.error.exception.ErrorException;
@@ -30,15 +28,8 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Payment 관련 비즈니스 로직 처리
- * TODO: PG 연동 시 트랜잭션 경계 재설정 필요
- *
- * [설계 방향]
- * 1. PG API 호출: 트랜잭션 밖으로 이동
- * 2. 핵심 DB 변경만 @Transactional
- * 3. Queue/Notification: @TransactionalEventListener(AFTER_COMMIT)
- *
- * [리팩토링 시점]
- * - 실제 PG 연동 구현 시 (TossPaymentClient 등)
+ * - v1(mock PG): 하나의 트랜잭션에서 승인 + 반영
+ * - v2(토스): PG API 호출은 트랜잭션 밖, DB 변경은 PaymentConfirmTxService의 짧은 트랜잭션
  */
 @Service
 @Slf4j
@@ -50,8 +41,8 @@ public class PaymentService {
 	private final TicketService ticketService;
 	private final QueueEntryProcessService queueEntryProcessService;
 	private final ApplicationEventPublisher eventPublisher;
-	private final PaymentRepository paymentRepository;
 	private final TossPaymentService tossPaymentService;
+	private final PaymentConfirmTxService paymentConfirmTxService;
 
 	@Transactional
 	public PaymentReceiptResponse confirmPayment(
@@ -131,78 +122,74 @@ public class PaymentService {
 		return PaymentReceiptResponse.from(order, ticket);
 	}
 
-	@Transactional
+	/**
+	 * v2 결제 승인 (PG 호출 동안 DB 커넥션을 잡지 않음)
+	 * 1. 짧은 트랜잭션: 주문 검증 + PENDING → CONFIRMING
+	 * 2. 트랜잭션 밖: PG 승인 요청
+	 * 3. 짧은 트랜잭션: 결과 반영 (주문/결제/티켓/좌석/대기열)
+	 * PG 응답을 받지 못하면 CONFIRMING으로 남기고 복구 스케줄러가 PG 조회로 확정
+	 */
 	public V2_PaymentConfirmResponse v2_confirmPayment(
 		String orderId,
 		String paymentKey,
 		Long clientAmount,
 		Long userId
 	) {
-
-		// OrderService가 order의 정합성(주문자/주문상태/amount) 보장
-		V2_Order order = orderService.v2_getOrderForPayment(orderId, userId, clientAmount);
-
-		// log.info("[v2 결제 디버깅] - 결제 승인 메서드: 결제 서비스 로그");
-		// log.info("[v2 결제 디버깅] - orderId : {}", orderId);
-		// log.info("[v2 결제 디버깅] - paymentKey : {}", paymentKey);
-		// log.info("[v2 결제 디버깅] - userId : {}", userId);
-
-		V2_PaymentConfirmRequest request = new V2_PaymentConfirmRequest(orderId, paymentKey, order.getAmount());
-
-		TossPaymentResponse result = tossPaymentService.confirmPayment(request);
+		V2_PaymentConfirmRequest request = paymentConfirmTxService.begin(orderId, paymentKey, clientAmount, userId);
+
+		TossPaymentResponse result;
+		try {
+			result = tossPaymentService.confirmPayment(request);
+		} catch (HttpClientErrorException | ErrorException e) {
+			// PG가 요청을 거절했거나 벌크헤드/서킷 브레이커로 보내지 않음 (승인되지 않음) → 다시 결제할 수 있게 PENDING 복구
+			paymentConfirmTxService.release(orderId);
+			throw e;
+		} catch (RestClientException e) {
+			// 타임아웃/PG 5xx: 승인 여부를 알 수 없으므로 CONFIRMING 유지 (복구 스케줄러가 확정)
+			log.warn("PG 승인 결과 확인 불가, 복구 대기 - orderId={}", orderId, e);
+			throw new ErrorException(PaymentErrorCode.PAYMENT_CONFIRM_PENDING);
+		}
 
 		log.info("[v2 결제 디버깅] - 결제 승인 결과 {}", result.status());
 
 		if (result.status() != ApproveStatus.DONE) { // 결제 승인 완료시 토스 API 응답 : Status = "DONE"
-			order.markFailed();
-			ticketService.failPayment(order.getTicket().getId()); // Ticket FAILED + Seat 해제
-			//TODO 결제 실패 로직 추가
+			paymentConfirmTxService.fail(orderId); // Order FAILED + Ticket FAILED + Seat 해제
 			throw new ErrorException(PaymentErrorCode.PAYMENT_FAILED);
 		}
 
-		//결제 엔티티 생성 및 DB 저장 (결제 정보 저장)
-		Payment savedPayment = paymentRepository.save(
-			new Payment(
-				paymentKey,
-				orderId,
-				order.getAmount(),
-				result.method(),
-				result.status()
-			)
-		);
-
-		order.setPayment(savedPayment);
-
-		// Order status PENDING -> PAID, paymentKey DB 저장 (주문 상태 업테이트)
-		order.markPaid(result.paymentKey());
-
-		// 테스트용 : DataInit으로 만든 테스트 데이터 사용한 결제 테스트에서 사용
-		//order.getTicket().getSeat().markAsReserved();
-
-		// Ticket 발급
-		Ticket ticket = ticketService.confirmPayment(
-			order.getTicket().getId(),
-			userId
-		);
+		return paymentConfirmTxService.complete(orderId, result);
+	}
 
-		// Queue 완료 // 테스트 데이터로 진행 시 : 큐 대기열이 없으므로 이부분도 주석처리
-		queueEntryProcessService.completePayment(
-			ticket.getEvent().getId(),
-			userId
-		);
+	/**
+	 * CONFIRMING에 남은 주문 1건 복구 (PG 결제 조회 결과로 확정)
+	 * - PG 조회 실패(장애)는 그대로 던져 다음 주기에 재시도
+	 */
+	public void v2_recoverConfirmingOrder(String orderId) {
+		String paymentKey = paymentConfirmTxService.getConfirmingPaymentKey(orderId);
+		if (paymentKey == null) {
+			return;
+		}
 
-		String eventTitle = ticket.getEvent().getTitle();
+		TossPaymentResponse result;
+		try {
+			result = tossPaymentService.getPayment(paymentKey);
+		} catch (HttpClientErrorException.NotFound e) {
+			// 승인 요청이 PG에 도달하지 않음
+			paymentConfirmTxService.fail(orderId);
+			return;
+		}
 
-		// 알림 메시지 발행
-		eventPublisher.publishEvent(
-			new OrderSuccessV2Message(
-				userId,
-				orderId,
-				order.getAmount(),
-				eventTitle
-			)
-		);
+		if (result.status() != ApproveStatus.DONE) {
+			paymentConfirmTxService.fail(orderId);
+			return;
+		}
 
-		return V2_PaymentConfirmResponse.from(order, true);
+		try {
+			paymentConfirmTxService.complete(orderId, result);
+		} catch (ErrorException e) {
+			// PG 승인은 됐지만 티켓을 발급할 수 없음 → 복구 대상에서 빼고 수동 환불 대상으로 남김
+			log.error("PG 승인 주문 확정 실패, 환불 필요 - orderId={}, paymentKey={}", orderId, paymentKey, e);
+			paymentConfirmTxService.abandon(orderId);
+		}
 	}
 }
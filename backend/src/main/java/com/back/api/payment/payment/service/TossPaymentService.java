@@ -1,25 +1,70 @@
 package com.back.api.payment.payment.service;
 
+import java.io.InterruptedIOException;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
-import com.back.api.payment.payment.dto.request.PaymentConfirmRequest;
 import com.back.api.payment.payment.dto.request.V2_PaymentConfirmRequest;
 import com.back.api.payment.payment.dto.response.TossPaymentResponse;
+import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.properties.TossPaymentProperties;
 
-import lombok.RequiredArgsConstructor;
-
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 
-// 백엔드 <-> 토스페이먼츠 api 서버
+/**
+ * 백엔드 <-> 토스페이먼츠 api 서버
+ * - 벌크헤드: 동시 호출 수 상한, 넘으면 PG를 호출하지 않고 PAYMENT_GATEWAY_UNAVAILABLE
+ * - 서킷 브레이커: 타임아웃 / 5xx / 느린 응답이 많으면 일정 시간 호출 없이 PAYMENT_GATEWAY_UNAVAILABLE
+ * - 호출별 소요 시간을 결과(outcome)별로 기록 (payment.gateway.requests)
+ * PAYMENT_GATEWAY_UNAVAILABLE은 요청을 보내지 않았다는 뜻이므로 승인되지 않은 것이 확실함
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TossPaymentService {
 
+	private static final String CIRCUIT_BREAKER_NAME = "tossPayments";
+
 	private final RestClient tossRestClient;
+	private final MeterRegistry meterRegistry;
+	private final Semaphore permits;
+	private final long maxWaitMs;
+	private final CircuitBreaker circuitBreaker;
+
+	public TossPaymentService(
+		RestClient tossRestClient,
+		TossPaymentProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.tossRestClient = tossRestClient;
+		this.meterRegistry = meterRegistry;
+		this.permits = new Semaphore(properties.getBulkhead().getMaxConcurrentCalls(), true);
+		this.maxWaitMs = properties.getBulkhead().getMaxWaitMs();
+		this.circuitBreaker = CircuitBreaker.of(CIRCUIT_BREAKER_NAME, circuitBreakerConfig(properties));
+
+		Gauge.builder("payment.gateway.in.flight", permits,
+				semaphore -> properties.getBulkhead().getMaxConcurrentCalls() - semaphore.availablePermits())
+			.description("PG calls currently in flight")
+			.register(meterRegistry);
+		Gauge.builder("payment.gateway.circuit.state", circuitBreaker, breaker -> breaker.getState().getOrder())
+			.description("PG circuit breaker state (0=closed, 1=open, 2=half-open)")
+			.register(meterRegistry);
+	}
 
 	public TossPaymentResponse confirmPayment(V2_PaymentConfirmRequest request) {
 		log.info("====== 요청 데이터 ======");
@@ -27,7 +72,7 @@ public class TossPaymentService {
 		log.info("paymentKey: {}", request.paymentKey());
 		log.info("amount: {}", request.amount());
 
-		TossPaymentResponse response = tossRestClient.post()
+		TossPaymentResponse response = call("confirm", () -> tossRestClient.post()
 			.uri("/v1/payments/confirm")
 			.body(Map.of(
 				"paymentKey", request.paymentKey(),
@@ -35,7 +80,7 @@ public class TossPaymentService {
 				"amount", request.amount()
 			))
 			.retrieve()
-			.body(TossPaymentResponse.class);
+			.body(TossPaymentResponse.class));
 
 		log.info("====== 응답 데이터 ======");
 		log.info("Response: {}", response);
@@ -43,4 +88,78 @@ public class TossPaymentService {
 		return response;
 
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 결제 조회 (승인 결과를 받지 못한 주문 복구용)
+	 */
+	public TossPaymentResponse getPayment(String paymentKey) {
+		return call("lookup", () -> tossRestClient.get()
+			.uri("/v1/payments/{paymentKey}", paymentKey)
+			.retrieve()
+			.body(TossPaymentResponse.class));
+	}
+
+	private <T> T call(String operation, Supplier<T> request) {
+		long startAt = System.nanoTime();
+		if (!acquire()) {
+			record(operation, "bulkhead_full", startAt);
+			throw new ErrorException(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+		}
+
+		String outcome = "error";
+		try {
+			T response = circuitBreaker.executeSupplier(request);
+			outcome = "success";
+			return response;
+		} catch (CallNotPermittedException e) {
+			outcome = "circuit_open";
+			throw new ErrorException(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+		} catch (HttpClientErrorException e) {
+			outcome = "rejected";
+			throw e;
+		} catch (HttpServerErrorException e) {
+			outcome = "server_error";
+			throw e;
+		} catch (ResourceAccessException e) {
+			outcome = e.getCause() instanceof InterruptedIOException ? "timeout" : "io_error";
+			throw e;
+		} finally {
+			permits.release();
+			record(operation, outcome, startAt);
+		}
+	}
+
+	private boolean acquire() {
+		try {
+			return permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void record(String operation, String outcome, long startAt) {
+		Timer.builder("payment.gateway.requests")
+			.description("PG call latency by outcome")
+			.tags("operation", operation, "outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(Duration.ofNanos(System.nanoTime() - startAt));
+	}
+
+	// PG 장애(타임아웃 / 연결 실패 / 5xx)만 실패로 집계, 카드 거절 등 4xx는 PG가 정상 응답한 것
+	private static CircuitBreakerConfig circuitBreakerConfig(TossPaymentProperties properties) {
+		TossPaymentProperties.CircuitBreaker config = properties.getCircuitBreaker();
+		return CircuitBreakerConfig.custom()
+			.slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+			.slidingWindowSize(config.getSlidingWindowSize())
+			.minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+			.failureRateThreshold(config.getFailureRateThreshold())
+			.slowCallDurationThreshold(Duration.ofMillis(config.getSlowCallDurationMs()))
+			.slowCallRateThreshold(config.getSlowCallRateThreshold())
+			.waitDurationInOpenState(Duration.ofMillis(config.getWaitDurationInOpenStateMs()))
+			.permittedNumberOfCallsInHalfOpenState(config.getPermittedNumberOfCallsInHalfOpenState())
+			.recordException(e -> e instanceof ResourceAccessException || e instanceof HttpServerErrorException)
+			.build();
+	}
+}
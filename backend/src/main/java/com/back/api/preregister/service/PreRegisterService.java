@@ -9,6 +9,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.back.api.event.service.EventSalesCounterService;
 import com.back.api.preregister.dto.request.PreRegisterCreateRequest;
 import com.back.api.preregister.dto.response.PreRegisterResponse;
 import com.back.api.s3.service.S3PresignedService;
@@ -40,6 +41,7 @@ public class PreRegisterService {
 	private final ApplicationEventPublisher eventPublisher;
 	private final StringRedisTemplate redisTemplate;
 	private final S3PresignedService s3PresignedService;
+	private final EventSalesCounterService eventSalesCounterService;
 
 	private static final String SMS_VERIFIED_PREFIX = "SMS_VERIFIED:";
 
@@ -73,6 +75,7 @@ public class PreRegisterService {
 
 			// CANCELED 상태면 재등록 (상태만 변경)
 			preRegister.reRegister();
+			eventSalesCounterService.preRegisterChanged(eventId, 1);
 
 			// 모든 검증 통과 후 SMS 인증 플래그 삭제
 			deleteSmsVerificationFlag(request.phoneNumber());
@@ -89,6 +92,7 @@ public class PreRegisterService {
 			.build();
 
 		PreRegister savedPreRegister = preRegisterRepository.save(preRegister);
+		eventSalesCounterService.preRegisterChanged(eventId, 1);
 
 		// 모든 검증 통과 후 SMS 인증 플래그 삭제
 		deleteSmsVerificationFlag(request.phoneNumber());
@@ -113,6 +117,7 @@ public class PreRegisterService {
 		}
 
 		preRegister.cancel();
+		eventSalesCounterService.preRegisterChanged(eventId, -1);
 	}
 
 	public boolean isRegistered(Long eventId, Long userId) {
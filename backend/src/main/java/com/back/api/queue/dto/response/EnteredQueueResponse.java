@@ -34,20 +34,28 @@ public record EnteredQueueResponse(
 		format = "date-time"
 	)
 	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
-	LocalDateTime expiredAt
+	LocalDateTime expiredAt,
+
+	@Schema(
+		description = "서명된 입장권 (좌석 조회/선택 요청 시 X-Admission-Pass 헤더로 전달)",
+		example = "2.1.1765000000000.1765000900000.q3Jx..."
+	)
+	String admissionPass
 ) implements QueueEntryStatusResponse {
 	public static EnteredQueueResponse from(
 		Long userId,
 		Long eventId,
 		LocalDateTime enteredAt,
-		LocalDateTime expiredAt
+		LocalDateTime expiredAt,
+		String admissionPass
 	) {
 		return new EnteredQueueResponse(
 			userId,
 			eventId,
 			QueueEntryStatus.ENTERED,
 			enteredAt,
-			expiredAt
+			expiredAt,
+			admissionPass
 		);
 	}
 }
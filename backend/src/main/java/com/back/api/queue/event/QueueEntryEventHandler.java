@@ -1,7 +1,6 @@
 package com.back.api.queue.event;
 
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import com.back.api.queue.dto.response.QueueEntryStatusResponse;
@@ -17,14 +16,13 @@ public class QueueEntryEventHandler {
 
 	//Spring ApplicationEvent 수신
 	//@EventListener 이벤트 감지
+	//전송은 WebSocketDispatcher가 비동기로 처리 (유저/이벤트별 발행 순서 보장)
 	@EventListener
-	@Async
 	public void handleQueueStatus(QueueEntryStatusResponse response) {
 		publisher.publisherToUser(response);
 	}
 
 	@EventListener
-	@Async
 	public void handleQueueBatchUpdate(WaitingQueueBatchEventResponse event) {
 		publisher.publishBatchUpdate(event);
 	}
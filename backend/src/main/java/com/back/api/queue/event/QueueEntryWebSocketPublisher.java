@@ -1,10 +1,10 @@
 package com.back.api.queue.event;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import com.back.api.queue.dto.response.QueueEntryStatusResponse;
 import com.back.api.queue.dto.response.WaitingQueueBatchEventResponse;
+import com.back.global.websocket.dispatch.WebSocketDispatcher;
 
 import lombok.RequiredArgsConstructor;
 
@@ -12,7 +12,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class QueueEntryWebSocketPublisher {
 
-	private final SimpMessagingTemplate messagingTemplate;
+	private final WebSocketDispatcher dispatcher;
 
 	//unicast - 입장/만료/결제 완료 처리
 	public void publisherToUser(QueueEntryStatusResponse response) {
@@ -20,7 +20,8 @@ public class QueueEntryWebSocketPublisher {
 		String destination = "/topic/users/" + response.userId() + "/queue";
 
 		//기존 response DTO를 JSON으로 변환해서 전달
-		messagingTemplate.convertAndSend(destination, response);
+		//상태 전이(WAITING → ENTERED 등)는 순서가 중요하므로 conflation 없이 전송
+		dispatcher.dispatch(destination, response);
 
 	}
 
@@ -30,8 +31,8 @@ public class QueueEntryWebSocketPublisher {
 		String destination = "/topic/events/" + event.eventId() + "/queue";
 
 		// Map<Long, WaitingQueueResponse> 전송
-		messagingTemplate.convertAndSend(destination, event.updates());
-
+		// 순위 스냅샷이므로 느린 세션에는 최신 스냅샷만 전송
+		dispatcher.dispatch(destination, event.updates(), destination);
 
 	}
 }
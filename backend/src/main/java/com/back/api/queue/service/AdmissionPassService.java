@@ -0,0 +1,204 @@
+package com.back.api.queue.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.back.domain.queue.repository.AdmissionRevocationRedisRepository;
+import com.back.global.properties.AdmissionPassProperties;
+
+import io.jsonwebtoken.io.Decoders;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서명된 입장권(admission pass)
+ * - 입장(ENTERED) 시 eventId/userId/발급 시각/입장 만료 시각에 HMAC 서명한 입장권 발급
+ * - 좌석 조회/선택 시 서명과 만료만 로컬에서 검증 → 대기열 Redis/DB 조회 생략
+ * - 만료/뒤로 보내기/결제 완료로 입장이 끝나면 회수 목록에 기록, 노드마다 주기적으로 동기화한 로컬 목록으로 거절
+ * - 회수 기록(Redis)에 실패하면 로컬 목록에 남겨 두고 동기화 주기마다 다시 기록
+ * - 동기화가 오래 실패하면 입장권을 믿지 않고 호출 측이 기존 Redis/DB 확인으로 처리
+ *
+ * 형식: eventId.userId.issuedAtMs.expiresAtMs.base64url(HMAC-SHA256)
+ */
+@Service
+@Slf4j
+public class AdmissionPassService {
+
+	public static final String HEADER = "X-Admission-Pass";
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final String SIGNING_PREFIX = "admission-pass:";
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private final AdmissionRevocationRedisRepository admissionRevocationRedisRepository;
+	private final AdmissionPassProperties properties;
+	private final SecretKeySpec signingKey;
+	private final ThreadLocal<Mac> macs;
+
+	// eventId:userId → 회수 시각(ms)
+	private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+	// eventId:userId → Redis에 아직 기록하지 못한 회수 (기록될 때까지 로컬 정리 대상에서 제외)
+	private final Map<String, Revocation> unpublished = new ConcurrentHashMap<>();
+	private volatile long syncedAt;
+	private volatile long syncCursor;
+
+	public AdmissionPassService(
+		AdmissionRevocationRedisRepository admissionRevocationRedisRepository,
+		AdmissionPassProperties properties,
+		@Value("${custom.jwt.secret}") String secret
+	) {
+		this.admissionRevocationRedisRepository = admissionRevocationRedisRepository;
+		this.properties = properties;
+		this.signingKey = new SecretKeySpec(Decoders.BASE64.decode(secret.trim()), ALGORITHM);
+		this.macs = ThreadLocal.withInitial(this::newMac);
+	}
+
+	/**
+	 * 입장권 발급 (입장 만료 시각과 최대 유효 시간 중 이른 시각까지 유효)
+	 */
+	public String issue(Long eventId, Long userId, LocalDateTime expiredAt) {
+		long now = System.currentTimeMillis();
+		long expiresAt = now + properties.getMaxLeaseSeconds() * 1000;
+		if (expiredAt != null) {
+			expiresAt = Math.min(expiresAt, expiredAt.atZone(ZONE).toInstant().toEpochMilli());
+		}
+
+		String payload = eventId + "." + userId + "." + now + "." + expiresAt;
+		return payload + "." + sign(payload);
+	}
+
+	/**
+	 * 해당 이벤트/사용자의 유효한 입장권인지 로컬 검증
+	 *
+	 * @return 입장권이 없거나 무효/회수/동기화 지연이면 false (호출 측에서 Redis/DB 확인)
+	 */
+	public boolean verify(Long eventId, Long userId, String pass) {
+		if (!properties.isEnabled() || pass == null || pass.isBlank()) {
+			return false;
+		}
+
+		int signatureAt = pass.lastIndexOf('.');
+		if (signatureAt < 0) {
+			return false;
+		}
+		String payload = pass.substring(0, signatureAt);
+		byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+		byte[] actual = pass.substring(signatureAt + 1).getBytes(StandardCharsets.US_ASCII);
+		if (!MessageDigest.isEqual(expected, actual)) {
+			return false;
+		}
+
+		String[] claims = payload.split("\\.");
+		if (claims.length != 4
+			|| !claims[0].equals(String.valueOf(eventId))
+			|| !claims[1].equals(String.valueOf(userId))) {
+			return false;
+		}
+
+		long now = System.currentTimeMillis();
+		long issuedAt = Long.parseLong(claims[2]);
+		long expiresAt = Long.parseLong(claims[3]);
+		if (now >= expiresAt) {
+			return false;
+		}
+
+		// 회수 목록이 오래되면 다른 노드에서 회수된 입장권을 놓칠 수 있음
+		if (now - syncedAt > properties.getMaxStalenessMs()) {
+			return false;
+		}
+
+		Long revokedAt = revoked.get(AdmissionRevocationRedisRepository.member(eventId, userId));
+		return revokedAt == null || issuedAt > revokedAt + properties.getClockSkewMs();
+	}
+
+	/**
+	 * 지금까지 발급된 입장권 회수 (다시 입장하면 새로 발급된 입장권만 유효)
+	 */
+	public void revoke(Long eventId, Long userId) {
+		long now = System.currentTimeMillis();
+		String member = AdmissionRevocationRedisRepository.member(eventId, userId);
+		revoked.merge(member, now, Math::max);
+
+		if (admissionRevocationRedisRepository.revoke(eventId, userId, now, retainSince(now))) {
+			// 이전에 실패한 회수가 남아 있으면 더 늦은 시각으로 기록됐으므로 재시도하지 않음
+			unpublished.computeIfPresent(member, (key, pending) -> pending.revokedAt() <= now ? null : pending);
+			return;
+		}
+		unpublished.merge(member, new Revocation(eventId, userId, now),
+			(pending, latest) -> pending.revokedAt() >= latest.revokedAt() ? pending : latest);
+	}
+
+	/**
+	 * 다른 노드의 회수 기록 동기화 + 보관 기간이 지난 로컬 항목 정리
+	 * 노드 간 시계 오차만큼 겹쳐 읽어 늦게 기록된 항목도 놓치지 않는다
+	 */
+	@Scheduled(fixedDelayString = "${queue.admission-pass.sync-interval-ms:500}")
+	public void sync() {
+		long now = System.currentTimeMillis();
+		publishUnpublished(now);
+
+		long since = Math.max(retainSince(now), syncCursor - properties.getClockSkewMs());
+
+		long[] latest = {syncCursor};
+		boolean synced = admissionRevocationRedisRepository.forEachRevokedSince(since, (member, revokedAt) -> {
+			revoked.merge(member, revokedAt, Math::max);
+			latest[0] = Math.max(latest[0], revokedAt);
+		});
+		if (!synced) {
+			return;
+		}
+
+		long retainSince = retainSince(now);
+		revoked.entrySet().removeIf(entry ->
+			entry.getValue() < retainSince && !unpublished.containsKey(entry.getKey()));
+		syncCursor = latest[0];
+		syncedAt = now;
+	}
+
+	// 기록에 실패했던 회수 재시도 (Redis 장애 중이면 첫 실패에서 멈추고 다음 주기에 다시 시도)
+	private void publishUnpublished(long now) {
+		for (Map.Entry<String, Revocation> entry : unpublished.entrySet()) {
+			Revocation pending = entry.getValue();
+			if (!admissionRevocationRedisRepository.revoke(
+				pending.eventId(), pending.userId(), pending.revokedAt(), retainSince(now))) {
+				return;
+			}
+			unpublished.remove(entry.getKey(), pending);
+		}
+	}
+
+	// 회수 이전에 발급된 입장권이 모두 만료된 항목은 보관할 필요 없음
+	private long retainSince(long now) {
+		return now - properties.getMaxLeaseSeconds() * 1000 - properties.getClockSkewMs();
+	}
+
+	private String sign(String payload) {
+		byte[] signature = macs.get().doFinal((SIGNING_PREFIX + payload).getBytes(StandardCharsets.UTF_8));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+	}
+
+	private Mac newMac() {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(signingKey);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record Revocation(Long eventId, Long userId, long revokedAt) {
+	}
+}
@@ -53,6 +53,7 @@ public class QueueEntryProcessService {
 	private final QueueEntryReadService queueEntryReadService;
 	private final EventRepository eventRepository;
 	private final TicketService ticketService;
+	private final AdmissionPassService admissionPassService;
 
 
 	/* ==================== 입장 처리 ==================== */
@@ -321,6 +322,7 @@ public class QueueEntryProcessService {
 
 		queueEntry.expire();
 		QueueEntry deque = queueEntryRepository.save(queueEntry);
+		admissionPassService.revoke(eventId, userId);
 
 		try {
 			queueEntryRedisRepository.removeFromEnteredQueue(eventId, userId);
@@ -354,6 +356,7 @@ public class QueueEntryProcessService {
 
 		queueEntry.expire();
 		QueueEntry deque = queueEntryRepository.save(queueEntry);
+		admissionPassService.revoke(eventId, userId);
 
 		try {
 			queueEntryRedisRepository.removeFromWaitingAndEnteredQueue(eventId, userId);
@@ -400,6 +403,7 @@ public class QueueEntryProcessService {
 
 		queueEntry.completePayment();
 		queueEntryRepository.save(queueEntry);
+		admissionPassService.revoke(eventId, userId);
 
 		try {
 			queueEntryRedisRepository.removeFromEnteredQueue(eventId, userId);
@@ -484,6 +488,7 @@ public class QueueEntryProcessService {
 		queueEntry.backToWaiting();
 		queueEntry.updateRank(newRank);
 		queueEntryRepository.save(queueEntry);
+		admissionPassService.revoke(eventId, userId);
 
 		try {
 			queueEntryRedisRepository.removeFromEnteredQueue(eventId, userId);
@@ -567,7 +572,8 @@ public class QueueEntryProcessService {
 			queueEntry.getUserId(),
 			queueEntry.getEventId(),
 			queueEntry.getEnteredAt(),
-			queueEntry.getExpiredAt()
+			queueEntry.getExpiredAt(),
+			admissionPassService.issue(queueEntry.getEventId(), queueEntry.getUserId(), queueEntry.getExpiredAt())
 		);
 
 		eventPublisher.publishEvent(response);
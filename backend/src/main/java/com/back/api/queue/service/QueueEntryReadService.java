@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.back.api.event.service.EventService;
@@ -41,6 +42,7 @@ public class QueueEntryReadService {
 	private final QueueEntryRepository queueEntryRepository;
 	private final QueueEntryRedisRepository queueEntryRedisRepository;
 	private final EventService eventService;
+	private final AdmissionPassService admissionPassService;
 
 	public QueueEntryStatusResponse getMyQueueStatus(Long eventId, Long userId) {
 		QueueEntry entry = queueEntryRepository.findByEvent_IdAndUser_Id(eventId, userId)
@@ -132,6 +134,16 @@ public class QueueEntryReadService {
 		return queueEntryRepository.existsByEvent_IdAndUser_Id(eventId, userId);
 	}
 
+	//대기열 ENTERED 상태인지 확인
+	//서명된 입장권이 유효하면 Redis/DB 조회 생략 (트랜잭션/커넥션도 새로 열지 않음)
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public boolean isUserEntered(Long eventId, Long userId, String admissionPass) {
+		if (admissionPassService.verify(eventId, userId, admissionPass)) {
+			return true;
+		}
+		return isUserEntered(eventId, userId);
+	}
+
 	//대기열 ENTERED 상태인지 확인
 	//Redis & DB
 	public boolean isUserEntered(Long eventId, Long userId) {
@@ -241,7 +253,8 @@ public class QueueEntryReadService {
 			entry.getUserId(),
 			entry.getEventId(),
 			entry.getEnteredAt(),
-			entry.getExpiredAt()
+			entry.getExpiredAt(),
+			admissionPassService.issue(entry.getEventId(), entry.getUserId(), entry.getExpiredAt())
 		);
 	}
 
@@ -6,12 +6,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.back.api.seat.dto.request.AutoCreateSeatsRequest;
 import com.back.api.seat.dto.request.BulkCreateSeatsRequest;
 import com.back.api.seat.dto.request.SeatCreateRequest;
 import com.back.api.seat.dto.request.SeatUpdateRequest;
+import com.back.api.seat.dto.request.VenueLayoutRequest;
+import com.back.api.seat.dto.response.SeatImportResponse;
 import com.back.api.seat.dto.response.SeatResponse;
+import com.back.api.seat.dto.response.SeatScrollResponse;
 import com.back.global.config.swagger.ApiErrorCode;
 import com.back.global.response.ApiResponse;
 
@@ -51,6 +56,39 @@ public interface AdminSeatApi {
 		@Valid @RequestBody AutoCreateSeatsRequest request
 	);
 
+	@Operation(
+		summary = "공연장 좌석 CSV 적재",
+		description = "seat_code,grade,price 형식의 CSV 파일로 좌석을 대량 적재합니다. (첫 줄 헤더, 10만 석 규모)"
+	)
+	@ApiErrorCode({
+		"NOT_FOUND_EVENT",
+		"DUPLICATE_SEAT_CODE",
+		"INVALID_SEAT_IMPORT",
+		"SEAT_IMPORT_LIMIT_EXCEEDED"
+	})
+	ApiResponse<SeatImportResponse> importSeats(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId,
+		@Parameter(description = "좌석 CSV 파일")
+		@RequestPart("file") MultipartFile file
+	);
+
+	@Operation(
+		summary = "공연장 레이아웃 좌석 적재",
+		description = "구역별 행 범위(A~ZZ 등 여러 글자 행 지원)와 행당 좌석 수로 좌석을 대량 적재합니다."
+	)
+	@ApiErrorCode({
+		"NOT_FOUND_EVENT",
+		"DUPLICATE_SEAT_CODE",
+		"INVALID_SEAT_IMPORT",
+		"SEAT_IMPORT_LIMIT_EXCEEDED"
+	})
+	ApiResponse<SeatImportResponse> importSeatsFromLayout(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId,
+		@Valid @RequestBody VenueLayoutRequest request
+	);
+
 	@Operation(
 		summary = "좌석 단일 생성",
 		description = "단일 좌석을 생성합니다."
@@ -118,4 +156,21 @@ public interface AdminSeatApi {
 		@Parameter(description = "페이지 크기")
 		@RequestParam(defaultValue = "20") int size
 	);
+
+	@Operation(
+		summary = "이벤트별 좌석 목록 이어 조회",
+		description = "등급 → 행 → 번호 순으로 좌석을 size개씩 조회합니다. "
+			+ "응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회하며, 페이지 번호 방식과 달리 뒤 페이지도 비용이 일정합니다."
+	)
+	@ApiErrorCode({"NOT_FOUND_EVENT", "INVALID_INPUT_VALUE"})
+	ApiResponse<SeatScrollResponse> getSeatsByEventAfter(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId,
+
+		@Parameter(description = "직전 응답의 nextCursor (첫 페이지는 생략)")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "페이지 크기 (최대 500)")
+		@RequestParam(defaultValue = "100") int size
+	);
 }
@@ -1,8 +1,11 @@
 package com.back.api.seat.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,15 +15,22 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.back.api.seat.dto.request.AutoCreateSeatsRequest;
 import com.back.api.seat.dto.request.BulkCreateSeatsRequest;
 import com.back.api.seat.dto.request.SeatCreateRequest;
 import com.back.api.seat.dto.request.SeatUpdateRequest;
+import com.back.api.seat.dto.request.VenueLayoutRequest;
+import com.back.api.seat.dto.response.SeatImportResponse;
 import com.back.api.seat.dto.response.SeatResponse;
+import com.back.api.seat.dto.response.SeatScrollResponse;
 import com.back.api.seat.service.AdminSeatService;
 import com.back.domain.seat.entity.Seat;
+import com.back.global.error.code.SeatErrorCode;
+import com.back.global.error.exception.ErrorException;
 import com.back.global.response.ApiResponse;
 
 import jakarta.validation.Valid;
@@ -69,6 +79,38 @@ public class AdminSeatController implements AdminSeatApi {
 		);
 	}
 
+	@Override
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ApiResponse<SeatImportResponse> importSeats(
+		@PathVariable Long eventId,
+		@RequestPart("file") MultipartFile file
+	) {
+		try (InputStream csv = file.getInputStream()) {
+			SeatImportResponse response = adminSeatService.importSeatsFromCsv(eventId, csv);
+
+			return ApiResponse.created(
+				String.format("좌석을 적재했습니다. (총 %d개)", response.createdCount()),
+				response
+			);
+		} catch (IOException e) {
+			throw new ErrorException(SeatErrorCode.INVALID_SEAT_IMPORT);
+		}
+	}
+
+	@Override
+	@PostMapping("/layout")
+	public ApiResponse<SeatImportResponse> importSeatsFromLayout(
+		@PathVariable Long eventId,
+		@Valid @RequestBody VenueLayoutRequest request
+	) {
+		SeatImportResponse response = adminSeatService.importSeatsFromLayout(eventId, request);
+
+		return ApiResponse.created(
+			String.format("좌석을 적재했습니다. (총 %d개)", response.createdCount()),
+			response
+		);
+	}
+
 	@Override
 	@PostMapping("/single")
 	public ApiResponse<SeatResponse> createSingleSeat(
@@ -125,4 +167,16 @@ public class AdminSeatController implements AdminSeatApi {
 
 		return ApiResponse.ok("좌석 목록을 조회했습니다.", response);
 	}
+
+	@Override
+	@GetMapping("/scroll")
+	public ApiResponse<SeatScrollResponse> getSeatsByEventAfter(
+		@PathVariable Long eventId,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "100") int size
+	) {
+		SeatScrollResponse response = adminSeatService.getSeatsByEventAfter(eventId, cursor, size);
+
+		return ApiResponse.ok("좌석 목록을 조회했습니다.", response);
+	}
 }
@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.web.bind.annotation.PathVariable;
 
 import com.back.api.seat.dto.response.SeatResponse;
+import com.back.api.seat.dto.response.SeatSectionSummary;
+import com.back.domain.seat.entity.SeatGrade;
 import com.back.global.config.swagger.ApiErrorCode;
 import com.back.global.response.ApiResponse;
 
@@ -17,11 +19,37 @@ public interface SeatApi {
 
 	@Operation(
 		summary = "좌석 목록 조회",
-		description = "특정 이벤트의 모든 좌석 목록을 조회합니다. 큐에 입장한 사용자만 조회 가능합니다."
+		description = "특정 이벤트의 모든 좌석 목록을 조회합니다. 큐에 입장한 사용자만 조회 가능합니다. "
+			+ "응답 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다. "
+			+ "입장 응답의 admissionPass를 X-Admission-Pass 헤더로 보내면 대기열 확인을 서버에서 바로 처리합니다."
 	)
 	@ApiErrorCode("NOT_IN_QUEUE")
 	ApiResponse<List<SeatResponse>> getSeatsByEvent(
 		@Parameter(description = "이벤트 ID", example = "1")
 		@PathVariable Long eventId
 	);
+
+	@Operation(
+		summary = "구역별 좌석 현황 조회",
+		description = "등급(구역)별 전체/빈 좌석 수만 조회합니다. 좌석 목록 없이 구역 선택 화면을 먼저 그릴 때 사용합니다. "
+			+ "좌석 목록과 같은 ETag를 사용합니다."
+	)
+	@ApiErrorCode("NOT_IN_QUEUE")
+	ApiResponse<List<SeatSectionSummary>> getSeatSections(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId
+	);
+
+	@Operation(
+		summary = "구역 좌석 목록 조회",
+		description = "선택한 등급(구역)의 좌석만 조회합니다. 전체 좌석 목록 대신 구역 단위로 나눠 불러올 수 있습니다. "
+			+ "좌석 목록과 같은 ETag를 사용합니다."
+	)
+	@ApiErrorCode("NOT_IN_QUEUE")
+	ApiResponse<List<SeatResponse>> getSeatSection(
+		@Parameter(description = "이벤트 ID", example = "1")
+		@PathVariable Long eventId,
+		@Parameter(description = "좌석 등급(구역)", example = "VIP")
+		@PathVariable SeatGrade grade
+	);
 }
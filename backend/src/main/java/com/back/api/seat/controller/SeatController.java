@@ -1,16 +1,22 @@
 package com.back.api.seat.controller;
 
+import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.back.api.queue.service.AdmissionPassService;
 import com.back.api.queue.service.QueueEntryReadService;
+import com.back.api.seat.dto.response.SeatMap;
 import com.back.api.seat.dto.response.SeatResponse;
+import com.back.api.seat.dto.response.SeatSectionSummary;
+import com.back.api.seat.dto.response.SeatSections;
 import com.back.api.seat.service.SeatService;
-import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatGrade;
 import com.back.global.http.HttpRequestContext;
 import com.back.global.response.ApiResponse;
 
@@ -30,13 +36,79 @@ public class SeatController implements SeatApi {
 	public ApiResponse<List<SeatResponse>> getSeatsByEvent(
 		@PathVariable Long eventId
 	) {
-		Long userId = httpRequestContext.getUser().getId();
+		Long userId = httpRequestContext.getUserId();
 
-		List<Seat> seats = seatService.getSeatsByEvent(eventId, userId);
+		SeatMap seatMap = seatService.getSeatsByEvent(eventId, userId, admissionPass());
+
+		if (isNotModified(seatMap.etag())) {
+			return ApiResponse.notModified("좌석 목록이 변경되지 않았습니다.");
+		}
 
 		return ApiResponse.ok(
 			"좌석 목록을 조회했습니다.",
-			seats.stream().map(SeatResponse::from).toList()
+			seatMap.seats()
+		);
+	}
+
+	@Override
+	@GetMapping("/events/{eventId}/seats/sections")
+	public ApiResponse<List<SeatSectionSummary>> getSeatSections(
+		@PathVariable Long eventId
+	) {
+		Long userId = httpRequestContext.getUserId();
+
+		SeatSections sections = seatService.getSeatSections(eventId, userId, admissionPass());
+
+		if (isNotModified(sections.etag())) {
+			return ApiResponse.notModified("구역별 좌석 현황이 변경되지 않았습니다.");
+		}
+
+		return ApiResponse.ok(
+			"구역별 좌석 현황을 조회했습니다.",
+			sections.sections()
+		);
+	}
+
+	@Override
+	@GetMapping("/events/{eventId}/seats/sections/{grade}")
+	public ApiResponse<List<SeatResponse>> getSeatSection(
+		@PathVariable Long eventId,
+		@PathVariable SeatGrade grade
+	) {
+		Long userId = httpRequestContext.getUserId();
+
+		SeatMap seatMap = seatService.getSeatSection(eventId, grade, userId, admissionPass());
+
+		if (isNotModified(seatMap.etag())) {
+			return ApiResponse.notModified("구역 좌석 목록이 변경되지 않았습니다.");
+		}
+
+		return ApiResponse.ok(
+			"구역 좌석 목록을 조회했습니다.",
+			seatMap.section(grade.getDisplayName())
 		);
 	}
+
+	private String admissionPass() {
+		return httpRequestContext.getHeader(AdmissionPassService.HEADER, null);
+	}
+
+	// 좌석 맵 버전 ETag 설정 후 If-None-Match 비교 (버전을 모르는 DB 조회 결과는 항상 본문 응답)
+	private boolean isNotModified(String etag) {
+		if (etag == null) {
+			return false;
+		}
+		httpRequestContext.setHeader(HttpHeaders.ETAG, etag);
+		return isNotModified(httpRequestContext.getHeader(HttpHeaders.IF_NONE_MATCH, null), etag);
+	}
+
+	// If-None-Match: "a", "b" 형태의 목록 허용
+	private boolean isNotModified(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		return Arrays.stream(ifNoneMatch.split(","))
+			.map(String::trim)
+			.anyMatch(etag::equals);
+	}
 }
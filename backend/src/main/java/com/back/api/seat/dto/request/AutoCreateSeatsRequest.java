@@ -8,10 +8,10 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 public record AutoCreateSeatsRequest(
-	@Schema(description = "좌석 행 개수 (A~Z, 최대 26)", example = "10")
+	@Schema(description = "좌석 행 개수 (A~Z 다음 AA, AB ..., 최대 100. 대형 공연장은 레이아웃 적재 사용)", example = "10")
 	@NotNull
 	@Min(1)
-	@Max(26)
+	@Max(100)
 	Integer rows,
 
 	@Schema(description = "좌석 열 개수 (1~N)", example = "20")
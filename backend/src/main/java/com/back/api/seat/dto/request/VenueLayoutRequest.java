@@ -0,0 +1,48 @@
+package com.back.api.seat.dto.request;
+
+import java.util.List;
+
+import com.back.domain.seat.entity.SeatGrade;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+public record VenueLayoutRequest(
+	@Schema(description = "구역 목록 (구역마다 행 범위 x 행당 좌석 수)")
+	@NotEmpty
+	@Valid
+	List<Section> sections
+) {
+	public record Section(
+		@Schema(description = "시작 행 (A~ZZZ)", example = "A")
+		@NotNull
+		@Pattern(regexp = "[A-Z]{1,3}")
+		String fromRow,
+
+		@Schema(description = "끝 행 (A~ZZZ)", example = "AZ")
+		@NotNull
+		@Pattern(regexp = "[A-Z]{1,3}")
+		String toRow,
+
+		@Schema(description = "행당 좌석 수", example = "300")
+		@NotNull
+		@Min(1)
+		@Max(1000)
+		Integer seatsPerRow,
+
+		@Schema(description = "좌석 등급", example = "R")
+		@NotNull
+		SeatGrade grade,
+
+		@Schema(description = "좌석 가격", example = "100000")
+		@NotNull
+		@Min(0)
+		Integer price
+	) {
+	}
+}
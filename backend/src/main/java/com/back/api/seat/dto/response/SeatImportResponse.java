@@ -0,0 +1,11 @@
+package com.back.api.seat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record SeatImportResponse(
+	@Schema(description = "생성된 좌석 수", example = "100000")
+	int createdCount,
+	@Schema(description = "적재 소요 시간 (ms)", example = "2300")
+	long elapsedMs
+) {
+}
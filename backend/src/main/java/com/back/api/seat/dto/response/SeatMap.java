@@ -0,0 +1,271 @@
+package com.back.api.seat.dto.response;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatStatus;
+
+/**
+ * 이벤트 좌석 맵 스냅샷 (불변)
+ * - seats: 등급/좌석 코드 순으로 정렬된 응답 목록 (적재 시점 좌석 + 스냅샷 상태를 합친 view)
+ * - positions: seatId → seats 내 위치
+ * - statuses: 위치별 상태 코드를 CHUNK_SIZE 단위 청크로 보관
+ *   상태 변경 시 청크 참조 배열과 바뀐 청크만 복사하고 나머지는 이전 스냅샷과 공유 (좌석 목록은 복사하지 않음)
+ * - sections: 등급(구역)별 seats 내 구간 + 빈 좌석 수 (구역 단위 조회/요약용)
+ * - version: Redis 좌석 맵 버전 (null이면 버전 확인 없이 DB에서 읽은 목록)
+ */
+public final class SeatMap {
+
+	private static final int CHUNK_BITS = 8; // 청크당 256석
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+	private static final SeatStatus[] STATUSES = SeatStatus.values();
+	private static final byte AVAILABLE = (byte)SeatStatus.AVAILABLE.ordinal();
+
+	private final Long eventId;
+	private final Long version;
+	private final List<SeatResponse> loaded; // 적재 시점 좌석 (상태는 statuses 기준)
+	private final byte[][] statuses;
+	private final Map<Long, Integer> positions;
+	private final List<Section> sections;
+	private final List<SeatResponse> seats = new SeatView();
+
+	public SeatMap(Long eventId, Long version, List<SeatResponse> seats, Map<Long, Integer> positions) {
+		this(eventId, version, seats, statusesOf(seats), positions, sectionsOf(seats));
+	}
+
+	private SeatMap(
+		Long eventId,
+		Long version,
+		List<SeatResponse> loaded,
+		byte[][] statuses,
+		Map<Long, Integer> positions,
+		List<Section> sections
+	) {
+		this.eventId = eventId;
+		this.version = version;
+		this.loaded = loaded;
+		this.statuses = statuses;
+		this.positions = positions;
+		this.sections = sections;
+	}
+
+	public static SeatMap of(Long eventId, Long version, List<Seat> sortedSeats) {
+		List<SeatResponse> seats = sortedSeats.stream().map(SeatResponse::from).toList();
+
+		Map<Long, Integer> positions = new HashMap<>(seats.size() * 2);
+		for (int i = 0; i < seats.size(); i++) {
+			positions.put(seats.get(i).id(), i);
+		}
+
+		return new SeatMap(eventId, version, seats, Collections.unmodifiableMap(positions));
+	}
+
+	/**
+	 * 좌석 하나의 상태만 바꾼 새 스냅샷
+	 *
+	 * @return 스냅샷에 없는 좌석이면 null (재적재 필요)
+	 */
+	public SeatMap withSeatStatus(long newVersion, Long seatId, String seatStatus) {
+		return withSeatStatuses(newVersion, List.of(new StatusChange(seatId, seatStatus)));
+	}
+
+	/**
+	 * 상태 변경 여러 건을 순서대로 반영한 새 스냅샷 (변경 수와 관계없이 청크 참조 배열 복사 1번)
+	 *
+	 * @return 스냅샷에 없는 좌석이나 알 수 없는 상태가 있으면 null (재적재 필요)
+	 */
+	public SeatMap withSeatStatuses(long newVersion, List<StatusChange> changes) {
+		byte[][] updated = statuses.clone();
+		BitSet copied = new BitSet(updated.length);
+		int[] availableDeltas = new int[sections.size()];
+
+		for (StatusChange change : changes) {
+			Integer position = positions.get(change.seatId());
+			int status = statusCodeOf(change.seatStatus());
+			if (position == null || status < 0) {
+				return null;
+			}
+
+			int chunk = position >>> CHUNK_BITS;
+			if (!copied.get(chunk)) {
+				updated[chunk] = updated[chunk].clone();
+				copied.set(chunk);
+			}
+			int offset = position & (CHUNK_SIZE - 1);
+			int availableDelta = (status == AVAILABLE ? 1 : 0) - (updated[chunk][offset] == AVAILABLE ? 1 : 0);
+			updated[chunk][offset] = (byte)status;
+			if (availableDelta != 0) {
+				availableDeltas[sectionIndexOf(position)] += availableDelta;
+			}
+		}
+
+		return new SeatMap(eventId, newVersion, loaded, updated, positions, withAvailableDeltas(availableDeltas));
+	}
+
+	public Long eventId() {
+		return eventId;
+	}
+
+	public Long version() {
+		return version;
+	}
+
+	public List<SeatResponse> seats() {
+		return seats;
+	}
+
+	public Map<Long, Integer> positions() {
+		return positions;
+	}
+
+	public List<Section> sections() {
+		return sections;
+	}
+
+	/**
+	 * 등급(구역) 하나의 좌석 목록 (복사 없이 seats의 구간 view)
+	 */
+	public List<SeatResponse> section(String grade) {
+		for (Section section : sections) {
+			if (section.grade().equals(grade)) {
+				return seats.subList(section.from(), section.to());
+			}
+		}
+		return List.of();
+	}
+
+	public List<SeatSectionSummary> sectionSummaries() {
+		return sections.stream()
+			.map(section -> new SeatSectionSummary(
+				section.grade(), section.to() - section.from(), section.availableSeats()))
+			.toList();
+	}
+
+	public boolean isVersioned() {
+		return version != null;
+	}
+
+	/**
+	 * 버전 기반 weak ETag (좌석 상태가 바뀔 때마다 버전 증가)
+	 */
+	public String etag() {
+		return isVersioned() ? "W/\"" + eventId + "-" + version + "\"" : null;
+	}
+
+	private int sectionIndexOf(int position) {
+		for (int i = 0; i < sections.size(); i++) {
+			if (sections.get(i).contains(position)) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("position outside sections: " + position);
+	}
+
+	private List<Section> withAvailableDeltas(int[] availableDeltas) {
+		List<Section> updated = null;
+		for (int i = 0; i < availableDeltas.length; i++) {
+			if (availableDeltas[i] == 0) {
+				continue;
+			}
+			if (updated == null) {
+				updated = new ArrayList<>(sections);
+			}
+			updated.set(i, sections.get(i).withAvailableDelta(availableDeltas[i]));
+		}
+		return updated == null ? sections : List.copyOf(updated);
+	}
+
+	private static int statusCodeOf(String seatStatus) {
+		for (SeatStatus status : STATUSES) {
+			if (status.name().equals(seatStatus)) {
+				return status.ordinal();
+			}
+		}
+		return -1;
+	}
+
+	private static byte[][] statusesOf(List<SeatResponse> seats) {
+		int size = seats.size();
+		byte[][] chunks = new byte[(size + CHUNK_SIZE - 1) >>> CHUNK_BITS][];
+		for (int chunk = 0; chunk < chunks.length; chunk++) {
+			chunks[chunk] = new byte[Math.min(CHUNK_SIZE, size - (chunk << CHUNK_BITS))];
+		}
+		for (int i = 0; i < size; i++) {
+			SeatStatus status = SeatStatus.valueOf(seats.get(i).seatStatus());
+			chunks[i >>> CHUNK_BITS][i & (CHUNK_SIZE - 1)] = (byte)status.ordinal();
+		}
+		return chunks;
+	}
+
+	/**
+	 * 등급 순으로 정렬된 좌석 목록을 등급별 연속 구간으로 나눔
+	 */
+	private static List<Section> sectionsOf(List<SeatResponse> seats) {
+		List<Section> sections = new ArrayList<>();
+		int from = 0;
+		int available = 0;
+		for (int i = 0; i < seats.size(); i++) {
+			SeatResponse seat = seats.get(i);
+			if (i > from && !seat.grade().equals(seats.get(from).grade())) {
+				sections.add(new Section(seats.get(from).grade(), from, i, available));
+				from = i;
+				available = 0;
+			}
+			if (SeatStatus.AVAILABLE.name().equals(seat.seatStatus())) {
+				available++;
+			}
+		}
+		if (from < seats.size()) {
+			sections.add(new Section(seats.get(from).grade(), from, seats.size(), available));
+		}
+		return List.copyOf(sections);
+	}
+
+	/**
+	 * 좌석 상태 변경 1건 (변경 로그 / 상태 전이 메시지)
+	 */
+	public record StatusChange(Long seatId, String seatStatus) {
+	}
+
+	/**
+	 * seats[from, to) 구간 = 등급 하나
+	 */
+	public record Section(String grade, int from, int to, int availableSeats) {
+
+		boolean contains(int position) {
+			return position >= from && position < to;
+		}
+
+		Section withAvailableDelta(int delta) {
+			return new Section(grade, from, to, availableSeats + delta);
+		}
+	}
+
+	/**
+	 * 읽기 전용 좌석 목록: 상태가 적재 시점과 같으면 적재한 응답을 그대로, 바뀐 좌석만 응답을 새로 만듦
+	 */
+	private final class SeatView extends AbstractList<SeatResponse> implements RandomAccess {
+
+		@Override
+		public SeatResponse get(int index) {
+			SeatResponse seat = loaded.get(index);
+			String status = STATUSES[statuses[index >>> CHUNK_BITS][index & (CHUNK_SIZE - 1)]].name();
+			if (status.equals(seat.seatStatus())) {
+				return seat;
+			}
+			return new SeatResponse(seat.id(), seat.eventId(), seat.seatCode(), seat.grade(), seat.price(), status);
+		}
+
+		@Override
+		public int size() {
+			return loaded.size();
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.back.api.seat.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record SeatScrollResponse(
+	@Schema(description = "좌석 목록 (등급 → 행 → 번호 순)")
+	List<SeatResponse> seats,
+	@Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "VIP:1000012:4213")
+	String nextCursor
+) {
+}
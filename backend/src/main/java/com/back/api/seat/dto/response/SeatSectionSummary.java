@@ -0,0 +1,13 @@
+package com.back.api.seat.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record SeatSectionSummary(
+	@Schema(description = "좌석 등급(구역)", example = "VIP")
+	String grade,
+	@Schema(description = "구역 전체 좌석 수", example = "1200")
+	int totalSeats,
+	@Schema(description = "구역 빈 좌석 수", example = "350")
+	int availableSeats
+) {
+}
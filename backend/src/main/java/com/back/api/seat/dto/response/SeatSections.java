@@ -0,0 +1,12 @@
+package com.back.api.seat.dto.response;
+
+import java.util.List;
+
+/**
+ * 구역별 요약 + 좌석 맵 버전 ETag (Redis 장애로 버전을 모르면 null)
+ */
+public record SeatSections(
+	String etag,
+	List<SeatSectionSummary> sections
+) {
+}
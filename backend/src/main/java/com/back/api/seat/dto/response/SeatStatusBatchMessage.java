@@ -0,0 +1,14 @@
+package com.back.api.seat.dto.response;
+
+import java.util.List;
+
+/**
+ * 같은 이벤트의 여러 좌석이 한 번에 같은 상태로 바뀐 경우의 묶음 메시지 (만료 Draft 일괄 해제 등)
+ * 좌석마다 SeatStatusMessage를 보내는 대신 구독자에게 프레임 1개로 전달
+ */
+public record SeatStatusBatchMessage(
+	Long eventId,
+	String currentStatus,
+	List<Long> seatIds
+) {
+}
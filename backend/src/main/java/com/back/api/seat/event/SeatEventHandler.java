@@ -4,7 +4,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.back.api.seat.dto.response.SeatStatusBatchMessage;
 import com.back.api.seat.dto.response.SeatStatusMessage;
+import com.back.api.seat.service.SeatMapCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,11 +17,22 @@ import lombok.extern.slf4j.Slf4j;
 public class SeatEventHandler {
 
 	private final SeatWebSocketPublisher publisher;
+	private final SeatMapCache seatMapCache;
 
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void handleSeatStatus(SeatStatusMessage msg) {
 		log.debug("SEAT_EVENT_RECEIVED eventId={} seatId={} currentStatus={}", msg.eventId(), msg.seatId(),
 			msg.currentStatus());
+		// 프레임을 받은 클라이언트가 목록을 다시 조회해도 변경이 보이도록 캐시 먼저 반영
+		seatMapCache.applyTransition(msg);
+		publisher.publish(msg);
+	}
+
+	// 좌석 맵 캐시는 발행 측 트랜잭션에서 커밋 후 재적재되도록 처리됨
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleSeatStatusBatch(SeatStatusBatchMessage msg) {
+		log.debug("SEAT_BATCH_EVENT_RECEIVED eventId={} seats={} currentStatus={}", msg.eventId(),
+			msg.seatIds().size(), msg.currentStatus());
 		publisher.publish(msg);
 	}
 }
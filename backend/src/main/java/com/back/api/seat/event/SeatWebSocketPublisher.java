@@ -1,9 +1,10 @@
 package com.back.api.seat.event;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import com.back.api.seat.dto.response.SeatStatusBatchMessage;
 import com.back.api.seat.dto.response.SeatStatusMessage;
+import com.back.global.websocket.dispatch.WebSocketDispatcher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,14 +14,22 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SeatWebSocketPublisher {
 
-	private final SimpMessagingTemplate messagingTemplate;
+	private final WebSocketDispatcher dispatcher;
 
 	public void publish(SeatStatusMessage msg) {
 		String destination = "/topic/events/" + msg.eventId() + "/seats";
 		log.debug("WS_PUBLISH destination={} eventId={} seatId={} currentStatus={}", destination, msg.eventId(),
 			msg.seatId(),
 			msg.currentStatus());
-		messagingTemplate.convertAndSend(destination, msg);
-		log.debug("WS_PUBLISH_COMPLETE destination={}", destination);
+		// 느린 세션에는 좌석별 최신 상태만 전송
+		dispatcher.dispatch(destination, msg, destination + ":" + msg.seatId());
+	}
+
+	public void publish(SeatStatusBatchMessage msg) {
+		String destination = "/topic/events/" + msg.eventId() + "/seats";
+		log.debug("WS_PUBLISH destination={} eventId={} seats={} currentStatus={}", destination, msg.eventId(),
+			msg.seatIds().size(), msg.currentStatus());
+		// 묶음마다 좌석이 다르므로 conflation 없이 전송
+		dispatcher.dispatch(destination, msg);
 	}
 }
@@ -1,10 +1,12 @@
 package com.back.api.seat.service;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -13,17 +15,28 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.back.api.event.service.EventSalesCounterService;
 import com.back.api.seat.dto.request.AutoCreateSeatsRequest;
 import com.back.api.seat.dto.request.SeatCreateRequest;
 import com.back.api.seat.dto.request.SeatUpdateRequest;
+import com.back.api.seat.dto.request.VenueLayoutRequest;
+import com.back.api.seat.dto.response.SeatImportResponse;
 import com.back.api.seat.dto.response.SeatResponse;
+import com.back.api.seat.dto.response.SeatScrollResponse;
+import com.back.api.ticket.service.MyTicketCache;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.repository.EventRepository;
 import com.back.domain.seat.entity.Seat;
 import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+import com.back.domain.seat.repository.SeatBulkRepository;
+import com.back.domain.seat.repository.SeatBulkRepository.NewSeat;
 import com.back.domain.seat.repository.SeatRepository;
+import com.back.global.error.code.CommonErrorCode;
 import com.back.global.error.code.SeatErrorCode;
 import com.back.global.error.exception.ErrorException;
+import com.back.global.properties.SeatImportProperties;
+import com.back.global.utils.SeatRowLabels;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,8 +44,16 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdminSeatService {
 
+	private static final int MAX_REPORTED_DUPLICATES = 20;
+	private static final int MAX_SCROLL_SIZE = 500;
+
 	private final SeatRepository seatRepository;
 	private final EventRepository eventRepository;
+	private final SeatMapCache seatMapCache;
+	private final MyTicketCache myTicketCache;
+	private final SeatBulkRepository seatBulkRepository;
+	private final SeatImportProperties seatImportProperties;
+	private final EventSalesCounterService eventSalesCounterService;
 	// ===== 관리자용 API =====
 
 	/**
@@ -51,6 +72,8 @@ public class AdminSeatService {
 			.map(req -> createSeatEntity(event, req))
 			.toList();
 
+		seatMapCache.invalidateAfterCommit(eventId);
+		eventSalesCounterService.seatsMoved(eventId, null, SeatStatus.AVAILABLE, seats.size(), 0);
 		return seatRepository.saveAll(seats);
 	}
 
@@ -66,6 +89,8 @@ public class AdminSeatService {
 		validateDuplicateSeats(eventId, List.of(request));
 
 		Seat seat = createSeatEntity(event, request);
+		seatMapCache.invalidateAfterCommit(eventId);
+		eventSalesCounterService.seatMoved(eventId, null, SeatStatus.AVAILABLE, seat.getPrice());
 		return seatRepository.save(seat);
 	}
 
@@ -80,12 +105,12 @@ public class AdminSeatService {
 
 		List<SeatCreateRequest> seatRequests = new ArrayList<>();
 
-		// 좌석 코드 생성 (예: A1, A2, B1, B2 ...)
+		// 좌석 코드 생성 (예: A1, A2, B1, B2 ... Z1, AA1 ...)
 		for (int row = 0; row < request.rows(); row++) {
-			char rowChar = (char)('A' + row);
+			String rowLabel = SeatRowLabels.label(row);
 
 			for (int col = 1; col <= request.cols(); col++) {
-				String code = rowChar + String.valueOf(col);
+				String code = rowLabel + col;
 				seatRequests.add(
 					new SeatCreateRequest(
 						code,
@@ -103,9 +128,29 @@ public class AdminSeatService {
 			.map(req -> createSeatEntity(event, req))
 			.toList();
 
+		seatMapCache.invalidateAfterCommit(eventId);
+		eventSalesCounterService.seatsMoved(eventId, null, SeatStatus.AVAILABLE, seats.size(), 0);
 		return seatRepository.saveAll(seats);
 	}
 
+	/**
+	 * 공연장 좌석 CSV 적재 (seat_code,grade,price)
+	 * POST /api/admin/events/{eventId}/seats/import
+	 */
+	@Transactional
+	public SeatImportResponse importSeatsFromCsv(Long eventId, InputStream csv) {
+		return importSeats(eventId, () -> VenueSeatParser.fromCsv(csv, seatImportProperties.getMaxSeats()));
+	}
+
+	/**
+	 * 공연장 레이아웃(구역별 행 범위 x 행당 좌석 수)으로 좌석 적재
+	 * POST /api/admin/events/{eventId}/seats/layout
+	 */
+	@Transactional
+	public SeatImportResponse importSeatsFromLayout(Long eventId, VenueLayoutRequest request) {
+		return importSeats(eventId, () -> VenueSeatParser.fromLayout(request, seatImportProperties.getMaxSeats()));
+	}
+
 	/**
 	 * 좌석 수정
 	 * PUT /api/admin/seats/{seatId}
@@ -118,7 +163,12 @@ public class AdminSeatService {
 		// 수정 시에도 (eventId, grade, seatCode) 충돌 여부 체크 (자기 자신 제외)
 		validateDuplicateSeatsOnUpdate(seat, request);
 
+		Long eventId = seat.getEvent().getId();
+		eventSalesCounterService.seatMoved(eventId, seat.getSeatStatus(), null, seat.getPrice());
 		seat.update(request.seatCode(), request.grade(), request.price(), request.seatStatus());
+		eventSalesCounterService.seatMoved(eventId, null, seat.getSeatStatus(), seat.getPrice());
+		seatMapCache.invalidateAfterCommit(eventId);
+		myTicketCache.evictSeatAfterCommit(seatId);
 		return seatRepository.save(seat);
 	}
 
@@ -128,10 +178,13 @@ public class AdminSeatService {
 	 */
 	@Transactional
 	public void deleteSeat(Long seatId) {
-		if (!seatRepository.existsById(seatId)) {
-			throw new ErrorException(SeatErrorCode.NOT_FOUND_SEAT);
-		}
-		seatRepository.deleteById(seatId);
+		Seat seat = seatRepository.findById(seatId)
+			.orElseThrow(() -> new ErrorException(SeatErrorCode.NOT_FOUND_SEAT));
+
+		seatMapCache.invalidateAfterCommit(seat.getEvent().getId());
+		myTicketCache.evictSeatAfterCommit(seatId);
+		eventSalesCounterService.seatMoved(seat.getEvent().getId(), seat.getSeatStatus(), null, seat.getPrice());
+		seatRepository.delete(seat);
 	}
 
 	/**
@@ -140,11 +193,49 @@ public class AdminSeatService {
 	 */
 	@Transactional
 	public void deleteAllEventSeats(Long eventId) {
+		// 무효화 대상은 좌석 삭제 전에 조회
+		myTicketCache.evictEventAfterCommit(eventId);
 		seatRepository.deleteByEventId(eventId);
+		eventSalesCounterService.resetSeats(eventId);
+		seatMapCache.invalidateAfterCommit(eventId);
 	}
 
 	// ===== Private Helper Methods =====
 
+	/**
+	 * 대량 적재 공통: 중복은 메모리에서 검증 (기존 좌석 키 1회 조회), INSERT는 JDBC batch
+	 * 엔티티를 만들지 않으므로 10만 석 단위에서도 영속성 컨텍스트/메모리 부담이 없다
+	 */
+	private SeatImportResponse importSeats(Long eventId, Supplier<List<NewSeat>> source) {
+		long startedAt = System.currentTimeMillis();
+		if (!eventRepository.existsById(eventId)) {
+			throw new ErrorException(SeatErrorCode.NOT_FOUND_EVENT);
+		}
+
+		List<NewSeat> seats = source.get();
+		if (seats.isEmpty()) {
+			throw new ErrorException(SeatErrorCode.INVALID_SEAT_IMPORT);
+		}
+
+		Set<String> existing = seatBulkRepository.findSeatKeys(eventId);
+		Set<String> seen = new HashSet<>(seats.size() * 2);
+		List<String> duplicates = new ArrayList<>();
+		for (NewSeat seat : seats) {
+			String key = SeatBulkRepository.key(seat.grade(), seat.seatCode());
+			if ((!seen.add(key) || existing.contains(key)) && duplicates.size() < MAX_REPORTED_DUPLICATES) {
+				duplicates.add(key);
+			}
+		}
+		if (!duplicates.isEmpty()) {
+			throw new ErrorException("중복 좌석: " + duplicates, SeatErrorCode.DUPLICATE_SEAT_CODE);
+		}
+
+		int created = seatBulkRepository.insertAll(eventId, seats);
+		eventSalesCounterService.seatsMoved(eventId, null, SeatStatus.AVAILABLE, created, 0);
+		seatMapCache.invalidateAfterCommit(eventId);
+		return new SeatImportResponse(created, System.currentTimeMillis() - startedAt);
+	}
+
 	private Seat createSeatEntity(Event event, SeatCreateRequest request) {
 		return Seat.createSeat(event, request.seatCode(), request.grade(), request.price());
 	}
@@ -243,4 +334,48 @@ public class AdminSeatService {
 		return seatPage.map(SeatResponse::from);
 	}
 
+	/**
+	 * 관리자 좌석 목록 keyset 조회 (대형 공연장용, 뒤 페이지도 OFFSET 없이 일정한 비용)
+	 *
+	 * @param cursor 직전 응답의 nextCursor ("GRADE:sortKey:id"), 첫 페이지는 null
+	 */
+	@Transactional(readOnly = true)
+	public SeatScrollResponse getSeatsByEventAfter(Long eventId, String cursor, int size) {
+		if (!eventRepository.existsById(eventId)) {
+			throw new ErrorException(SeatErrorCode.NOT_FOUND_EVENT);
+		}
+
+		int limit = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+		List<Seat> seats;
+		if (cursor == null || cursor.isBlank()) {
+			seats = seatRepository.findAdminSeatsFirst(eventId, limit);
+		} else {
+			String[] parts = parseCursor(cursor);
+			seats = seatRepository.findAdminSeatsAfter(
+				eventId, parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]), limit);
+		}
+
+		String nextCursor = null;
+		if (seats.size() == limit) {
+			Seat last = seats.getLast();
+			nextCursor = last.getGrade().name() + ":" + last.getSortKey() + ":" + last.getId();
+		}
+		return new SeatScrollResponse(seats.stream().map(SeatResponse::from).toList(), nextCursor);
+	}
+
+	private String[] parseCursor(String cursor) {
+		String[] parts = cursor.split(":");
+		try {
+			if (parts.length != 3) {
+				throw new IllegalArgumentException(cursor);
+			}
+			SeatGrade.valueOf(parts[0]);
+			Long.parseLong(parts[1]);
+			Long.parseLong(parts[2]);
+			return parts;
+		} catch (IllegalArgumentException e) {
+			throw new ErrorException("좌석 목록 커서 형식이 올바르지 않습니다.", CommonErrorCode.INVALID_INPUT_VALUE);
+		}
+	}
+
 }
@@ -0,0 +1,227 @@
+package com.back.api.seat.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.back.api.seat.dto.response.SeatMap;
+import com.back.api.seat.dto.response.SeatMap.StatusChange;
+import com.back.api.seat.dto.response.SeatSectionSummary;
+import com.back.api.seat.dto.response.SeatSections;
+import com.back.api.seat.dto.response.SeatStatusMessage;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+import com.back.domain.seat.repository.SeatMapVersionRedisRepository;
+import com.back.domain.seat.repository.SeatRepository;
+import com.back.domain.seat.repository.SeatRepository.SectionStatusCount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 좌석 맵 캐시
+ *
+ * - 조회: Redis 버전 1회 확인 → 같으면 SQL 없이 스냅샷 반환
+ * - 버전이 앞서 있으면 Redis 변경 로그로 따라잡고, 로그가 부족하면 DB에서 재적재
+ * - 상태 전이 커밋 후: 버전 증가 + 변경 로그 기록, 로컬 스냅샷은 해당 좌석 상태만 교체 (좌석 목록은 복사하지 않음)
+ * - Redis 장애 시 버전을 알 수 없으므로 매번 DB 조회 (기존 동작)
+ */
+@Slf4j
+@Component
+public class SeatMapCache {
+
+	private final SeatRepository seatRepository;
+	private final SeatMapVersionRedisRepository seatMapVersionRedisRepository;
+
+	// eventId → 최신 스냅샷 (스냅샷 자체는 불변, 교체만 발생)
+	private final ConcurrentHashMap<Long, SeatMap> seatMaps = new ConcurrentHashMap<>();
+
+	private final Counter hitCounter;
+	private final Counter catchUpCounter;
+	private final Counter loadCounter;
+
+	public SeatMapCache(
+		SeatRepository seatRepository,
+		SeatMapVersionRedisRepository seatMapVersionRedisRepository,
+		MeterRegistry meterRegistry
+	) {
+		this.seatRepository = seatRepository;
+		this.seatMapVersionRedisRepository = seatMapVersionRedisRepository;
+
+		this.hitCounter = resultCounter(meterRegistry, "hit");
+		this.catchUpCounter = resultCounter(meterRegistry, "catch_up");
+		this.loadCounter = resultCounter(meterRegistry, "load");
+		Gauge.builder("seat.map.cache.events", seatMaps, ConcurrentHashMap::size)
+			.description("캐시된 이벤트 좌석 맵 수")
+			.register(meterRegistry);
+	}
+
+	public boolean contains(Long eventId) {
+		return seatMaps.containsKey(eventId);
+	}
+
+	/**
+	 * 현재 버전의 좌석 맵 조회
+	 */
+	public SeatMap get(Long eventId) {
+		Long version = seatMapVersionRedisRepository.current(eventId);
+		if (version == null) {
+			loadCounter.increment();
+			return SeatMap.of(eventId, null, seatRepository.findSortedSeatListByEventId(eventId));
+		}
+		return snapshot(eventId, version);
+	}
+
+	/**
+	 * 등급(구역) 하나만 담은 좌석 맵
+	 * - 버전을 알면 전체 스냅샷을 그대로 반환 (호출 측에서 SeatMap.section으로 구간만 사용, 복사 없음)
+	 * - Redis 장애로 버전을 모르면 전체 대신 해당 구역만 DB에서 조회
+	 */
+	public SeatMap getSection(Long eventId, SeatGrade grade) {
+		Long version = seatMapVersionRedisRepository.current(eventId);
+		if (version == null) {
+			loadCounter.increment();
+			return SeatMap.of(eventId, null, seatRepository.findSectionSeats(eventId, grade));
+		}
+		return snapshot(eventId, version);
+	}
+
+	/**
+	 * 구역별 전체/빈 좌석 수
+	 * - 버전을 알면 스냅샷에 유지 중인 구역 요약 (SQL 없음)
+	 * - Redis 장애 시 좌석 전체 대신 등급/상태별 COUNT만 DB에서 집계
+	 */
+	public SeatSections getSections(Long eventId) {
+		Long version = seatMapVersionRedisRepository.current(eventId);
+		if (version == null) {
+			loadCounter.increment();
+			return new SeatSections(null, summarize(seatRepository.countByGradeAndStatus(eventId)));
+		}
+		SeatMap seatMap = snapshot(eventId, version);
+		return new SeatSections(seatMap.etag(), seatMap.sectionSummaries());
+	}
+
+	private SeatMap snapshot(Long eventId, long version) {
+		SeatMap cached = seatMaps.get(eventId);
+		if (cached != null && cached.version() == version) {
+			hitCounter.increment();
+			return cached;
+		}
+
+		SeatMap latest = cached != null ? catchUp(cached, version) : null;
+		if (latest != null) {
+			catchUpCounter.increment();
+		} else {
+			// 버전을 먼저 읽었으므로 조회 결과는 최소 해당 버전 이후 상태 (더 최신이어도 다음 변경 로그 적용 시 덮어씀)
+			loadCounter.increment();
+			latest = SeatMap.of(eventId, version, seatRepository.findSortedSeatListByEventId(eventId));
+		}
+
+		seatMaps.merge(eventId, latest, (old, candidate) -> old.version() > candidate.version() ? old : candidate);
+		return latest;
+	}
+
+	private List<SeatSectionSummary> summarize(List<SectionStatusCount> counts) {
+		Map<SeatGrade, int[]> totals = new EnumMap<>(SeatGrade.class);
+		for (SectionStatusCount count : counts) {
+			int[] total = totals.computeIfAbsent(count.getGrade(), grade -> new int[2]);
+			total[0] += (int)count.getSeatCount();
+			if (count.getSeatStatus() == SeatStatus.AVAILABLE) {
+				total[1] += (int)count.getSeatCount();
+			}
+		}
+
+		// 좌석 맵과 같은 등급 순서 (DB 문자열 정렬)
+		return totals.entrySet().stream()
+			.sorted(Map.Entry.comparingByKey(Comparator.comparing(SeatGrade::name)))
+			.map(entry -> new SeatSectionSummary(entry.getKey().getDisplayName(), entry.getValue()[0],
+				entry.getValue()[1]))
+			.toList();
+	}
+
+	/**
+	 * 좌석 상태 전이 반영 (트랜잭션 커밋 후 호출)
+	 * 로컬 스냅샷이 직전 버전이면 해당 좌석만 교체, 아니면 다음 조회 시 따라잡기/재적재
+	 */
+	public void applyTransition(SeatStatusMessage msg) {
+		Long version = seatMapVersionRedisRepository.append(msg.eventId(), msg.seatId(), msg.currentStatus());
+		if (version == null) {
+			seatMaps.remove(msg.eventId());
+			return;
+		}
+
+		seatMaps.computeIfPresent(msg.eventId(), (eventId, cached) -> {
+			if (cached.version() != version - 1) {
+				return cached;
+			}
+			return cached.withSeatStatus(version, msg.seatId(), msg.currentStatus());
+		});
+	}
+
+	/**
+	 * 좌석 생성/수정/삭제 후 전체 재적재 (트랜잭션 안이면 커밋 후)
+	 */
+	public void invalidateAfterCommit(Long eventId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			invalidate(eventId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				invalidate(eventId);
+			}
+		});
+	}
+
+	private void invalidate(Long eventId) {
+		seatMapVersionRedisRepository.reset(eventId);
+		seatMaps.remove(eventId);
+	}
+
+	private SeatMap catchUp(SeatMap cached, long version) {
+		if (cached.version() > version) {
+			return null;
+		}
+
+		List<String> changes = seatMapVersionRedisRepository.changesSince(
+			cached.eventId(), cached.version(), version);
+		if (changes.size() != version - cached.version()) {
+			return null;
+		}
+
+		// 변경을 모두 검증한 뒤 새 스냅샷 1개에 한꺼번에 반영
+		List<StatusChange> parsed = new ArrayList<>(changes.size());
+		long expectedVersion = cached.version() + 1;
+		for (String change : changes) {
+			// version:seatId:status
+			String[] parts = change.split(":", 3);
+			if (parts.length != 3) {
+				log.warn("SEAT_MAP_CHANGE_MALFORMED eventId={} change={}", cached.eventId(), change);
+				return null;
+			}
+
+			if (Long.parseLong(parts[0]) != expectedVersion++) {
+				return null;
+			}
+			parsed.add(new StatusChange(Long.valueOf(parts[1]), parts[2]));
+		}
+		return cached.withSeatStatuses(version, parsed);
+	}
+
+	private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("seat.map.cache")
+			.description("좌석 맵 조회 결과")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
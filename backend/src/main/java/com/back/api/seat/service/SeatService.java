@@ -1,15 +1,26 @@
 package com.back.api.seat.service;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.back.api.event.service.EventSalesCounterService;
 import com.back.api.queue.service.QueueEntryReadService;
+import com.back.api.seat.dto.response.SeatMap;
+import com.back.api.seat.dto.response.SeatSections;
+import com.back.api.seat.dto.response.SeatStatusBatchMessage;
 import com.back.api.seat.dto.response.SeatStatusMessage;
 import com.back.domain.event.repository.EventRepository;
 import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+import com.back.domain.seat.repository.SeatClaimRedisRepository;
 import com.back.domain.seat.repository.SeatRepository;
 import com.back.global.error.code.SeatErrorCode;
 import com.back.global.error.exception.ErrorException;
@@ -28,22 +39,44 @@ public class SeatService {
 	private final EventRepository eventRepository;
 	private final QueueEntryReadService queueEntryReadService;
 	private final EventPublisher eventPublisher;
+	private final SeatClaimRedisRepository seatClaimRedisRepository;
+	private final SeatMapCache seatMapCache;
+	private final EventSalesCounterService eventSalesCounterService;
 
 	/**
 	 * 이벤트의 좌석 목록 조회
+	 * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회 (재적재는 리포지토리 트랜잭션 사용)
 	 */
-	@Transactional(readOnly = true)
-	public List<Seat> getSeatsByEvent(Long eventId, Long userId) {
-		// 이벤트 존재 여부 확인
-		if (!eventRepository.existsById(eventId)) {
+	public SeatMap getSeatsByEvent(Long eventId, Long userId, String admissionPass) {
+		validateSeatMapAccess(eventId, userId, admissionPass);
+		return seatMapCache.get(eventId);
+	}
+
+	/**
+	 * 등급(구역) 하나의 좌석 맵 조회 (전체 좌석 맵 대신 구역 단위로 점진 로딩)
+	 */
+	public SeatMap getSeatSection(Long eventId, SeatGrade grade, Long userId, String admissionPass) {
+		validateSeatMapAccess(eventId, userId, admissionPass);
+		return seatMapCache.getSection(eventId, grade);
+	}
+
+	/**
+	 * 구역별 전체/빈 좌석 수 요약
+	 */
+	public SeatSections getSeatSections(Long eventId, Long userId, String admissionPass) {
+		validateSeatMapAccess(eventId, userId, admissionPass);
+		return seatMapCache.getSections(eventId);
+	}
+
+	private void validateSeatMapAccess(Long eventId, Long userId, String admissionPass) {
+		// 이벤트 존재 여부 확인 (좌석 맵이 캐시된 이벤트는 생략)
+		if (!seatMapCache.contains(eventId) && !eventRepository.existsById(eventId)) {
 			throw new ErrorException(SeatErrorCode.NOT_FOUND_EVENT);
 		}
-		// TODO: Q ENTERED 상태인지 확인
-		if (!queueEntryReadService.isUserEntered(eventId, userId)) {
+		// 서명된 입장권이 유효하면 대기열 Redis/DB 조회 생략
+		if (!queueEntryReadService.isUserEntered(eventId, userId, admissionPass)) {
 			throw new ErrorException(SeatErrorCode.NOT_IN_QUEUE);
 		}
-
-		return seatRepository.findSortedSeatListByEventId(eventId);
 	}
 
 	/**
@@ -51,20 +84,136 @@ public class SeatService {
 	 */
 	@Transactional
 	public Seat reserveSeat(Long eventId, Long seatId, Long userId) {
+		Seat saved = reserve(eventId, seatId, userId);
+		eventSalesCounterService.seatMoved(eventId, SeatStatus.AVAILABLE, SeatStatus.RESERVED, saved.getPrice());
+		eventPublisher.publishEvent(SeatStatusMessage.from(saved));
+		return saved;
+	}
+
+	/**
+	 * Draft 좌석 교체 (새 좌석 AVAILABLE -> RESERVED 후 기존 좌석 -> AVAILABLE)
+	 * - 새 좌석을 확보하지 못하면 기존 좌석은 그대로 유지
+	 * - 기존 좌석이 RESERVED였다면 예약/빈 좌석 수가 그대로라 판매 현황 카운터는 갱신하지 않음
+	 */
+	@Transactional
+	public Seat changeReservedSeat(Long eventId, Seat previous, Long seatId, Long userId) {
+		Seat reserved = reserve(eventId, seatId, userId);
+
+		SeatStatus previousStatus = previous.getSeatStatus();
+		release(previous);
+		releaseClaimAfterCommit(eventId, previous.getId());
+		if (previousStatus != SeatStatus.RESERVED) {
+			eventSalesCounterService.seatMoved(eventId, SeatStatus.AVAILABLE, SeatStatus.RESERVED, reserved.getPrice());
+			eventSalesCounterService.seatMoved(eventId, previousStatus, SeatStatus.AVAILABLE, previous.getPrice());
+		}
+
+		eventPublisher.publishEvent(SeatStatusMessage.from(reserved));
+		return reserved;
+	}
+
+	private Seat reserve(Long eventId, Long seatId, Long userId) {
+		// Redis 선점 실패 시 DB 조회/UPDATE/롤백 없이 즉시 거절
+		if (!seatClaimRedisRepository.tryClaim(eventId, seatId, userId)) {
+			throw new ErrorException(SeatErrorCode.SEAT_CONCURRENCY_FAILURE);
+		}
+		releaseClaimOnRollback(eventId, seatId, userId);
+
 		Seat seat = seatRepository.findByEventIdAndId(eventId, seatId)
 			.orElseThrow(() -> new ErrorException(SeatErrorCode.NOT_FOUND_SEAT));
 
+		if (seat.getGrade().isGeneralAdmission()) {
+			throw new ErrorException(SeatErrorCode.GENERAL_ADMISSION_NOT_SELECTABLE);
+		}
+
 		try {
 			seat.markAsReserved();
+			return seatRepository.save(seat);
+		} catch (ObjectOptimisticLockingFailureException ex) {
+			throw new ErrorException(SeatErrorCode.SEAT_CONCURRENCY_FAILURE);
+		}
+	}
+
+	/**
+	 * 여러 좌석 일괄 예약 (AVAILABLE -> RESERVED, 전부 아니면 전무)
+	 * - Redis 일괄 선점 1회 + 요청 좌석 행 잠금 조회 1회, 검증(존재/스탠딩/상태)을 모두 통과한 뒤에만 상태 변경
+	 * - 하나라도 선택할 수 없으면 예외로 트랜잭션 전체 롤백
+	 * - 벌크 UPDATE 대신 잠근 엔티티를 변경하므로 호출 측이 먼저 읽은 엔티티(취소한 Draft/좌석)가 분리되지 않는다
+	 * - seatIds는 id 오름차순으로 전달 (겹치는 묶음 요청끼리 같은 순서로 행 잠금)
+	 * - 롤백 시 이번 호출로 새로 잡은 선점만 해제 (다시 고른 기존 Draft 좌석은 롤백으로 Draft가 복구되므로 선점 유지)
+	 */
+	@Transactional
+	public List<Seat> reserveSeats(Long eventId, List<Long> seatIds, Long userId) {
+		List<Long> claimed = seatClaimRedisRepository.claimAll(eventId, seatIds, userId);
+		if (claimed == null) {
+			throw new ErrorException(SeatErrorCode.SEAT_CONCURRENCY_FAILURE);
+		}
+		releaseClaimsOnRollback(eventId, claimed, userId);
 
-			Seat saved = seatRepository.save(seat);
+		List<Seat> seats = seatRepository.findByEventIdAndIdInForUpdate(eventId, seatIds);
+		if (seats.size() != seatIds.size()) {
+			throw new ErrorException(SeatErrorCode.NOT_FOUND_SEAT);
+		}
+		if (seats.stream().anyMatch(seat -> seat.getGrade().isGeneralAdmission())) {
+			throw new ErrorException(SeatErrorCode.GENERAL_ADMISSION_NOT_SELECTABLE);
+		}
+		if (seats.stream().anyMatch(seat -> seat.getSeatStatus() != SeatStatus.AVAILABLE)) {
+			throw new ErrorException(SeatErrorCode.SEAT_ALREADY_RESERVED);
+		}
 
-			eventPublisher.publishEvent(SeatStatusMessage.from(saved));
+		seats.forEach(Seat::markAsReserved);
+		eventSalesCounterService.seatsMoved(eventId, SeatStatus.AVAILABLE, SeatStatus.RESERVED, seats.size(), 0);
+		seats.forEach(seat -> eventPublisher.publishEvent(SeatStatusMessage.from(seat)));
+		return seats;
+	}
 
-			return saved;
-		} catch (ObjectOptimisticLockingFailureException ex) {
-			throw new ErrorException(SeatErrorCode.SEAT_CONCURRENCY_FAILURE);
+	/**
+	 * 여러 좌석 일괄 예약 (AVAILABLE -> RESERVED, 전부 아니면 전무)
+	 * 자동 배정처럼 다른 후보로 재시도하는 호출 측 트랜잭션이 rollback-only가 되지 않도록 실패는 예외 대신 빈 목록으로 알린다
+	 * - 블록 좌석을 AVAILABLE 조건 + SKIP LOCKED로 잠가서 조회, 전부 잠갔을 때만 상태 변경
+	 * - 잠근 행만 변경하므로 flush 시 낙관적 락 충돌(rollback-only)이 생기지 않는다
+	 * - 실패/롤백 시 이번 호출로 새로 잡은 선점만 해제 (블록이 본인 Draft 좌석과 겹쳐도 그 선점은 유지)
+	 *
+	 * @return 선점 충돌이거나 이미 선택/잠긴 좌석이 섞여 있으면 빈 목록 (좌석 상태 변경 없음)
+	 */
+	@Transactional
+	public List<Seat> tryReserveSeats(Long eventId, List<Long> seatIds, Long userId) {
+		List<Long> claimed = seatClaimRedisRepository.claimAll(eventId, seatIds, userId);
+		if (claimed == null) {
+			return List.of();
+		}
+
+		List<Seat> seats = new ArrayList<>(seatRepository.lockAvailableByIdsSkipLocked(eventId, seatIds));
+		if (seats.size() != seatIds.size()) {
+			seatClaimRedisRepository.releaseAll(eventId, claimed, userId);
+			return List.of();
 		}
+		releaseClaimsOnRollback(eventId, claimed, userId);
+
+		// 요청한 좌석 순서 유지 (행 번호 순)
+		seats.sort(Comparator.comparingInt(seat -> seatIds.indexOf(seat.getId())));
+		seats.forEach(Seat::markAsReserved);
+		eventSalesCounterService.seatsMoved(eventId, SeatStatus.AVAILABLE, SeatStatus.RESERVED, seats.size(), 0);
+		seats.forEach(seat -> eventPublisher.publishEvent(SeatStatusMessage.from(seat)));
+		return seats;
+	}
+
+	/**
+	 * 스탠딩(GA) 좌석 수량 배정 (AVAILABLE -> RESERVED, 전부 아니면 전무)
+	 * - 좌석 id를 지정하지 않고 FOR UPDATE SKIP LOCKED로 남은 단위 중 잠기지 않은 행을 가져와 예약
+	 * - 동시 구매자는 서로 다른 행을 잡으므로 행 잠금 대기/낙관적 락 충돌/Redis 선점이 필요 없다
+	 */
+	@Transactional
+	public List<Seat> allocateGeneralAdmission(Long eventId, SeatGrade grade, int quantity) {
+		List<Seat> seats = seatRepository.lockAvailableSkipLocked(eventId, grade.name(), quantity);
+		if (seats.size() < quantity) {
+			throw new ErrorException(SeatErrorCode.GENERAL_ADMISSION_SOLD_OUT);
+		}
+
+		seats.forEach(Seat::markAsReserved);
+		List<Seat> saved = seatRepository.saveAll(seats);
+		eventSalesCounterService.seatsMoved(eventId, SeatStatus.AVAILABLE, SeatStatus.RESERVED, saved.size(), 0);
+		saved.forEach(seat -> eventPublisher.publishEvent(SeatStatusMessage.from(seat)));
+		return saved;
 	}
 
 	/**
@@ -74,6 +223,8 @@ public class SeatService {
 	public void markSeatAsSold(Seat seat) {
 		seat.markAsSold();
 		seatRepository.save(seat);
+		eventSalesCounterService.seatMoved(
+			seat.getEvent().getId(), SeatStatus.RESERVED, SeatStatus.SOLD, seat.getPrice());
 		eventPublisher.publishEvent(SeatStatusMessage.from(seat));
 	}
 
@@ -82,8 +233,118 @@ public class SeatService {
 	 */
 	@Transactional
 	public void markSeatAsAvailable(Seat seat) {
+		SeatStatus from = seat.getSeatStatus();
+		release(seat);
+		// 선택 해제 / Draft 만료 / 결제 실패 모두 이 경로로 좌석이 복구되므로 여기서 선점 해제
+		releaseClaimAfterCommit(seat.getEvent().getId(), seat.getId());
+		eventSalesCounterService.seatMoved(seat.getEvent().getId(), from, SeatStatus.AVAILABLE, seat.getPrice());
+	}
+
+	/**
+	 * 같은 트랜잭션에서 바로 다시 예약할 좌석 복구 (다중 선택에서 기존 Draft 좌석을 새 묶음에 다시 포함하는 경우)
+	 * - 선점은 해제하지 않는다 (커밋 후 해제하면 새 묶음의 선점까지 지워짐)
+	 */
+	@Transactional
+	public void markSeatAsAvailableKeepingClaim(Seat seat) {
+		SeatStatus from = seat.getSeatStatus();
+		release(seat);
+		eventSalesCounterService.seatMoved(seat.getEvent().getId(), from, SeatStatus.AVAILABLE, seat.getPrice());
+	}
+
+	/**
+	 * 만료 Draft 좌석 일괄 복구 (RESERVED -> AVAILABLE)
+	 * - 아직 RESERVED인 좌석만 잠가서 고른 뒤 조건부 UPDATE 1번, 판매 현황 카운터 1번
+	 * - 좌석 맵 캐시는 커밋 후 재적재, 구독자에게는 실제로 풀린 좌석만 묶음 메시지 1개로 발행
+	 * - 그 사이 다른 사용자가 잡거나 팔린 좌석은 메시지/선점 해제 대상에서 제외
+	 *
+	 * @return 실제로 AVAILABLE이 된 좌석 수
+	 */
+	@Transactional
+	public int releaseReservedSeats(Long eventId, List<Long> seatIds) {
+		if (seatIds.isEmpty()) {
+			return 0;
+		}
+
+		List<Long> releasedIds = seatRepository.lockSeatIdsByStatus(eventId, seatIds, SeatStatus.RESERVED.name());
+		if (releasedIds.isEmpty()) {
+			return 0;
+		}
+
+		// 잠근 좌석만 전이하므로 반영 행 수 == releasedIds.size()
+		int released = seatRepository.updateSeatStatusIn(
+			eventId, releasedIds, SeatStatus.RESERVED, SeatStatus.AVAILABLE);
+		eventSalesCounterService.seatsMoved(eventId, SeatStatus.RESERVED, SeatStatus.AVAILABLE, released, 0);
+
+		seatMapCache.invalidateAfterCommit(eventId);
+		eventPublisher.publishEvent(new SeatStatusBatchMessage(eventId, SeatStatus.AVAILABLE.name(), releasedIds));
+		releaseClaimsAfterCommit(eventId, releasedIds);
+		return released;
+	}
+
+	private void release(Seat seat) {
 		seat.markAsAvailable();
 		seatRepository.save(seat);
 		eventPublisher.publishEvent(SeatStatusMessage.from(seat));
 	}
+
+	/**
+	 * 선점 이후 DB 전이가 실패하거나 상위 트랜잭션이 롤백되면 선점 해제
+	 * (트랜잭션 밖에서 호출되면 TTL 만료에 맡김)
+	 */
+	private void releaseClaimOnRollback(Long eventId, Long seatId, Long userId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					seatClaimRedisRepository.release(eventId, seatId, userId);
+				}
+			}
+		});
+	}
+
+	private void releaseClaimsOnRollback(Long eventId, List<Long> seatIds, Long userId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					seatClaimRedisRepository.releaseAll(eventId, seatIds, userId);
+				}
+			}
+		});
+	}
+
+	/**
+	 * 좌석 복구가 커밋된 뒤 선점 해제 (커밋 전 해제 시 다른 사용자가 RESERVED 좌석으로 DB까지 진입)
+	 */
+	private void releaseClaimsAfterCommit(Long eventId, List<Long> seatIds) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			seatClaimRedisRepository.releaseAny(eventId, seatIds);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				seatClaimRedisRepository.releaseAny(eventId, seatIds);
+			}
+		});
+	}
+
+	private void releaseClaimAfterCommit(Long eventId, Long seatId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			seatClaimRedisRepository.releaseAny(eventId, seatId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				seatClaimRedisRepository.releaseAny(eventId, seatId);
+			}
+		});
+	}
 }
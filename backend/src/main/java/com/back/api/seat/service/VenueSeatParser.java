@@ -0,0 +1,112 @@
+package com.back.api.seat.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.back.api.seat.dto.request.VenueLayoutRequest;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.repository.SeatBulkRepository.NewSeat;
+import com.back.global.error.code.SeatErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.utils.SeatRowLabels;
+
+/**
+ * 공연장 좌석 정의 → 적재 대상 좌석 목록
+ *
+ * - CSV: seat_code,grade,price (첫 줄 헤더, 빈 줄/# 주석 무시), 한 줄씩 읽어 메모리에 전체 파일을 올리지 않음
+ * - 레이아웃: 구역마다 시작/끝 행 문자(A~ZZ)와 행당 좌석 수로 좌석 코드 생성
+ */
+final class VenueSeatParser {
+
+	private static final String CSV_HEADER = "seat_code";
+
+	private VenueSeatParser() {
+	}
+
+	static List<NewSeat> fromCsv(InputStream in, int maxSeats) {
+		List<NewSeat> seats = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				String trimmed = line.strip();
+				if (trimmed.isEmpty() || trimmed.startsWith("#")
+					|| (lineNumber == 1 && trimmed.toLowerCase().startsWith(CSV_HEADER))) {
+					continue;
+				}
+				if (seats.size() >= maxSeats) {
+					throw limitExceeded(maxSeats);
+				}
+				seats.add(parseLine(trimmed, lineNumber));
+			}
+		} catch (IOException e) {
+			throw new ErrorException(SeatErrorCode.INVALID_SEAT_IMPORT);
+		}
+		return seats;
+	}
+
+	static List<NewSeat> fromLayout(VenueLayoutRequest request, int maxSeats) {
+		List<NewSeat> seats = new ArrayList<>();
+		for (VenueLayoutRequest.Section section : request.sections()) {
+			int from = SeatRowLabels.index(section.fromRow());
+			int to = SeatRowLabels.index(section.toRow());
+			if (from < 0 || to < from) {
+				throw new ErrorException(
+					"행 범위가 올바르지 않습니다: " + section.fromRow() + "~" + section.toRow(),
+					SeatErrorCode.INVALID_SEAT_IMPORT
+				);
+			}
+
+			long sectionSize = (long)(to - from + 1) * section.seatsPerRow();
+			if (seats.size() + sectionSize > maxSeats) {
+				throw limitExceeded(maxSeats);
+			}
+
+			for (int row = from; row <= to; row++) {
+				String label = SeatRowLabels.label(row);
+				for (int number = 1; number <= section.seatsPerRow(); number++) {
+					seats.add(new NewSeat(label + number, section.grade(), section.price()));
+				}
+			}
+		}
+		return seats;
+	}
+
+	private static NewSeat parseLine(String line, int lineNumber) {
+		String[] columns = line.split(",", -1);
+		if (columns.length != 3 || columns[0].isBlank()) {
+			throw invalidLine(lineNumber, line);
+		}
+
+		try {
+			SeatGrade grade = SeatGrade.valueOf(columns[1].strip().toUpperCase());
+			int price = Integer.parseInt(columns[2].strip());
+			if (price < 0) {
+				throw invalidLine(lineNumber, line);
+			}
+			return new NewSeat(columns[0].strip(), grade, price);
+		} catch (IllegalArgumentException e) {
+			throw invalidLine(lineNumber, line);
+		}
+	}
+
+	private static ErrorException invalidLine(int lineNumber, String line) {
+		return new ErrorException(
+			"좌석 파일 " + lineNumber + "번째 줄 형식이 올바르지 않습니다: " + line,
+			SeatErrorCode.INVALID_SEAT_IMPORT
+		);
+	}
+
+	private static ErrorException limitExceeded(int maxSeats) {
+		return new ErrorException(
+			"한 번에 적재할 수 있는 좌석 수(" + maxSeats + ")를 초과했습니다.",
+			SeatErrorCode.SEAT_IMPORT_LIMIT_EXCEEDED
+		);
+	}
+}
@@ -0,0 +1,95 @@
+package com.back.api.selection.allocator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.stereotype.Component;
+
+import com.back.api.seat.dto.response.SeatMap;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.global.properties.SeatAllocatorProperties;
+
+/**
+ * 연속 좌석 자동 배정 후보 선정
+ *
+ * - 좌석 맵 스냅샷(SeatMapCache)으로 등급별 SeatBlockIndex를 만들고 버전이 바뀔 때만 다시 만든다
+ * - 앞 행 → 행 중앙 순으로 점수를 매기고, 경합이 잦은 행은 뒤로 미룬다
+ * - 상위 후보 중 하나를 무작위로 먼저 시도해 동시 요청이 같은 블록에 몰리지 않게 한다
+ */
+@Component
+public class BestAvailableAllocator {
+
+	private static final double CONFLICT_WEIGHT = 1.0;
+	private static final double ALLOCATION_WEIGHT = 0.25;
+
+	private final SeatAllocatorProperties properties;
+	private final ContentionTracker contentionTracker;
+
+	// eventId → 마지막으로 만든 인덱스 (버전 없는 좌석 맵은 캐시하지 않음)
+	private final ConcurrentHashMap<Long, Snapshot> indexes = new ConcurrentHashMap<>();
+
+	public BestAvailableAllocator(SeatAllocatorProperties properties) {
+		this.properties = properties;
+		this.contentionTracker = new ContentionTracker(
+			properties.getContentionHalfLifeMs(), properties.getMaxPenaltyRows());
+	}
+
+	/**
+	 * 시도 순서대로 정렬된 블록 후보 (최대 maxAttempts개)
+	 */
+	public List<SeatBlock> candidates(SeatMap seatMap, SeatGrade grade, int quantity) {
+		SeatBlockIndex index = indexOf(seatMap).get(grade);
+		if (index == null) {
+			return List.of();
+		}
+
+		Long eventId = seatMap.eventId();
+		List<SeatBlock> best = new ArrayList<>(index.findBest(
+			quantity,
+			properties.getCandidateLimit(),
+			row -> contentionTracker.penalty(eventId, grade, row)
+		));
+		if (best.size() > 1) {
+			// 첫 시도만 무작위, 나머지는 점수 순
+			SeatBlock first = best.remove(ThreadLocalRandom.current().nextInt(best.size()));
+			best.add(0, first);
+		}
+		return best.subList(0, Math.min(best.size(), properties.getMaxAttempts()));
+	}
+
+	/**
+	 * 선점 충돌: 해당 행 경합 점수 증가
+	 */
+	public void recordConflict(Long eventId, SeatGrade grade, SeatBlock block) {
+		contentionTracker.record(eventId, grade, block.row(), CONFLICT_WEIGHT);
+	}
+
+	/**
+	 * 배정 성공: 곧 좌석이 줄어들 행이므로 약하게 점수 증가
+	 */
+	public void recordAllocation(Long eventId, SeatGrade grade, SeatBlock block) {
+		contentionTracker.record(eventId, grade, block.row(), ALLOCATION_WEIGHT);
+	}
+
+	private Map<SeatGrade, SeatBlockIndex> indexOf(SeatMap seatMap) {
+		if (!seatMap.isVersioned()) {
+			return SeatBlockIndex.build(seatMap.seats());
+		}
+
+		Snapshot cached = indexes.get(seatMap.eventId());
+		if (cached != null && cached.version() == seatMap.version().longValue()) {
+			return cached.indexes();
+		}
+
+		Snapshot built = new Snapshot(seatMap.version(), SeatBlockIndex.build(seatMap.seats()));
+		indexes.merge(seatMap.eventId(), built,
+			(old, candidate) -> old.version() > candidate.version() ? old : candidate);
+		return built.indexes();
+	}
+
+	private record Snapshot(long version, Map<SeatGrade, SeatBlockIndex> indexes) {
+	}
+}
@@ -0,0 +1,59 @@
+package com.back.api.selection.allocator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.back.domain.seat.entity.SeatGrade;
+
+/**
+ * 행 단위 경합 점수 (지수 감쇠)
+ *
+ * - 선점 충돌/배정이 일어난 행에 점수를 쌓고 반감기마다 절반으로 줄인다
+ * - 점수는 "몇 행 뒤로 미룰지"로 환산되어 동시 요청이 덜 붐비는 행으로 퍼지게 한다
+ * - 노드 로컬 추정치이므로 정확할 필요 없음 (최종 판단은 Redis 선점 + DB)
+ */
+final class ContentionTracker {
+
+	private static final int MAX_ENTRIES = 10_000;
+	private static final double COLD = 0.05;
+
+	private final double halfLifeNanos;
+	private final int maxPenaltyRows;
+	private final ConcurrentHashMap<HeatKey, Heat> heats = new ConcurrentHashMap<>();
+
+	ContentionTracker(long halfLifeMs, int maxPenaltyRows) {
+		this.halfLifeNanos = TimeUnit.MILLISECONDS.toNanos(halfLifeMs);
+		this.maxPenaltyRows = maxPenaltyRows;
+	}
+
+	void record(Long eventId, SeatGrade grade, String row, double weight) {
+		long now = System.nanoTime();
+		heats.merge(
+			new HeatKey(eventId, grade, row),
+			new Heat(weight, now),
+			(old, added) -> new Heat(old.at(now, halfLifeNanos) + weight, now)
+		);
+
+		if (heats.size() > MAX_ENTRIES) {
+			heats.values().removeIf(heat -> heat.at(now, halfLifeNanos) < COLD);
+		}
+	}
+
+	int penalty(Long eventId, SeatGrade grade, String row) {
+		Heat heat = heats.get(new HeatKey(eventId, grade, row));
+		if (heat == null) {
+			return 0;
+		}
+		return (int)Math.min(maxPenaltyRows, Math.round(heat.at(System.nanoTime(), halfLifeNanos)));
+	}
+
+	private record HeatKey(Long eventId, SeatGrade grade, String row) {
+	}
+
+	private record Heat(double value, long updatedAt) {
+
+		double at(long now, double halfLifeNanos) {
+			return value * Math.pow(0.5, (now - updatedAt) / halfLifeNanos);
+		}
+	}
+}
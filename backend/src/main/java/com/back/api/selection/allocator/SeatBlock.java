@@ -0,0 +1,14 @@
+package com.back.api.selection.allocator;
+
+import java.util.List;
+
+/**
+ * 한 행에서 연속된 좌석 블록 (startNumber부터 seatIds.size()개)
+ */
+public record SeatBlock(
+	String row,
+	int startNumber,
+	List<Long> seatIds,
+	long score
+) {
+}
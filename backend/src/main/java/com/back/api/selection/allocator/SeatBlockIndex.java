@@ -0,0 +1,238 @@
+package com.back.api.selection.allocator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import com.back.api.seat.dto.response.SeatResponse;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+
+/**
+ * 등급별 좌석 블록 탐색 인덱스 (불변, 좌석 맵 버전마다 새로 생성)
+ *
+ * - 좌석 코드 "행 문자 + 번호"(A12, AA3)를 파싱해 행마다 빈 좌석 번호 BitSet을 둔다
+ * - 행 순서: 문자 길이 → 사전순 (A..Z, AA..ZZ), 앞 행일수록 무대에 가깝다고 본다
+ * - 형식이 다른 좌석 코드는 인접 여부를 알 수 없으므로 자동 배정 대상에서 제외
+ */
+public final class SeatBlockIndex {
+
+	// 한 행 뒤로 밀리는 비용 (행 중앙에서 벗어난 거리보다 항상 크게)
+	static final int ROW_WEIGHT = 10_000;
+
+	private static final String AVAILABLE = SeatStatus.AVAILABLE.name();
+
+	private final String[] rowLabels;
+	private final BitSet[] freeSeats;
+	private final long[][] seatIds;
+	// 행 중앙 위치 * 2 (반 좌석 단위로 정수 계산)
+	private final int[] rowCenters;
+
+	private SeatBlockIndex(String[] rowLabels, BitSet[] freeSeats, long[][] seatIds, int[] rowCenters) {
+		this.rowLabels = rowLabels;
+		this.freeSeats = freeSeats;
+		this.seatIds = seatIds;
+		this.rowCenters = rowCenters;
+	}
+
+	/**
+	 * 좌석 맵 전체를 한 번 순회해 등급별 인덱스 생성
+	 */
+	public static Map<SeatGrade, SeatBlockIndex> build(List<SeatResponse> seats) {
+		Map<String, SeatGrade> grades = new HashMap<>();
+		for (SeatGrade grade : SeatGrade.values()) {
+			grades.put(grade.getDisplayName(), grade);
+		}
+
+		Map<SeatGrade, Map<String, RowBuilder>> rowsByGrade = new EnumMap<>(SeatGrade.class);
+		for (SeatResponse seat : seats) {
+			SeatGrade grade = grades.get(seat.grade());
+			String code = seat.seatCode();
+			int split = rowSplit(code);
+			if (grade == null || split < 0) {
+				continue;
+			}
+
+			int number = parseNumber(code, split);
+			if (number < 0) {
+				continue;
+			}
+			rowsByGrade.computeIfAbsent(grade, key -> new HashMap<>())
+				.computeIfAbsent(code.substring(0, split), RowBuilder::new)
+				.add(number, seat.id(), AVAILABLE.equals(seat.seatStatus()));
+		}
+
+		Map<SeatGrade, SeatBlockIndex> indexes = new EnumMap<>(SeatGrade.class);
+		rowsByGrade.forEach((grade, rows) -> indexes.put(grade, of(rows.values())));
+		return indexes;
+	}
+
+	private static SeatBlockIndex of(Iterable<RowBuilder> builders) {
+		List<RowBuilder> rows = new ArrayList<>();
+		builders.forEach(rows::add);
+		rows.sort(Comparator.comparingInt((RowBuilder row) -> row.label.length()).thenComparing(row -> row.label));
+
+		int size = rows.size();
+		String[] labels = new String[size];
+		BitSet[] free = new BitSet[size];
+		long[][] ids = new long[size][];
+		int[] centers = new int[size];
+		for (int i = 0; i < size; i++) {
+			RowBuilder row = rows.get(i);
+			labels[i] = row.label;
+			free[i] = row.free;
+			ids[i] = Arrays.copyOf(row.ids, row.maxNumber + 1);
+			centers[i] = row.minNumber + row.maxNumber;
+		}
+		return new SeatBlockIndex(labels, free, ids, centers);
+	}
+
+	/**
+	 * 연속된 빈 좌석 블록 후보를 점수 순으로 최대 limit개 반환
+	 *
+	 * - 점수: 행 순서 * ROW_WEIGHT + 행 중앙과의 거리 + 경합 페널티(행 수 단위)
+	 * - 빈 좌석 구간마다 중앙에 가장 가까운 시작 위치 1개만 후보로 본다
+	 * - 후보가 limit개 찬 뒤에는 남은 행이 더 나은 점수를 낼 수 없으면 탐색 종료
+	 *
+	 * @param rowPenalty 행 문자 → 경합 페널티 (0 이상, 행 수 단위)
+	 */
+	public List<SeatBlock> findBest(int quantity, int limit, ToIntFunction<String> rowPenalty) {
+		long[] scores = new long[limit];
+		int[] rows = new int[limit];
+		int[] starts = new int[limit];
+		int count = 0;
+
+		for (int row = 0; row < rowLabels.length; row++) {
+			long rowBase = (long)row * ROW_WEIGHT;
+			if (count == limit && rowBase >= scores[count - 1]) {
+				break;
+			}
+
+			BitSet free = freeSeats[row];
+			if (free.cardinality() < quantity) {
+				continue;
+			}
+			long base = rowBase + (long)rowPenalty.applyAsInt(rowLabels[row]) * ROW_WEIGHT;
+			if (count == limit && base >= scores[count - 1]) {
+				continue;
+			}
+
+			int runStart = free.nextSetBit(0);
+			while (runStart >= 0) {
+				int runEnd = free.nextClearBit(runStart);
+				if (runEnd - runStart >= quantity) {
+					int start = nearestStart(runStart, runEnd, quantity, rowCenters[row]);
+					long score = base + Math.abs(2L * start + quantity - 1 - rowCenters[row]);
+					count = insert(scores, rows, starts, count, score, row, start);
+				}
+				runStart = free.nextSetBit(runEnd);
+			}
+		}
+
+		List<SeatBlock> blocks = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			blocks.add(block(rows[i], starts[i], quantity, scores[i]));
+		}
+		return blocks;
+	}
+
+	public int rowCount() {
+		return rowLabels.length;
+	}
+
+	/**
+	 * [runStart, runEnd) 구간에서 블록 중앙이 행 중앙에 가장 가까운 시작 번호
+	 */
+	private static int nearestStart(int runStart, int runEnd, int quantity, int center) {
+		int ideal = Math.floorDiv(center - quantity + 1, 2);
+		return Math.max(runStart, Math.min(ideal, runEnd - quantity));
+	}
+
+	/**
+	 * 점수 오름차순 고정 크기 배열에 삽입 (limit이 작아 삽입 정렬로 충분)
+	 */
+	private static int insert(long[] scores, int[] rows, int[] starts, int count, long score, int row, int start) {
+		int limit = scores.length;
+		if (count == limit && score >= scores[limit - 1]) {
+			return count;
+		}
+
+		int i = count == limit ? limit - 1 : count;
+		while (i > 0 && scores[i - 1] > score) {
+			scores[i] = scores[i - 1];
+			rows[i] = rows[i - 1];
+			starts[i] = starts[i - 1];
+			i--;
+		}
+		scores[i] = score;
+		rows[i] = row;
+		starts[i] = start;
+		return Math.min(count + 1, limit);
+	}
+
+	private SeatBlock block(int row, int start, int quantity, long score) {
+		List<Long> ids = new ArrayList<>(quantity);
+		for (int number = start; number < start + quantity; number++) {
+			ids.add(seatIds[row][number]);
+		}
+		return new SeatBlock(rowLabels[row], start, ids, score);
+	}
+
+	/**
+	 * 행 문자와 번호 경계 위치 (형식이 다르면 -1)
+	 */
+	private static int rowSplit(String code) {
+		int i = 0;
+		while (i < code.length() && isRowChar(code.charAt(i))) {
+			i++;
+		}
+		return i == 0 || i == code.length() ? -1 : i;
+	}
+
+	private static boolean isRowChar(char c) {
+		return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+	}
+
+	private static int parseNumber(String code, int from) {
+		int number = 0;
+		for (int i = from; i < code.length(); i++) {
+			char c = code.charAt(i);
+			if (c < '0' || c > '9' || number > 100_000) {
+				return -1;
+			}
+			number = number * 10 + (c - '0');
+		}
+		return number;
+	}
+
+	private static final class RowBuilder {
+
+		private final String label;
+		private final BitSet free = new BitSet();
+		private long[] ids = new long[64];
+		private int minNumber = Integer.MAX_VALUE;
+		private int maxNumber;
+
+		private RowBuilder(String label) {
+			this.label = label;
+		}
+
+		private void add(int number, Long seatId, boolean available) {
+			if (number >= ids.length) {
+				ids = Arrays.copyOf(ids, Math.max(ids.length * 2, number + 1));
+			}
+			ids[number] = seatId;
+			minNumber = Math.min(minNumber, number);
+			maxNumber = Math.max(maxNumber, number);
+			if (available) {
+				free.set(number);
+			}
+		}
+	}
+}
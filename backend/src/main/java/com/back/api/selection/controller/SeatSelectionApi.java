@@ -1,18 +1,28 @@
 package com.back.api.selection.controller;
 
+import java.util.List;
+
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import com.back.api.selection.dto.request.BestAvailableRequest;
+import com.back.api.selection.dto.request.SeatsSelectRequest;
 import com.back.api.selection.dto.response.SeatSelectionResponse;
 import com.back.global.config.swagger.ApiErrorCode;
 import com.back.global.response.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 @Tag(name = "Seat Selection API", description = "좌석 선택 및 Draft Ticket 생성 API")
 public interface SeatSelectionApi {
 
-	@Operation(summary = "좌석 선택", description = "특정 좌석을 RESERVED 상태로 변경합니다. 결제 단계가 종료되면 SOLD 상태로 변경됩니다.")
+	@Operation(
+		summary = "좌석 선택",
+		description = "특정 좌석을 RESERVED 상태로 변경합니다. 결제 단계가 종료되면 SOLD 상태로 변경됩니다. "
+			+ "입장 응답의 admissionPass를 X-Admission-Pass 헤더로 보내면 대기열 확인을 서버에서 바로 처리합니다."
+	)
 	@ApiErrorCode(
 		{
 			"NOT_FOUND_SEAT",
@@ -21,6 +31,7 @@ public interface SeatSelectionApi {
 			"NOT_FOUND_EVENT",
 			"SEAT_ALREADY_PURCHASED",
 			"TICKET_ALREADY_IN_PROGRESS",
+			"GENERAL_ADMISSION_NOT_SELECTABLE",
 		}
 	)
 	public ApiResponse<SeatSelectionResponse> selectSeat(
@@ -28,6 +39,49 @@ public interface SeatSelectionApi {
 		@PathVariable Long seatId
 	);
 
+	@Operation(
+		summary = "여러 좌석 일괄 선택",
+		description = "여러 좌석을 한 번에 RESERVED 상태로 변경하고 좌석마다 Draft Ticket을 생성합니다. "
+			+ "하나라도 선택할 수 없으면 아무 좌석도 선택되지 않으며, 이벤트 1인 구매 한도를 넘을 수 없습니다. "
+			+ "기존 Draft Ticket은 취소됩니다."
+	)
+	@ApiErrorCode(
+		{
+			"NOT_IN_QUEUE",
+			"SEAT_CONCURRENCY_FAILURE",
+			"SEAT_ALREADY_RESERVED",
+			"GENERAL_ADMISSION_NOT_SELECTABLE",
+			"TICKET_LIMIT_EXCEEDED",
+			"NOT_FOUND_USER",
+			"NOT_FOUND_EVENT",
+		}
+	)
+	public ApiResponse<List<SeatSelectionResponse>> selectSeats(
+		@PathVariable Long eventId,
+		@Valid @RequestBody SeatsSelectRequest request
+	);
+
+	@Operation(
+		summary = "연속 좌석 자동 배정",
+		description = "등급과 수량을 지정하면 같은 행에서 붙어 있는 빈 좌석을 찾아 한 번에 RESERVED 상태로 변경하고 "
+			+ "좌석마다 Draft Ticket을 생성합니다. 기존 Draft Ticket은 취소됩니다. "
+			+ "스탠딩(GA) 등급은 남은 단위 중 아무거나 수량만큼 배정합니다."
+	)
+	@ApiErrorCode(
+		{
+			"NOT_IN_QUEUE",
+			"SEAT_BLOCK_NOT_AVAILABLE",
+			"GENERAL_ADMISSION_SOLD_OUT",
+			"TICKET_LIMIT_EXCEEDED",
+			"NOT_FOUND_USER",
+			"NOT_FOUND_EVENT",
+		}
+	)
+	public ApiResponse<List<SeatSelectionResponse>> selectBestAvailable(
+		@PathVariable Long eventId,
+		@Valid @RequestBody BestAvailableRequest request
+	);
+
 	@Operation(summary = "좌석 선택 취소", description = "선택한 좌석을 취소하고 AVAILABLE 상태로 복구합니다. Draft Ticket은 유지됩니다.")
 	@ApiErrorCode(
 		{
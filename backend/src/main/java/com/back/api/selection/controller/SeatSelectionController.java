@@ -1,21 +1,28 @@
 package com.back.api.selection.controller;
 
+import java.util.List;
+
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.back.api.queue.service.AdmissionPassService;
+import com.back.api.selection.dto.request.BestAvailableRequest;
+import com.back.api.selection.dto.request.SeatsSelectRequest;
 import com.back.api.selection.dto.response.SeatSelectionResponse;
 import com.back.api.selection.service.SeatSelectionService;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.global.http.HttpRequestContext;
 import com.back.global.response.ApiResponse;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
-@RequestMapping("/api/v1/events/{eventId}/seats/{seatId}")
+@RequestMapping("/api/v1/events/{eventId}/seats")
 @RequiredArgsConstructor
 public class SeatSelectionController implements SeatSelectionApi {
 
@@ -27,14 +34,14 @@ public class SeatSelectionController implements SeatSelectionApi {
 	 * POST /api/v1/events/{eventId}/seats/{seatId}/select
 	 */
 	@Override
-	@PostMapping("/select")
+	@PostMapping("/{seatId}/select")
 	public ApiResponse<SeatSelectionResponse> selectSeat(
 		@PathVariable Long eventId,
 		@PathVariable Long seatId
 	) {
-		Long userId = httpRequestContext.getUser().getId();
+		Long userId = httpRequestContext.getUserId();
 
-		Ticket draftTicket = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId);
+		Ticket draftTicket = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, admissionPass());
 
 		return ApiResponse.ok(
 			"좌석을 선택했습니다.",
@@ -42,19 +49,65 @@ public class SeatSelectionController implements SeatSelectionApi {
 		);
 	}
 
+	/**
+	 * 여러 좌석 일괄 선택 (전부 아니면 전무)
+	 * POST /api/v1/events/{eventId}/seats/select
+	 */
+	@Override
+	@PostMapping("/select")
+	public ApiResponse<List<SeatSelectionResponse>> selectSeats(
+		@PathVariable Long eventId,
+		@Valid @RequestBody SeatsSelectRequest request
+	) {
+		Long userId = httpRequestContext.getUserId();
+
+		List<Ticket> draftTickets = seatSelectionService.selectSeats(
+			eventId, request.seatIds(), userId, admissionPass());
+
+		return ApiResponse.ok(
+			"좌석을 선택했습니다.",
+			draftTickets.stream().map(SeatSelectionResponse::from).toList()
+		);
+	}
+
+	/**
+	 * 연속 좌석 자동 배정
+	 * POST /api/v1/events/{eventId}/seats/best-available
+	 */
+	@Override
+	@PostMapping("/best-available")
+	public ApiResponse<List<SeatSelectionResponse>> selectBestAvailable(
+		@PathVariable Long eventId,
+		@Valid @RequestBody BestAvailableRequest request
+	) {
+		Long userId = httpRequestContext.getUserId();
+
+		List<Ticket> draftTickets = seatSelectionService.selectBestAvailable(
+			eventId, request.grade(), request.quantity(), userId, admissionPass());
+
+		return ApiResponse.ok(
+			"좌석이 배정되었습니다.",
+			draftTickets.stream().map(SeatSelectionResponse::from).toList()
+		);
+	}
+
 	/**
 	 * 좌석 선택 취소
 	 * DELETE /api/v1/events/{eventId}/seats/{seatId}/deselect
 	 */
 	@Override
-	@DeleteMapping("/deselect")
+	@DeleteMapping("/{seatId}/deselect")
 	public ApiResponse<Void> deselectSeat(
 		@PathVariable Long eventId, @PathVariable Long seatId
 	) {
-		Long userId = httpRequestContext.getUser().getId();
+		Long userId = httpRequestContext.getUserId();
 
 		seatSelectionService.deselectSeatAndCancelTicket(eventId, seatId, userId);
 
 		return ApiResponse.noContent("좌석 선택이 취소되었습니다.");
 	}
+
+	private String admissionPass() {
+		return httpRequestContext.getHeader(AdmissionPassService.HEADER, null);
+	}
 }
@@ -0,0 +1,21 @@
+package com.back.api.selection.dto.request;
+
+import com.back.domain.seat.entity.SeatGrade;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record BestAvailableRequest(
+	@Schema(description = "좌석 등급", example = "R")
+	@NotNull
+	SeatGrade grade,
+
+	@Schema(description = "연속 좌석 수", example = "2")
+	@NotNull
+	@Min(1)
+	@Max(10)
+	Integer quantity
+) {
+}
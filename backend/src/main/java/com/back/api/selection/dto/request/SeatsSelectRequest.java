@@ -0,0 +1,14 @@
+package com.back.api.selection.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record SeatsSelectRequest(
+	@Schema(description = "선택할 좌석 id 목록 (이벤트 1인 구매 한도 이내)", example = "[1, 2, 3]")
+	@NotEmpty
+	List<@NotNull Long> seatIds
+) {
+}
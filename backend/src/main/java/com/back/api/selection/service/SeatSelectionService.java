@@ -1,12 +1,20 @@
 package com.back.api.selection.service;
 
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.back.api.queue.service.QueueEntryReadService;
+import com.back.api.seat.service.SeatMapCache;
 import com.back.api.seat.service.SeatService;
+import com.back.api.selection.allocator.BestAvailableAllocator;
+import com.back.api.selection.allocator.SeatBlock;
+import com.back.api.ticket.scheduler.SeatHoldTimer;
 import com.back.api.ticket.service.TicketService;
 import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatGrade;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.global.error.code.SeatErrorCode;
 import com.back.global.error.exception.ErrorException;
@@ -23,51 +31,141 @@ public class SeatSelectionService {
 	private final SeatService seatService;
 	private final TicketService ticketService;
 	private final QueueEntryReadService queueEntryReadService;
+	private final SeatHoldTimer seatHoldTimer;
+	private final SeatMapCache seatMapCache;
+	private final BestAvailableAllocator bestAvailableAllocator;
 
 	/**
 	 * 좌석 선택 + DraftTicket 생성/업데이트
-	 * - 기존 Draft가 있으면 재사용 (좌석만 변경)
-	 * - 없으면 새로 생성
+	 * - 이미 그 좌석을 잡고 있는 Draft가 있으면 그대로 반환
+	 * - Draft가 1개면 재사용 (좌석만 변경), 없으면 새로 생성
+	 * - 다중 선택/자동 배정으로 Draft가 여러 개면 묶음 전체를 새 좌석 1개로 교체
+	 * - 서명된 입장권(admissionPass)이 유효하면 대기열 Redis/DB 조회 생략
+	 * - 새 좌석을 먼저 확보한 뒤 기존 좌석을 해제 (교체 실패 시 기존 좌석 유지)
 	 */
 	@Transactional
-	public Ticket selectSeatAndCreateTicket(Long eventId, Long seatId, Long userId) {
-		if (!queueEntryReadService.isUserEntered(eventId, userId)) {
+	public Ticket selectSeatAndCreateTicket(Long eventId, Long seatId, Long userId, String admissionPass) {
+		if (!queueEntryReadService.isUserEntered(eventId, userId, admissionPass)) {
 			throw new ErrorException(SeatErrorCode.NOT_IN_QUEUE);
 		}
 
-		// Draft Ticket 조회 또는 생성 (1개 보장)
-		Ticket ticket = ticketService.getOrCreateDraft(eventId, userId);
+		// 기존 Draft + 좌석 한 번에 조회
+		List<Ticket> drafts = ticketService.findDrafts(eventId, userId);
 
-		// 기존 좌석이 있으면 먼저 해제
-		if (ticket.hasSeat()) {
-			seatService.markSeatAsAvailable(ticket.getSeat());
+		// 같은 좌석 재선택은 그대로 유지
+		Optional<Ticket> holding = drafts.stream()
+			.filter(draft -> draft.hasSeat() && seatId.equals(draft.getSeat().getId()))
+			.findFirst();
+		if (holding.isPresent()) {
+			return holding.get();
 		}
 
-		// 새 좌석 예약
-		Seat newSeat = seatService.reserveSeat(eventId, seatId, userId);
+		Ticket draft = drafts.size() == 1 ? drafts.getFirst() : null;
+		Seat previousSeat = draft != null && draft.hasSeat() ? draft.getSeat() : null;
+
+		Seat newSeat = previousSeat == null
+			? seatService.reserveSeat(eventId, seatId, userId)
+			: seatService.changeReservedSeat(eventId, previousSeat, seatId, userId);
 
-		// Ticket에 좌석 할당
+		// 묶음 Draft는 새 좌석을 확보한 뒤에 취소 (새 좌석은 묶음에 없으므로 선점 해제 대상 아님)
+		if (drafts.size() > 1) {
+			ticketService.cancelDrafts(eventId, userId);
+		}
+
+		// Ticket에 좌석 할당 (새 Draft의 INSERT는 커밋 시 좌석과 함께 반영)
+		Ticket ticket = draft != null ? draft : ticketService.createDraft(eventId, userId);
 		ticket.assignSeat(newSeat);
 
+		// 홀드 만료 시각에 좌석 해제 (Draft 생성 시 정해진 만료 시각 기준, 재선택해도 연장되지 않음)
+		seatHoldTimer.scheduleAfterCommit(ticket.getId(), ticket.getHoldExpiresAt());
+
 		return ticket;
 	}
 
 	/**
-	 * 좌석 선택 취소 (DraftTicket은 유지, 좌석만 해제)
+	 * 여러 좌석 일괄 선택 + 좌석마다 DraftTicket 생성 (전부 아니면 전무)
+	 * - 이벤트 1인 구매 한도(maxTicketAmount) 안에서만 허용
+	 * - 기존 Draft를 먼저 취소해 이미 잡고 있던 좌석도 새 묶음에 포함할 수 있게 하고,
+	 *   하나라도 선택할 수 없으면 예외로 롤백되어 기존 Draft/좌석도 그대로 남는다
 	 */
 	@Transactional
-	public void deselectSeatAndCancelTicket(Long eventId, Long seatId, Long userId) {
-		// Draft Ticket 조회
-		Ticket ticket = ticketService.getOrCreateDraft(eventId, userId);
+	public List<Ticket> selectSeats(Long eventId, List<Long> seatIds, Long userId, String admissionPass) {
+		if (!queueEntryReadService.isUserEntered(eventId, userId, admissionPass)) {
+			throw new ErrorException(SeatErrorCode.NOT_IN_QUEUE);
+		}
 
-		// 좌석 검증
-		if (!ticket.hasSeat() || !ticket.getSeat().getId().equals(seatId)) {
-			throw new ErrorException(SeatErrorCode.SEAT_NOT_SELECTED);
+		// id 오름차순: 겹치는 묶음 요청끼리 같은 순서로 행 잠금 (교착 방지)
+		List<Long> sortedSeatIds = seatIds.stream().distinct().sorted().toList();
+		ticketService.validatePurchaseLimit(eventId, userId, sortedSeatIds.size());
+
+		// 기존 Draft 좌석을 새 묶음에 다시 포함하면 그 좌석의 선점은 유지 (새 묶음의 선점과 같은 키)
+		ticketService.cancelDrafts(eventId, userId, sortedSeatIds);
+		List<Seat> seats = seatService.reserveSeats(eventId, sortedSeatIds, userId);
+
+		List<Ticket> tickets = ticketService.createDraftTickets(eventId, seats, userId);
+		tickets.forEach(ticket -> seatHoldTimer.scheduleAfterCommit(ticket.getId(), ticket.getHoldExpiresAt()));
+		return tickets;
+	}
+
+	/**
+	 * 연속 좌석 자동 배정 + 좌석마다 DraftTicket 생성
+	 * - 좌석 맵 스냅샷에서 후보 블록을 고르고 Redis 일괄 선점 → DB 예약까지 한 요청에서 처리
+	 * - 선점 충돌 시 다음 후보로 재시도, 새 블록을 확보한 뒤에만 기존 Draft/좌석 해제
+	 * - 스탠딩(GA) 등급은 인접 여부가 없으므로 남은 단위 중 아무거나 배정 (SKIP LOCKED)
+	 */
+	@Transactional
+	public List<Ticket> selectBestAvailable(
+		Long eventId,
+		SeatGrade grade,
+		int quantity,
+		Long userId,
+		String admissionPass
+	) {
+		if (!queueEntryReadService.isUserEntered(eventId, userId, admissionPass)) {
+			throw new ErrorException(SeatErrorCode.NOT_IN_QUEUE);
 		}
+		ticketService.validatePurchaseLimit(eventId, userId, quantity);
+
+		if (grade.isGeneralAdmission()) {
+			List<Seat> seats = seatService.allocateGeneralAdmission(eventId, grade, quantity);
+			return replaceDrafts(eventId, seats, userId);
+		}
+
+		List<SeatBlock> candidates = bestAvailableAllocator.candidates(seatMapCache.get(eventId), grade, quantity);
+		for (SeatBlock block : candidates) {
+			List<Seat> seats = seatService.tryReserveSeats(eventId, block.seatIds(), userId);
+			if (seats.isEmpty()) {
+				bestAvailableAllocator.recordConflict(eventId, grade, block);
+				continue;
+			}
+			bestAvailableAllocator.recordAllocation(eventId, grade, block);
+			return replaceDrafts(eventId, seats, userId);
+		}
+
+		throw new ErrorException(SeatErrorCode.SEAT_BLOCK_NOT_AVAILABLE);
+	}
+
+	/**
+	 * 새 좌석을 확보한 뒤 기존 Draft/좌석을 해제하고 좌석마다 Draft 생성
+	 */
+	private List<Ticket> replaceDrafts(Long eventId, List<Seat> seats, Long userId) {
+		ticketService.cancelDrafts(eventId, userId);
+		List<Ticket> tickets = ticketService.createDraftTickets(eventId, seats, userId);
+		tickets.forEach(ticket -> seatHoldTimer.scheduleAfterCommit(ticket.getId(), ticket.getHoldExpiresAt()));
+		return tickets;
+	}
+
+	/**
+	 * 좌석 선택 취소 (DraftTicket은 유지, 좌석만 해제)
+	 * - Draft가 여러 개일 수 있으므로 해당 좌석을 잡고 있는 Draft를 좌석 기준으로 찾는다
+	 */
+	@Transactional
+	public void deselectSeatAndCancelTicket(Long eventId, Long seatId, Long userId) {
+		Ticket ticket = ticketService.findDraftBySeat(eventId, seatId, userId)
+			.orElseThrow(() -> new ErrorException(SeatErrorCode.SEAT_NOT_SELECTED));
 
 		// 좌석 해제
-		Seat seat = ticket.getSeat();
-		seatService.markSeatAsAvailable(seat);
+		seatService.markSeatAsAvailable(ticket.getSeat());
 
 		// Ticket에서 좌석 제거 (티켓은 유지)
 		ticket.clearSeat();
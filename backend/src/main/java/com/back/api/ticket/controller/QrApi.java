@@ -1,8 +1,12 @@
 package com.back.api.ticket.controller;
 
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.back.api.ticket.dto.request.QrScanBatchRequest;
+import com.back.api.ticket.dto.response.QrScanBatchResponse;
 import com.back.api.ticket.dto.response.QrTokenResponse;
 import com.back.api.ticket.dto.response.QrValidationResponse;
 import com.back.global.config.swagger.ApiErrorCode;
@@ -11,10 +15,14 @@ import com.back.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 @Tag(name = "QR API", description = "티켓 QR 발급 및 검증 API")
 public interface QrApi {
 
+	String GATE_DEVICE_ID_HEADER = "X-Gate-Device-Id";
+	String GATE_DEVICE_KEY_HEADER = "X-Gate-Device-Key";
+
 	@Operation(
 		summary = "QR 토큰 발급",
 		description = "티켓에 대한 QR 토큰을 발급합니다. 이벤트 당일부터 발급이 됩니다."
@@ -43,4 +51,22 @@ public interface QrApi {
 		@Parameter(description = "QR 토큰", example = "abc123xyz456")
 		@RequestParam String token
 	);
+
+	@Operation(
+		summary = "QR 스캔 일괄 동기화",
+		description = "게이트 단말에 쌓인 스캔 기록을 한 번에 검증하고 입장 처리합니다. "
+			+ "등록된 게이트 단말만 호출할 수 있으며(단말 id + 키 헤더), "
+			+ "QR 토큰은 스캔 시각 기준으로 검증하고 결과는 요청 순서대로 스캔별로 반환합니다."
+	)
+	@ApiErrorCode({
+		"UNAUTHORIZED_GATE_DEVICE",
+		"QR_SCAN_BATCH_TOO_LARGE"
+	})
+	ApiResponse<QrScanBatchResponse> validateQrCodes(
+		@Parameter(description = "게이트 단말 id", example = "gate-01")
+		@RequestHeader(value = GATE_DEVICE_ID_HEADER, required = false) String deviceId,
+		@Parameter(description = "게이트 단말 키")
+		@RequestHeader(value = GATE_DEVICE_KEY_HEADER, required = false) String deviceKey,
+		@Valid @RequestBody QrScanBatchRequest request
+	);
 }
@@ -2,16 +2,21 @@ package com.back.api.ticket.controller;
 
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.back.api.ticket.dto.request.QrScanBatchRequest;
+import com.back.api.ticket.dto.response.QrScanBatchResponse;
 import com.back.api.ticket.dto.response.QrTokenResponse;
 import com.back.api.ticket.dto.response.QrValidationResponse;
 import com.back.api.ticket.service.QrService;
 import com.back.global.http.HttpRequestContext;
 import com.back.global.response.ApiResponse;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -43,4 +48,16 @@ public class QrController implements QrApi {
 
 		return ApiResponse.ok("QR 코드 검증 & 사용 처리 성공", response);
 	}
+
+	@Override
+	@PostMapping("/entry/verify/batch")
+	public ApiResponse<QrScanBatchResponse> validateQrCodes(
+		@RequestHeader(value = GATE_DEVICE_ID_HEADER, required = false) String deviceId,
+		@RequestHeader(value = GATE_DEVICE_KEY_HEADER, required = false) String deviceKey,
+		@Valid @RequestBody QrScanBatchRequest request
+	){
+		QrScanBatchResponse response = qrService.validateAndProcessEntries(deviceId, deviceKey, request.scans());
+
+		return ApiResponse.ok("QR 스캔 일괄 동기화 성공", response);
+	}
 }
@@ -9,7 +9,6 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.back.api.ticket.dto.response.TicketResponse;
 import com.back.api.ticket.service.TicketService;
-import com.back.domain.ticket.entity.Ticket;
 import com.back.global.http.HttpRequestContext;
 import com.back.global.response.ApiResponse;
 
@@ -40,11 +39,11 @@ public class TicketController implements TicketApi {
 	) {
 		Long userId = httpRequestContext.getUserId();
 
-		Ticket ticket = ticketService.getTicketDetail(ticketId, userId);
+		TicketResponse response = ticketService.getMyTicketDetail(ticketId, userId);
 
 		return ApiResponse.ok(
 			"사용자의 티켓 상세 조회 성공",
-			TicketResponse.from(ticket)
+			response
 		);
 	}
 }
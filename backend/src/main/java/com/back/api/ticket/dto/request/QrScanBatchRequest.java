@@ -0,0 +1,15 @@
+package com.back.api.ticket.dto.request;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+public record QrScanBatchRequest(
+	@Schema(description = "단말에 쌓인 스캔 기록 (스캔 순서대로)")
+	@NotEmpty
+	@Valid
+	List<QrScanRequest> scans
+) {
+}
@@ -0,0 +1,23 @@
+package com.back.api.ticket.dto.request;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "게이트 단말 스캔 기록 1건")
+public record QrScanRequest(
+	@Schema(description = "티켓 ID (QR 토큰의 ticketId와 같아야 함)", example = "1")
+	@NotNull
+	Long ticketId,
+
+	@Schema(description = "스캔한 QR 토큰", example = "abc123xyz456")
+	@NotBlank
+	String token,
+
+	@Schema(description = "단말에서 스캔한 시각 (토큰은 이 시각 기준으로 검증)", example = "2026-01-31T19:30:00")
+	@NotNull
+	LocalDateTime scannedAt
+) {
+}
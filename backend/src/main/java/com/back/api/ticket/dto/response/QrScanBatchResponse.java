@@ -0,0 +1,24 @@
+package com.back.api.ticket.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "QR 스캔 일괄 동기화 응답 DTO")
+public record QrScanBatchResponse(
+
+	@Schema(description = "입장 처리된 스캔 수", example = "298")
+	int enteredCount,
+
+	@Schema(description = "거절된 스캔 수", example = "2")
+	int rejectedCount,
+
+	@Schema(description = "스캔별 검증 결과 (요청 순서와 같음)")
+	List<QrValidationResponse> results
+
+) {
+	public static QrScanBatchResponse from(List<QrValidationResponse> results) {
+		int entered = (int)results.stream().filter(QrValidationResponse::isValid).count();
+		return new QrScanBatchResponse(entered, results.size() - entered, results);
+	}
+}
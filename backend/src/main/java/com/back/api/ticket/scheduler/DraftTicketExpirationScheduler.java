@@ -3,20 +3,14 @@ package com.back.api.ticket.scheduler;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
-import org.springframework.context.annotation.Profile;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 
 import com.back.api.ticket.service.TicketService;
-import com.back.domain.ticket.entity.Ticket;
-import com.back.domain.ticket.entity.TicketStatus;
-import com.back.domain.ticket.repository.TicketRepository;
 import com.back.global.logging.MdcContext;
+import com.back.global.properties.SeatHoldProperties;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,14 +18,10 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 @RequiredArgsConstructor
 @Slf4j
-@Profile({"perf"})
 public class DraftTicketExpirationScheduler {
 
-	private static final int PAGE_SIZE = 500;
-	private static final int MAX_PER_RUN = 2000;
-
-	private final TicketRepository ticketRepository;
 	private final TicketService ticketService;
+	private final SeatHoldProperties seatHoldProperties;
 
 	@Scheduled(fixedRate = 60_000)
 	@SchedulerLock(
@@ -55,7 +45,9 @@ public class DraftTicketExpirationScheduler {
 
 		try {
 			MdcContext.putRunId(runId);
-			LocalDateTime expiredBefore = LocalDateTime.now().minusMinutes(5);
+			// 폴백: SeatHoldTimer가 처리하지 못한 홀드만 (노드/Redis 장애 등)
+			SeatHoldProperties.Fallback fallback = seatHoldProperties.getFallback();
+			LocalDateTime expiredBefore = LocalDateTime.now().minusSeconds(fallback.getGraceSeconds());
 
 			log.info(
 				"SCHED_START job=DraftTicketExpiration expiredBefore={}",
@@ -63,54 +55,37 @@ public class DraftTicketExpirationScheduler {
 			);
 
 			int total = 0;
-			int success = 0;
-			int fail = 0;
-			int page = 0;
-
-			while (total < MAX_PER_RUN) {
-				Pageable pageable = PageRequest.of(page, PAGE_SIZE);
-				Page<Ticket> ticketPage =
-					ticketRepository.findExpiredDraftTickets(
-						TicketStatus.DRAFT, expiredBefore, pageable
-					);
-
-				if (ticketPage.isEmpty()) {
+			int chunks = 0;
+			long afterId = 0;
+
+			// id keyset chunk마다 별도 트랜잭션 (한 chunk 실패가 이미 처리한 chunk를 되돌리지 않음)
+			while (total < fallback.getMaxPerRun()) {
+				TicketService.ExpiredHolds expired = ticketService.expireDueHolds(
+					expiredBefore, afterId, Math.min(fallback.getChunkSize(), fallback.getMaxPerRun() - total));
+				if (expired == null) {
 					break;
 				}
 
-				for (Ticket ticket : ticketPage.getContent()) {
-					try {
-						ticketService.expireDraftTicket(ticket.getId());
-						success++;
-						log.debug(
-							"SCHED_ITEM_SUCCESS job=DraftTicketExpiration runId={} ticketId={}",
-							runId, ticket.getId()
-						);
-					} catch (Exception ex) {
-						fail++;
-						log.error(
-							"SCHED_ITEM_FAIL job=DraftTicketExpiration runId={} ticketId={} error={}",
-							runId, ticket.getId(), ex.toString(), ex
-						);
-					}
-				}
-
-				total += ticketPage.getNumberOfElements();
-				page++;
+				total += expired.expired();
+				chunks++;
+				afterId = expired.lastTicketId();
+				log.debug(
+					"SCHED_CHUNK job=DraftTicketExpiration runId={} lastTicketId={} expired={}",
+					runId, afterId, expired.expired()
+				);
+			}
 
-				if (total >= MAX_PER_RUN) {
-					log.warn(
-						"SCHED_LIMIT_REACHED job=DraftTicketExpiration runId={} limit={}",
-						runId, MAX_PER_RUN
-					);
-					break;
-				}
+			if (total >= fallback.getMaxPerRun()) {
+				log.warn(
+					"SCHED_LIMIT_REACHED job=DraftTicketExpiration runId={} limit={}",
+					runId, fallback.getMaxPerRun()
+				);
 			}
 
 			long durationMs = System.currentTimeMillis() - startAt;
 			log.info(
-				"SCHED_END job=DraftTicketExpiration total={} success={} fail={} durationMs={}",
-				total, success, fail, durationMs
+				"SCHED_END job=DraftTicketExpiration total={} chunks={} durationMs={}",
+				total, chunks, durationMs
 			);
 
 		} catch (Exception ex) {
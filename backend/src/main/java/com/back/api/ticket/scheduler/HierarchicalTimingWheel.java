@@ -0,0 +1,108 @@
+package com.back.api.ticket.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (단일 스레드 전용)
+ *
+ * - 1단계: tickMs 간격 버킷 wheelSize개 → tickMs * wheelSize 범위
+ * - 범위를 넘는 항목은 tick이 wheelSize배인 상위 휠에 두었다가, 하위 휠 범위에 들어오면 내려보낸다
+ * - 항목은 만료 시각이 속한 tick 구간이 끝난 뒤 만료된다 (최대 tickMs 늦게, 이르게 만료되지 않음)
+ */
+final class HierarchicalTimingWheel<T> {
+
+	private final long tickMs;
+	private final int wheelSize;
+	private final long intervalMs;
+	private final List<Entry<T>>[] buckets;
+
+	// 현재 tick 구간 시작 시각 (tickMs 배수)
+	private long currentTime;
+	private HierarchicalTimingWheel<T> overflow;
+
+	@SuppressWarnings("unchecked")
+	HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+		this.tickMs = tickMs;
+		this.wheelSize = wheelSize;
+		this.intervalMs = tickMs * wheelSize;
+		this.buckets = new List[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			buckets[i] = new ArrayList<>();
+		}
+		this.currentTime = startMs - (startMs % tickMs);
+	}
+
+	/**
+	 * 항목 등록
+	 *
+	 * @return 이미 만료 시각이 지났으면 false (호출 측에서 즉시 처리)
+	 */
+	boolean add(T item, long deadlineMs) {
+		if (deadlineMs < currentTime) {
+			return false;
+		}
+		if (deadlineMs < currentTime + intervalMs) {
+			buckets[index(deadlineMs)].add(new Entry<>(item, deadlineMs));
+			return true;
+		}
+		return overflow().add(item, deadlineMs);
+	}
+
+	/**
+	 * nowMs까지 tick을 진행하며 만료된 항목 전달
+	 */
+	void advanceTo(long nowMs, Consumer<T> onExpired) {
+		while (currentTime + tickMs <= nowMs) {
+			List<Entry<T>> expired = takeBucket(currentTime);
+			currentTime += tickMs;
+
+			for (Entry<T> entry : expired) {
+				onExpired.accept(entry.item());
+			}
+
+			if (overflow != null && currentTime % intervalMs == 0) {
+				overflow.cascadeInto(this, currentTime);
+			}
+		}
+	}
+
+	/**
+	 * 상위 휠: time부터 시작하는 버킷을 하위 휠로 내려보냄
+	 */
+	private void cascadeInto(HierarchicalTimingWheel<T> lower, long time) {
+		currentTime = time;
+		if (overflow != null && time % intervalMs == 0) {
+			overflow.cascadeInto(this, time);
+		}
+
+		for (Entry<T> entry : takeBucket(time)) {
+			lower.add(entry.item(), entry.deadlineMs());
+		}
+	}
+
+	private HierarchicalTimingWheel<T> overflow() {
+		if (overflow == null) {
+			overflow = new HierarchicalTimingWheel<>(intervalMs, wheelSize, currentTime);
+		}
+		return overflow;
+	}
+
+	private List<Entry<T>> takeBucket(long time) {
+		int index = index(time);
+		List<Entry<T>> bucket = buckets[index];
+		if (bucket.isEmpty()) {
+			return bucket;
+		}
+		buckets[index] = new ArrayList<>();
+		return bucket;
+	}
+
+	private int index(long time) {
+		return (int)((time / tickMs) % wheelSize);
+	}
+
+	private record Entry<T>(T item, long deadlineMs) {
+	}
+}
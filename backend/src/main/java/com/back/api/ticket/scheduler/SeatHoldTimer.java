@@ -0,0 +1,221 @@
+package com.back.api.ticket.scheduler;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.back.api.ticket.service.TicketService;
+import com.back.api.ticket.service.TicketService.HoldExpiry;
+import com.back.domain.ticket.repository.TicketHoldRedisRepository;
+import com.back.global.properties.SeatHoldProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Draft 좌석 홀드 만료 타이머
+ *
+ * - 홀드 등록: Redis 공용 만료 대기열(ZSET) + 노드 로컬 계층형 타이밍 휠
+ * - 휠에서 만료가 발생하면 Redis 대기열에서 만료된 홀드를 배치로 꺼내 해제 (다른 노드가 등록한 홀드 포함)
+ * - 종료된 노드의 홀드는 orphanSweepMs 주기로 회수, Redis까지 유실된 경우 DraftTicketExpirationScheduler가 처리
+ * - 해제는 TicketService.expireHoldIfDue가 DB 상태(DRAFT + 만료 시각)를 다시 확인하므로 중복 호출돼도 안전
+ * - Redis에서 꺼낸 홀드는 해제가 끝나야 사라짐: 연장된 홀드는 현재 만료 시각으로, 해제 실패는 retryDelayMs 뒤로 다시 등록
+ */
+@Slf4j
+@Component
+public class SeatHoldTimer {
+
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private final TicketService ticketService;
+	private final TicketHoldRedisRepository ticketHoldRedisRepository;
+	private final SeatHoldProperties.Wheel properties;
+
+	// 요청 스레드 → tick 스레드 전달 (휠은 tick 스레드에서만 접근)
+	private final ConcurrentLinkedQueue<Hold> pending = new ConcurrentLinkedQueue<>();
+
+	private final Counter releasedCounter;
+	private final Counter skippedCounter;
+	private final Counter retriedCounter;
+
+	private HierarchicalTimingWheel<Hold> wheel;
+	private ScheduledExecutorService ticker;
+	private ExecutorService releaser;
+	private long lastSweepAt;
+	private volatile int scheduled;
+
+	public SeatHoldTimer(
+		TicketService ticketService,
+		TicketHoldRedisRepository ticketHoldRedisRepository,
+		SeatHoldProperties seatHoldProperties,
+		MeterRegistry meterRegistry
+	) {
+		this.ticketService = ticketService;
+		this.ticketHoldRedisRepository = ticketHoldRedisRepository;
+		this.properties = seatHoldProperties.getWheel();
+
+		this.releasedCounter = Counter.builder("seat.hold.released")
+			.description("타이밍 휠로 해제된 좌석 홀드 수")
+			.register(meterRegistry);
+		this.skippedCounter = Counter.builder("seat.hold.skipped")
+			.description("이미 결제/취소되어 해제를 건너뛴 홀드 수")
+			.register(meterRegistry);
+		this.retriedCounter = Counter.builder("seat.hold.retried")
+			.description("해제 실패로 다시 등록한 홀드 수")
+			.register(meterRegistry);
+		Gauge.builder("seat.hold.scheduled", this, timer -> timer.scheduled)
+			.description("노드 타이밍 휠에 등록된 홀드 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		wheel = new HierarchicalTimingWheel<>(properties.getTickMs(), properties.getWheelSize(), now);
+		lastSweepAt = now;
+
+		long tickMs = properties.getTickMs();
+		ticker = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().name("seat-hold-wheel").daemon().factory());
+		releaser = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("seat-hold-release").daemon().factory());
+		ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (ticker != null) {
+			ticker.shutdownNow();
+			releaser.shutdownNow();
+		}
+	}
+
+	/**
+	 * 홀드 등록 (트랜잭션 안이면 커밋 후)
+	 */
+	public void scheduleAfterCommit(Long ticketId, LocalDateTime holdExpiresAt) {
+		if (!properties.isEnabled() || ticketId == null || holdExpiresAt == null) {
+			return;
+		}
+		long deadlineMs = holdExpiresAt.atZone(ZONE).toInstant().toEpochMilli();
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			schedule(ticketId, deadlineMs);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				schedule(ticketId, deadlineMs);
+			}
+		});
+	}
+
+	private void schedule(Long ticketId, long deadlineMs) {
+		boolean shared = ticketHoldRedisRepository.add(ticketId, deadlineMs);
+		pending.offer(new Hold(ticketId, deadlineMs, shared));
+	}
+
+	/**
+	 * tick 스레드: 신규 홀드 등록 + 휠 진행, 만료 발생 시 해제 스레드로 전달
+	 */
+	private void tick() {
+		try {
+			long now = System.currentTimeMillis();
+			List<Hold> expired = new ArrayList<>();
+
+			Hold hold;
+			while ((hold = pending.poll()) != null) {
+				if (!wheel.add(hold, hold.deadlineMs())) {
+					expired.add(hold);
+				} else {
+					scheduled++;
+				}
+			}
+
+			wheel.advanceTo(now, item -> {
+				scheduled--;
+				expired.add(item);
+			});
+
+			boolean sweep = now - lastSweepAt >= properties.getOrphanSweepMs();
+			if (expired.isEmpty() && !sweep) {
+				return;
+			}
+			lastSweepAt = now;
+
+			releaser.execute(() -> release(expired));
+		} catch (Exception e) {
+			log.error("SEAT_HOLD_TICK_FAIL error={}", e.toString(), e);
+		}
+	}
+
+	/**
+	 * 해제 스레드: Redis에 등록하지 못한 로컬 홀드 + Redis 만료 대기열에서 배치로 회수한 홀드 해제
+	 */
+	private void release(List<Hold> expired) {
+		releaseAll(expired.stream().filter(hold -> !hold.shared()).map(Hold::ticketId).toList());
+
+		int batchSize = properties.getReleaseBatchSize();
+		long now = System.currentTimeMillis();
+		while (true) {
+			List<Long> claimed = ticketHoldRedisRepository.claimDue(now, batchSize);
+			if (claimed == null) {
+				// Redis 장애: 이 노드에서 만료된 홀드만 직접 처리
+				releaseAll(expired.stream().filter(Hold::shared).map(Hold::ticketId).toList());
+				return;
+			}
+			releaseAll(claimed);
+			if (claimed.size() < batchSize) {
+				return;
+			}
+		}
+	}
+
+	private void releaseAll(List<Long> ticketIds) {
+		int released = 0;
+		for (Long ticketId : new LinkedHashSet<>(ticketIds)) {
+			try {
+				HoldExpiry expiry = ticketService.expireHoldIfDue(ticketId, LocalDateTime.now());
+				if (expiry.released()) {
+					released++;
+				} else if (expiry.pendingUntil() != null) {
+					// 연장된 홀드 (결제 승인 중 등): 현재 만료 시각으로 다시 등록
+					schedule(ticketId, expiry.pendingUntil().atZone(ZONE).toInstant().toEpochMilli());
+				} else {
+					skippedCounter.increment();
+				}
+			} catch (Exception e) {
+				// 이미 대기열에서 꺼낸 홀드이므로 다시 등록해 재시도 (Redis까지 실패하면 로컬 휠에서 재시도)
+				log.error("SEAT_HOLD_RELEASE_FAIL ticketId={} error={}", ticketId, e.toString(), e);
+				retriedCounter.increment();
+				schedule(ticketId, System.currentTimeMillis() + properties.getRetryDelayMs());
+			}
+		}
+
+		if (released > 0) {
+			releasedCounter.increment(released);
+			log.debug("SEAT_HOLD_RELEASED count={}", released);
+		}
+	}
+
+	private record Hold(Long ticketId, long deadlineMs, boolean shared) {
+	}
+}
@@ -0,0 +1,201 @@
+package com.back.api.ticket.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.back.api.ticket.dto.response.TicketResponse;
+import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.MyTicketRedisRepository;
+import com.back.domain.ticket.repository.MyTicketRedisRepository.Snapshot;
+import com.back.domain.ticket.repository.TicketRepository;
+import com.back.global.properties.TicketListCacheProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내 티켓 목록 캐시 (노드 로컬 L1 + Redis L2)
+ *
+ * - 조회: Redis에서 버전 + 목록을 1번에 확인 → 로컬 버전이 같으면 로컬 목록, 아니면 Redis 목록, 둘 다 없으면 DB
+ * - 무효화: 목록에 보이는 상태(PAID/ISSUED/USED)로의 전이가 커밋된 뒤 사용자 버전 증가 + Redis 목록 삭제
+ * - 목록에 이벤트 제목/좌석 정보가 들어가므로 이벤트/좌석 수정·삭제 커밋 후에도 해당 티켓 소유자를 무효화
+ * - Redis 장애 시 버전을 알 수 없으므로 매번 DB 조회 (기존 동작)
+ */
+@Slf4j
+@Component
+public class MyTicketCache {
+
+	private static final TypeReference<List<TicketResponse>> LIST_TYPE = new TypeReference<>() {
+	};
+
+	// 내 티켓 목록에 보이는 상태 (TicketRepositoryImpl.findMyTicketDto 조건과 동일)
+	private static final List<TicketStatus> LISTED_STATUSES =
+		List.of(TicketStatus.PAID, TicketStatus.ISSUED, TicketStatus.USED);
+
+	private final MyTicketRedisRepository myTicketRedisRepository;
+	private final TicketRepository ticketRepository;
+	private final TicketListCacheProperties properties;
+	private final ObjectMapper objectMapper;
+
+	// userId → 버전별 목록 (목록 자체는 불변, 교체만 발생)
+	private final ConcurrentHashMap<Long, LocalEntry> locals = new ConcurrentHashMap<>();
+
+	private final Counter localHitCounter;
+	private final Counter redisHitCounter;
+	private final Counter loadCounter;
+
+	public MyTicketCache(
+		MyTicketRedisRepository myTicketRedisRepository,
+		TicketRepository ticketRepository,
+		TicketListCacheProperties properties,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry
+	) {
+		this.myTicketRedisRepository = myTicketRedisRepository;
+		this.ticketRepository = ticketRepository;
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+
+		this.localHitCounter = resultCounter(meterRegistry, "local_hit");
+		this.redisHitCounter = resultCounter(meterRegistry, "redis_hit");
+		this.loadCounter = resultCounter(meterRegistry, "load");
+		Gauge.builder("ticket.list.cache.local.size", locals, ConcurrentHashMap::size)
+			.register(meterRegistry);
+	}
+
+	public List<TicketResponse> get(Long userId, Supplier<List<TicketResponse>> loader) {
+		if (!properties.isEnabled()) {
+			return loader.get();
+		}
+
+		Snapshot snapshot = myTicketRedisRepository.find(userId);
+		if (snapshot == null) {
+			loadCounter.increment();
+			return loader.get();
+		}
+
+		long now = System.currentTimeMillis();
+		LocalEntry local = locals.get(userId);
+		if (local != null && local.version() == snapshot.version() && now < local.expiresAtMillis()) {
+			localHitCounter.increment();
+			return local.tickets();
+		}
+
+		List<TicketResponse> cached = read(userId, snapshot.json());
+		if (cached != null) {
+			redisHitCounter.increment();
+			putLocal(userId, snapshot.version(), cached, now);
+			return cached;
+		}
+
+		loadCounter.increment();
+		List<TicketResponse> tickets = List.copyOf(loader.get());
+		String json = write(userId, tickets);
+		if (json != null) {
+			myTicketRedisRepository.saveIfVersion(userId, snapshot.version(), json,
+				Duration.ofSeconds(properties.getTtlSeconds()));
+		}
+		putLocal(userId, snapshot.version(), tickets, now);
+		return tickets;
+	}
+
+	/**
+	 * 커밋 후 무효화 (트랜잭션 밖이면 즉시)
+	 * 롤백되면 목록이 바뀌지 않았으므로 무효화하지 않음
+	 */
+	public void evictAfterCommit(Collection<Long> userIds) {
+		if (!properties.isEnabled() || userIds.isEmpty()) {
+			return;
+		}
+
+		Set<Long> targets = Set.copyOf(userIds);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(targets);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict(targets);
+			}
+		});
+	}
+
+	/**
+	 * 이벤트 수정/삭제 커밋 후 해당 이벤트 티켓을 목록에 가진 사용자 무효화
+	 * 대상은 수정 트랜잭션 안에서 조회 (커밋 전에 티켓 상태가 바뀌어도 이후 전이가 별도로 무효화함)
+	 */
+	public void evictEventAfterCommit(Long eventId) {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		evictAfterCommit(ticketRepository.findOwnerIdsByEventIdAndTicketStatusIn(eventId, LISTED_STATUSES));
+	}
+
+	// 좌석 수정/삭제 커밋 후 해당 좌석 티켓을 목록에 가진 사용자 무효화
+	public void evictSeatAfterCommit(Long seatId) {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		evictAfterCommit(ticketRepository.findOwnerIdsBySeatIdAndTicketStatusIn(seatId, LISTED_STATUSES));
+	}
+
+	private void evict(Set<Long> userIds) {
+		userIds.forEach(locals::remove);
+		myTicketRedisRepository.invalidate(userIds, Duration.ofHours(properties.getVersionTtlHours()));
+	}
+
+	private List<TicketResponse> read(Long userId, String json) {
+		if (json == null) {
+			return null;
+		}
+		try {
+			return List.copyOf(objectMapper.readValue(json, LIST_TYPE));
+		} catch (Exception e) {
+			log.warn("MY_TICKET_CACHE_PARSE_FAILED userId={}", userId, e);
+			return null;
+		}
+	}
+
+	private String write(Long userId, List<TicketResponse> tickets) {
+		try {
+			return objectMapper.writeValueAsString(tickets);
+		} catch (Exception e) {
+			log.warn("MY_TICKET_CACHE_WRITE_FAILED userId={}", userId, e);
+			return null;
+		}
+	}
+
+	private void putLocal(Long userId, long version, List<TicketResponse> tickets, long now) {
+		if (locals.size() >= properties.getLocalMaxSize()) {
+			locals.values().removeIf(entry -> now >= entry.expiresAtMillis());
+			if (locals.size() >= properties.getLocalMaxSize()) {
+				return;
+			}
+		}
+		long expiresAt = now + properties.getLocalTtlSeconds() * 1000;
+		locals.put(userId, new LocalEntry(version, tickets, expiresAt));
+	}
+
+	private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("ticket.list.cache")
+			.description("내 티켓 목록 조회 결과")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private record LocalEntry(long version, List<TicketResponse> tickets, long expiresAtMillis) {
+	}
+}
@@ -1,25 +1,40 @@
 package com.back.api.ticket.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.back.api.ticket.dto.request.QrScanRequest;
+import com.back.api.ticket.dto.response.QrScanBatchResponse;
 import com.back.api.ticket.dto.response.QrTokenResponse;
 import com.back.api.ticket.dto.response.QrValidationResponse;
+import com.back.api.ticket.service.TicketGateCache.GateTicket;
 import com.back.domain.ticket.entity.Ticket;
 import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.TicketEntryRedisRepository;
 import com.back.global.error.code.TicketErrorCode;
 import com.back.global.error.exception.ErrorException;
 import com.back.global.properties.SiteProperties;
+import com.back.global.properties.TicketGateProperties;
 import com.back.global.security.QrTokenClaims;
 import com.back.global.utils.JwtUtil;
 
@@ -31,21 +46,32 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class QrService {
 
-	private final RedisTemplate<String, String> redisTemplate;
-
 	private final SiteProperties siteProperties;
 
 	private final TicketService ticketService;
 
+	private final TicketGateCache ticketGateCache;
+
+	private final TicketEntryRedisRepository ticketEntryRedisRepository;
+
+	private final TicketGateProperties ticketGateProperties;
+
+	private final MyTicketCache myTicketCache;
+
 	public QrService(
-		@Qualifier("stringTemplate")
-		RedisTemplate<String, String> redisTemplate,
 		SiteProperties siteProperties,
-		TicketService ticketService
+		TicketService ticketService,
+		TicketGateCache ticketGateCache,
+		TicketEntryRedisRepository ticketEntryRedisRepository,
+		TicketGateProperties ticketGateProperties,
+		MyTicketCache myTicketCache
 	) {
-		this.redisTemplate = redisTemplate;
 		this.siteProperties = siteProperties;
 		this.ticketService = ticketService;
+		this.ticketGateCache = ticketGateCache;
+		this.ticketEntryRedisRepository = ticketEntryRedisRepository;
+		this.ticketGateProperties = ticketGateProperties;
+		this.myTicketCache = myTicketCache;
 	}
 
 	@Value("${custom.jwt.qr-secret}")
@@ -83,15 +109,29 @@ public class QrService {
 
 	}
 
-	// QR 입장 검증 및 처리
+	/**
+	 * QR 입장 검증 및 처리
+	 * - 티켓 정보: 게이트 캐시(없으면 조인 projection 1회)
+	 * - 재입장 확인/기록: Redis SET NX 1번 (동시 스캔 중 하나만 통과)
+	 * - 입장 처리: 조건부 UPDATE ISSUED -> USED 1번 (다른 경로로 상태가 바뀌었으면 0건 → 거절)
+	 */
 	@Transactional
 	public QrValidationResponse validateAndProcessEntry(String qrToken) {
 
-		QrTokenClaims claims = validateAndParseQrToken(qrToken);
+		QrTokenClaims claims = validateAndParseQrToken(qrToken, Instant.now());
 
-		Ticket ticket = ticketService.findById(claims.getTicketId());
+		GateTicket ticket = ticketGateCache.get(claims.getTicketId())
+			.orElseThrow(() -> new ErrorException(TicketErrorCode.TICKET_NOT_FOUND));
 
-		if(ticket.getTicketStatus() != TicketStatus.ISSUED) {
+		if(!ticket.eventId().equals(claims.getEventId())) {
+			return buildInvalidResponse(
+				ticket,
+				TicketErrorCode.TICKET_EVENT_MISMATCH.getMessage(),
+				claims.getIssuedAt()
+			);
+		}
+
+		if(ticket.ticketStatus() != TicketStatus.ISSUED) {
 			return buildInvalidResponse(
 				ticket,
 				"유효하지 않은 티켓 상태입니다.",
@@ -99,7 +139,7 @@ public class QrService {
 			);
 		}
 
-		if(isEntered(ticket.getId())) {
+		if(!markAsEntered(ticket.ticketId())) {
 			return buildInvalidResponse(
 				ticket,
 				"이미 입장 처리된 티켓입니다.",
@@ -107,13 +147,109 @@ public class QrService {
 			);
 		}
 
-		markAsEntered(ticket.getId());
-		ticket.markAsUsed();
+		if(ticketService.markUsed(List.of(ticket.ticketId())).isEmpty()) {
+			// 캐시 이후 취소/사용 등으로 상태가 바뀐 티켓: 기록을 되돌리고 다음 조회는 DB에서
+			ticketEntryRedisRepository.unmark(ticket.ticketId());
+			ticketGateCache.evict(ticket.ticketId());
+			return buildInvalidResponse(
+				ticket,
+				"유효하지 않은 티켓 상태입니다.",
+				claims.getIssuedAt()
+			);
+		}
 
+		markUsedAfterCommit(List.of(ticket));
 		return buildValidResponse(ticket, claims.getIssuedAt());
 
 	}
 
+	/**
+	 * 게이트 단말 일괄 동기화 (오프라인 동안 쌓인 스캔)
+	 * - 등록된 단말(단말 id + 키)만 호출 가능
+	 * - QR 토큰은 스캔 시각 기준으로 검증 (동기화 시점에 만료됐어도 스캔 당시 유효했으면 입장)
+	 * - 스캔 시각은 서버 시각 기준 오프라인 허용 범위 안, 그리고 이 단말의 마지막 동기화 이후여야 함
+	 *   (지난 동기화에서 올렸어야 할 시각으로 소급한 스캔 거절)
+	 * - 티켓 정보: 게이트 캐시, 없는 티켓만 projection 1회
+	 * - 재입장 확인/기록: Redis SET NX 파이프라인 1번
+	 * - 입장 처리: 조건부 UPDATE 1번 (일부만 반영됐을 때만 반영된 티켓 조회 1번 추가)
+	 * 거절된 스캔이 있어도 나머지는 처리하고, 결과는 요청 순서대로 반환
+	 */
+	@Transactional
+	public QrScanBatchResponse validateAndProcessEntries(String deviceId, String deviceKey, List<QrScanRequest> scans) {
+		TicketGateProperties.Batch batch = ticketGateProperties.getBatch();
+		authenticateDevice(deviceId, deviceKey, batch);
+		if(scans.size() > batch.getMaxSize()) {
+			throw new ErrorException(TicketErrorCode.QR_SCAN_BATCH_TOO_LARGE);
+		}
+
+		Instant now = Instant.now();
+		Instant oldestScan = oldestAllowedScan(deviceId, now, batch);
+		QrValidationResponse[] results = new QrValidationResponse[scans.size()];
+		QrTokenClaims[] claims = new QrTokenClaims[scans.size()];
+		Set<Long> claimedTicketIds = new HashSet<>();
+
+		for(int i = 0; i < scans.size(); i++) {
+			try {
+				claims[i] = validateScan(scans.get(i), now, oldestScan, batch);
+				claimedTicketIds.add(claims[i].getTicketId());
+			} catch (ErrorException e) {
+				results[i] = buildRejectedScanResponse(scans.get(i), e.getErrorCode().getMessage());
+			}
+		}
+
+		// 입장 후보: ticketId → 스캔 순서 (같은 티켓을 여러 번 스캔했으면 첫 스캔만 후보)
+		Map<Long, GateTicket> tickets = ticketGateCache.getAll(claimedTicketIds);
+		Map<Long, Integer> candidates = new LinkedHashMap<>();
+		Map<Long, Long> enteredAt = new HashMap<>();
+		for(int i = 0; i < scans.size(); i++) {
+			if(claims[i] == null) {
+				continue;
+			}
+			GateTicket ticket = tickets.get(claims[i].getTicketId());
+			String rejected = rejectReason(ticket, claims[i], candidates);
+			if(rejected != null) {
+				results[i] = ticket != null
+					? buildInvalidResponse(ticket, rejected, claims[i].getIssuedAt())
+					: buildRejectedScanResponse(scans.get(i), rejected);
+				continue;
+			}
+			candidates.put(ticket.ticketId(), i);
+			enteredAt.put(ticket.ticketId(), toInstant(scans.get(i).scannedAt()).getEpochSecond());
+		}
+
+		Set<Long> marked = ticketEntryRedisRepository.markEnteredAll(
+			enteredAt,
+			Duration.ofHours(ticketGateProperties.getEntryTtlHours())
+		);
+		unmarkOnRollback(marked);
+
+		Set<Long> used = marked.isEmpty() ? Set.of() : ticketService.markUsed(List.copyOf(marked));
+
+		List<Long> notUsed = new ArrayList<>();
+		List<GateTicket> entered = new ArrayList<>(used.size());
+		candidates.forEach((ticketId, i) -> {
+			GateTicket ticket = tickets.get(ticketId);
+			if(used.contains(ticketId)) {
+				entered.add(ticket);
+				results[i] = buildValidResponse(ticket, claims[i].getIssuedAt());
+			} else if(!marked.contains(ticketId)) {
+				results[i] = buildInvalidResponse(ticket, "이미 입장 처리된 티켓입니다.", claims[i].getIssuedAt());
+			} else {
+				// 캐시 이후 취소/사용 등으로 상태가 바뀐 티켓
+				notUsed.add(ticketId);
+				results[i] = buildInvalidResponse(ticket, "유효하지 않은 티켓 상태입니다.", claims[i].getIssuedAt());
+			}
+		});
+
+		ticketEntryRedisRepository.unmarkAll(notUsed);
+		notUsed.forEach(ticketGateCache::evict);
+		markUsedAfterCommit(entered);
+		saveLastSyncAfterCommit(deviceId, now);
+
+		log.info("QR scan batch synced: scans={}, entered={}", scans.size(), entered.size());
+		return QrScanBatchResponse.from(Arrays.asList(results));
+	}
+
 
 	private String generateQrToken(Ticket ticket, Long userId) {
 		if(!ticket.getOwner().getId().equals(userId)) {
@@ -132,9 +268,80 @@ public class QrService {
 		return JwtUtil.sign(qrSecret,QR_TOKEN_VALIDATE_SECEONDS,claims);
 	}
 
-	private QrTokenClaims validateAndParseQrToken(String qrToken) {
+	// 등록된 단말 키와 비교 (키 길이/내용에 따라 비교 시간이 달라지지 않게)
+	private void authenticateDevice(String deviceId, String deviceKey, TicketGateProperties.Batch batch) {
+		String expected = deviceId == null ? null : batch.getDevices().get(deviceId);
+		if(expected == null || deviceKey == null || !MessageDigest.isEqual(
+			expected.getBytes(StandardCharsets.UTF_8), deviceKey.getBytes(StandardCharsets.UTF_8))) {
+			throw new ErrorException(TicketErrorCode.UNAUTHORIZED_GATE_DEVICE);
+		}
+	}
+
+	// 허용하는 가장 이른 스캔 시각: 오프라인 허용 범위와 단말의 마지막 동기화(시계 오차 허용) 중 늦은 쪽
+	private Instant oldestAllowedScan(String deviceId, Instant now, TicketGateProperties.Batch batch) {
+		Instant oldest = now.minus(Duration.ofMinutes(batch.getMaxOfflineMinutes()));
+		Long lastSync = ticketEntryRedisRepository.findLastSync(deviceId);
+		if(lastSync == null) {
+			return oldest;
+		}
+		Instant sinceLastSync = Instant.ofEpochSecond(lastSync).minusSeconds(batch.getClockSkewSeconds());
+		return sinceLastSync.isAfter(oldest) ? sinceLastSync : oldest;
+	}
+
+	// 롤백되면 이번 스캔을 다시 올릴 수 있도록 커밋 후에만 기록
+	private void saveLastSyncAfterCommit(String deviceId, Instant syncedAt) {
+		Duration ttl = Duration.ofHours(ticketGateProperties.getEntryTtlHours());
+		if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+			ticketEntryRedisRepository.saveLastSync(deviceId, syncedAt.getEpochSecond(), ttl);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				ticketEntryRedisRepository.saveLastSync(deviceId, syncedAt.getEpochSecond(), ttl);
+			}
+		});
+	}
+
+	// 스캔 시각이 허용 범위 안이고, 그 시각 기준으로 토큰이 유효하며, 토큰의 티켓이 요청한 티켓과 같은지
+	private QrTokenClaims validateScan(
+		QrScanRequest scan,
+		Instant now,
+		Instant oldestScan,
+		TicketGateProperties.Batch batch
+	) {
+		Instant scannedAt = toInstant(scan.scannedAt());
+		if(scannedAt.isAfter(now.plusSeconds(batch.getClockSkewSeconds())) || scannedAt.isBefore(oldestScan)) {
+			throw new ErrorException(TicketErrorCode.INVALID_QR_SCANNED_AT);
+		}
+
+		QrTokenClaims claims = validateAndParseQrToken(scan.token(), scannedAt);
+		if(!claims.getTicketId().equals(scan.ticketId())) {
+			throw new ErrorException(TicketErrorCode.INVALID_TICKET_QR_TOKEN);
+		}
+		return claims;
+	}
+
+	// 입장 후보에서 제외할 사유 (없으면 null)
+	private String rejectReason(GateTicket ticket, QrTokenClaims claims, Map<Long, Integer> candidates) {
+		if(ticket == null) {
+			return TicketErrorCode.TICKET_NOT_FOUND.getMessage();
+		}
+		if(!ticket.eventId().equals(claims.getEventId())) {
+			return TicketErrorCode.TICKET_EVENT_MISMATCH.getMessage();
+		}
+		if(ticket.ticketStatus() != TicketStatus.ISSUED) {
+			return "유효하지 않은 티켓 상태입니다.";
+		}
+		if(candidates.containsKey(ticket.ticketId())) {
+			return "이미 입장 처리된 티켓입니다.";
+		}
+		return null;
+	}
+
+	private QrTokenClaims validateAndParseQrToken(String qrToken, Instant verifiedAt) {
 		try {
-			Map<String, Object> payload = JwtUtil.payloadOrNull(qrToken, qrSecret);
+			Map<String, Object> payload = JwtUtil.payloadOrNull(qrToken, qrSecret, verifiedAt);
 
 			if(payload == null) {
 				log.warn("Invalid QR token: payload is null");
@@ -148,12 +355,16 @@ public class QrService {
 
 			// TODO -> 2중 체크 로직 제거 고려
 			// 토큰 기간 확인 -> 60초 이상이면 만료
-			long now = Instant.now().getEpochSecond();
+			long now = verifiedAt.getEpochSecond();
 			if(now - issuedAt > QR_TOKEN_VALIDATE_SECEONDS) {
 				throw new ErrorException(TicketErrorCode.TICKET_QR_TOKEN_EXPIRED);
 			}
+			// 검증 시각(스캔 시각) 이후에 발급된 토큰은 그 시각에 스캔될 수 없음
+			if(issuedAt > now) {
+				throw new ErrorException(TicketErrorCode.INVALID_TICKET_QR_TOKEN);
+			}
 
-			return new QrTokenClaims(ticketId, eventId, userId, issuedAt);
+			return new QrTokenClaims(ticketId, userId, eventId, issuedAt);
 
 		} catch (ExpiredJwtException e) {
 			log.warn("QR token expired");
@@ -165,34 +376,59 @@ public class QrService {
 		}
 	}
 
-	// 입장 여부 확인
-	private boolean isEntered(Long ticketId) {
-		String redisKey = buildRedisKey(ticketId);
-		return redisTemplate.opsForValue().get(redisKey) != null;
-	}
-
 	// QR URL 생성
 	private String buildQrUrl(String qrToken) {
 		return siteProperties.getFrontUrl() + "/tickets/verify?token=" + qrToken;
 	}
 
-	// 입장 처리 기록 -> Redis
-	private void markAsEntered(Long ticketId) {
-		String redisKey = buildRedisKey(ticketId);
-		String existingEntry = redisTemplate.opsForValue().get(redisKey);
+	/**
+	 * 입장 처리 기록 -> Redis (없을 때만 기록)
+	 * 이후 DB 반영이 롤백되면 기록을 지워 다시 스캔할 수 있게 함
+	 */
+	private boolean markAsEntered(Long ticketId) {
+		boolean marked = ticketEntryRedisRepository.markEntered(
+			ticketId,
+			Instant.now().getEpochSecond(),
+			Duration.ofHours(ticketGateProperties.getEntryTtlHours())
+		);
+		if(marked) {
+			unmarkOnRollback(List.of(ticketId));
+			log.info("Marked ticket {} as entered in Redis", ticketId);
+		}
+		return marked;
+	}
 
-		if(existingEntry != null) {
-			throw new ErrorException(TicketErrorCode.TICKET_ALREADY_ENTERED);
+	private void unmarkOnRollback(Collection<Long> ticketIds) {
+		if(ticketIds.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
 		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if(status != STATUS_COMMITTED) {
+					ticketEntryRedisRepository.unmarkAll(ticketIds);
+				}
+			}
+		});
+	}
 
-		// 입장 기록 TTL 24시간
-		redisTemplate.opsForValue().set(
-			redisKey,
-			String.valueOf(Instant.now().getEpochSecond()),
-			Duration.ofHours(24)
-		);
+	// 게이트 캐시는 커밋된 상태만 반영, 소유자의 티켓 목록 캐시도 무효화
+	private void markUsedAfterCommit(List<GateTicket> tickets) {
+		myTicketCache.evictAfterCommit(tickets.stream().map(GateTicket::ownerId).toList());
+		if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+			tickets.forEach(ticketGateCache::markUsed);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				tickets.forEach(ticketGateCache::markUsed);
+			}
+		});
+	}
 
-		log.info("Marked ticket {} as entered in Redis", ticketId);
+	private Instant toInstant(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant();
 	}
 
 	private Long getLongValue(Map<String, Object> payload, String key) {
@@ -200,18 +436,16 @@ public class QrService {
 
 		if (value instanceof Number number) {
 			return number.longValue();
+		} else if (value instanceof Date date) {
+			// iat는 JWT 표준 claim이라 파서가 Date로 돌려줌
+			return date.toInstant().getEpochSecond();
 		} else {
 			throw new ErrorException(TicketErrorCode.INVALID_TICKET_QR_TOKEN);
 		}
 	}
 
-	private String buildRedisKey(Long ticketId) {
-		return "entry:ticket:" + ticketId;
-	}
-
-
 	// 유효한 입장 응답 생성
-	private QrValidationResponse buildValidResponse(Ticket ticket, Long issuedAtEpoch) {
+	private QrValidationResponse buildValidResponse(GateTicket ticket, Long issuedAtEpoch) {
 		LocalDateTime qrIssuedAt = LocalDateTime.ofInstant(
 			Instant.ofEpochSecond(issuedAtEpoch),
 			ZoneId.systemDefault()
@@ -220,19 +454,24 @@ public class QrService {
 		return new QrValidationResponse(
 			true,
 			"QR 코드가 유효합니다.",
-			ticket.getId(),
-			ticket.getEvent().getId(),
-			ticket.getEvent().getTitle(),
-			ticket.getSeat() != null ? ticket.getSeat().getSeatCode() : null,
-			ticket.getOwner().getNickname(),
-			ticket.getEvent().getEventDate(),
+			ticket.ticketId(),
+			ticket.eventId(),
+			ticket.eventTitle(),
+			ticket.seatCode(),
+			ticket.nickname(),
+			ticket.eventDate(),
 			qrIssuedAt
 		);
 	}
 
+	// 티켓을 특정할 수 없는 스캔 거절 응답 (토큰/스캔 시각 오류, 없는 티켓)
+	private QrValidationResponse buildRejectedScanResponse(QrScanRequest scan, String message) {
+		return new QrValidationResponse(false, message, scan.ticketId(), null, null, null, null, null, null);
+	}
+
 	// 유효하지 않은 입장 응답 생성
 	private QrValidationResponse buildInvalidResponse(
-		Ticket ticket,
+		GateTicket ticket,
 		String message,
 		Long issuedAtEpoch
 	) {
@@ -244,12 +483,12 @@ public class QrService {
 		return new QrValidationResponse(
 			false,
 			message,
-			ticket.getId(),
-			ticket.getEvent().getId(),
-			ticket.getEvent().getTitle(),
-			ticket.getSeat() != null ? ticket.getSeat().getSeatCode() : null,
-			ticket.getOwner().getNickname(),
-			ticket.getEvent().getEventDate(),
+			ticket.ticketId(),
+			ticket.eventId(),
+			ticket.eventTitle(),
+			ticket.seatCode(),
+			ticket.nickname(),
+			ticket.eventDate(),
 			qrIssuedAt
 		);
 	}
@@ -0,0 +1,168 @@
+package com.back.api.ticket.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.back.domain.event.repository.EventRepository;
+import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.TicketRepository;
+import com.back.domain.ticket.repository.TicketRepository.GateTicketView;
+import com.back.global.properties.TicketGateProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 로컬 게이트 캐시 (eventId → ticketId → 좌석/소유자/상태)
+ *
+ * - 공연 시작 warmLeadMinutes 전부터 keepHours 후까지의 이벤트를 주기적으로 적재
+ * - 캐시에 없으면 projection 1회 조회 후 보충 (적재 사이에 발급된 티켓)
+ * - 상태는 참고용: 재입장 판정은 Redis SET NX, 최종 판정은 DB 조건부 UPDATE가 담당
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketGateCache {
+
+	private static final List<TicketStatus> GATE_STATUSES = List.of(TicketStatus.ISSUED, TicketStatus.USED);
+
+	private final TicketRepository ticketRepository;
+	private final EventRepository eventRepository;
+	private final TicketGateProperties properties;
+
+	private final ConcurrentHashMap<Long, Map<Long, GateTicket>> gates = new ConcurrentHashMap<>();
+	// ticketId → eventId (토큰의 eventId와 무관하게 찾기 위함)
+	private final ConcurrentHashMap<Long, Long> ticketEvents = new ConcurrentHashMap<>();
+
+	public record GateTicket(
+		Long ticketId,
+		Long eventId,
+		String eventTitle,
+		LocalDateTime eventDate,
+		String seatCode,
+		Long ownerId,
+		String nickname,
+		TicketStatus ticketStatus
+	) {
+		static GateTicket from(GateTicketView view) {
+			return new GateTicket(view.getTicketId(), view.getEventId(), view.getEventTitle(), view.getEventDate(),
+				view.getSeatCode(), view.getOwnerId(), view.getNickname(), view.getTicketStatus());
+		}
+
+		GateTicket withStatus(TicketStatus status) {
+			return new GateTicket(ticketId, eventId, eventTitle, eventDate, seatCode, ownerId, nickname, status);
+		}
+	}
+
+	public Optional<GateTicket> get(Long ticketId) {
+		GateTicket cached = cached(ticketId);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+
+		Optional<GateTicket> loaded = ticketRepository.findGateTicket(ticketId).map(GateTicket::from);
+		loaded.ifPresent(this::putIfWarmed);
+		return loaded;
+	}
+
+	/**
+	 * 여러 티켓 조회 (일괄 동기화), 캐시에 없는 티켓은 projection 1회로 보충
+	 */
+	public Map<Long, GateTicket> getAll(Collection<Long> ticketIds) {
+		Map<Long, GateTicket> found = new HashMap<>(Math.max(16, ticketIds.size() * 2));
+		List<Long> misses = new ArrayList<>();
+		for (Long ticketId : ticketIds) {
+			GateTicket cached = cached(ticketId);
+			if (cached != null) {
+				found.put(ticketId, cached);
+			} else {
+				misses.add(ticketId);
+			}
+		}
+
+		if (!misses.isEmpty()) {
+			for (GateTicketView view : ticketRepository.findGateTicketsByIdIn(misses)) {
+				GateTicket loaded = GateTicket.from(view);
+				found.put(loaded.ticketId(), loaded);
+				putIfWarmed(loaded);
+			}
+		}
+		return found;
+	}
+
+	public void markUsed(GateTicket ticket) {
+		putIfWarmed(ticket.withStatus(TicketStatus.USED));
+	}
+
+	public void evict(Long ticketId) {
+		Long eventId = ticketEvents.remove(ticketId);
+		Map<Long, GateTicket> tickets = eventId != null ? gates.get(eventId) : null;
+		if (tickets != null) {
+			tickets.remove(ticketId);
+		}
+	}
+
+	/**
+	 * 입장 시간대 이벤트 적재 + 지난 이벤트 제거
+	 */
+	@Scheduled(fixedDelayString = "${ticket.gate.cache.refresh-interval-ms:300000}")
+	public void warm() {
+		TicketGateProperties.Cache cache = properties.getCache();
+		if (!cache.isEnabled()) {
+			return;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		Set<Long> eventIds = Set.copyOf(eventRepository.findIdsByEventDateBetween(
+			now.minusHours(cache.getKeepHours()),
+			now.plusMinutes(cache.getWarmLeadMinutes())
+		));
+
+		gates.keySet().removeIf(eventId -> !eventIds.contains(eventId));
+		ticketEvents.values().removeIf(eventId -> !eventIds.contains(eventId));
+
+		for (Long eventId : eventIds) {
+			load(eventId);
+		}
+	}
+
+	private void load(Long eventId) {
+		List<GateTicketView> views = ticketRepository.findGateTickets(eventId, GATE_STATUSES);
+
+		Map<Long, GateTicket> tickets = new ConcurrentHashMap<>(Math.max(16, views.size() * 2));
+		Map<Long, Long> index = new HashMap<>(Math.max(16, views.size() * 2));
+		for (GateTicketView view : views) {
+			tickets.put(view.getTicketId(), GateTicket.from(view));
+			index.put(view.getTicketId(), eventId);
+		}
+
+		gates.put(eventId, tickets);
+		ticketEvents.putAll(index);
+		log.debug("TICKET_GATE_WARMED eventId={} tickets={}", eventId, tickets.size());
+	}
+
+	private GateTicket cached(Long ticketId) {
+		Long eventId = ticketEvents.get(ticketId);
+		Map<Long, GateTicket> tickets = eventId != null ? gates.get(eventId) : null;
+		return tickets != null ? tickets.get(ticketId) : null;
+	}
+
+	// 적재 대상 이벤트만 보관 (그 외 이벤트는 매번 DB 조회)
+	private void putIfWarmed(GateTicket ticket) {
+		Map<Long, GateTicket> tickets = gates.get(ticket.eventId());
+		if (tickets != null) {
+			tickets.put(ticket.ticketId(), ticket);
+			ticketEvents.put(ticket.ticketId(), ticket.eventId());
+		}
+	}
+}
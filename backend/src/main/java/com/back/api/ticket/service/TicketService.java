@@ -1,8 +1,14 @@
 package com.back.api.ticket.service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +29,7 @@ import com.back.global.error.code.EventErrorCode;
 import com.back.global.error.code.SeatErrorCode;
 import com.back.global.error.code.TicketErrorCode;
 import com.back.global.error.exception.ErrorException;
+import com.back.global.properties.SeatHoldProperties;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +47,8 @@ public class TicketService {
 	private final EventRepository eventRepository;
 	private final SeatRepository seatRepository;
 	private final SeatService seatService;
+	private final SeatHoldProperties seatHoldProperties;
+	private final MyTicketCache myTicketCache;
 
 	/**
 	 * Draft Ticket 생성 (좌석 선택 직후)
@@ -75,20 +84,57 @@ public class TicketService {
 			.event(event)
 			.seat(seat)
 			.ticketStatus(TicketStatus.DRAFT)
+			.holdExpiresAt(holdDeadline())
 			.build();
 
 		return ticketRepository.save(ticket);
 	}
 
 	/**
-	 * Draft Ticket 조회 또는 생성 (유저+이벤트당 1개 유지)
-	 * - 기존 Draft가 있으면 반환
+	 * 사용자의 Draft Ticket 전부 조회 (기존 좌석 포함, 다중 선택/자동 배정이면 여러 개)
+	 */
+	@Transactional(readOnly = true)
+	public List<Ticket> findDrafts(Long eventId, Long userId) {
+		return ticketRepository
+			.findAllWithSeatByEventIdAndOwnerIdAndTicketStatusOrderByIdAsc(eventId, userId, TicketStatus.DRAFT);
+	}
+
+	/**
+	 * 해당 좌석을 잡고 있는 Draft Ticket 조회 (좌석 포함)
+	 */
+	@Transactional(readOnly = true)
+	public Optional<Ticket> findDraftBySeat(Long eventId, Long seatId, Long userId) {
+		return ticketRepository
+			.findWithSeatByEventIdAndSeatIdAndOwnerIdAndTicketStatus(eventId, seatId, userId, TicketStatus.DRAFT);
+	}
+
+	/**
+	 * 좌석 없는 Draft Ticket 생성 (좌석 선택 경로용)
+	 * - 호출 측에서 대기열 입장을 확인했으므로 유저/이벤트는 조회 없이 참조만 연결
+	 * - INSERT는 flush 시점으로 미뤄져 이어지는 좌석 배정까지 한 번에 반영
+	 */
+	@Transactional
+	public Ticket createDraft(Long eventId, Long userId) {
+		Ticket ticket = Ticket.builder()
+			.owner(userRepository.getReferenceById(userId))
+			.event(eventRepository.getReferenceById(eventId))
+			.seat(null)
+			.ticketStatus(TicketStatus.DRAFT)
+			.holdExpiresAt(holdDeadline())
+			.build();
+
+		return ticketRepository.save(ticket);
+	}
+
+	/**
+	 * Draft Ticket 조회 또는 생성
+	 * - 기존 Draft가 있으면 가장 먼저 만든 것을 반환 (특정 좌석의 Draft가 필요하면 findDraftBySeat)
 	 * - 없으면 새로 생성 (좌석 없이)
 	 */
 	@Transactional
 	public Ticket getOrCreateDraft(Long eventId, Long userId) {
 		return ticketRepository
-			.findByEventIdAndOwnerIdAndTicketStatus(eventId, userId, TicketStatus.DRAFT)
+			.findFirstByEventIdAndOwnerIdAndTicketStatusOrderByIdAsc(eventId, userId, TicketStatus.DRAFT)
 			.orElseGet(() -> {
 				User user = userRepository.findById(userId)
 					.orElseThrow(() -> new ErrorException(CommonErrorCode.NOT_FOUND_USER));
@@ -101,12 +147,85 @@ public class TicketService {
 					.event(event)
 					.seat(null)  // 좌석 없이 생성
 					.ticketStatus(TicketStatus.DRAFT)
+					.holdExpiresAt(holdDeadline())
 					.build();
 
 				return ticketRepository.save(ticket);
 			});
 	}
 
+	/**
+	 * 1인 구매 한도 확인 (이벤트 maxTicketAmount 기준, 결제 완료/발급된 티켓 포함)
+	 * Draft는 새 좌석 선택 시 취소되므로 세지 않는다
+	 */
+	@Transactional(readOnly = true)
+	public void validatePurchaseLimit(Long eventId, Long userId, int quantity) {
+		Event event = eventRepository.findById(eventId)
+			.orElseThrow(() -> new ErrorException(EventErrorCode.NOT_FOUND_EVENT));
+
+		long owned = ticketRepository.countByEventIdAndOwnerIdAndTicketStatusIn(
+			eventId, userId, List.of(TicketStatus.PAID, TicketStatus.ISSUED));
+		if (owned + quantity > event.getMaxTicketAmount()) {
+			throw new ErrorException(TicketErrorCode.TICKET_LIMIT_EXCEEDED);
+		}
+	}
+
+	/**
+	 * 좌석 묶음 Draft Ticket 일괄 생성 (자동 배정/다중 선택, 좌석 RESERVED 이후 호출)
+	 * - 좌석마다 Draft 1장, 홀드 만료 시각은 동일
+	 */
+	@Transactional
+	public List<Ticket> createDraftTickets(Long eventId, List<Seat> seats, Long userId) {
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new ErrorException(CommonErrorCode.NOT_FOUND_USER));
+
+		Event event = eventRepository.findById(eventId)
+			.orElseThrow(() -> new ErrorException(EventErrorCode.NOT_FOUND_EVENT));
+
+		LocalDateTime holdExpiresAt = holdDeadline();
+		List<Ticket> tickets = seats.stream()
+			.map(seat -> Ticket.builder()
+				.owner(user)
+				.event(event)
+				.seat(seat)
+				.ticketStatus(TicketStatus.DRAFT)
+				.holdExpiresAt(holdExpiresAt)
+				.build())
+			.toList();
+
+		return ticketRepository.saveAll(tickets);
+	}
+
+	/**
+	 * 사용자의 진행 중인 Draft 전부 취소 + 좌석 AVAILABLE 복구
+	 */
+	@Transactional
+	public void cancelDrafts(Long eventId, Long userId) {
+		cancelDrafts(eventId, userId, List.of());
+	}
+
+	/**
+	 * 사용자의 진행 중인 Draft 전부 취소 + 좌석 AVAILABLE 복구
+	 * - reselectedSeatIds: 같은 트랜잭션에서 바로 다시 예약할 좌석, 선점은 해제하지 않는다
+	 */
+	@Transactional
+	public void cancelDrafts(Long eventId, Long userId, Collection<Long> reselectedSeatIds) {
+		List<Ticket> drafts = ticketRepository.findAllByEventIdAndOwnerIdAndTicketStatus(
+			eventId, userId, TicketStatus.DRAFT);
+
+		for (Ticket draft : drafts) {
+			draft.cancel();
+			if (draft.getSeat() == null) {
+				continue;
+			}
+			if (reselectedSeatIds.contains(draft.getSeat().getId())) {
+				seatService.markSeatAsAvailableKeepingClaim(draft.getSeat());
+			} else {
+				seatService.markSeatAsAvailable(draft.getSeat());
+			}
+		}
+	}
+
 	/**
 	 * 진행 중인 Draft Ticket 조회
 	 */
@@ -144,6 +263,7 @@ public class TicketService {
 		ticket.issue();
 
 		seatService.markSeatAsSold(ticket.getSeat()); // 좌석 SOLD 처리
+		myTicketCache.evictAfterCommit(List.of(userId));
 
 		return ticket;
 	}
@@ -169,9 +289,9 @@ public class TicketService {
 	/**
 	 * 내 티켓 목록 조회
 	 */
-	@Transactional(readOnly = true)
+	// 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 조회 (미스 시 DTO projection 쿼리 1회라 지연 로딩 없음)
 	public List<TicketResponse> getMyTickets(Long userId) {
-		return ticketRepository.findMyTicketDto(userId);
+		return myTicketCache.get(userId, () -> ticketRepository.findMyTicketDto(userId));
 	}
 
 	public List<Ticket> getMyIssuedOrPaidTicketsBeforeEvent(Long userId) {
@@ -194,6 +314,17 @@ public class TicketService {
 		return ticket;
 	}
 
+	/**
+	 * 티켓 상세 조회 (응답용)
+	 * 결제 이후 티켓은 내 티켓 목록 캐시에서 찾고, 없으면(Draft/다른 사용자 티켓 등) DB 조회
+	 */
+	public TicketResponse getMyTicketDetail(Long ticketId, Long userId) {
+		return getMyTickets(userId).stream()
+			.filter(ticket -> ticket.ticketId().equals(ticketId))
+			.findFirst()
+			.orElseGet(() -> TicketResponse.from(getTicketDetail(ticketId, userId)));
+	}
+
 	@Transactional(readOnly = true)
 	public Ticket findById(Long ticketId) {
 		return ticketRepository.findById(ticketId)
@@ -201,12 +332,42 @@ public class TicketService {
 	}
 
 	/**
-	 * Draft만료 전용 스케줄러 사용하는 메소드
+	 * 게이트 입장 처리 ISSUED -> USED (조건부 UPDATE 1번)
+	 * 이미 사용/취소된 티켓은 반영되지 않음, 일부만 반영됐을 때만 반영된 티켓을 한 번 더 조회
+	 *
+	 * @return 이번에 입장 처리된 ticketId
 	 */
 	@Transactional
-	public void expireDraftTicket(Long ticketId) {
-		Ticket ticket = ticketRepository.findById(ticketId)
-			.orElseThrow(() -> new ErrorException(TicketErrorCode.TICKET_NOT_FOUND));
+	public Set<Long> markUsed(List<Long> ticketIds) {
+		// DB에 저장되는 정밀도로 맞춰야 usedAt으로 다시 찾을 수 있음
+		LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+		int updated = ticketRepository.markUsedIn(ticketIds, TicketStatus.ISSUED, TicketStatus.USED, now);
+
+		if (updated == 0) {
+			return Set.of();
+		}
+		if (updated == ticketIds.size()) {
+			return Set.copyOf(ticketIds);
+		}
+		return Set.copyOf(ticketRepository.findIdsByIdInAndUsedAt(ticketIds, now));
+	}
+
+	/**
+	 * Draft 홀드 만료 처리 (SeatHoldTimer / DraftTicketExpirationScheduler 공용)
+	 * 이미 결제/취소되었거나 만료 시각 전인 티켓은 건너뛴다 (여러 노드가 같은 티켓을 처리해도 안전)
+	 *
+	 * @return 만료 처리 여부 + 아직 만료 전인 Draft면 현재 만료 시각 (결제 승인 시작 등으로 연장된 홀드)
+	 */
+	@Transactional
+	public HoldExpiry expireHoldIfDue(Long ticketId, LocalDateTime now) {
+		// 잠근 뒤 만료 여부 확인: 결제 승인 시작의 홀드 연장을 덮어쓰지 않도록
+		Ticket ticket = ticketRepository.findByIdForUpdate(ticketId).orElse(null);
+		if (ticket == null || ticket.getTicketStatus() != TicketStatus.DRAFT) {
+			return HoldExpiry.FINISHED;
+		}
+		if (!ticket.isHoldExpired(now)) {
+			return new HoldExpiry(false, ticket.getHoldExpiresAt());
+		}
 
 		// 핵심 책임: 상태 변경은 무조건
 		ticket.fail();
@@ -215,26 +376,56 @@ public class TicketService {
 		if (ticket.getSeat() != null) {
 			seatService.markSeatAsAvailable(ticket.getSeat());
 		}
+		return HoldExpiry.RELEASED;
 	}
 
-	public void releaseDraftTicketAndSeat(Long eventId, Long userId) {
-		try {
-			Optional<Ticket> draftTicketOpt =
-				ticketRepository.findByEventIdAndOwnerIdAndTicketStatus(
-					eventId, userId, TicketStatus.DRAFT
-				);
+	/**
+	 * 만료 Draft 일괄 처리 (DraftTicketExpirationScheduler 폴백, 호출 1번 = chunk 1개 = 트랜잭션 1개)
+	 * - id keyset으로 afterId 이후 만료 Draft를 잠가서 가져옴 (처리한 행이 빠져도 건너뛰는 티켓 없음)
+	 * - 티켓은 조건부 UPDATE 1번으로 FAILED, 좌석은 이벤트별로 한 번에 해제 + 묶음 메시지 1개
+	 *
+	 * @return 이번 chunk의 마지막 티켓 id(다음 호출의 afterId)와 만료 건수, 더 없으면 null
+	 */
+	@Transactional
+	public ExpiredHolds expireDueHolds(LocalDateTime expiredBefore, long afterId, int limit) {
+		List<Object[]> rows = ticketRepository.lockExpiredDraftsAfter(expiredBefore, afterId, limit);
+		if (rows.isEmpty()) {
+			return null;
+		}
 
-			if (draftTicketOpt.isEmpty()) {
-				return;
+		List<Long> ticketIds = new ArrayList<>(rows.size());
+		Map<Long, List<Long>> seatIdsByEvent = new HashMap<>();
+		for (Object[] row : rows) {
+			ticketIds.add(((Number)row[0]).longValue());
+			if (row[1] != null) {
+				seatIdsByEvent.computeIfAbsent(((Number)row[2]).longValue(), eventId -> new ArrayList<>())
+					.add(((Number)row[1]).longValue());
 			}
+		}
 
-			Ticket draftTicket = draftTicketOpt.get();
-			draftTicket.cancel();
+		int expired = ticketRepository.updateTicketStatusIn(
+			ticketIds, TicketStatus.DRAFT, TicketStatus.FAILED, LocalDateTime.now());
+		seatIdsByEvent.forEach(seatService::releaseReservedSeats);
 
-			if (draftTicket.getSeat() != null) {
-				seatService.markSeatAsAvailable(draftTicket.getSeat());
-			}
+		return new ExpiredHolds(ticketIds.getLast(), expired);
+	}
 
+	public record ExpiredHolds(long lastTicketId, int expired) {
+	}
+
+	/**
+	 * 단건 홀드 만료 결과
+	 * - pendingUntil: 아직 만료 전인 Draft의 현재 만료 시각 (호출 측이 이 시각으로 다시 등록), 그 외 null
+	 */
+	public record HoldExpiry(boolean released, LocalDateTime pendingUntil) {
+
+		public static final HoldExpiry RELEASED = new HoldExpiry(true, null);
+		public static final HoldExpiry FINISHED = new HoldExpiry(false, null);
+	}
+
+	public void releaseDraftTicketAndSeat(Long eventId, Long userId) {
+		try {
+			cancelDrafts(eventId, userId);
 		} catch (Exception e) {
 			log.warn(
 				"Draft ticket release failed on queue demotion (scheduler will handle) " +
@@ -243,4 +434,8 @@ public class TicketService {
 			);
 		}
 	}
+
+	private LocalDateTime holdDeadline() {
+		return LocalDateTime.now().plusSeconds(seatHoldProperties.getTtlSeconds());
+	}
 }
@@ -0,0 +1,60 @@
+package com.back.domain.event.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이벤트별 판매 현황 누적 카운터 (관리자 대시보드용)
+ *
+ * - 이벤트마다 slot 수만큼 행을 두고 전이마다 임의 slot 하나에 증감 → 인기 이벤트도 한 행에 잠금이 몰리지 않음
+ * - 이벤트 현황 = 같은 event_id 행들의 합 (EventSalesCounterRepository에서 JDBC로만 갱신/조회)
+ */
+@Entity
+@Table(
+	name = "event_sales_counters",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_event_sales_counters_event_slot", columnNames = {"event_id", "slot"})
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventSalesCounter {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "event_id", nullable = false)
+	private Long eventId;
+
+	@Column(nullable = false)
+	private int slot;
+
+	@Column(name = "pre_register_count", nullable = false)
+	private long preRegisterCount;
+
+	@Column(name = "available_seats", nullable = false)
+	private long availableSeats;
+
+	@Column(name = "reserved_seats", nullable = false)
+	private long reservedSeats;
+
+	@Column(name = "sold_seats", nullable = false)
+	private long soldSeats;
+
+	@Column(name = "sales_amount", nullable = false)
+	private long salesAmount;
+
+	@Column(name = "modified_at")
+	private LocalDateTime modifiedAt;
+}
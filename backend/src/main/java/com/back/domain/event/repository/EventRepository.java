@@ -65,6 +65,17 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 		@Param("status") EventStatus status
 	);
 
+	@Query("""
+			SELECT e.id
+			FROM Event e
+			WHERE e.eventDate BETWEEN :start AND :end
+			AND e.deleted = false
+		""")
+	List<Long> findIdsByEventDateBetween(
+		@Param("start") LocalDateTime start,
+		@Param("end") LocalDateTime end
+	);
+
 	@Query("SELECT e FROM Event e WHERE e.status IN :statuses AND e.deleted = false")
 	List<Event> findByStatusIn(@Param("statuses") List<EventStatus> statuses);
 
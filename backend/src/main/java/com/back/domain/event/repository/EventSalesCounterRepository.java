@@ -0,0 +1,146 @@
+package com.back.domain.event.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이벤트 판매 현황 카운터 JDBC 저장소 (event_sales_counters)
+ *
+ * - 증감: slot 행 1개에 UPDATE col = col + ? (행이 없으면 빈 행을 만들고 다시 UPDATE)
+ * - 조회: 여러 이벤트의 slot 합을 GROUP BY 1회로 조회
+ * - 재계산: 좌석/사전등록 테이블에서 다시 집계해 slot 0에 적재
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventSalesCounterRepository {
+
+	private static final String INCREMENT_SQL = """
+		UPDATE event_sales_counters
+		SET pre_register_count = pre_register_count + ?,
+			available_seats = available_seats + ?,
+			reserved_seats = reserved_seats + ?,
+			sold_seats = sold_seats + ?,
+			sales_amount = sales_amount + ?,
+			modified_at = ?
+		WHERE event_id = ? AND slot = ?
+		""";
+
+	private static final String INSERT_EMPTY_SQL = """
+		INSERT INTO event_sales_counters
+			(event_id, slot, pre_register_count, available_seats, reserved_seats, sold_seats, sales_amount, modified_at)
+		VALUES (?, ?, 0, 0, 0, 0, 0, ?)
+		ON CONFLICT DO NOTHING
+		""";
+
+	private static final String SUMMARY_SQL = """
+		SELECT event_id,
+			SUM(pre_register_count), SUM(available_seats), SUM(reserved_seats), SUM(sold_seats), SUM(sales_amount)
+		FROM event_sales_counters
+		WHERE event_id IN (:eventIds)
+		GROUP BY event_id
+		""";
+
+	private static final String REBUILD_SQL = """
+		INSERT INTO event_sales_counters
+			(event_id, slot, pre_register_count, available_seats, reserved_seats, sold_seats, sales_amount, modified_at)
+		SELECT e.id, 0,
+			(SELECT COUNT(*) FROM pre_registers p
+				WHERE p.event_id = e.id AND p.pre_register_status = 'REGISTERED'),
+			(SELECT COUNT(*) FROM seats s WHERE s.event_id = e.id AND s.seat_status = 'AVAILABLE'),
+			(SELECT COUNT(*) FROM seats s WHERE s.event_id = e.id AND s.seat_status = 'RESERVED'),
+			(SELECT COUNT(*) FROM seats s WHERE s.event_id = e.id AND s.seat_status = 'SOLD'),
+			(SELECT COALESCE(SUM(s.price), 0) FROM seats s WHERE s.event_id = e.id AND s.seat_status = 'SOLD'),
+			?
+		FROM events e
+		WHERE e.store_id = ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public void increment(Long eventId, int slot, Delta delta) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		if (update(eventId, slot, delta, now) == 0) {
+			jdbcTemplate.update(INSERT_EMPTY_SQL, eventId, slot, now);
+			update(eventId, slot, delta, now);
+		}
+	}
+
+	private int update(Long eventId, int slot, Delta delta, Timestamp now) {
+		return jdbcTemplate.update(INCREMENT_SQL,
+			delta.preRegisterCount(), delta.availableSeats(), delta.reservedSeats(), delta.soldSeats(),
+			delta.salesAmount(), now, eventId, slot);
+	}
+
+	/**
+	 * 이벤트의 좌석 카운터만 0으로 (이벤트 좌석 전량 삭제 시)
+	 */
+	public void resetSeats(Long eventId) {
+		jdbcTemplate.update("""
+			UPDATE event_sales_counters
+			SET available_seats = 0, reserved_seats = 0, sold_seats = 0, sales_amount = 0, modified_at = ?
+			WHERE event_id = ?
+			""", Timestamp.valueOf(LocalDateTime.now()), eventId);
+	}
+
+	/**
+	 * 이벤트별 현황 (카운터 행이 없는 이벤트는 결과에 없음)
+	 */
+	public Map<Long, Summary> findSummaries(List<Long> eventIds) {
+		Map<Long, Summary> summaries = new HashMap<>();
+		if (eventIds.isEmpty()) {
+			return summaries;
+		}
+		namedParameterJdbcTemplate.query(
+			SUMMARY_SQL,
+			new MapSqlParameterSource("eventIds", eventIds),
+			(RowCallbackHandler)rs -> summaries.put(rs.getLong(1), new Summary(
+				rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6)))
+		);
+		return summaries;
+	}
+
+	/**
+	 * 스토어의 모든 이벤트 카운터를 원본 테이블 기준으로 다시 집계
+	 *
+	 * @return 재계산된 이벤트 수
+	 */
+	public int rebuildByStore(Long storeId) {
+		jdbcTemplate.update(
+			"DELETE FROM event_sales_counters WHERE event_id IN (SELECT id FROM events WHERE store_id = ?)",
+			storeId
+		);
+		return jdbcTemplate.update(REBUILD_SQL, Timestamp.valueOf(LocalDateTime.now()), storeId);
+	}
+
+	public record Delta(
+		long preRegisterCount,
+		long availableSeats,
+		long reservedSeats,
+		long soldSeats,
+		long salesAmount
+	) {
+	}
+
+	public record Summary(
+		long preRegisterCount,
+		long availableSeats,
+		long reservedSeats,
+		long soldSeats,
+		long salesAmount
+	) {
+
+		public static final Summary EMPTY = new Summary(0, 0, 0, 0, 0);
+	}
+}
@@ -2,6 +2,7 @@ package com.back.domain.payment.order.entity;
 
 public enum OrderStatus {
 	PENDING,
+	CONFIRMING, // PG 승인 요청 중 (v2: 승인 결과를 DB에 반영하기 전)
 	PAID,
 	FAILED,
 }
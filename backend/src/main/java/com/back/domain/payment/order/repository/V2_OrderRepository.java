@@ -1,10 +1,70 @@
 package com.back.domain.payment.order.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.back.domain.payment.order.entity.OrderStatus;
 import com.back.domain.payment.order.entity.V2_Order;
 
 @Repository
 public interface V2_OrderRepository extends JpaRepository<V2_Order, String> {
+
+	/**
+	 * 조건부 상태 전이 (동시에 같은 주문을 승인/복구해도 한쪽만 성공)
+	 *
+	 * @return 1이면 전이 성공, 0이면 이미 다른 상태
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			UPDATE V2_Order o
+			SET o.status = :to, o.modifiedAt = :now
+			WHERE o.orderId = :orderId
+			AND o.status = :from
+		""")
+	int updateStatus(
+		@Param("orderId") String orderId,
+		@Param("from") OrderStatus from,
+		@Param("to") OrderStatus to,
+		@Param("now") LocalDateTime now
+	);
+
+	/**
+	 * 승인 시작 (PENDING → CONFIRMING + paymentKey 기록, 복구 시 PG 조회 키)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			UPDATE V2_Order o
+			SET o.status = :to, o.paymentKey = :paymentKey, o.modifiedAt = :now
+			WHERE o.orderId = :orderId
+			AND o.status = :from
+		""")
+	int startConfirming(
+		@Param("orderId") String orderId,
+		@Param("paymentKey") String paymentKey,
+		@Param("from") OrderStatus from,
+		@Param("to") OrderStatus to,
+		@Param("now") LocalDateTime now
+	);
+
+	/**
+	 * 오래 머문 주문 조회 (CONFIRMING 복구용, 오래된 순)
+	 */
+	@Query("""
+			SELECT o.orderId FROM V2_Order o
+			WHERE o.status = :status
+			AND o.modifiedAt < :before
+			ORDER BY o.modifiedAt
+		""")
+	List<String> findOrderIdsByStatusAndModifiedAtBefore(
+		@Param("status") OrderStatus status,
+		@Param("before") LocalDateTime before,
+		Pageable pageable
+	);
 }
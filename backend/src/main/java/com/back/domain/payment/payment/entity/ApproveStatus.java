@@ -1,6 +1,12 @@
 package com.back.domain.payment.payment.entity;
 
 public enum ApproveStatus {
+	READY, // 결제 생성 (인증 전)
+	IN_PROGRESS, // 인증 완료, 승인 전
+	WAITING_FOR_DEPOSIT, // 가상계좌 입금 대기
 	ABORTED, // 승인 실패
+	EXPIRED, // 승인되지 않고 만료
+	CANCELED, // 승인 후 전액 취소
+	PARTIAL_CANCELED, // 승인 후 부분 취소
 	DONE // 승인 완료
 }
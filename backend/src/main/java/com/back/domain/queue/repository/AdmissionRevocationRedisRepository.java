@@ -0,0 +1,75 @@
+package com.back.domain.queue.repository;
+
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입장권 회수 목록 Redis 저장소
+ * - queue:admission:revoked ZSET: member "eventId:userId", score 회수 시각(ms)
+ * - 같은 사용자를 다시 회수하면 score만 갱신되므로 목록 크기는 최근 회수 인원 수로 유지
+ * - 각 노드는 마지막으로 읽은 시각 이후 항목만 주기적으로 가져가 로컬 회수 목록에 반영한다
+ */
+@Repository
+@Slf4j
+public class AdmissionRevocationRedisRepository {
+
+	private static final String REVOKED_KEY = "queue:admission:revoked";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public AdmissionRevocationRedisRepository(
+		@Qualifier("stringTemplate") RedisTemplate<String, String> redisTemplate
+	) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 회수 기록 + 보관 기간이 지난 항목 정리
+	 *
+	 * @return Redis 오류 시 false
+	 */
+	public boolean revoke(Long eventId, Long userId, long revokedAtMs, long retainSinceMs) {
+		try {
+			redisTemplate.opsForZSet().add(REVOKED_KEY, member(eventId, userId), revokedAtMs);
+			redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, retainSinceMs - 1);
+			return true;
+		} catch (Exception e) {
+			log.warn("ADMISSION_REVOKE_FAILED eventId={} userId={}", eventId, userId, e);
+			return false;
+		}
+	}
+
+	/**
+	 * sinceMs 이후 회수된 항목을 (eventId:userId, 회수 시각) 순서로 전달
+	 *
+	 * @return Redis 오류 시 false
+	 */
+	public boolean forEachRevokedSince(long sinceMs, BiConsumer<String, Long> consumer) {
+		try {
+			Set<TypedTuple<String>> revoked = redisTemplate.opsForZSet()
+				.rangeByScoreWithScores(REVOKED_KEY, sinceMs, Double.POSITIVE_INFINITY);
+			if (revoked != null) {
+				for (TypedTuple<String> tuple : revoked) {
+					if (tuple.getValue() != null && tuple.getScore() != null) {
+						consumer.accept(tuple.getValue(), tuple.getScore().longValue());
+					}
+				}
+			}
+			return true;
+		} catch (Exception e) {
+			log.warn("ADMISSION_REVOKED_READ_FAILED since={}", sinceMs, e);
+			return false;
+		}
+	}
+
+	public static String member(Long eventId, Long userId) {
+		return eventId + ":" + userId;
+	}
+}
@@ -4,6 +4,7 @@ import com.back.domain.event.entity.Event;
 import com.back.global.entity.BaseEntity;
 import com.back.global.error.code.SeatErrorCode;
 import com.back.global.error.exception.ErrorException;
+import com.back.global.utils.SeatRowLabels;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
@@ -32,6 +34,11 @@ import lombok.NoArgsConstructor;
 			name = "uk_event_grade_seatcode",
 			columnNames = {"event_id", "grade", "seat_code"}
 		)
+	},
+	indexes = { // 관리자 좌석 목록: 등급 → 행 → 번호 순 인덱스 범위 스캔 + keyset 이어 읽기
+		@Index(name = "idx_seats_event_grade_sort_key", columnList = "event_id, grade, sort_key, id"),
+		// 구역(등급) 단위 좌석 조회 / 구역별 상태 집계
+		@Index(name = "idx_seats_event_grade_status", columnList = "event_id, grade, seat_status")
 	}
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -53,6 +60,10 @@ public class Seat extends BaseEntity {
 	@Column(nullable = false, name = "seat_code")
 	private String seatCode;  // 예시) "A1", "B2"
 
+	// 좌석 코드 자연 정렬 키 (SeatRowLabels.sortKey), 좌석 코드가 바뀔 때마다 함께 갱신
+	@Column(nullable = false, name = "sort_key")
+	private long sortKey;
+
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false, name = "grade")
 	private SeatGrade grade;
@@ -93,6 +104,7 @@ public class Seat extends BaseEntity {
 		Seat seat = new Seat();
 		seat.event = event;
 		seat.seatCode = seatCode;
+		seat.sortKey = SeatRowLabels.sortKey(seatCode);
 		seat.grade = grade;
 		seat.price = price;
 		seat.seatStatus = SeatStatus.AVAILABLE;
@@ -107,6 +119,7 @@ public class Seat extends BaseEntity {
 		Seat seat = new Seat();
 		seat.event = event;
 		seat.seatCode = seatCode;
+		seat.sortKey = SeatRowLabels.sortKey(seatCode);
 		seat.grade = grade;
 		seat.price = price;
 		seat.seatStatus = SeatStatus.SOLD;
@@ -123,6 +136,7 @@ public class Seat extends BaseEntity {
 
 	public void update(String seatCode, SeatGrade grade, int price, SeatStatus seatStatus) {
 		this.seatCode = seatCode;
+		this.sortKey = SeatRowLabels.sortKey(seatCode);
 		this.grade = grade;
 		this.price = price;
 		this.seatStatus = seatStatus;
@@ -8,11 +8,19 @@ public enum SeatGrade {
 	VIP("VIP"),
 	R("R"),
 	S("S"),
-	A("A");
+	A("A"),
+	GA("GA"); // 스탠딩(General Admission): 좌석 번호 없이 수량으로만 판매
 
 	private final String displayName;
 
 	SeatGrade(String displayName) {
 		this.displayName = displayName;
 	}
+
+	/**
+	 * 스탠딩 등급은 좌석을 골라 선택할 수 없고, 남은 단위 중 아무거나 배정된다
+	 */
+	public boolean isGeneralAdmission() {
+		return this == GA;
+	}
 }
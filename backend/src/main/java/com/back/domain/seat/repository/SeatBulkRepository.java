@@ -0,0 +1,119 @@
+package com.back.domain.seat.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+import com.back.global.properties.SeatImportProperties;
+import com.back.global.utils.SeatRowLabels;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좌석 대량 적재 전용 JDBC 저장소
+ *
+ * - 엔티티/영속성 컨텍스트를 거치지 않고 JDBC batch INSERT (Postgres는 reWriteBatchedInserts로 multi-row INSERT)
+ * - id는 seat_seq에서 미리 확보: Seat 엔티티와 같은 allocationSize 블록 단위라 Hibernate가 발급하는 id와 겹치지 않는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatBulkRepository {
+
+	// Seat.id @SequenceGenerator allocationSize와 같아야 함
+	static final int SEQUENCE_BLOCK = 100;
+
+	private static final String INSERT_SQL = """
+		INSERT INTO seats
+			(id, event_id, seat_code, sort_key, grade, price, seat_status, version, created_at, modified_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final SeatImportProperties seatImportProperties;
+
+	/**
+	 * 이벤트의 기존 좌석 키 (grade:seatCode) 전체 (메모리 중복 검증용, 1회 조회)
+	 */
+	public Set<String> findSeatKeys(Long eventId) {
+		Set<String> keys = new HashSet<>();
+		jdbcTemplate.query(
+			"SELECT grade, seat_code FROM seats WHERE event_id = ?",
+			(RowCallbackHandler)rs -> keys.add(key(SeatGrade.valueOf(rs.getString(1)), rs.getString(2))),
+			eventId
+		);
+		return keys;
+	}
+
+	/**
+	 * 좌석 일괄 INSERT
+	 *
+	 * @return 적재된 좌석 수
+	 */
+	public int insertAll(Long eventId, List<NewSeat> seats) {
+		long[] ids = allocateIds(seats.size());
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		int batchSize = seatImportProperties.getBatchSize();
+
+		int inserted = 0;
+		for (int from = 0; from < seats.size(); from += batchSize) {
+			int offset = from;
+			int size = Math.min(batchSize, seats.size() - from);
+			jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					NewSeat seat = seats.get(offset + i);
+					ps.setLong(1, ids[offset + i]);
+					ps.setLong(2, eventId);
+					ps.setString(3, seat.seatCode());
+					ps.setLong(4, SeatRowLabels.sortKey(seat.seatCode()));
+					ps.setString(5, seat.grade().name());
+					ps.setInt(6, seat.price());
+					ps.setString(7, SeatStatus.AVAILABLE.name());
+					ps.setTimestamp(8, now);
+					ps.setTimestamp(9, now);
+				}
+
+				@Override
+				public int getBatchSize() {
+					return size;
+				}
+			});
+			inserted += size;
+		}
+		return inserted;
+	}
+
+	/**
+	 * seat_seq 블록 단위 id 확보 (nextval 1회 = id SEQUENCE_BLOCK개)
+	 * Hibernate pooled 최적화와 같은 해석: nextval 값 v → (v - SEQUENCE_BLOCK, v]
+	 */
+	private long[] allocateIds(int count) {
+		long[] ids = new long[count];
+		int filled = 0;
+		while (filled < count) {
+			Long hi = jdbcTemplate.queryForObject("SELECT nextval('seat_seq')", Long.class);
+			for (long id = Math.max(1, hi - SEQUENCE_BLOCK + 1); id <= hi && filled < count; id++) {
+				ids[filled++] = id;
+			}
+		}
+		return ids;
+	}
+
+	public static String key(SeatGrade grade, String seatCode) {
+		return grade.name() + ":" + seatCode;
+	}
+
+	public record NewSeat(String seatCode, SeatGrade grade, int price) {
+	}
+}
@@ -0,0 +1,178 @@
+package com.back.domain.seat.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좌석 선점(claim) Redis 저장소
+ * - DB 상태 전이(낙관적 락) 앞단의 게이트: 같은 좌석에 동시에 몰린 요청 중 1명만 DB까지 진행
+ * - key: seat:claim:{eventId}:{seatId}, value: userId, TTL: Draft 만료 시간 이상
+ * - DB가 최종 판단 기준이므로 Redis 장애 시에는 게이트를 건너뛴다 (fail-open)
+ */
+@Repository
+@Slf4j
+public class SeatClaimRedisRepository {
+
+	private static final String CLAIM_KEY = "seat:claim:%d:%d";
+
+	// 비어 있으면 선점, 같은 사용자면 TTL 연장 (재선택 허용)
+	private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+		"local owner = redis.call('GET', KEYS[1]) "
+			+ "if not owner then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end "
+			+ "if owner == ARGV[1] then redis.call('PEXPIRE', KEYS[1], ARGV[2]) return 1 end "
+			+ "return 0",
+		Long.class
+	);
+
+	// 본인 선점만 해제
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+		Long.class
+	);
+
+	// 여러 좌석 일괄 선점: 하나라도 다른 사용자가 선점 중이면 아무것도 선점하지 않음
+	// 새로 선점한 KEYS 위치 반환 (충돌이면 {0}, 성공이면 {1, 위치...}), 이미 본인이 선점 중인 좌석은 TTL만 연장
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLAIM_ALL_SCRIPT = new DefaultRedisScript<>(
+		"for _, key in ipairs(KEYS) do "
+			+ "local owner = redis.call('GET', key) "
+			+ "if owner and owner ~= ARGV[1] then return {0} end end "
+			+ "local result = {1} "
+			+ "for i, key in ipairs(KEYS) do "
+			+ "if redis.call('SET', key, ARGV[1], 'PX', ARGV[2], 'NX') then result[#result + 1] = i "
+			+ "else redis.call('PEXPIRE', key, ARGV[2]) end end "
+			+ "return result",
+		List.class
+	);
+
+	private static final RedisScript<Long> RELEASE_ALL_SCRIPT = new DefaultRedisScript<>(
+		"local released = 0 "
+			+ "for _, key in ipairs(KEYS) do "
+			+ "if redis.call('GET', key) == ARGV[1] then released = released + redis.call('DEL', key) end end "
+			+ "return released",
+		Long.class
+	);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Value("${seat.claim.ttl-seconds:360}")
+	private long claimTtlSeconds;
+
+	public SeatClaimRedisRepository(@Qualifier("stringTemplate") RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 좌석 선점 시도
+	 *
+	 * @return 다른 사용자가 선점 중이면 false
+	 */
+	public boolean tryClaim(Long eventId, Long seatId, Long userId) {
+		try {
+			Long result = redisTemplate.execute(
+				CLAIM_SCRIPT,
+				List.of(key(eventId, seatId)),
+				userId.toString(),
+				String.valueOf(Duration.ofSeconds(claimTtlSeconds).toMillis())
+			);
+			return result == null || result == 1L;
+		} catch (Exception e) {
+			log.warn("SEAT_CLAIM_SKIPPED eventId={} seatId={} (Redis 오류, DB 낙관적 락으로 처리)", eventId, seatId, e);
+			return true;
+		}
+	}
+
+	/**
+	 * 여러 좌석 일괄 선점 (전부 아니면 전무, 단일 Redis 노드 기준)
+	 * 실패/롤백 시 반환된 좌석만 해제해야 본인이 이미 선점 중인 좌석(기존 Draft 좌석)의 선점을 지우지 않는다
+	 *
+	 * @return 이번 호출로 새로 선점한 좌석 id, 하나라도 다른 사용자가 선점 중이면 null (Redis 오류 시 빈 목록)
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Long> claimAll(Long eventId, List<Long> seatIds, Long userId) {
+		try {
+			List<Long> result = redisTemplate.execute(
+				CLAIM_ALL_SCRIPT,
+				keys(eventId, seatIds),
+				userId.toString(),
+				String.valueOf(Duration.ofSeconds(claimTtlSeconds).toMillis())
+			);
+			if (result == null || result.isEmpty()) {
+				return List.of();
+			}
+			if (result.getFirst() != 1L) {
+				return null;
+			}
+			return result.subList(1, result.size()).stream()
+				.map(position -> seatIds.get(position.intValue() - 1))
+				.toList();
+		} catch (Exception e) {
+			log.warn("SEAT_CLAIM_SKIPPED eventId={} seatIds={} (Redis 오류, DB 낙관적 락으로 처리)", eventId, seatIds, e);
+			return List.of();
+		}
+	}
+
+	/**
+	 * 여러 좌석의 본인 선점 일괄 해제
+	 */
+	public void releaseAll(Long eventId, List<Long> seatIds, Long userId) {
+		if (seatIds.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.execute(RELEASE_ALL_SCRIPT, keys(eventId, seatIds), userId.toString());
+		} catch (Exception e) {
+			log.warn("SEAT_CLAIM_RELEASE_FAILED eventId={} seatIds={} (TTL 만료로 해제)", eventId, seatIds, e);
+		}
+	}
+
+	/**
+	 * 본인 선점 해제 (선점 후 DB 전이 실패/롤백 시)
+	 */
+	public void release(Long eventId, Long seatId, Long userId) {
+		try {
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(key(eventId, seatId)), userId.toString());
+		} catch (Exception e) {
+			log.warn("SEAT_CLAIM_RELEASE_FAILED eventId={} seatId={} (TTL 만료로 해제)", eventId, seatId, e);
+		}
+	}
+
+	/**
+	 * 소유자와 무관하게 해제 (좌석이 AVAILABLE로 돌아갈 때)
+	 */
+	public void releaseAny(Long eventId, Long seatId) {
+		try {
+			redisTemplate.delete(key(eventId, seatId));
+		} catch (Exception e) {
+			log.warn("SEAT_CLAIM_RELEASE_FAILED eventId={} seatId={} (TTL 만료로 해제)", eventId, seatId, e);
+		}
+	}
+
+	/**
+	 * 여러 좌석을 소유자와 무관하게 일괄 해제 (만료 Draft 좌석 일괄 복구)
+	 */
+	public void releaseAny(Long eventId, List<Long> seatIds) {
+		try {
+			redisTemplate.delete(keys(eventId, seatIds));
+		} catch (Exception e) {
+			log.warn("SEAT_CLAIM_RELEASE_FAILED eventId={} seatIds={} (TTL 만료로 해제)", eventId, seatIds, e);
+		}
+	}
+
+	private List<String> keys(Long eventId, List<Long> seatIds) {
+		return seatIds.stream().map(seatId -> key(eventId, seatId)).toList();
+	}
+
+	private String key(Long eventId, Long seatId) {
+		return String.format(CLAIM_KEY, eventId, seatId);
+	}
+}
@@ -0,0 +1,136 @@
+package com.back.domain.seat.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이벤트별 좌석 맵 버전 / 변경 로그 Redis 저장소
+ * - 버전(seat:map:version:{eventId})은 좌석 상태가 바뀔 때마다 1씩 증가 → 노드별 좌석 맵 캐시의 일치 여부 판단 + ETag
+ * - 변경 로그(seat:map:changes:{eventId})는 최근 N개의 "version:seatId:status" 항목 → 다른 노드가 DB 없이 따라잡기
+ * - 키가 유실되면 현재 시각(ms)으로 다시 시작해 이전 버전(ETag)과 겹치지 않도록 한다
+ */
+@Repository
+@Slf4j
+public class SeatMapVersionRedisRepository {
+
+	private static final String VERSION_KEY = "seat:map:version:%d";
+	private static final String CHANGES_KEY = "seat:map:changes:%d";
+
+	private static final RedisScript<Long> CURRENT_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('SET', KEYS[1], ARGV[1], 'NX') return tonumber(redis.call('GET', KEYS[1]))",
+		Long.class
+	);
+
+	// 버전 증가 + 변경 로그 추가 (최근 ARGV[3]개만 유지)
+	private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('SET', KEYS[1], ARGV[4], 'NX') "
+			+ "local version = redis.call('INCR', KEYS[1]) "
+			+ "redis.call('RPUSH', KEYS[2], version .. ':' .. ARGV[1] .. ':' .. ARGV[2]) "
+			+ "redis.call('LTRIM', KEYS[2], -tonumber(ARGV[3]), -1) "
+			+ "return version",
+		Long.class
+	);
+
+	// 버전 증가 + 변경 로그 삭제 (로그로 따라잡을 수 없는 변경 → 모든 노드 재적재)
+	private static final RedisScript<Long> RESET_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('SET', KEYS[1], ARGV[1], 'NX') "
+			+ "redis.call('DEL', KEYS[2]) "
+			+ "return redis.call('INCR', KEYS[1])",
+		Long.class
+	);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Value("${seat.map.change-log-size:1024}")
+	private int changeLogSize;
+
+	public SeatMapVersionRedisRepository(@Qualifier("stringTemplate") RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 현재 버전 조회
+	 *
+	 * @return Redis 오류 시 null
+	 */
+	public Long current(Long eventId) {
+		try {
+			return redisTemplate.execute(CURRENT_SCRIPT, List.of(versionKey(eventId)), seed());
+		} catch (Exception e) {
+			log.warn("SEAT_MAP_VERSION_READ_FAILED eventId={}", eventId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 좌석 상태 변경 기록
+	 *
+	 * @return 변경 후 버전, Redis 오류 시 null
+	 */
+	public Long append(Long eventId, Long seatId, String seatStatus) {
+		try {
+			return redisTemplate.execute(
+				APPEND_SCRIPT,
+				List.of(versionKey(eventId), changesKey(eventId)),
+				seatId.toString(),
+				seatStatus,
+				String.valueOf(changeLogSize),
+				seed()
+			);
+		} catch (Exception e) {
+			log.warn("SEAT_MAP_VERSION_APPEND_FAILED eventId={} seatId={}", eventId, seatId, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 좌석 생성/수정/삭제 등 상태 전이 외의 변경 기록
+	 */
+	public void reset(Long eventId) {
+		try {
+			redisTemplate.execute(RESET_SCRIPT, List.of(versionKey(eventId), changesKey(eventId)), seed());
+		} catch (Exception e) {
+			log.warn("SEAT_MAP_VERSION_RESET_FAILED eventId={}", eventId, e);
+		}
+	}
+
+	/**
+	 * fromVersion 이후의 변경 로그 조회 (오래된 순)
+	 * 로그가 잘렸거나 초기화되어 개수가 모자라면 호출 측에서 재적재한다
+	 *
+	 * @return Redis 오류 시 빈 목록
+	 */
+	public List<String> changesSince(Long eventId, long fromVersion, long toVersion) {
+		long count = toVersion - fromVersion;
+		if (count <= 0 || count > changeLogSize) {
+			return List.of();
+		}
+		try {
+			List<String> changes = redisTemplate.opsForList().range(changesKey(eventId), -count, -1);
+			return changes != null ? changes : List.of();
+		} catch (Exception e) {
+			log.warn("SEAT_MAP_CHANGES_READ_FAILED eventId={}", eventId, e);
+			return List.of();
+		}
+	}
+
+	private String seed() {
+		return String.valueOf(System.currentTimeMillis());
+	}
+
+	private String versionKey(Long eventId) {
+		return String.format(VERSION_KEY, eventId);
+	}
+
+	private String changesKey(Long eventId) {
+		return String.format(CHANGES_KEY, eventId);
+	}
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +15,8 @@ import com.back.domain.seat.entity.Seat;
 import com.back.domain.seat.entity.SeatGrade;
 import com.back.domain.seat.entity.SeatStatus;
 
+import jakarta.persistence.LockModeType;
+
 public interface SeatRepository extends JpaRepository<Seat, Long> {
 
 	@Query("""
@@ -24,8 +27,99 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 		""")
 	List<Seat> findSortedSeatListByEventId(Long eventId);
 
+	// 등급(구역) 하나의 좌석 (좌석 맵과 같은 순서)
+	@Query("""
+			SELECT s
+			FROM Seat s
+			WHERE s.event.id = :eventId
+			AND s.grade = :grade
+			ORDER BY s.seatCode ASC
+		""")
+	List<Seat> findSectionSeats(@Param("eventId") Long eventId, @Param("grade") SeatGrade grade);
+
+	// 등급(구역)/상태별 좌석 수 (idx_seats_event_grade_status 인덱스만으로 집계)
+	@Query("""
+			SELECT s.grade AS grade, s.seatStatus AS seatStatus, COUNT(s) AS seatCount
+			FROM Seat s
+			WHERE s.event.id = :eventId
+			GROUP BY s.grade, s.seatStatus
+			ORDER BY s.grade ASC
+		""")
+	List<SectionStatusCount> countByGradeAndStatus(@Param("eventId") Long eventId);
+
 	Optional<Seat> findByEventIdAndId(Long eventId, Long seatId);
 
+	List<Seat> findByEventIdAndIdIn(Long eventId, List<Long> seatIds);
+
+	// 다중 선택 예약: 요청 좌석을 id 순으로 잠가서 조회 (겹치는 묶음 요청끼리 같은 순서로 잠금, 교착 방지)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+			SELECT s
+			FROM Seat s
+			WHERE s.event.id = :eventId
+			AND s.id IN :seatIds
+			ORDER BY s.id ASC
+		""")
+	List<Seat> findByEventIdAndIdInForUpdate(@Param("eventId") Long eventId, @Param("seatIds") List<Long> seatIds);
+
+	// 여러 좌석 상태 일괄 전이 (조건에 맞는 좌석 수 반환, 낙관적 락 버전도 함께 증가)
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			UPDATE Seat s
+			SET s.seatStatus = :to, s.version = s.version + 1
+			WHERE s.event.id = :eventId
+			AND s.id IN :seatIds
+			AND s.seatStatus = :from
+		""")
+	int updateSeatStatusIn(
+		@Param("eventId") Long eventId,
+		@Param("seatIds") List<Long> seatIds,
+		@Param("from") SeatStatus from,
+		@Param("to") SeatStatus to
+	);
+
+	// 일괄 전이 대상 좌석 잠금: 상태 조건에 맞는 좌석 id만 (UPDATE로 실제로 바뀔 좌석을 미리 확정)
+	@Query(value = """
+			SELECT s.id FROM seats s
+			WHERE s.event_id = :eventId
+			AND s.id IN :seatIds
+			AND s.seat_status = :status
+			ORDER BY s.id
+			FOR UPDATE
+		""", nativeQuery = true)
+	List<Long> lockSeatIdsByStatus(
+		@Param("eventId") Long eventId,
+		@Param("seatIds") List<Long> seatIds,
+		@Param("status") String status
+	);
+
+	// 자동 배정 후보 블록 예약: 블록 중 아직 AVAILABLE이고 다른 트랜잭션이 잠그지 않은 좌석만 잠가서 가져옴
+	@Query(value = """
+			SELECT * FROM seats s
+			WHERE s.event_id = :eventId
+			AND s.id IN :seatIds
+			AND s.seat_status = 'AVAILABLE'
+			ORDER BY s.id
+			FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<Seat> lockAvailableByIdsSkipLocked(@Param("eventId") Long eventId, @Param("seatIds") List<Long> seatIds);
+
+	// 스탠딩(GA) 배정: 빈 단위 중 다른 트랜잭션이 잠그지 않은 행만 잠가서 가져옴 (동시 구매자끼리 같은 행을 기다리지 않음)
+	@Query(value = """
+			SELECT * FROM seats s
+			WHERE s.event_id = :eventId
+			AND s.grade = :grade
+			AND s.seat_status = 'AVAILABLE'
+			ORDER BY s.id
+			LIMIT :quantity
+			FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<Seat> lockAvailableSkipLocked(
+		@Param("eventId") Long eventId,
+		@Param("grade") String grade,
+		@Param("quantity") int quantity
+	);
+
 	// 특정 이벤트의 특정 상태 좌석 조회 (성능 최적화)
 	List<Seat> findByEventIdAndSeatStatus(Long eventId, SeatStatus seatStatus);
 
@@ -57,17 +151,49 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
 	@Query("SELECT COALESCE(SUM(s.price), 0) FROM Seat s WHERE s.event.id = :eventId AND s.seatStatus = :seatStatus")
 	Long sumPriceByEventIdAndSeatStatus(@Param("eventId") Long eventId, @Param("seatStatus") SeatStatus seatStatus);
 
+	// 등급 → 행 → 번호 순 (idx_seats_event_grade_sort_key 범위 스캔, id는 동일 키 tie-breaker)
 	@Query("""
 		SELECT s
 		FROM Seat s
 		WHERE s.event.id = :eventId
-		ORDER BY s.grade ASC,
-				 REGEXP_REPLACE(s.seatCode, '[0-9]', '', 'g') ASC,
-				 CAST(REGEXP_REPLACE(s.seatCode, '[^0-9]', '', 'g') AS INTEGER) ASC
+		ORDER BY s.grade ASC, s.sortKey ASC, s.id ASC
 		""")
 	Page<Seat> findSortedSeatPageByEventIdForAdmin(
 		@Param("eventId") Long eventId,
 		Pageable pageable
 	);
 
+	// 관리자 좌석 목록 keyset 첫 페이지
+	@Query(value = """
+		SELECT * FROM seats s
+		WHERE s.event_id = :eventId
+		ORDER BY s.grade, s.sort_key, s.id
+		LIMIT :size
+		""", nativeQuery = true)
+	List<Seat> findAdminSeatsFirst(@Param("eventId") Long eventId, @Param("size") int size);
+
+	// 관리자 좌석 목록 keyset 이어 읽기: 직전 페이지 마지막 (grade, sort_key, id) 이후부터, OFFSET 없이 인덱스 범위 스캔
+	@Query(value = """
+		SELECT * FROM seats s
+		WHERE s.event_id = :eventId
+			AND (s.grade, s.sort_key, s.id) > (:grade, :sortKey, :id)
+		ORDER BY s.grade, s.sort_key, s.id
+		LIMIT :size
+		""", nativeQuery = true)
+	List<Seat> findAdminSeatsAfter(
+		@Param("eventId") Long eventId,
+		@Param("grade") String grade,
+		@Param("sortKey") long sortKey,
+		@Param("id") long id,
+		@Param("size") int size
+	);
+
+	interface SectionStatusCount {
+
+		SeatGrade getGrade();
+
+		SeatStatus getSeatStatus();
+
+		long getSeatCount();
+	}
 }
@@ -64,6 +64,10 @@ public class Ticket extends BaseEntity {
 	@Column(name = "used_at")
 	private LocalDateTime usedAt;
 
+	// DRAFT 좌석 홀드 만료 시각 (타이밍 휠 / 폴백 스케줄러 기준)
+	@Column(name = "hold_expires_at")
+	private LocalDateTime holdExpiresAt;
+
 	public static Ticket issue(User owner, Seat seat, Event event, String verificationHash) {
 		Ticket ticket = new Ticket();
 		ticket.owner = owner;
@@ -150,6 +154,15 @@ public class Ticket extends BaseEntity {
 		this.seat = null;
 	}
 
+	/**
+	 * 홀드 만료 여부 (DRAFT이고 만료 시각이 지났을 때만)
+	 */
+	public boolean isHoldExpired(LocalDateTime now) {
+		return this.ticketStatus == TicketStatus.DRAFT
+			&& this.holdExpiresAt != null
+			&& !this.holdExpiresAt.isAfter(now);
+	}
+
 	/**
 	 * 좌석 할당 여부 확인
 	 */
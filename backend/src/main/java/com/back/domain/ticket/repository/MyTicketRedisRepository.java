@@ -0,0 +1,112 @@
+package com.back.domain.ticket.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내 티켓 목록 캐시 (Redis L2)
+ * - ticket:mine:{userId}: 목록 JSON
+ * - ticket:mine:ver:{userId}: 버전, 목록에 영향을 주는 상태 전이가 커밋되면 증가 (없으면 0)
+ * - 저장은 조회 시작 시점의 버전이 그대로일 때만 (DB 조회 중 전이가 커밋되면 오래된 목록을 저장하지 않음)
+ */
+@Repository
+@Slf4j
+public class MyTicketRedisRepository {
+
+	private static final String LIST_KEY = "ticket:mine:";
+	private static final String VERSION_KEY = "ticket:mine:ver:";
+
+	private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+		"local version = redis.call('GET', KEYS[1]) or '0' "
+			+ "if version ~= ARGV[1] then return 0 end "
+			+ "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) "
+			+ "return 1",
+		Long.class
+	);
+
+	// KEYS = [ver1, list1, ver2, list2, ...]
+	private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+		"for i = 1, #KEYS, 2 do "
+			+ "redis.call('INCR', KEYS[i]) "
+			+ "redis.call('PEXPIRE', KEYS[i], ARGV[1]) "
+			+ "redis.call('DEL', KEYS[i + 1]) end "
+			+ "return 1",
+		Long.class
+	);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public MyTicketRedisRepository(@Qualifier("stringTemplate") RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 버전 + 목록 JSON을 한 번에 조회
+	 *
+	 * @return Redis 오류 시 null (버전을 알 수 없으므로 캐시 사용 불가)
+	 */
+	public Snapshot find(Long userId) {
+		try {
+			List<String> values = redisTemplate.opsForValue().multiGet(List.of(versionKey(userId), listKey(userId)));
+			if (values == null) {
+				return null;
+			}
+			String version = values.get(0);
+			return new Snapshot(version != null ? Long.parseLong(version) : 0L, values.get(1));
+		} catch (Exception e) {
+			log.warn("MY_TICKET_CACHE_READ_FAILED userId={}", userId, e);
+			return null;
+		}
+	}
+
+	public void saveIfVersion(Long userId, long version, String json, Duration ttl) {
+		try {
+			redisTemplate.execute(SAVE_SCRIPT, List.of(versionKey(userId), listKey(userId)),
+				String.valueOf(version), json, String.valueOf(ttl.toMillis()));
+		} catch (Exception e) {
+			log.warn("MY_TICKET_CACHE_SAVE_FAILED userId={}", userId, e);
+		}
+	}
+
+	/**
+	 * 버전 증가 + 목록 삭제 (다른 노드의 로컬 캐시도 버전 불일치로 무효)
+	 */
+	public void invalidate(Collection<Long> userIds, Duration versionTtl) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+
+		List<String> keys = new ArrayList<>(userIds.size() * 2);
+		for (Long userId : userIds) {
+			keys.add(versionKey(userId));
+			keys.add(listKey(userId));
+		}
+		try {
+			redisTemplate.execute(INVALIDATE_SCRIPT, keys, String.valueOf(versionTtl.toMillis()));
+		} catch (Exception e) {
+			// 목록 TTL이 지나면 DB에서 다시 적재
+			log.warn("MY_TICKET_CACHE_INVALIDATE_FAILED userIds={}", userIds, e);
+		}
+	}
+
+	private String listKey(Long userId) {
+		return LIST_KEY + userId;
+	}
+
+	private String versionKey(Long userId) {
+		return VERSION_KEY + userId;
+	}
+
+	public record Snapshot(long version, String json) {
+	}
+}
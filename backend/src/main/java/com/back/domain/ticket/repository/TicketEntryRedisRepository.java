@@ -0,0 +1,143 @@
+package com.back.domain.ticket.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게이트 입장 기록 (노드 공용)
+ * - key: entry:ticket:{ticketId}, value: 입장 시각(epoch sec), TTL 동안 재입장 거절
+ * - 확인과 기록을 SET NX 한 번으로 처리해 동시에 스캔해도 한 번만 입장
+ * - 게이트 단말별 마지막 일괄 동기화 시각: entry:device:{deviceId}, 이전 스캔을 뒤늦게 올리는 것 제한
+ */
+@Repository
+@Slf4j
+public class TicketEntryRedisRepository {
+
+	private static final String ENTRY_KEY = "entry:ticket:";
+	private static final String DEVICE_SYNC_KEY = "entry:device:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public TicketEntryRedisRepository(@Qualifier("stringTemplate") RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 입장 기록 (없을 때만)
+	 *
+	 * @return 처음 기록했으면 true, 이미 입장했으면 false
+	 *         Redis 오류 시 true (DB 조건부 UPDATE ISSUED -> USED로 판정)
+	 */
+	public boolean markEntered(Long ticketId, long enteredAtEpochSecond, Duration ttl) {
+		try {
+			Boolean marked = redisTemplate.opsForValue()
+				.setIfAbsent(key(ticketId), String.valueOf(enteredAtEpochSecond), ttl);
+			return marked == null || marked;
+		} catch (Exception e) {
+			log.warn("TICKET_ENTRY_MARK_SKIPPED ticketId={} (Redis 오류, DB 상태로 판정)", ticketId, e);
+			return true;
+		}
+	}
+
+	/**
+	 * 입장 기록 일괄 처리 (게이트 단말 일괄 동기화, 파이프라인 1번 왕복)
+	 *
+	 * @param enteredAtByTicket ticketId → 입장 시각(epoch sec)
+	 * @return 처음 기록한 ticketId (이미 입장한 티켓 제외)
+	 *         Redis 오류 시 전체 (DB 조건부 UPDATE로 판정)
+	 */
+	public Set<Long> markEnteredAll(Map<Long, Long> enteredAtByTicket, Duration ttl) {
+		if (enteredAtByTicket.isEmpty()) {
+			return Set.of();
+		}
+
+		List<Long> ticketIds = new ArrayList<>(enteredAtByTicket.keySet());
+		try {
+			List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					ValueOperations<String, String> ops = ((RedisOperations<String, String>)operations).opsForValue();
+					for (Long ticketId : ticketIds) {
+						ops.setIfAbsent(key(ticketId), String.valueOf(enteredAtByTicket.get(ticketId)), ttl);
+					}
+					return null;
+				}
+			});
+
+			Set<Long> marked = new HashSet<>();
+			for (int i = 0; i < ticketIds.size(); i++) {
+				if (!Boolean.FALSE.equals(results.get(i))) {
+					marked.add(ticketIds.get(i));
+				}
+			}
+			return marked;
+		} catch (Exception e) {
+			log.warn("TICKET_ENTRY_MARK_ALL_SKIPPED count={} (Redis 오류, DB 상태로 판정)", ticketIds.size(), e);
+			return new HashSet<>(ticketIds);
+		}
+	}
+
+	/**
+	 * 입장 기록 취소 (DB 반영 실패/롤백 시)
+	 */
+	public void unmark(Long ticketId) {
+		try {
+			redisTemplate.delete(key(ticketId));
+		} catch (Exception e) {
+			log.warn("TICKET_ENTRY_UNMARK_FAILED ticketId={}", ticketId, e);
+		}
+	}
+
+	public void unmarkAll(Collection<Long> ticketIds) {
+		if (ticketIds.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.delete(ticketIds.stream().map(this::key).toList());
+		} catch (Exception e) {
+			log.warn("TICKET_ENTRY_UNMARK_ALL_FAILED count={}", ticketIds.size(), e);
+		}
+	}
+
+	/**
+	 * 단말의 마지막 동기화 시각(epoch sec)
+	 *
+	 * @return 기록이 없거나 Redis 오류 시 null (서버 시각 기준 오프라인 허용 범위만 적용)
+	 */
+	public Long findLastSync(String deviceId) {
+		try {
+			String value = redisTemplate.opsForValue().get(DEVICE_SYNC_KEY + deviceId);
+			return value == null ? null : Long.valueOf(value);
+		} catch (Exception e) {
+			log.warn("GATE_DEVICE_SYNC_READ_FAILED deviceId={}", deviceId, e);
+			return null;
+		}
+	}
+
+	public void saveLastSync(String deviceId, long syncedAtEpochSecond, Duration ttl) {
+		try {
+			redisTemplate.opsForValue().set(DEVICE_SYNC_KEY + deviceId, String.valueOf(syncedAtEpochSecond), ttl);
+		} catch (Exception e) {
+			log.warn("GATE_DEVICE_SYNC_SAVE_FAILED deviceId={}", deviceId, e);
+		}
+	}
+
+	private String key(Long ticketId) {
+		return ENTRY_KEY + ticketId;
+	}
+}
@@ -0,0 +1,74 @@
+package com.back.domain.ticket.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Draft 좌석 홀드 만료 대기열 (노드 공용)
+ * - key: ticket:hold:deadlines (ZSET), member: ticketId, score: 만료 시각(epoch ms)
+ * - 만료된 홀드는 claimDue로 원자적으로 꺼내므로 여러 노드가 동시에 회수해도 한 노드만 처리
+ */
+@Repository
+@Slf4j
+public class TicketHoldRedisRepository {
+
+	private static final String DEADLINES_KEY = "ticket:hold:deadlines";
+
+	// 만료된 홀드를 최대 ARGV[2]개 꺼내면서 삭제
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> CLAIM_DUE_SCRIPT = new DefaultRedisScript<>(
+		"local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) "
+			+ "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end "
+			+ "return ids",
+		List.class
+	);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public TicketHoldRedisRepository(@Qualifier("stringTemplate") RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = redisTemplate;
+	}
+
+	/**
+	 * 홀드 등록
+	 *
+	 * @return Redis 오류 시 false (등록한 노드가 직접 처리)
+	 */
+	public boolean add(Long ticketId, long deadlineMs) {
+		try {
+			redisTemplate.opsForZSet().add(DEADLINES_KEY, ticketId.toString(), deadlineMs);
+			return true;
+		} catch (Exception e) {
+			log.warn("TICKET_HOLD_REGISTER_FAILED ticketId={}", ticketId, e);
+			return false;
+		}
+	}
+
+	/**
+	 * 만료된 홀드 회수
+	 *
+	 * @return Redis 오류 시 null
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Long> claimDue(long nowMs, int limit) {
+		try {
+			List<String> ids = redisTemplate.execute(
+				CLAIM_DUE_SCRIPT,
+				List.of(DEADLINES_KEY),
+				String.valueOf(nowMs),
+				String.valueOf(limit)
+			);
+			return ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+		} catch (Exception e) {
+			log.warn("TICKET_HOLD_CLAIM_FAILED", e);
+			return null;
+		}
+	}
+}
@@ -1,18 +1,22 @@
 package com.back.domain.ticket.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.back.domain.ticket.entity.Ticket;
 import com.back.domain.ticket.entity.TicketStatus;
 
+import jakarta.persistence.LockModeType;
+
 public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRepositoryCustom {
 
 	List<Ticket> findByOwnerId(Long userId);
@@ -22,35 +26,194 @@ public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketRep
 	boolean existsBySeatIdAndTicketStatusIn(Long seatId, List<TicketStatus> paid);
 
 	boolean existsByEventIdAndOwnerIdAndTicketStatusIn(Long eventId, Long userId, List<TicketStatus> statuses);
+
+	long countByEventIdAndOwnerIdAndTicketStatusIn(Long eventId, Long userId, List<TicketStatus> statuses);
 	
-	@Query(
-		value = """
-				SELECT t
-				FROM Ticket t
-				WHERE t.ticketStatus = :status
-				AND t.createAt < :time
-				ORDER BY t.id
-			""",
-		countQuery = """
-				SELECT COUNT(t)
-				FROM Ticket t
-				WHERE t.ticketStatus = :status
-				AND t.createAt < :time
-			"""
-	)
-	Page<Ticket> findExpiredDraftTickets(
+	/**
+	 * 만료 Draft keyset 조회 + 행 잠금 (폴백 스케줄러 일괄 만료용)
+	 * - afterId 이후 id 순으로 최대 limit건, 결제/타이머가 잡고 있는 행은 건너뜀
+	 * - 잠근 행은 같은 트랜잭션이 끝날 때까지 결제/취소가 바꿀 수 없으므로 이어지는 조건부 UPDATE가 모두 반영됨
+	 *
+	 * @return [ticketId, seatId(nullable), eventId]
+	 */
+	@Query(value = """
+			SELECT t.id, t.seat_id, t.event_id FROM tickets t
+			WHERE t.ticket_status = 'DRAFT'
+			AND t.hold_expires_at < :expiredBefore
+			AND t.id > :afterId
+			ORDER BY t.id
+			LIMIT :limit
+			FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<Object[]> lockExpiredDraftsAfter(
+		@Param("expiredBefore") LocalDateTime expiredBefore,
+		@Param("afterId") long afterId,
+		@Param("limit") int limit
+	);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			UPDATE Ticket t
+			SET t.ticketStatus = :to, t.modifiedAt = :now
+			WHERE t.id IN :ticketIds
+			AND t.ticketStatus = :from
+		""")
+	int updateTicketStatusIn(
+		@Param("ticketIds") List<Long> ticketIds,
+		@Param("from") TicketStatus from,
+		@Param("to") TicketStatus to,
+		@Param("now") LocalDateTime now
+	);
+
+	/**
+	 * 게이트 입장 처리 ISSUED -> USED (조건부)
+	 * - 상태 조건으로 동시 스캔/다른 노드와 경합해도 한 번만 반영, 반영된 행 수 반환
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			UPDATE Ticket t
+			SET t.ticketStatus = :to, t.usedAt = :now, t.modifiedAt = :now
+			WHERE t.id IN :ticketIds
+			AND t.ticketStatus = :from
+		""")
+	int markUsedIn(
+		@Param("ticketIds") List<Long> ticketIds,
+		@Param("from") TicketStatus from,
+		@Param("to") TicketStatus to,
+		@Param("now") LocalDateTime now
+	);
+
+	// 일괄 입장 처리 중 일부만 반영됐을 때 이번 UPDATE로 바뀐 티켓 식별 (usedAt = 이번 처리 시각)
+	@Query("SELECT t.id FROM Ticket t WHERE t.id IN :ticketIds AND t.usedAt = :usedAt")
+	List<Long> findIdsByIdInAndUsedAt(
+		@Param("ticketIds") List<Long> ticketIds,
+		@Param("usedAt") LocalDateTime usedAt
+	);
+
+	/**
+	 * Draft 홀드 연장 (조건부, 결제 승인 시작용)
+	 * - 아직 DRAFT이고 만료 전인 경우에만 반영, 기존 만료 시각이 더 늦으면 유지
+	 * - 확인과 연장이 UPDATE 한 번이라 만료 처리와 경합해도 둘 중 한쪽만 반영, 반영된 행 수 반환
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+			UPDATE Ticket t
+			SET t.holdExpiresAt = CASE
+					WHEN t.holdExpiresAt IS NULL OR t.holdExpiresAt < :holdExpiresAt THEN :holdExpiresAt
+					ELSE t.holdExpiresAt
+				END,
+				t.modifiedAt = :now
+			WHERE t.id = :ticketId
+			AND t.ticketStatus = :status
+			AND (t.holdExpiresAt IS NULL OR t.holdExpiresAt > :now)
+		""")
+	int extendHold(
+		@Param("ticketId") Long ticketId,
 		@Param("status") TicketStatus status,
-		@Param("time") LocalDateTime time,
-		Pageable pageable
+		@Param("holdExpiresAt") LocalDateTime holdExpiresAt,
+		@Param("now") LocalDateTime now
+	);
+
+	// 단건 홀드 만료 처리용: 결제 승인 시작(extendHold)과 직렬화
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT t FROM Ticket t WHERE t.id = :ticketId")
+	Optional<Ticket> findByIdForUpdate(@Param("ticketId") Long ticketId);
+
+	/**
+	 * 게이트 검증용 티켓 조회 (이벤트/좌석/소유자를 조인한 projection 1회)
+	 */
+	@Query("""
+			SELECT t.id AS ticketId, e.id AS eventId, e.title AS eventTitle, e.eventDate AS eventDate,
+				s.seatCode AS seatCode, o.id AS ownerId, o.nickname AS nickname, t.ticketStatus AS ticketStatus
+			FROM Ticket t
+			JOIN t.event e
+			JOIN t.owner o
+			LEFT JOIN t.seat s
+			WHERE t.id = :ticketId
+		""")
+	Optional<GateTicketView> findGateTicket(@Param("ticketId") Long ticketId);
+
+	// 게이트 캐시에 없는 티켓 일괄 조회 (일괄 동기화)
+	@Query("""
+			SELECT t.id AS ticketId, e.id AS eventId, e.title AS eventTitle, e.eventDate AS eventDate,
+				s.seatCode AS seatCode, o.id AS ownerId, o.nickname AS nickname, t.ticketStatus AS ticketStatus
+			FROM Ticket t
+			JOIN t.event e
+			JOIN t.owner o
+			LEFT JOIN t.seat s
+			WHERE t.id IN :ticketIds
+		""")
+	List<GateTicketView> findGateTicketsByIdIn(@Param("ticketIds") Collection<Long> ticketIds);
+
+	// 게이트 캐시 적재용: 이벤트의 입장 대상 티켓 전체
+	@Query("""
+			SELECT t.id AS ticketId, e.id AS eventId, e.title AS eventTitle, e.eventDate AS eventDate,
+				s.seatCode AS seatCode, o.id AS ownerId, o.nickname AS nickname, t.ticketStatus AS ticketStatus
+			FROM Ticket t
+			JOIN t.event e
+			JOIN t.owner o
+			LEFT JOIN t.seat s
+			WHERE e.id = :eventId
+			AND t.ticketStatus IN :statuses
+		""")
+	List<GateTicketView> findGateTickets(
+		@Param("eventId") Long eventId,
+		@Param("statuses") List<TicketStatus> statuses
+	);
+
+	// 내 티켓 목록 캐시 무효화 대상: 이벤트/좌석 수정 시 목록에 해당 티켓이 보이는 사용자
+	@Query("SELECT DISTINCT t.owner.id FROM Ticket t WHERE t.event.id = :eventId AND t.ticketStatus IN :statuses")
+	List<Long> findOwnerIdsByEventIdAndTicketStatusIn(
+		@Param("eventId") Long eventId,
+		@Param("statuses") List<TicketStatus> statuses
+	);
+
+	@Query("SELECT DISTINCT t.owner.id FROM Ticket t WHERE t.seat.id = :seatId AND t.ticketStatus IN :statuses")
+	List<Long> findOwnerIdsBySeatIdAndTicketStatusIn(
+		@Param("seatId") Long seatId,
+		@Param("statuses") List<TicketStatus> statuses
 	);
 
 	Optional<Ticket> findBySeatIdAndOwnerIdAndTicketStatus(Long seatId, Long userId, TicketStatus ticketStatus);
 
-	Optional<Ticket> findByEventIdAndOwnerIdAndTicketStatus(Long eventId, Long userId, TicketStatus ticketStatus);
+	// 자동 배정으로 Draft가 여러 개일 수 있으므로 가장 먼저 만든 Draft 기준
+	Optional<Ticket> findFirstByEventIdAndOwnerIdAndTicketStatusOrderByIdAsc(
+		Long eventId, Long userId, TicketStatus ticketStatus);
+
+	// 좌석 선택 경로용: 사용자의 Draft 전부 + 교체할 기존 좌석까지 한 번에 조회
+	@EntityGraph(attributePaths = "seat")
+	List<Ticket> findAllWithSeatByEventIdAndOwnerIdAndTicketStatusOrderByIdAsc(
+		Long eventId, Long userId, TicketStatus ticketStatus);
+
+	// 좌석 해제 경로용: 해당 좌석을 잡고 있는 Draft (좌석당 Draft는 1개)
+	@EntityGraph(attributePaths = "seat")
+	Optional<Ticket> findWithSeatByEventIdAndSeatIdAndOwnerIdAndTicketStatus(
+		Long eventId, Long seatId, Long userId, TicketStatus ticketStatus);
+
+	List<Ticket> findAllByEventIdAndOwnerIdAndTicketStatus(Long eventId, Long userId, TicketStatus ticketStatus);
 
 	@Query("SELECT t FROM Ticket t "
 		+ "LEFT JOIN FETCH t.event e "
 		+ "LEFT JOIN FETCH t.seat s "
 		+ "WHERE t.id = :ticketId")
 	Optional <Ticket> findByIdWithDetails(@Param("ticketId") Long ticketId);
+
+	interface GateTicketView {
+
+		Long getTicketId();
+
+		Long getEventId();
+
+		String getEventTitle();
+
+		LocalDateTime getEventDate();
+
+		String getSeatCode();
+
+		Long getOwnerId();
+
+		String getNickname();
+
+		TicketStatus getTicketStatus();
+	}
 }
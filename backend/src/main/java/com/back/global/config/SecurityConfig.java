@@ -22,6 +22,7 @@ import com.back.global.error.code.AuthErrorCode;
 import com.back.global.error.code.ErrorCode;
 import com.back.global.logging.RequestIdFilter;
 import com.back.global.properties.CorsProperties;
+import com.back.global.properties.WebSocketProperties;
 import com.back.global.response.ApiResponse;
 import com.back.global.security.CustomAuthenticationFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -39,6 +40,7 @@ public class SecurityConfig {
 	private final CorsProperties corsProperties;
 	private final CustomAuthenticationFilter authenticationFilter;
 	private final ObjectMapper objectMapper;
+	private final WebSocketProperties webSocketProperties;
 
 	@Bean
 	public RequestIdFilter requestIdFilter() {
@@ -47,6 +49,7 @@ public class SecurityConfig {
 
 	@Bean
 	SecurityFilterChain filterChain(HttpSecurity http, RequestIdFilter requestIdFilter) throws Exception {
+		String nativeWsPath = webSocketProperties.getEndpoint().getNativePath();
 
 		AuthenticationEntryPoint entryPoint = (req, res, ex) -> {
 			writeError(res, AuthErrorCode.UNAUTHORIZED);
@@ -85,9 +88,11 @@ public class SecurityConfig {
 				.requestMatchers("/api/v1/auth/login").permitAll()
 				.requestMatchers("/api/v1/events/**").permitAll()
 				.requestMatchers("/ws/**").permitAll()  // WebSocket 핸드셰이크 허용
+				.requestMatchers(nativeWsPath).permitAll()  // 네이티브 WebSocket 핸드셰이크 허용 (websocket.endpoint.native-path)
 				.requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
 				.requestMatchers("/actuator/**").permitAll()    // 모니터링/Actuator 관련
 				.requestMatchers("/api/v1/tickets/entry/verify").permitAll() // QR 코드 검증
+				.requestMatchers("/api/v1/tickets/entry/verify/batch").permitAll() // 게이트 단말 일괄 동기화 (단말 키로 인증)
 				.requestMatchers("/api/v1/**").authenticated()
 				.requestMatchers("/api/v2/**").authenticated()
 				.anyRequest().authenticated()
@@ -96,6 +101,7 @@ public class SecurityConfig {
 				.ignoringRequestMatchers("/h2-console/**")  // H2 콘솔은 CSRF 제외
 				.ignoringRequestMatchers("/swagger-ui/**") // Swagger UI는 CSRF 제외
 				.ignoringRequestMatchers("/ws/**")
+				.ignoringRequestMatchers(nativeWsPath)
 				.ignoringRequestMatchers("/api/v1/**")  // 임시 csrf 제외
 				.ignoringRequestMatchers("/api/v2/**")  // 임시 csrf 제외
 			)
@@ -0,0 +1,32 @@
+package com.back.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.back.global.logging.SqlMetricsDataSource;
+
+/**
+ * DataSource를 SqlMetricsDataSource로 감싸 요청별 SQL 비용 측정
+ * - 모든 커넥션/Statement/ResultSet 호출이 프록시를 거치므로 monitoring.sql.enabled=true일 때만 (기본은 원본 그대로)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "monitoring.sql", name = "enabled", havingValue = "true")
+public class SqlMetricsConfig {
+
+	@Bean
+	public static BeanPostProcessor sqlMetricsDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof SqlMetricsDataSource)) {
+					return new SqlMetricsDataSource(dataSource);
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -6,9 +6,14 @@ import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import com.back.global.properties.SiteProperties;
+import com.back.global.properties.WebSocketProperties;
+import com.back.global.websocket.admission.StompAdmissionErrorHandler;
 import com.back.global.websocket.auth.WebSocketAuthInterceptor;
+import com.back.global.websocket.outbound.OutboundBackpressureInterceptor;
+import com.back.global.websocket.transport.CompressionNegotiatingHandshakeHandler;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,6 +24,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private final WebSocketAuthInterceptor webSocketAuthInterceptor;
 	private final SiteProperties siteProperties;
+	private final WebSocketProperties webSocketProperties;
+	private final OutboundBackpressureInterceptor outboundBackpressureInterceptor;
+	private final StompAdmissionErrorHandler stompAdmissionErrorHandler;
 
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry registry) {
@@ -35,12 +43,21 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	@Override
 	public void registerStompEndpoints(StompEndpointRegistry registry) {
+		WebSocketProperties.Endpoint endpoint = webSocketProperties.getEndpoint();
+
+		// 네이티브 WebSocket endpoint (SockJS 폴링 트래픽이 서블릿/보안 필터 체인을 반복 통과하지 않도록 분리)
+		registry.addEndpoint(endpoint.getNativePath())
+			.setAllowedOriginPatterns("*")
+			.setHandshakeHandler(new CompressionNegotiatingHandshakeHandler(endpoint.isCompressionEnabled()));
 
 		//Websocket/stomp 연결 endpoint
 		registry.addEndpoint("/ws")
 			.setAllowedOriginPatterns("*")
 			// .setAllowedOrigins(siteProperties.getFrontUrl()) 프론트 배포 후 변경
 			.withSockJS();
+
+		// CONNECT 수락 거절 시 ERROR 프레임에 retry-after 헤더 포함
+		registry.setErrorHandler(stompAdmissionErrorHandler);
 	}
 
 	@Override
@@ -48,4 +65,28 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		registration.interceptors(webSocketAuthInterceptor);
 	}
 
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		WebSocketProperties.Outbound outbound = webSocketProperties.getOutbound();
+
+		// 브로드캐스트 시 느린 세션이 브로커 스레드를 붙잡지 않도록 전송 전용 풀 분리
+		registration.taskExecutor()
+			.corePoolSize(outbound.getCorePoolSize())
+			.maxPoolSize(outbound.getMaxPoolSize())
+			.queueCapacity(outbound.getQueueCapacity());
+
+		registration.interceptors(outboundBackpressureInterceptor);
+	}
+
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		WebSocketProperties.Transport transport = webSocketProperties.getTransport();
+
+		// 세션별 전송 시간/버퍼 제한 초과 시 세션 종료 (CloseStatus.SESSION_NOT_RELIABLE)
+		registration
+			.setSendTimeLimit(transport.getSendTimeLimitMs())
+			.setSendBufferSizeLimit(transport.getSendBufferSizeLimitBytes())
+			.setMessageSizeLimit(transport.getMessageSizeLimitBytes());
+	}
+
 }
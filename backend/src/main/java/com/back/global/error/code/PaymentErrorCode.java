@@ -11,7 +11,9 @@ public enum PaymentErrorCode implements ErrorCode {
 
 	PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "결제에 실패했습니다."),
 	AMOUNT_VERIFICATION_FAILED(HttpStatus.BAD_REQUEST, "결제 금액 검증에 실패했습니다."),
-	PAYMENT_KEY_MISMATCH(HttpStatus.BAD_REQUEST, "결제 키가 일치하지 않습니다.");
+	PAYMENT_KEY_MISMATCH(HttpStatus.BAD_REQUEST, "결제 키가 일치하지 않습니다."),
+	PAYMENT_CONFIRM_PENDING(HttpStatus.GATEWAY_TIMEOUT, "결제 승인 결과를 확인하고 있습니다. 잠시 후 주문 내역을 확인해 주세요."),
+	PAYMENT_GATEWAY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "결제 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
 
 	private final HttpStatus httpStatus;
 	private final String message;
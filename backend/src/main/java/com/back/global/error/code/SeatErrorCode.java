@@ -21,9 +21,14 @@ public enum SeatErrorCode implements ErrorCode {
 
 	SEAT_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "1개 이상 좌석을 선택할 수 없습니다."),
 	SEAT_NOT_SELECTED(HttpStatus.BAD_REQUEST, "선택된 좌석이 없거나 다른 좌석이 선택되어 있습니다."),
+	SEAT_BLOCK_NOT_AVAILABLE(HttpStatus.CONFLICT, "요청한 수량만큼 붙어 있는 빈 좌석이 없습니다."),
+	GENERAL_ADMISSION_SOLD_OUT(HttpStatus.CONFLICT, "요청한 수량만큼 남은 스탠딩 좌석이 없습니다."),
+	GENERAL_ADMISSION_NOT_SELECTABLE(HttpStatus.BAD_REQUEST, "스탠딩 좌석은 좌석 지정 없이 수량으로만 선택할 수 있습니다."),
 
 	// 관리자 예외
-	DUPLICATE_SEAT_CODE(HttpStatus.BAD_REQUEST, "이미 존재하는 좌석 코드가 포함되어 있습니다.");
+	DUPLICATE_SEAT_CODE(HttpStatus.BAD_REQUEST, "이미 존재하는 좌석 코드가 포함되어 있습니다."),
+	INVALID_SEAT_IMPORT(HttpStatus.BAD_REQUEST, "좌석 파일 형식이 올바르지 않습니다."),
+	SEAT_IMPORT_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "한 번에 적재할 수 있는 좌석 수를 초과했습니다.");
 
 	private final HttpStatus httpStatus;
 	private final String message;
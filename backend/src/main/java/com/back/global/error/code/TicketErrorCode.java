@@ -16,11 +16,15 @@ public enum TicketErrorCode implements ErrorCode {
 	SEAT_ALREADY_PURCHASED(HttpStatus.BAD_REQUEST, "해당 좌석은 이미 구매된 상태입니다."),
 	TICKET_NOT_IN_PROGRESS(HttpStatus.BAD_REQUEST, "진행 중인 티켓이 아닙니다."),
 	TICKET_EVENT_MISMATCH(HttpStatus.BAD_REQUEST, "티켓과 이벤트가 일치하지 않습니다."),
+	TICKET_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "1인 구매 가능 수량을 초과했습니다."),
 	TICKET_QR_TOKEN_EXPIRED(HttpStatus.BAD_REQUEST, "티켓 QR 토큰이 만료되었습니다."),
 	INVALID_TICKET_QR_TOKEN(HttpStatus.BAD_REQUEST, "유효하지 않은 티켓 QR 토큰입니다."),
 	TICKET_ALREADY_USED(HttpStatus.BAD_REQUEST, "이미 사용된 티켓입니다."),
 	EVENT_NOT_STARTED(HttpStatus.BAD_REQUEST, "이벤트 시작 전에는 QR이 발급되지 않습니다."),
-	TICKET_ALREADY_ENTERED(HttpStatus.BAD_REQUEST, "이미 입장처 티켓입니다.");
+	TICKET_ALREADY_ENTERED(HttpStatus.BAD_REQUEST, "이미 입장처 티켓입니다."),
+	QR_SCAN_BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "한 번에 동기화할 수 있는 스캔 수를 초과했습니다."),
+	INVALID_QR_SCANNED_AT(HttpStatus.BAD_REQUEST, "스캔 시각이 유효하지 않거나 동기화 가능 시간이 지났습니다."),
+	UNAUTHORIZED_GATE_DEVICE(HttpStatus.UNAUTHORIZED, "등록된 게이트 단말이 아닙니다.");
 
 	private final HttpStatus httpStatus;
 	private final String message;
@@ -69,6 +69,10 @@ public class HttpRequestContext {
 			.orElse(defaultValue);
 	}
 
+	public void setHeader(String name, String value) {
+		response.setHeader(name, value);
+	}
+
 	public String getUserAgent() {
 		String userAgent = request.getHeader("User-Agent");
 		return userAgent != null ? userAgent : "unknown";
@@ -0,0 +1,101 @@
+package com.back.global.logging;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 요청 통계(SqlRequestStats)를 채우는 DataSource 래퍼
+ * - Connection: 획득 ~ close(풀 반납)까지 점유 시간
+ * - Statement: execute* / executeBatch 1번 = 1건 (배치는 DB 왕복 기준)
+ * - ResultSet: next()가 true인 횟수 = 조회 행 수
+ * 요청 스레드가 아니면 프록시 없이 원본을 그대로 반환
+ */
+public class SqlMetricsDataSource extends DelegatingDataSource {
+
+	public SqlMetricsDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return track(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return track(super.getConnection(username, password));
+	}
+
+	private Connection track(Connection connection) {
+		SqlRequestStats stats = SqlRequestStats.current();
+		if (stats == null) {
+			return connection;
+		}
+
+		long acquiredAt = System.nanoTime();
+		boolean[] closed = {false};
+		return proxy(Connection.class, connection, (method, args, result) -> {
+			if (method.getName().equals("close") && !closed[0]) {
+				closed[0] = true;
+				stats.connectionHeld(System.nanoTime() - acquiredAt);
+			}
+			if (result instanceof Statement statement) {
+				String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+				return track(stats, statement, sql, method.getReturnType());
+			}
+			return result;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private Statement track(SqlRequestStats stats, Statement statement, String preparedSql, Class<?> type) {
+		return proxy((Class<Statement>)type, statement, (method, args, result) -> {
+			if (method.getName().startsWith("execute")) {
+				stats.statementExecuted(args != null && args.length > 0 && args[0] instanceof String sql
+					? sql : preparedSql);
+			}
+			if (result instanceof ResultSet resultSet) {
+				return track(stats, resultSet);
+			}
+			return result;
+		});
+	}
+
+	private ResultSet track(SqlRequestStats stats, ResultSet resultSet) {
+		return proxy(ResultSet.class, resultSet, (method, args, result) -> {
+			if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+				stats.rowFetched();
+			}
+			return result;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, T target, AfterInvocation afterInvocation) {
+		InvocationHandler handler = (proxy, method, args) -> {
+			Object result;
+			try {
+				result = method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+			return afterInvocation.apply(method, args, result);
+		};
+		return (T)Proxy.newProxyInstance(SqlMetricsDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+	}
+
+	@FunctionalInterface
+	private interface AfterInvocation {
+		Object apply(Method method, Object[] args, Object result) throws Throwable;
+	}
+}
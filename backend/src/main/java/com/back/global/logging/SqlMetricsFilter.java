@@ -0,0 +1,98 @@
+package com.back.global.logging;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.back.global.properties.SqlMetricsProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 엔드포인트별 SQL 비용 측정 Filter
+ * - 요청 동안 SqlMetricsDataSource가 모은 SQL 실행 수 / 조회 행 수 / 커넥션 점유 시간을 히스토그램으로 기록
+ * - 태그는 http.server.requests와 같은 method + uri(매핑 패턴)라 엔드포인트별 응답 시간과 나란히 비교 가능
+ * - Security 필터 체인보다 먼저 실행해 인증 단계의 조회까지 포함
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+	private static final String UNKNOWN_URI = "UNKNOWN";
+
+	private final MeterRegistry meterRegistry;
+	private final SqlMetricsProperties properties;
+	private final Map<String, EndpointMeters> metersCache = new ConcurrentHashMap<>();
+
+	@Override
+	protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+		return !properties.isEnabled();
+	}
+
+	@Override
+	protected void doFilterInternal(
+		@NonNull HttpServletRequest request,
+		@NonNull HttpServletResponse response,
+		FilterChain filterChain
+	) throws ServletException, IOException {
+		SqlMetricsProperties.RepeatedSelect repeatedSelect = properties.getRepeatedSelect();
+		SqlRequestStats stats = SqlRequestStats.start(
+			request.getMethod() + " " + request.getRequestURI(),
+			repeatedSelect.isEnabled() ? repeatedSelect.getThreshold() : 0
+		);
+
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			SqlRequestStats.finish();
+			record(request, stats);
+		}
+	}
+
+	private void record(HttpServletRequest request, SqlRequestStats stats) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+		String method = request.getMethod();
+
+		EndpointMeters meters = metersCache.computeIfAbsent(method + " " + uri, key -> new EndpointMeters(
+			DistributionSummary.builder("http.server.requests.sql.statements")
+				.description("SQL statements executed per request")
+				.tags("method", method, "uri", uri)
+				.publishPercentileHistogram()
+				.register(meterRegistry),
+			DistributionSummary.builder("http.server.requests.sql.rows")
+				.description("Rows fetched per request")
+				.tags("method", method, "uri", uri)
+				.publishPercentileHistogram()
+				.register(meterRegistry),
+			Timer.builder("http.server.requests.db.connection.held")
+				.description("JDBC connection hold time per request")
+				.tags("method", method, "uri", uri)
+				.publishPercentileHistogram()
+				.register(meterRegistry)
+		));
+
+		meters.statements().record(stats.getStatements());
+		meters.rows().record(stats.getRowsFetched());
+		meters.connectionHeld().record(Duration.ofNanos(stats.getConnectionHeldNanos()));
+	}
+
+	private record EndpointMeters(DistributionSummary statements, DistributionSummary rows, Timer connectionHeld) {
+	}
+}
@@ -0,0 +1,84 @@
+package com.back.global.logging;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP 요청 1건의 SQL 실행 통계 (요청 스레드 ThreadLocal)
+ * - SqlMetricsFilter가 요청 시작/종료 시 열고 닫음, 요청 밖(스케줄러/비동기) 스레드는 집계하지 않음
+ * - repeatedSelectThreshold > 0이면 같은 SELECT가 임계치에 도달한 순간 호출 위치를 1번 로그 (N+1 의심)
+ */
+@Slf4j
+@Getter
+public final class SqlRequestStats {
+
+	private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+	private static final String OWN_PACKAGE = SqlRequestStats.class.getPackageName();
+
+	private final String request;
+	private final int repeatedSelectThreshold;
+	private final Map<String, Integer> selectCounts = new HashMap<>();
+
+	private int statements;
+	private long rowsFetched;
+	private long connectionHeldNanos;
+
+	private SqlRequestStats(String request, int repeatedSelectThreshold) {
+		this.request = request;
+		this.repeatedSelectThreshold = repeatedSelectThreshold;
+	}
+
+	public static SqlRequestStats start(String request, int repeatedSelectThreshold) {
+		SqlRequestStats stats = new SqlRequestStats(request, repeatedSelectThreshold);
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	public static void finish() {
+		CURRENT.remove();
+	}
+
+	static SqlRequestStats current() {
+		return CURRENT.get();
+	}
+
+	void statementExecuted(String sql) {
+		statements++;
+		if (repeatedSelectThreshold <= 0 || sql == null || !isSelect(sql)) {
+			return;
+		}
+
+		int count = selectCounts.merge(sql, 1, Integer::sum);
+		if (count == repeatedSelectThreshold) {
+			log.warn("N+1 의심: request={} repeated={} callSite={} sql={}",
+				request, count, callSite(), sql.replaceAll("\\s+", " "));
+		}
+	}
+
+	void rowFetched() {
+		rowsFetched++;
+	}
+
+	void connectionHeld(long nanos) {
+		connectionHeldNanos += nanos;
+	}
+
+	private static boolean isSelect(String sql) {
+		return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+	}
+
+	// 측정 코드(global.logging)와 프록시/프레임워크 프레임을 건너뛴 첫 애플리케이션 호출 위치
+	private static String callSite() {
+		return StackWalker.getInstance().walk(frames -> frames
+			.filter(frame -> frame.getClassName().startsWith("com.back."))
+			.filter(frame -> !frame.getClassName().startsWith(OWN_PACKAGE))
+			.filter(frame -> !frame.getClassName().contains("$$"))
+			.findFirst()
+			.map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+			.orElse("unknown"));
+	}
+}
@@ -0,0 +1,23 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 서명된 입장권(admission pass) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "queue.admission-pass")
+public class AdmissionPassProperties {
+
+	private boolean enabled = true;
+	private long maxLeaseSeconds = 900; // 입장권 최대 유효 시간 (입장 유지 15분), 회수 목록 보관 기간
+	private long syncIntervalMs = 500; // 다른 노드의 회수 목록 동기화 주기
+	private long maxStalenessMs = 5_000; // 마지막 동기화가 이보다 오래되면 입장권 대신 Redis/DB 확인
+	private long clockSkewMs = 2_000; // 노드 간 시계 오차 허용 (회수 직전 발급분까지 무효 처리)
+}
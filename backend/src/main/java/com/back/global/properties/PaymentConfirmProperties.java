@@ -0,0 +1,31 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * v2 결제 승인 (PG 호출은 트랜잭션 밖, 주문은 CONFIRMING으로 표시)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "payment.confirm")
+public class PaymentConfirmProperties {
+
+	private long holdSeconds = 600; // 승인 시작 시 좌석 홀드를 최소 이 시간까지 연장 (복구가 끝날 때까지 좌석 유지)
+	private Recovery recovery = new Recovery();
+
+	/**
+	 * CONFIRMING에 남은 주문 복구 (승인 도중 노드 종료 / PG 타임아웃)
+	 */
+	@Getter
+	@Setter
+	public static class Recovery {
+		private long afterSeconds = 120; // 이 시간 넘게 CONFIRMING인 주문만 복구 (PG 응답 대기 시간보다 길어야 함)
+		private long intervalMs = 60_000;
+		private int batchSize = 100; // 1회 실행에서 PG에 조회하는 주문 수
+	}
+}
@@ -0,0 +1,19 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 이벤트 판매 현황 카운터 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "event.sales-counter")
+public class SalesCounterProperties {
+
+	private int slots = 8; // 이벤트당 카운터 행 수 (동시 판매 시 행 잠금 분산)
+}
@@ -0,0 +1,22 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 좌석 자동 배정(best-available) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "seat.allocator")
+public class SeatAllocatorProperties {
+
+	private int candidateLimit = 8; // 점수 상위 후보 수 (이 중 무작위로 골라 동시 요청이 같은 블록에 몰리지 않게 함)
+	private int maxAttempts = 3; // 선점 충돌 시 다른 후보로 재시도하는 횟수
+	private long contentionHalfLifeMs = 10_000; // 행 경합 점수 반감기
+	private int maxPenaltyRows = 5; // 경합이 심한 행을 최대 몇 행 뒤로 미룰지
+}
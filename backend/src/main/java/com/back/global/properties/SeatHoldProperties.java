@@ -0,0 +1,46 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Draft 좌석 홀드 만료 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "seat.hold")
+public class SeatHoldProperties {
+
+	private long ttlSeconds = 300; // Draft 생성 후 좌석 홀드 유지 시간
+	private Wheel wheel = new Wheel();
+	private Fallback fallback = new Fallback();
+
+	/**
+	 * 노드 로컬 계층형 타이밍 휠
+	 */
+	@Getter
+	@Setter
+	public static class Wheel {
+		private boolean enabled = true;
+		private long tickMs = 100;
+		private int wheelSize = 64; // 1단계 6.4초, 2단계 약 7분 범위
+		private int releaseBatchSize = 200; // Redis에서 한 번에 가져오는 만료 홀드 수
+		private long orphanSweepMs = 5_000; // 다른 노드(종료된 노드 포함)가 등록한 만료 홀드 회수 주기
+		private long retryDelayMs = 5_000; // 해제에 실패한 홀드를 다시 시도하기까지 대기 시간
+	}
+
+	/**
+	 * DB 스캔 폴백 스케줄러
+	 */
+	@Getter
+	@Setter
+	public static class Fallback {
+		private long graceSeconds = 60; // 타이밍 휠이 처리할 시간을 준 뒤 남은 홀드만 스캔
+		private int chunkSize = 1_000; // 트랜잭션 1개에서 만료시키는 Draft 수 (티켓/좌석 UPDATE 각 1번)
+		private int maxPerRun = 50_000; // 1회 실행 상한 (남은 홀드는 다음 주기에 처리)
+	}
+}
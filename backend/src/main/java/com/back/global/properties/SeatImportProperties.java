@@ -0,0 +1,20 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 공연장 좌석 대량 적재 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "seat.import")
+public class SeatImportProperties {
+
+	private int batchSize = 1_000; // JDBC batch 1회 INSERT 행 수
+	private int maxSeats = 200_000; // 요청 1건으로 적재할 수 있는 최대 좌석 수
+}
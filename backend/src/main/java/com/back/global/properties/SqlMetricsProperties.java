@@ -0,0 +1,30 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청별 SQL 실행 수 / 조회 행 수 / 커넥션 점유 시간 측정 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "monitoring.sql")
+public class SqlMetricsProperties {
+
+	private boolean enabled = false; // 켜야 DataSource를 감싸고 측정 (perf/dev 프로파일, 쿼리 수 회귀 테스트)
+	private RepeatedSelect repeatedSelect = new RepeatedSelect();
+
+	/**
+	 * 한 요청에서 같은 SELECT가 반복되면(N+1 의심) 호출 위치 로그 (perf/dev 프로파일에서만 켬)
+	 */
+	@Getter
+	@Setter
+	public static class RepeatedSelect {
+		private boolean enabled = false;
+		private int threshold = 5; // 같은 SELECT가 이 횟수에 도달하면 1번 경고
+	}
+}
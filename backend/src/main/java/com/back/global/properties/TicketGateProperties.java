@@ -0,0 +1,48 @@
+package com.back.global.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 공연장 게이트 QR 입장 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ticket.gate")
+public class TicketGateProperties {
+
+	private long entryTtlHours = 24; // Redis 입장 기록 유지 시간 (재입장 거절)
+	private Cache cache = new Cache();
+	private Batch batch = new Batch();
+
+	/**
+	 * 노드 로컬 게이트 캐시 (이벤트별 ticketId → 좌석/닉네임/상태)
+	 */
+	@Getter
+	@Setter
+	public static class Cache {
+		private boolean enabled = true;
+		private long warmLeadMinutes = 120; // 공연 시작 이 시간 전부터 적재 (입장 시작 전 준비)
+		private long keepHours = 6; // 공연 시작 후 이 시간까지 유지
+		private long refreshIntervalMs = 300_000; // 적재 대상 이벤트 재적재 주기 (사이에 발급된 티켓은 조회 시 보충)
+	}
+
+	/**
+	 * 게이트 단말 일괄 동기화 (오프라인 동안 쌓인 스캔)
+	 */
+	@Getter
+	@Setter
+	public static class Batch {
+		private int maxSize = 500; // 요청 1건의 최대 스캔 수
+		private long maxOfflineMinutes = 30; // 이보다 오래된 스캔은 거절, 단말의 마지막 동기화 이전 스캔도 거절
+		private long clockSkewSeconds = 30; // 단말 시계가 서버보다 빠른 것을 허용하는 범위
+		private Map<String, String> devices = new HashMap<>(); // 게이트 단말 id → 단말 키 (등록된 단말만 동기화 가능)
+	}
+}
@@ -0,0 +1,23 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 내 티켓 목록 캐시 (노드 로컬 L1 + Redis L2)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ticket.list-cache")
+public class TicketListCacheProperties {
+
+	private boolean enabled = true;
+	private long ttlSeconds = 600; // Redis 목록 유지 시간
+	private long localTtlSeconds = 60; // 노드 로컬 보관 시간 (조회마다 Redis 버전으로 검증하므로 메모리 회수 용도)
+	private int localMaxSize = 10_000; // 노드 로컬 최대 사용자 수 (가득 차면 만료 항목만 정리, 그래도 차 있으면 보관 안 함)
+	private long versionTtlHours = 24; // 사용자별 버전 유지 시간 (목록/로컬 보관 시간보다 길어야 함)
+}
@@ -0,0 +1,51 @@
+package com.back.global.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 토스페이먼츠 API 클라이언트 (커넥션 풀 / 타임아웃 / 벌크헤드 / 서킷 브레이커)
+ * PG가 느려져도 요청 스레드와 커넥션을 일정 수 이상 묶어두지 않는 것이 목표
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "toss.payments")
+public class TossPaymentProperties {
+
+	private String baseUrl = "https://api.tosspayments.com";
+	private long connectTimeoutMs = 1_000;
+	private long readTimeoutMs = 10_000; // 응답 대기 상한 (승인 복구 대기 시간보다 짧아야 함)
+	private long poolWaitMs = 200; // 풀에서 커넥션을 기다리는 상한
+	private int maxConnections = 50; // 커넥션 풀 크기 (PG 호스트 1개라 route당 상한도 같음)
+	private Bulkhead bulkhead = new Bulkhead();
+	private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+	/**
+	 * 동시 호출 상한 (넘으면 PG를 호출하지 않고 바로 거절)
+	 */
+	@Getter
+	@Setter
+	public static class Bulkhead {
+		private int maxConcurrentCalls = 40; // maxConnections 이하로 두어 풀 대기가 생기지 않게 함
+		private long maxWaitMs = 100;
+	}
+
+	/**
+	 * PG 장애 시 빠른 실패 (타임아웃 / 5xx / 느린 응답 비율 기준, 4xx 거절은 집계하지 않음)
+	 */
+	@Getter
+	@Setter
+	public static class CircuitBreaker {
+		private int slidingWindowSize = 20;
+		private int minimumNumberOfCalls = 10;
+		private float failureRateThreshold = 50;
+		private long slowCallDurationMs = 3_000;
+		private float slowCallRateThreshold = 80;
+		private long waitDurationInOpenStateMs = 10_000;
+		private int permittedNumberOfCallsInHalfOpenState = 3;
+	}
+}
@@ -0,0 +1,89 @@
+package com.back.global.properties;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.back.global.websocket.dispatch.WebSocketDispatcher;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "websocket")
+public class WebSocketProperties {
+
+	private Endpoint endpoint = new Endpoint();
+	private Outbound outbound = new Outbound();
+	private Transport transport = new Transport();
+	private Admission admission = new Admission();
+	private Dispatch dispatch = new Dispatch();
+
+	/**
+	 * STOMP 엔드포인트 (SockJS /ws + 네이티브 WebSocket)
+	 */
+	@Getter
+	@Setter
+	public static class Endpoint {
+		private String nativePath = "/ws-native"; // SockJS 폴백 없이 WebSocket만 허용
+		private boolean compressionEnabled = true; // permessage-deflate 협상
+		// binary 프레임 전송 (구독 클라이언트가 octet-stream 본문을 디코딩할 수 있을 때만 켬)
+		private boolean binaryFrames = false;
+		// binaryFrames 적용 destination (Ant 패턴, 이벤트 단위 브로드캐스트처럼 프레임이 많은 토픽만)
+		private List<String> binaryDestinations = List.of("/topic/events/*/seats", "/topic/events/*/queue");
+	}
+
+	/**
+	 * clientOutboundChannel 전송 스레드 풀
+	 */
+	@Getter
+	@Setter
+	public static class Outbound {
+		private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+		private int maxPoolSize = Runtime.getRuntime().availableProcessors() * 4;
+		private int queueCapacity = 10_000;
+		private boolean conflationEnabled = true; // 느린 세션의 중간 순위/좌석 변경 프레임 생략
+	}
+
+	/**
+	 * 세션별 전송 제한 (초과 시 세션 강제 종료)
+	 */
+	@Getter
+	@Setter
+	public static class Transport {
+		private int sendTimeLimitMs = 10_000;
+		private int sendBufferSizeLimitBytes = 512 * 1024;
+		private int messageSizeLimitBytes = 64 * 1024;
+	}
+
+	/**
+	 * CONNECT 수락 제어 (노드 단위 토큰 버킷 + 검증된 토큰 캐시)
+	 */
+	@Getter
+	@Setter
+	public static class Admission {
+		private boolean enabled = true;
+		private int burstCapacity = 2_000; // 순간 허용 CONNECT 수
+		private int refillPerSecond = 1_000; // 초당 보충 토큰 수
+		private long retryAfterJitterMs = 1_000; // 재시도 시점 분산
+		private int tokenCacheMaxSize = 50_000;
+		private long tokenCacheTtlSeconds = 300; // 토큰 만료 시각보다 길어지지 않음
+	}
+
+	/**
+	 * 애플리케이션 → 브로커 발행 디스패처 (destination별 순서 보장)
+	 */
+	@Getter
+	@Setter
+	public static class Dispatch {
+		private int shards = Runtime.getRuntime().availableProcessors();
+		private int bufferSize = 8_192; // shard별 링 버퍼 크기 (2의 거듭제곱으로 올림)
+		private int batchSize = 64;
+		private WebSocketDispatcher.OverflowPolicy overflowPolicy = WebSocketDispatcher.OverflowPolicy.BLOCK;
+		private long blockTimeoutMs = 50;
+		private long idleParkMs = 100;
+	}
+}
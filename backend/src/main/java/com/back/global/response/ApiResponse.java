@@ -25,6 +25,10 @@ public record ApiResponse<T>(
 		return new ApiResponse<>(HttpStatus.NO_CONTENT, message, null);
 	}
 
+	public static <T> ApiResponse<T> notModified(String message) {
+		return new ApiResponse<>(HttpStatus.NOT_MODIFIED, message, null);
+	}
+
 	public static ApiResponse<?> fail(ErrorCode errorCode) {
 		return new ApiResponse<>(
 			errorCode.getHttpStatus(),
@@ -43,7 +43,8 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 	private static final Set<String> AUTH_WHITELIST = Set.of(
 		"/api/v1/auth/login",
 		"/api/v1/auth/signup",
-		"/api/v1/tickets/entry/verify"
+		"/api/v1/tickets/entry/verify",
+		"/api/v1/tickets/entry/verify/batch"
 	);
 
 	private static final Set<String> PATH_PREFIX_WHITELIST = Set.of(
@@ -100,9 +101,8 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
 		String accessToken = resolveAccessToken(request);
 
-		String validAccessToken = ensureValidAccessToken(accessToken, request, response);
-
-		JwtClaims claims = jwtProvider.payloadOrNull(validAccessToken);
+		// 서명/만료 검증과 claim 파싱은 요청당 1번
+		JwtClaims claims = ensureValidAccessClaims(accessToken, request, response);
 		if (claims == null || !"access".equals(claims.tokenType())) {
 			throw new ErrorException(AuthErrorCode.INVALID_TOKEN);
 		}
@@ -230,7 +230,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 		return null;
 	}
 
-	private String ensureValidAccessToken(
+	private JwtClaims ensureValidAccessClaims(
 		String accessToken,
 		HttpServletRequest request,
 		HttpServletResponse response
@@ -239,8 +239,9 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 			throw new ErrorException(AuthErrorCode.UNAUTHORIZED);
 		}
 
-		if (!jwtProvider.isExpired(accessToken)) {
-			return accessToken;
+		JwtClaims claims = jwtProvider.payloadOrNull(accessToken);
+		if (claims != null) {
+			return claims;
 		}
 
 		log.info("Expired Access Token → Try to Issue new Access Token, expired access token: {}",
@@ -258,7 +259,7 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
 			cookieManager.set(request, response, "accessToken", newTokens.accessToken(), accessTokenDurationSeconds);
 			cookieManager.set(request, response, "refreshToken", newTokens.refreshToken(), refreshTokenDurationSeconds);
 
-			return newTokens.accessToken();
+			return jwtProvider.payloadOrNull(newTokens.accessToken());
 		} catch (ErrorException e) {
 			// 다른 기기 로그인/세션 불일치인 경우 쿠키 삭제
 			if (e.getErrorCode() == AuthErrorCode.ACCESS_OTHER_DEVICE
@@ -1,5 +1,6 @@
 package com.back.global.security;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -83,8 +84,26 @@ public class JwtProvider {
 	}
 
 	public JwtClaims payloadOrNull(String jwt) {
+		return toClaims(JwtUtil.payloadOrNull(jwt, secret));
+	}
+
+	/**
+	 * 서명/만료 검증과 claim 파싱을 한 번에 수행하고 만료 시각을 함께 반환
+	 * (검증 결과를 만료 시각까지만 재사용하는 캐시용)
+	 */
+	public VerifiedJwt verifyOrNull(String jwt) {
 		Map<String, Object> payload = JwtUtil.payloadOrNull(jwt, secret);
 
+		JwtClaims claims = toClaims(payload);
+		Instant expiresAt = JwtUtil.expirationOrNull(payload);
+		if (claims == null || expiresAt == null) {
+			return null;
+		}
+
+		return new VerifiedJwt(claims, expiresAt);
+	}
+
+	private JwtClaims toClaims(Map<String, Object> payload) {
 		if (payload == null || payload.isEmpty()) {
 			return null;
 		}
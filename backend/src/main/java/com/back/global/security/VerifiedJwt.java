@@ -0,0 +1,9 @@
+package com.back.global.security;
+
+import java.time.Instant;
+
+public record VerifiedJwt(
+	JwtClaims claims,
+	Instant expiresAt
+) {
+}
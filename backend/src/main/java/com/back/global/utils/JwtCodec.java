@@ -0,0 +1,88 @@
+package com.back.global.utils;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.SecretKey;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ClaimsBuilder;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * secret별 JWT 서명/검증기 (키와 파서를 secret당 1번만 생성해 재사용)
+ * - SecretKey, JwtParser 모두 불변이라 스레드 간 공유 가능
+ * - 검증 결과 Claims는 불변 Map이라 복사 없이 그대로 반환
+ */
+public final class JwtCodec {
+
+	private static final Map<String, JwtCodec> CODECS = new ConcurrentHashMap<>();
+
+	private final SecretKey secretKey;
+	private final JwtParser parser;
+
+	private JwtCodec(String secret) {
+		this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret.trim()));
+		this.parser = Jwts.parser()
+			.verifyWith(secretKey)
+			.build();
+	}
+
+	public static JwtCodec of(String secret) {
+		JwtCodec codec = CODECS.get(secret);
+		return codec != null ? codec : CODECS.computeIfAbsent(secret, JwtCodec::new);
+	}
+
+	public String sign(long durationSeconds, Map<String, Object> body) {
+		ClaimsBuilder claimsBuilder = Jwts.claims();
+		body.forEach(claimsBuilder::add);
+
+		Date issuedAt = new Date();
+		Date expiration = new Date(issuedAt.getTime() + 1000L * durationSeconds);
+
+		return Jwts.builder()
+			.claims(claimsBuilder.build())
+			.issuedAt(issuedAt)
+			.expiration(expiration)
+			.signWith(secretKey)
+			.compact();
+	}
+
+	/**
+	 * 서명/만료 검증 후 claims, 실패하면 null
+	 */
+	public Claims claimsOrNull(String jwt) {
+		try {
+			return parser.parseSignedClaims(jwt).getPayload();
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 지정 시각 기준 검증 (오프라인 스캔처럼 검증 시각이 현재가 아닌 경우)
+	 * 현재 기준으로 만료된 토큰도 서명은 이미 검증된 상태로 예외에 담겨 오므로 exp만 verifiedAt과 다시 비교
+	 */
+	public Claims claimsOrNull(String jwt, Instant verifiedAt) {
+		Claims claims;
+		try {
+			claims = parser.parseSignedClaims(jwt).getPayload();
+		} catch (ExpiredJwtException e) {
+			claims = e.getClaims();
+		} catch (Exception e) {
+			return null;
+		}
+
+		Date expiration = claims.getExpiration();
+		if (expiration != null && !verifiedAt.isBefore(expiration.toInstant())) {
+			return null;
+		}
+		return claims;
+	}
+}
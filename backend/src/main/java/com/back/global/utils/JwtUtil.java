@@ -1,71 +1,54 @@
 package com.back.global.utils;
 
+import java.time.Instant;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 
-import javax.crypto.SecretKey;
-
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ClaimsBuilder;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 
 public class JwtUtil {
 
 	public static String sign(String secret, long durationSeconds, Map<String, Object> body) {
-		SecretKey secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret.trim()));
-
-		ClaimsBuilder claimsBuilder = Jwts.claims();
-		body.forEach(claimsBuilder::add);
-
-		Date issuedAt = new Date();
-		Date expiration = new Date(issuedAt.getTime() + 1000L * durationSeconds);
-
-		return Jwts.builder()
-			.claims(claimsBuilder.build())
-			.issuedAt(issuedAt)
-			.expiration(expiration)
-			.signWith(secretKey)
-			.compact();
+		return JwtCodec.of(secret).sign(durationSeconds, body);
 	}
 
+	/**
+	 * 검증된 payload (불변 Map), 실패하면 null
+	 */
 	public static Map<String, Object> payloadOrNull(String jwt, String secret) {
-		Claims claims = claimsOrNull(jwt, secret);
-		if (claims == null) {
-			return null;
-		}
-
-		return new HashMap<>(claims);
+		return JwtCodec.of(secret).claimsOrNull(jwt);
 	}
 
-	public static boolean isExpired(String jwt, String secret) {
-		try {
-			claimsOrThrow(jwt, secret);
-			return false;
-		} catch (ExpiredJwtException e) {
-			return true;
-		} catch (Exception e) {
-			return true;
-		}
+	/**
+	 * 지정 시각 기준으로 검증한 payload (오프라인 스캔처럼 검증 시각이 현재가 아닌 경우)
+	 * 서명은 그대로 검증하고 exp만 verifiedAt 기준으로 판단
+	 */
+	public static Map<String, Object> payloadOrNull(String jwt, String secret, Instant verifiedAt) {
+		return JwtCodec.of(secret).claimsOrNull(jwt, verifiedAt);
 	}
 
-	private static Claims claimsOrNull(String jwt, String secret) {
-		try {
-			return claimsOrThrow(jwt, secret);
-		} catch (Exception e) {
+	/**
+	 * payloadOrNull 결과에서 exp claim 추출
+	 */
+	public static Instant expirationOrNull(Map<String, Object> payload) {
+		if (payload == null) {
 			return null;
 		}
+
+		Object exp = payload.get(Claims.EXPIRATION);
+		if (exp instanceof Date date) {
+			return date.toInstant();
+		}
+		if (exp instanceof Instant instant) {
+			return instant;
+		}
+		if (exp instanceof Number seconds) {
+			return Instant.ofEpochSecond(seconds.longValue());
+		}
+		return null;
 	}
 
-	private static Claims claimsOrThrow(String jwt, String secret) {
-		SecretKey secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret.trim()));
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
-			.parseSignedClaims(jwt)
-			.getPayload();
+	public static boolean isExpired(String jwt, String secret) {
+		return JwtCodec.of(secret).claimsOrNull(jwt) == null;
 	}
 }
@@ -0,0 +1,82 @@
+package com.back.global.utils;
+
+/**
+ * 좌석 행 문자 ↔ 행 순번 변환 (A..Z, AA..AZ, BA.. 엑셀 열 이름 방식)
+ * 0 → A, 25 → Z, 26 → AA, 701 → ZZ
+ */
+public final class SeatRowLabels {
+
+	// 좌석 번호 자리 (번호 최대 6자리)
+	static final long NUMBER_RADIX = 1_000_000L;
+
+	// 행 문자 + 번호 형식이 아닌 좌석 코드의 정렬 키 (맨 뒤)
+	public static final long UNPARSEABLE_SORT_KEY = Long.MAX_VALUE;
+
+	private SeatRowLabels() {
+	}
+
+	public static String label(int index) {
+		if (index < 0) {
+			throw new IllegalArgumentException("row index must be >= 0: " + index);
+		}
+		StringBuilder label = new StringBuilder();
+		int n = index;
+		do {
+			label.insert(0, (char)('A' + n % 26));
+			n = n / 26 - 1;
+		} while (n >= 0);
+		return label.toString();
+	}
+
+	/**
+	 * @return 대문자 A~Z로만 이루어지지 않았으면 -1
+	 */
+	public static int index(String label) {
+		if (label == null || label.isEmpty() || label.length() > 4) {
+			return -1;
+		}
+		int n = 0;
+		for (int i = 0; i < label.length(); i++) {
+			char c = label.charAt(i);
+			if (c < 'A' || c > 'Z') {
+				return -1;
+			}
+			n = n * 26 + (c - 'A' + 1);
+		}
+		return n - 1;
+	}
+
+	/**
+	 * 좌석 코드 → 자연 정렬 키 (행 순번 * 1,000,000 + 좌석 번호)
+	 * A2 < A10 < B1 < Z9 < AA1, 행 문자는 대소문자 구분 없음
+	 *
+	 * @return 행 문자 1~4자 + 번호 1~6자리 형식이 아니면 UNPARSEABLE_SORT_KEY
+	 */
+	public static long sortKey(String seatCode) {
+		if (seatCode == null) {
+			return UNPARSEABLE_SORT_KEY;
+		}
+		int split = 0;
+		while (split < seatCode.length() && Character.isLetter(seatCode.charAt(split))) {
+			split++;
+		}
+		int digits = seatCode.length() - split;
+		if (digits < 1 || digits > 6) {
+			return UNPARSEABLE_SORT_KEY;
+		}
+
+		int row = index(seatCode.substring(0, split).toUpperCase());
+		if (row < 0) {
+			return UNPARSEABLE_SORT_KEY;
+		}
+		long number = 0;
+		for (int i = split; i < seatCode.length(); i++) {
+			char c = seatCode.charAt(i);
+			if (c < '0' || c > '9') {
+				return UNPARSEABLE_SORT_KEY;
+			}
+			number = number * 10 + (c - '0');
+		}
+		return row * NUMBER_RADIX + number;
+	}
+}
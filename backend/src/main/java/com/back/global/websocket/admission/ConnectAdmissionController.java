@@ -0,0 +1,110 @@
+package com.back.global.websocket.admission;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.back.global.properties.WebSocketProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * STOMP CONNECT 수락 제어 (노드 단위 토큰 버킷)
+ *
+ * - 버킷 상태를 "다음 토큰이 보충되는 이론적 시각" 하나로 표현 (GCRA) → CAS 한 번으로 판정, 락 없음
+ * - 토큰이 없으면 JWT 검증 전에 즉시 거절하고 재시도 가능 시각(retry-after)을 돌려줌
+ * - 결과별 집계: websocket.connect.admission{result=accepted|deferred|rejected}
+ *   (deferred: 버킷 소진으로 재시도 안내, rejected: 인증 실패)
+ */
+@Component
+public class ConnectAdmissionController {
+
+	private final boolean enabled;
+	private final long emissionIntervalNanos; // 토큰 1개 보충 간격
+	private final long burstToleranceNanos; // 버킷 용량만큼 앞당겨 쓸 수 있는 시간
+	private final long retryAfterJitterMs;
+	private final LongSupplier nanoClock;
+
+	// 버킷이 가득 찬 것으로 간주되는 시각 (이 시각 이전에 도착한 요청은 토큰을 선점)
+	private final AtomicLong theoreticalArrivalNanos;
+
+	private final Counter acceptedCounter;
+	private final Counter deferredCounter;
+	private final Counter rejectedCounter;
+
+	@Autowired
+	public ConnectAdmissionController(WebSocketProperties properties, MeterRegistry meterRegistry) {
+		this(properties, meterRegistry, System::nanoTime);
+	}
+
+	ConnectAdmissionController(WebSocketProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+		WebSocketProperties.Admission admission = properties.getAdmission();
+
+		this.enabled = admission.isEnabled();
+		this.emissionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, admission.getRefillPerSecond());
+		this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, admission.getBurstCapacity() - 1);
+		this.retryAfterJitterMs = Math.max(0, admission.getRetryAfterJitterMs());
+		this.nanoClock = nanoClock;
+		this.theoreticalArrivalNanos = new AtomicLong(nanoClock.getAsLong());
+
+		this.acceptedCounter = admissionCounter(meterRegistry, "accepted");
+		this.deferredCounter = admissionCounter(meterRegistry, "deferred");
+		this.rejectedCounter = admissionCounter(meterRegistry, "rejected");
+	}
+
+	/**
+	 * 토큰 1개 획득 시도
+	 *
+	 * @return 0이면 수락, 양수면 재시도까지 기다려야 할 시간(ms)
+	 */
+	public long tryAcquire() {
+		if (!enabled) {
+			return 0L;
+		}
+
+		while (true) {
+			long now = nanoClock.getAsLong();
+			long tat = theoreticalArrivalNanos.get();
+			long newTat = Math.max(tat, now) + emissionIntervalNanos;
+			long waitNanos = newTat - now - burstToleranceNanos - emissionIntervalNanos;
+
+			if (waitNanos > 0) {
+				deferredCounter.increment();
+				return retryAfterMillis(waitNanos);
+			}
+
+			if (theoreticalArrivalNanos.compareAndSet(tat, newTat)) {
+				return 0L;
+			}
+		}
+	}
+
+	public void recordAccepted() {
+		acceptedCounter.increment();
+	}
+
+	public void recordRejected() {
+		rejectedCounter.increment();
+	}
+
+	// 같은 시점에 거절된 클라이언트가 동시에 재접속하지 않도록 지터 추가
+	private long retryAfterMillis(long waitNanos) {
+		long waitMs = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+		if (retryAfterJitterMs == 0) {
+			return waitMs;
+		}
+		return waitMs + ThreadLocalRandom.current().nextLong(retryAfterJitterMs + 1);
+	}
+
+	private static Counter admissionCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("websocket.connect.admission")
+			.description("STOMP CONNECT 수락 제어 결과")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,20 @@
+package com.back.global.websocket.admission;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+
+import lombok.Getter;
+
+/**
+ * CONNECT 수락 한도 초과 (ERROR 프레임의 retry-after 헤더로 재시도 시점 안내)
+ */
+@Getter
+public class ConnectThrottledException extends MessagingException {
+
+	private final long retryAfterMs;
+
+	public ConnectThrottledException(Message<?> message, long retryAfterMs) {
+		super(message, "접속 요청이 많습니다. " + retryAfterMs + "ms 후 다시 시도해주세요");
+		this.retryAfterMs = retryAfterMs;
+	}
+}
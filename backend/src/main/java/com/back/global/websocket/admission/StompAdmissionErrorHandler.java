@@ -0,0 +1,43 @@
+package com.back.global.websocket.admission;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
+
+/**
+ * CONNECT 수락 거절 시 ERROR 프레임에 retry-after(ms) 헤더 추가
+ * 그 외 오류는 기본 ERROR 프레임 유지
+ */
+@Component
+public class StompAdmissionErrorHandler extends StompSubProtocolErrorHandler {
+
+	public static final String RETRY_AFTER_HEADER = "retry-after";
+
+	@Override
+	public Message<byte[]> handleClientMessageProcessingError(Message<byte[]> clientMessage, Throwable ex) {
+		ConnectThrottledException throttled = findThrottled(ex);
+		if (throttled == null) {
+			return super.handleClientMessageProcessingError(clientMessage, ex);
+		}
+
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+		accessor.setMessage(throttled.getMessage());
+		accessor.setNativeHeader(RETRY_AFTER_HEADER, String.valueOf(throttled.getRetryAfterMs()));
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private ConnectThrottledException findThrottled(Throwable ex) {
+		Throwable current = ex;
+		while (current != null) {
+			if (current instanceof ConnectThrottledException throttled) {
+				return throttled;
+			}
+			current = current.getCause();
+		}
+		return null;
+	}
+}
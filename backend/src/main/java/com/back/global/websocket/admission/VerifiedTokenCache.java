@@ -0,0 +1,99 @@
+package com.back.global.websocket.admission;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.back.global.properties.WebSocketProperties;
+import com.back.global.security.JwtClaims;
+import com.back.global.security.JwtProvider;
+import com.back.global.security.VerifiedJwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * CONNECT용 검증된 JWT 캐시
+ *
+ * 재접속 폭주 시 같은 토큰의 HMAC 검증 + claim 파싱을 반복하지 않도록
+ * 검증 결과를 min(토큰 만료 시각, TTL)까지 재사용한다.
+ * 용량 초과 시 만료 항목만 정리하고, 그래도 가득 차 있으면 캐싱하지 않는다 (전체 비우기로 인한 검증 폭주 방지).
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private final JwtProvider jwtProvider;
+	private final int maxSize;
+	private final Duration ttl;
+	private final Clock clock;
+
+	private final ConcurrentHashMap<String, VerifiedJwt> cache = new ConcurrentHashMap<>();
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	@Autowired
+	public VerifiedTokenCache(JwtProvider jwtProvider, WebSocketProperties properties, MeterRegistry meterRegistry) {
+		this(jwtProvider, properties, meterRegistry, Clock.systemUTC());
+	}
+
+	VerifiedTokenCache(JwtProvider jwtProvider, WebSocketProperties properties, MeterRegistry meterRegistry,
+		Clock clock) {
+		this.jwtProvider = jwtProvider;
+		this.maxSize = properties.getAdmission().getTokenCacheMaxSize();
+		this.ttl = Duration.ofSeconds(properties.getAdmission().getTokenCacheTtlSeconds());
+		this.clock = clock;
+
+		Gauge.builder("websocket.connect.token.cache.size", cache, ConcurrentHashMap::size)
+			.register(meterRegistry);
+		this.hitCounter = Counter.builder("websocket.connect.token.cache")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("websocket.connect.token.cache")
+			.tag("result", "miss")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 검증된 claim 반환 (만료/위조/형식 오류 시 null)
+	 */
+	public JwtClaims verify(String token) {
+		Instant now = clock.instant();
+
+		VerifiedJwt cached = cache.get(token);
+		if (cached != null) {
+			if (now.isBefore(cached.expiresAt())) {
+				hitCounter.increment();
+				return cached.claims();
+			}
+			cache.remove(token, cached);
+		}
+
+		missCounter.increment();
+		VerifiedJwt verified = jwtProvider.verifyOrNull(token);
+		if (verified == null || !now.isBefore(verified.expiresAt())) {
+			return null;
+		}
+
+		put(token, verified, now);
+		return verified.claims();
+	}
+
+	private void put(String token, VerifiedJwt verified, Instant now) {
+		if (cache.size() >= maxSize) {
+			cache.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+			if (cache.size() >= maxSize) {
+				return;
+			}
+		}
+
+		Instant ttlExpiresAt = now.plus(ttl);
+		Instant expiresAt = verified.expiresAt().isBefore(ttlExpiresAt) ? verified.expiresAt() : ttlExpiresAt;
+		cache.put(token, new VerifiedJwt(verified.claims(), expiresAt));
+	}
+}
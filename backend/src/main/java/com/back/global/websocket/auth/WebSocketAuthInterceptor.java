@@ -9,7 +9,9 @@ import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 
 import com.back.global.security.JwtClaims;
-import com.back.global.security.JwtProvider;
+import com.back.global.websocket.admission.ConnectAdmissionController;
+import com.back.global.websocket.admission.ConnectThrottledException;
+import com.back.global.websocket.admission.VerifiedTokenCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,7 +27,8 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 	private static final String BEARER_PREFIX = "Bearer ";
 	private static final String AUTHORIZATION_HEADER = "Authorization";
 
-	private final JwtProvider jwtProvider;
+	private final ConnectAdmissionController connectAdmissionController;
+	private final VerifiedTokenCache verifiedTokenCache;
 
 	@Override
 	public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -33,26 +36,29 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
 		if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
 			// STOMP CONNECT 프레임일 때만 인증 처리
+			// JWT 검증 전에 노드 수락 한도부터 확인 (폭주 시 가장 저렴한 단계에서 거절)
+			long retryAfterMs = connectAdmissionController.tryAcquire();
+			if (retryAfterMs > 0) {
+				log.debug("웹소켓 연결 보류 - retryAfterMs: {}", retryAfterMs);
+				throw new ConnectThrottledException(message, retryAfterMs);
+			}
+
 			String authHeader = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
 
 			if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
 				log.warn("웹소켓 연결 거부 - Authorization 헤더 없음 또는 형식 오류");
+				connectAdmissionController.recordRejected();
 				throw new IllegalArgumentException("Authorization 헤더가 없거나 형식이 올바르지 않습니다");
 			}
 
 			String token = authHeader.substring(BEARER_PREFIX.length());
 
-			// JWT 만료 검증
-			if (jwtProvider.isExpired(token)) {
-				log.warn("웹소켓 연결 거부 - JWT 만료");
-				throw new IllegalArgumentException("만료된 토큰입니다");
-			}
-
-			// JWT 파싱 및 userId 추출
-			JwtClaims claims = jwtProvider.payloadOrNull(token);
+			// JWT 검증 (만료 포함) 및 claim 파싱, 재접속 시 캐시된 검증 결과 재사용
+			JwtClaims claims = verifiedTokenCache.verify(token);
 			if (claims == null) {
-				log.warn("웹소켓 연결 거부 - JWT 파싱 실패");
-				throw new IllegalArgumentException("유효하지 않은 토큰입니다");
+				log.warn("웹소켓 연결 거부 - 만료되었거나 유효하지 않은 토큰");
+				connectAdmissionController.recordRejected();
+				throw new IllegalArgumentException("만료되었거나 유효하지 않은 토큰입니다");
 			}
 
 			Long userId = claims.userId();
@@ -60,7 +66,8 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
 			// Principal 설정 (convertAndSendToUser에서 사용)
 			accessor.setUser(new UserPrincipal(userId));
 
-			log.info("웹소켓 연결 성공 - userId: {}", userId);
+			connectAdmissionController.recordAccepted();
+			log.debug("웹소켓 연결 성공 - userId: {}", userId);
 		}
 
 		return message;
@@ -0,0 +1,85 @@
+package com.back.global.websocket.dispatch;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다중 생산자 / 단일 소비자용 고정 크기 링 버퍼 (락 없음)
+ *
+ * - 슬롯마다 시퀀스를 두어 생산자는 tail CAS 한 번으로 슬롯을 선점하고,
+ *   소비자는 슬롯 시퀀스로 기록 완료 여부를 확인한다 (Vyukov bounded queue)
+ * - 용량은 2의 거듭제곱으로 올림
+ */
+final class MpscRingBuffer<E> {
+
+	private final int mask;
+	private final AtomicReferenceArray<E> slots;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong head = new AtomicLong(); // 소비자 전용 (depth 조회용으로만 공유)
+
+	MpscRingBuffer(int requestedCapacity) {
+		int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+		this.mask = capacity - 1;
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	/**
+	 * @return 버퍼가 가득 차 있으면 false
+	 */
+	boolean offer(E element) {
+		while (true) {
+			long position = tail.get();
+			int index = (int)(position & mask);
+			long diff = sequences.get(index) - position;
+
+			if (diff == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					slots.lazySet(index, element);
+					sequences.set(index, position + 1);
+					return true;
+				}
+			} else if (diff < 0) {
+				return false;
+			}
+			// diff > 0 : 다른 생산자가 먼저 선점 → 재시도
+		}
+	}
+
+	/**
+	 * 소비자 스레드에서만 호출
+	 *
+	 * @return 비어 있거나 기록 중인 슬롯이면 null
+	 */
+	E poll() {
+		long position = head.get();
+		int index = (int)(position & mask);
+		if (sequences.get(index) != position + 1) {
+			return null;
+		}
+
+		E element = slots.get(index);
+		slots.lazySet(index, null);
+		sequences.set(index, position + mask + 1);
+		head.lazySet(position + 1);
+		return element;
+	}
+
+	int size() {
+		long size = tail.get() - head.get();
+		return (int)Math.max(0, Math.min(size, capacity()));
+	}
+
+	int capacity() {
+		return mask + 1;
+	}
+
+	boolean isEmpty() {
+		return size() == 0;
+	}
+}
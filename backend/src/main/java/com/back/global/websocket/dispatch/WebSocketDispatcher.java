@@ -0,0 +1,300 @@
+package com.back.global.websocket.dispatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.back.global.properties.WebSocketProperties;
+import com.back.global.websocket.outbound.OutboundBackpressureInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * WebSocket 발행 전용 디스패처
+ *
+ * - destination 해시로 shard를 고정 → 같은 destination(유저/이벤트)의 프레임은 발행 순서대로 전송
+ * - shard마다 락 없는 링 버퍼 + 전용 소비 스레드 1개
+ * - 한 번에 최대 batchSize개를 꺼내 전송, 같은 conflationKey가 배치 안에 여러 번 있으면 마지막 것만 전송
+ * - 버퍼 포화 시 overflowPolicy 적용 (BLOCK / DROP / CALLER_RUNS)
+ * - binaryFrames 설정 시 binaryDestinations에 맞는 destination만 payload를 미리 JSON 바이트로 직렬화해
+ *   octet-stream으로 전송 (네이티브 세션은 binary 프레임), 나머지는 기존 JSON text 프레임
+ * - 지표: websocket.dispatch.depth{shard}, websocket.dispatch.lag, websocket.dispatch.dropped,
+ *   websocket.dispatch.coalesced
+ */
+@Slf4j
+@Component
+public class WebSocketDispatcher {
+
+	public enum OverflowPolicy {
+		BLOCK, // blockTimeoutMs 동안 빈 슬롯 대기 후 실패 시 drop
+		DROP, // 즉시 drop
+		CALLER_RUNS // 호출 스레드에서 바로 전송 (해당 프레임의 순서 보장 포기)
+	}
+
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ObjectMapper objectMapper;
+	private final WebSocketProperties.Dispatch config;
+	private final boolean binaryFrames;
+	private final List<String> binaryDestinations;
+	private final AntPathMatcher destinationMatcher = new AntPathMatcher();
+
+	private final List<Shard> shards = new ArrayList<>();
+	private final AtomicBoolean running = new AtomicBoolean(false);
+
+	private final Timer lagTimer;
+	private final Counter droppedCounter;
+	private final Counter coalescedCounter;
+
+	public WebSocketDispatcher(
+		SimpMessagingTemplate messagingTemplate,
+		ObjectMapper objectMapper,
+		WebSocketProperties properties,
+		MeterRegistry meterRegistry
+	) {
+		this.messagingTemplate = messagingTemplate;
+		this.objectMapper = objectMapper;
+		this.config = properties.getDispatch();
+		this.binaryFrames = properties.getEndpoint().isBinaryFrames();
+		this.binaryDestinations = List.copyOf(properties.getEndpoint().getBinaryDestinations());
+
+		for (int i = 0; i < Math.max(1, config.getShards()); i++) {
+			Shard shard = new Shard(i, new MpscRingBuffer<>(config.getBufferSize()));
+			shards.add(shard);
+			Gauge.builder("websocket.dispatch.depth", shard.buffer, MpscRingBuffer::size)
+				.description("shard별 전송 대기 프레임 수")
+				.tag("shard", String.valueOf(i))
+				.register(meterRegistry);
+		}
+
+		this.lagTimer = Timer.builder("websocket.dispatch.lag")
+			.description("발행 요청부터 브로커 전달까지 지연")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		this.droppedCounter = Counter.builder("websocket.dispatch.dropped")
+			.description("버퍼 포화로 버려진 프레임 수")
+			.register(meterRegistry);
+		this.coalescedCounter = Counter.builder("websocket.dispatch.coalesced")
+			.description("배치 내 최신 프레임으로 대체된 프레임 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		if (!running.compareAndSet(false, true)) {
+			return;
+		}
+		for (Shard shard : shards) {
+			shard.thread = Thread.ofPlatform()
+				.name("ws-dispatch-" + shard.index)
+				.daemon(true)
+				.start(() -> runLoop(shard));
+		}
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (!running.compareAndSet(true, false)) {
+			return;
+		}
+		for (Shard shard : shards) {
+			LockSupport.unpark(shard.thread);
+		}
+		for (Shard shard : shards) {
+			try {
+				shard.thread.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * destination 순서를 보장하며 비동기 전송
+	 *
+	 * @param conflationKey null이 아니면 배치 내/느린 세션에서 같은 키의 최신 프레임만 전송
+	 */
+	public void dispatch(String destination, Object payload, String conflationKey) {
+		Envelope envelope = new Envelope(destination, payload, conflationKey, System.nanoTime());
+		Shard shard = shardOf(destination);
+
+		if (shard.buffer.offer(envelope)) {
+			shard.wakeUp();
+			return;
+		}
+
+		switch (config.getOverflowPolicy()) {
+			case BLOCK -> {
+				if (!offerWithin(shard, envelope, TimeUnit.MILLISECONDS.toNanos(config.getBlockTimeoutMs()))) {
+					drop(envelope);
+				}
+			}
+			case CALLER_RUNS -> send(envelope);
+			case DROP -> drop(envelope);
+		}
+	}
+
+	public void dispatch(String destination, Object payload) {
+		dispatch(destination, payload, null);
+	}
+
+	private boolean offerWithin(Shard shard, Envelope envelope, long timeoutNanos) {
+		long deadline = System.nanoTime() + timeoutNanos;
+		while (System.nanoTime() < deadline) {
+			shard.wakeUp();
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+			if (shard.buffer.offer(envelope)) {
+				shard.wakeUp();
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void runLoop(Shard shard) {
+		List<Envelope> batch = new ArrayList<>(config.getBatchSize());
+		while (running.get() || !shard.buffer.isEmpty()) {
+			drainTo(shard, batch);
+			if (!batch.isEmpty()) {
+				sendBatch(batch);
+				batch.clear();
+				continue;
+			}
+
+			if (!shard.buffer.isEmpty()) {
+				// 생산자가 슬롯 선점 후 기록 중
+				Thread.onSpinWait();
+				continue;
+			}
+
+			shard.sleeping = true;
+			if (shard.buffer.isEmpty() && running.get()) {
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(config.getIdleParkMs()));
+			}
+			shard.sleeping = false;
+		}
+	}
+
+	private void drainTo(Shard shard, List<Envelope> batch) {
+		Envelope envelope;
+		while (batch.size() < config.getBatchSize() && (envelope = shard.buffer.poll()) != null) {
+			batch.add(envelope);
+		}
+	}
+
+	private void sendBatch(List<Envelope> batch) {
+		// 같은 conflationKey의 마지막 위치만 전송
+		Map<String, Integer> lastIndexByKey = new HashMap<>();
+		for (int i = 0; i < batch.size(); i++) {
+			String key = batch.get(i).conflationKey();
+			if (key != null) {
+				lastIndexByKey.put(key, i);
+			}
+		}
+
+		for (int i = 0; i < batch.size(); i++) {
+			Envelope envelope = batch.get(i);
+			String key = envelope.conflationKey();
+			if (key != null && lastIndexByKey.get(key) != i) {
+				coalescedCounter.increment();
+				continue;
+			}
+			send(envelope);
+		}
+	}
+
+	private void send(Envelope envelope) {
+		try {
+			if (isBinary(envelope.destination())) {
+				// JSON 직렬화를 한 번만 수행하고 octet-stream으로 전송 → 네이티브 세션은 binary 프레임 (SockJS는 text)
+				messagingTemplate.convertAndSend(
+					envelope.destination(),
+					objectMapper.writeValueAsBytes(envelope.payload()),
+					headersOf(envelope, MimeTypeUtils.APPLICATION_OCTET_STREAM)
+				);
+			} else if (envelope.conflationKey() == null) {
+				messagingTemplate.convertAndSend(envelope.destination(), envelope.payload());
+			} else {
+				messagingTemplate.convertAndSend(envelope.destination(), envelope.payload(), headersOf(envelope, null));
+			}
+		} catch (Exception e) {
+			log.error("WS_DISPATCH_FAILED destination={}", envelope.destination(), e);
+		} finally {
+			lagTimer.record(System.nanoTime() - envelope.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private boolean isBinary(String destination) {
+		if (!binaryFrames) {
+			return false;
+		}
+		for (String pattern : binaryDestinations) {
+			if (destinationMatcher.match(pattern, destination)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private MessageHeaders headersOf(Envelope envelope, MimeType contentType) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		if (envelope.conflationKey() != null) {
+			accessor.setHeader(OutboundBackpressureInterceptor.CONFLATION_KEY_HEADER, envelope.conflationKey());
+		}
+		if (contentType != null) {
+			accessor.setContentType(contentType);
+		}
+		accessor.setLeaveMutable(true);
+		return accessor.getMessageHeaders();
+	}
+
+	private void drop(Envelope envelope) {
+		droppedCounter.increment();
+		log.warn("WS_DISPATCH_DROPPED destination={} policy={}", envelope.destination(), config.getOverflowPolicy());
+	}
+
+	private Shard shardOf(String destination) {
+		return shards.get(Math.floorMod(destination.hashCode(), shards.size()));
+	}
+
+	private record Envelope(String destination, Object payload, String conflationKey, long enqueuedAtNanos) {
+	}
+
+	private static final class Shard {
+		private final int index;
+		private final MpscRingBuffer<Envelope> buffer;
+		private volatile Thread thread;
+		private volatile boolean sleeping;
+
+		private Shard(int index, MpscRingBuffer<Envelope> buffer) {
+			this.index = index;
+			this.buffer = buffer;
+		}
+
+		private void wakeUp() {
+			if (sleeping) {
+				LockSupport.unpark(thread);
+			}
+		}
+	}
+}
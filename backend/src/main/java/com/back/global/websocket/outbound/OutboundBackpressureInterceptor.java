@@ -0,0 +1,238 @@
+package com.back.global.websocket.outbound;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import com.back.global.properties.WebSocketProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * clientOutboundChannel 백프레셔 / 느린 소비자 처리 Interceptor
+ *
+ * - 세션별 전송 대기 바이트 집계 (websocket.outbound.queued.bytes)
+ * - conflationKey 헤더가 붙은 프레임은 같은 세션 + 같은 키의 더 최신 프레임이 대기 중이면 전송 생략 (최신 값만 유지)
+ * - 전송 제한 초과로 종료된 세션 집계 (websocket.sessions.evicted)
+ */
+@Slf4j
+@Component
+public class OutboundBackpressureInterceptor implements ExecutorChannelInterceptor {
+
+	public static final String CONFLATION_KEY_HEADER = "conflationKey";
+	private static final String CONFLATION_SEQ_HEADER = "conflationSeq";
+
+	private final boolean conflationEnabled;
+
+	// sessionId → 세션별 전송 대기 현황
+	private final ConcurrentHashMap<String, SessionBacklog> backlogs = new ConcurrentHashMap<>();
+
+	// 프레임 순서 비교용 전역 시퀀스 (키별 카운터를 쓰면 정리 시점에 순서가 역전될 수 있음)
+	private final AtomicLong sequence = new AtomicLong();
+	private final AtomicLong totalQueuedBytes = new AtomicLong();
+
+	private final Counter conflatedCounter;
+	private final Counter rejectedCounter;
+	private final Counter evictedCounter;
+
+	public OutboundBackpressureInterceptor(MeterRegistry meterRegistry, WebSocketProperties properties) {
+		this.conflationEnabled = properties.getOutbound().isConflationEnabled();
+
+		Gauge.builder("websocket.outbound.queued.bytes", totalQueuedBytes, AtomicLong::get)
+			.description("전송 대기 중인 outbound 프레임 바이트 합계")
+			.register(meterRegistry);
+		Gauge.builder("websocket.outbound.sessions", backlogs, ConcurrentHashMap::size)
+			.description("outbound 집계 대상 세션 수")
+			.register(meterRegistry);
+
+		this.conflatedCounter = Counter.builder("websocket.outbound.frames.dropped")
+			.description("전송 생략된 outbound 프레임 수")
+			.tag("reason", "conflated")
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("websocket.outbound.frames.dropped")
+			.description("전송 생략된 outbound 프레임 수")
+			.tag("reason", "rejected")
+			.register(meterRegistry);
+		this.evictedCounter = Counter.builder("websocket.sessions.evicted")
+			.description("전송 시간/버퍼 제한 초과로 종료된 세션 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 발행 시 conflation 키를 지정하기 위한 헤더
+	 * 같은 키의 프레임은 느린 세션에서 최신 것만 전송된다 (STOMP 프레임에는 포함되지 않음)
+	 */
+	public static MessageHeaders conflationHeaders(String conflationKey) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setHeader(CONFLATION_KEY_HEADER, conflationKey);
+		accessor.setLeaveMutable(true);
+		return accessor.getMessageHeaders();
+	}
+
+	/**
+	 * 브로커 스레드에서 호출 (executor 큐 적재 전)
+	 */
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		SessionBacklog backlog = backlogOf(message);
+		if (backlog == null) {
+			return message;
+		}
+
+		int bytes = payloadSize(message);
+		backlog.enqueue(bytes);
+		totalQueuedBytes.addAndGet(bytes);
+
+		String conflationKey = conflationKeyOf(message);
+		if (!conflationEnabled || conflationKey == null) {
+			return message;
+		}
+
+		long seq = sequence.incrementAndGet();
+		backlog.latestSeq.merge(conflationKey, seq, Math::max);
+
+		MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+		accessor.setHeader(CONFLATION_SEQ_HEADER, seq);
+		return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+	}
+
+	/**
+	 * executor 큐 적재 실패 (큐 포화) 시 집계 해제
+	 */
+	@Override
+	public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+		if (sent && ex == null) {
+			return;
+		}
+
+		SessionBacklog backlog = backlogOf(message);
+		if (backlog != null) {
+			// 전송되지 못한 프레임이 최신 값으로 남아 이전 프레임까지 생략되지 않도록 제거
+			Long seq = message.getHeaders().get(CONFLATION_SEQ_HEADER, Long.class);
+			if (seq != null) {
+				backlog.latestSeq.remove(conflationKeyOf(message), seq);
+			}
+			release(backlog, message);
+		}
+		rejectedCounter.increment();
+	}
+
+	/**
+	 * outbound 스레드에서 실제 전송 직전 호출
+	 * 같은 키의 더 최신 프레임이 이미 대기 중이면 null 반환 → 전송 생략
+	 */
+	@Override
+	public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+		Long seq = message.getHeaders().get(CONFLATION_SEQ_HEADER, Long.class);
+		if (seq == null) {
+			return message;
+		}
+
+		SessionBacklog backlog = backlogOf(message);
+		if (backlog == null) {
+			return message;
+		}
+
+		Long latest = backlog.latestSeq.get(conflationKeyOf(message));
+		if (latest != null && latest > seq) {
+			release(backlog, message);
+			conflatedCounter.increment();
+			return null;
+		}
+		return message;
+	}
+
+	@Override
+	public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+		Exception ex) {
+		SessionBacklog backlog = backlogOf(message);
+		if (backlog != null) {
+			release(backlog, message);
+		}
+	}
+
+	@EventListener
+	public void handleSessionConnect(SessionConnectEvent event) {
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+		if (sessionId != null) {
+			backlogs.putIfAbsent(sessionId, new SessionBacklog());
+		}
+	}
+
+	@EventListener
+	public void handleSessionDisconnect(SessionDisconnectEvent event) {
+		SessionBacklog backlog = backlogs.remove(event.getSessionId());
+		if (backlog != null) {
+			totalQueuedBytes.addAndGet(-backlog.queuedBytes.get());
+		}
+
+		if (CloseStatus.SESSION_NOT_RELIABLE.equals(event.getCloseStatus())) {
+			evictedCounter.increment();
+			log.warn("웹소켓 느린 세션 종료 - sessionId: {}, 대기 바이트: {}",
+				event.getSessionId(), backlog != null ? backlog.queuedBytes.get() : 0);
+		}
+	}
+
+	public long getTotalQueuedBytes() {
+		return totalQueuedBytes.get();
+	}
+
+	private void release(SessionBacklog backlog, Message<?> message) {
+		int bytes = payloadSize(message);
+		totalQueuedBytes.addAndGet(-bytes);
+		backlog.dequeue(bytes);
+	}
+
+	private SessionBacklog backlogOf(Message<?> message) {
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+		return sessionId != null ? backlogs.get(sessionId) : null;
+	}
+
+	private String conflationKeyOf(Message<?> message) {
+		return message.getHeaders().get(CONFLATION_KEY_HEADER, String.class);
+	}
+
+	private int payloadSize(Message<?> message) {
+		return message.getPayload() instanceof byte[] bytes ? bytes.length : 0;
+	}
+
+	/**
+	 * 세션별 전송 대기 현황
+	 * 대기 프레임이 모두 처리되면 latestSeq를 비워 키 수가 대기 프레임 수를 넘지 않도록 유지
+	 */
+	private static class SessionBacklog {
+		private final AtomicLong queuedBytes = new AtomicLong();
+		private final AtomicInteger inFlight = new AtomicInteger();
+		private final ConcurrentHashMap<String, Long> latestSeq = new ConcurrentHashMap<>();
+
+		private void enqueue(int bytes) {
+			inFlight.incrementAndGet();
+			queuedBytes.addAndGet(bytes);
+		}
+
+		private void dequeue(int bytes) {
+			queuedBytes.addAndGet(-bytes);
+			if (inFlight.decrementAndGet() == 0) {
+				latestSeq.clear();
+			}
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.back.global.websocket.transport;
+
+import java.util.List;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+/**
+ * 네이티브 WebSocket 엔드포인트용 HandshakeHandler
+ *
+ * 클라이언트가 요청하고 서버(Tomcat)가 지원하는 확장 중 permessage-deflate만 협상한다.
+ * compressionEnabled=false면 확장을 모두 거절해 압축 없이 연결한다.
+ */
+public class CompressionNegotiatingHandshakeHandler extends DefaultHandshakeHandler {
+
+	public static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+	private final boolean compressionEnabled;
+
+	public CompressionNegotiatingHandshakeHandler(boolean compressionEnabled) {
+		this.compressionEnabled = compressionEnabled;
+	}
+
+	@Override
+	protected List<WebSocketExtension> filterRequestedExtensions(
+		ServerHttpRequest request,
+		List<WebSocketExtension> requestedExtensions,
+		List<WebSocketExtension> supportedExtensions
+	) {
+		if (!compressionEnabled) {
+			return List.of();
+		}
+
+		return super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions).stream()
+			.filter(extension -> PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+			.toList();
+	}
+}
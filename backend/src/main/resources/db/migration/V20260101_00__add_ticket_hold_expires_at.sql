@@ -0,0 +1,22 @@
+/* =========================================================
+ * 1. Alter: tickets - add hold_expires_at (Draft 좌석 홀드 만료 시각)
+ * ========================================================= */
+ALTER TABLE tickets
+    ADD COLUMN IF NOT EXISTS hold_expires_at TIMESTAMP NULL;
+
+
+/* =========================================================
+ * 2. Backfill: 진행 중인 Draft 티켓은 기존 기준(생성 후 5분)으로 채움
+ * ========================================================= */
+UPDATE tickets
+SET hold_expires_at = created_at + INTERVAL '5 minutes'
+WHERE ticket_status = 'DRAFT'
+  AND hold_expires_at IS NULL;
+
+
+/* =========================================================
+ * 3. Partial Index: 만료 대상 Draft 조회 (폴백 스케줄러)
+ * ========================================================= */
+CREATE INDEX IF NOT EXISTS idx_tickets_draft_hold_expires_at
+    ON tickets (hold_expires_at)
+    WHERE ticket_status = 'DRAFT';
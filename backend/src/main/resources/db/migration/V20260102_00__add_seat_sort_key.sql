@@ -0,0 +1,34 @@
+/* =========================================================
+ * 1. Alter: seats - add sort_key (좌석 코드 자연 정렬 키: 행 순번 * 1000000 + 좌석 번호)
+ * ========================================================= */
+ALTER TABLE seats
+    ADD COLUMN IF NOT EXISTS sort_key BIGINT NULL;
+
+
+/* =========================================================
+ * 2. Backfill: SeatRowLabels.sortKey와 같은 규칙
+ *    - 행 문자 1~4자 + 번호 1~6자리: A → 0, Z → 25, AA → 26 (대소문자 구분 없음)
+ *    - 그 외 형식은 맨 뒤 (Long.MAX_VALUE)
+ * ========================================================= */
+UPDATE seats
+SET sort_key = CASE
+    WHEN seat_code ~ '^[A-Za-z]{1,4}[0-9]{1,6}$' THEN
+        (
+            (SELECT SUM((ascii(substr(r.label, i, 1)) - 64) * power(26, length(r.label) - i))::BIGINT
+             FROM (SELECT upper(substring(seat_code FROM '^[A-Za-z]+')) AS label) r,
+                  generate_series(1, length(r.label)) AS i) - 1
+        ) * 1000000
+        + substring(seat_code FROM '[0-9]+$')::BIGINT
+    ELSE 9223372036854775807
+END
+WHERE sort_key IS NULL;
+
+ALTER TABLE seats
+    ALTER COLUMN sort_key SET NOT NULL;
+
+
+/* =========================================================
+ * 3. Index: 관리자 좌석 목록 (등급 → 행 → 번호 순 범위 스캔 + keyset 이어 읽기)
+ * ========================================================= */
+CREATE INDEX IF NOT EXISTS idx_seats_event_grade_sort_key
+    ON seats (event_id, grade, sort_key, id);
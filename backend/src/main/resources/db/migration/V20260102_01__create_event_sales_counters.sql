@@ -0,0 +1,35 @@
+/* =========================================================
+ * 1. Create: event_sales_counters (이벤트별 판매 현황 누적 카운터)
+ *    - 이벤트마다 slot 행 여러 개, 현황 = slot 합
+ * ========================================================= */
+CREATE TABLE IF NOT EXISTS event_sales_counters
+(
+    id                 BIGSERIAL PRIMARY KEY,
+    event_id           BIGINT    NOT NULL,
+    slot               INT       NOT NULL,
+    pre_register_count BIGINT    NOT NULL DEFAULT 0,
+    available_seats    BIGINT    NOT NULL DEFAULT 0,
+    reserved_seats     BIGINT    NOT NULL DEFAULT 0,
+    sold_seats         BIGINT    NOT NULL DEFAULT 0,
+    sales_amount       BIGINT    NOT NULL DEFAULT 0,
+    modified_at        TIMESTAMP NULL,
+    CONSTRAINT uk_event_sales_counters_event_slot UNIQUE (event_id, slot)
+);
+
+
+/* =========================================================
+ * 2. Backfill: 기존 이벤트 현황을 slot 0에 적재
+ * ========================================================= */
+INSERT INTO event_sales_counters
+    (event_id, slot, pre_register_count, available_seats, reserved_seats, sold_seats, sales_amount, modified_at)
+SELECT e.id,
+       0,
+       (SELECT COUNT(*) FROM pre_registers p
+        WHERE p.event_id = e.id AND p.pre_register_status = 'REGISTERED'),
+       (SELECT COUNT(*) FROM seats s WHERE s.event_id = e.id AND s.seat_status = 'AVAILABLE'),
+       (SELECT COUNT(*) FROM seats s WHERE s.event_id = e.id AND s.seat_status = 'RESERVED'),
+       (SELECT COUNT(*) FROM seats s WHERE s.event_id = e.id AND s.seat_status = 'SOLD'),
+       (SELECT COALESCE(SUM(s.price), 0) FROM seats s WHERE s.event_id = e.id AND s.seat_status = 'SOLD'),
+       now()
+FROM events e
+ON CONFLICT (event_id, slot) DO NOTHING;
@@ -0,0 +1,15 @@
+/* =========================================================
+ * 1. Alter: seats - grade에 GA(스탠딩) 허용
+ *    (Hibernate가 생성한 enum check 제약이 있으면 제거)
+ * ========================================================= */
+ALTER TABLE seats
+    DROP CONSTRAINT IF EXISTS seats_grade_check;
+
+
+/* =========================================================
+ * 2. Partial Index: 스탠딩 빈 단위 배정 (FOR UPDATE SKIP LOCKED, id 순)
+ * ========================================================= */
+CREATE INDEX IF NOT EXISTS idx_seats_ga_available
+    ON seats (event_id, id)
+    WHERE grade = 'GA'
+      AND seat_status = 'AVAILABLE';
@@ -0,0 +1,5 @@
+/* =========================================================
+ * 1. Index: 구역(등급) 단위 좌석 조회 / 구역별 상태 집계
+ * ========================================================= */
+CREATE INDEX IF NOT EXISTS idx_seats_event_grade_status
+    ON seats (event_id, grade, seat_status);
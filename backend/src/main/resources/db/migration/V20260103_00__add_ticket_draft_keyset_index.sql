@@ -0,0 +1,7 @@
+/* =========================================================
+ * 1. Partial Index: 만료 Draft 일괄 처리 (폴백 스케줄러 id keyset)
+ *    id 순으로 Draft만 훑으면서 hold_expires_at을 인덱스에서 바로 거름
+ * ========================================================= */
+CREATE INDEX IF NOT EXISTS idx_tickets_draft_id_hold_expires_at
+    ON tickets (id, hold_expires_at)
+    WHERE ticket_status = 'DRAFT';
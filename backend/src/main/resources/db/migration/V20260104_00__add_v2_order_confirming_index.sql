@@ -0,0 +1,7 @@
+/* =========================================================
+ * 1. Partial Index: CONFIRMING 주문 복구 (결제 승인 복구 스케줄러)
+ *    승인 중인 주문만 modified_at 순으로 훑음 (대부분의 주문은 PAID/FAILED라 인덱스가 작게 유지됨)
+ * ========================================================= */
+CREATE INDEX IF NOT EXISTS idx_v2_orders_confirming_modified_at
+    ON v2_orders (modified_at)
+    WHERE status = 'CONFIRMING';
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,6 +17,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.back.api.event.dto.request.EventCreateRequest;
 import com.back.api.event.dto.request.EventUpdateRequest;
@@ -23,10 +25,7 @@ import com.back.api.event.dto.response.AdminEventDashboardResponse;
 import com.back.api.event.dto.response.EventResponse;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.repository.EventRepository;
-import com.back.domain.preregister.entity.PreRegisterStatus;
-import com.back.domain.preregister.repository.PreRegisterRepository;
-import com.back.domain.seat.entity.SeatStatus;
-import com.back.domain.seat.repository.SeatRepository;
+import com.back.domain.event.repository.EventSalesCounterRepository.Summary;
 import com.back.domain.store.entity.Store;
 import com.back.support.factory.EventFactory;
 import com.back.support.factory.StoreFactory;
@@ -45,10 +44,7 @@ class AdminEventServiceTest {
 	private EventRepository eventRepository;
 
 	@Mock
-	private PreRegisterRepository preRegisterRepository;
-
-	@Mock
-	private SeatRepository seatRepository;
+	private EventSalesCounterService eventSalesCounterService;
 
 	private final Store store = StoreFactory.fakeStore(1L);
 
@@ -125,6 +121,8 @@ class AdminEventServiceTest {
 			// given
 			Event event1 = EventFactory.fakeEvent(store, "이벤트1");
 			Event event2 = EventFactory.fakeEvent(store, "이벤트2");
+			ReflectionTestUtils.setField(event1, "id", 1L);
+			ReflectionTestUtils.setField(event2, "id", 2L);
 			List<Event> events = List.of(event1, event2);
 
 			Pageable pageable = PageRequest.of(0, 20);
@@ -132,10 +130,8 @@ class AdminEventServiceTest {
 
 			given(eventRepository.findAllByStore_Id(any(Pageable.class), eq(store.getId())))
 				.willReturn(eventPage);
-			given(preRegisterRepository.countByEvent_IdAndPreRegisterStatus(
-				any(), eq(PreRegisterStatus.REGISTERED))).willReturn(10L);
-			given(seatRepository.countByEventIdAndSeatStatus(any(), eq(SeatStatus.SOLD))).willReturn(5L);
-			given(seatRepository.sumPriceByEventIdAndSeatStatus(any(), eq(SeatStatus.SOLD))).willReturn(50000L);
+			given(eventSalesCounterService.getSummaries(List.of(1L, 2L)))
+				.willReturn(Map.of(1L, new Summary(10L, 80L, 5L, 5L, 50000L)));
 
 			// when
 			Page<AdminEventDashboardResponse> results = adminEventService.getAllEventsDashboard(0, 20, store.getId());
@@ -148,8 +144,11 @@ class AdminEventServiceTest {
 			assertThat(results.getNumber()).isEqualTo(0);
 
 			assertThat(results.getContent().get(0).preRegisterCount()).isEqualTo(10L);
+			assertThat(results.getContent().get(0).availableSeats()).isEqualTo(80L);
+			assertThat(results.getContent().get(0).reservedSeats()).isEqualTo(5L);
 			assertThat(results.getContent().get(0).totalSoldSeats()).isEqualTo(5L);
 			assertThat(results.getContent().get(0).totalSalesAmount()).isEqualTo(50000L);
+			verify(eventSalesCounterService).getSummaries(List.of(1L, 2L));
 		}
 
 		@Test
@@ -172,25 +171,24 @@ class AdminEventServiceTest {
 		}
 
 		@Test
-		@DisplayName("총 판매 금액이 null이면 0을 반환한다")
-		void getAllEventsDashboard_NullSalesAmount() {
+		@DisplayName("카운터가 없는 이벤트는 0으로 반환한다")
+		void getAllEventsDashboard_NoCounter() {
 			// given
 			Event event = EventFactory.fakeEvent(store, "이벤트");
+			ReflectionTestUtils.setField(event, "id", 1L);
 			Pageable pageable = PageRequest.of(0, 20);
 			Page<Event> eventPage = new PageImpl<>(List.of(event), pageable, 1);
 
 			given(eventRepository.findAllByStore_Id(any(Pageable.class), eq(store.getId())))
 				.willReturn(eventPage);
-			given(preRegisterRepository.countByEvent_IdAndPreRegisterStatus(
-				any(), eq(PreRegisterStatus.REGISTERED))).willReturn(0L);
-			given(seatRepository.countByEventIdAndSeatStatus(any(), eq(SeatStatus.SOLD))).willReturn(0L);
-			given(seatRepository.sumPriceByEventIdAndSeatStatus(any(), eq(SeatStatus.SOLD))).willReturn(null);
+			given(eventSalesCounterService.getSummaries(List.of(1L))).willReturn(Map.of());
 
 			// when
 			Page<AdminEventDashboardResponse> results = adminEventService.getAllEventsDashboard(0, 20, store.getId());
 
 			// then
 			assertThat(results.getContent()).hasSize(1);
+			assertThat(results.getContent().get(0).totalSoldSeats()).isEqualTo(0L);
 			assertThat(results.getContent().get(0).totalSalesAmount()).isEqualTo(0L);
 		}
 	}
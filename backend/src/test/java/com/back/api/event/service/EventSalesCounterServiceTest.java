@@ -0,0 +1,97 @@
+package com.back.api.event.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.back.domain.event.entity.Event;
+import com.back.domain.event.repository.EventSalesCounterRepository.Summary;
+import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+import com.back.domain.store.entity.Store;
+import com.back.support.helper.EventHelper;
+import com.back.support.helper.SeatHelper;
+import com.back.support.helper.StoreHelper;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("EventSalesCounterService 통합 테스트")
+class EventSalesCounterServiceTest {
+
+	@Autowired
+	private EventSalesCounterService eventSalesCounterService;
+
+	@Autowired
+	private EventHelper eventHelper;
+
+	@Autowired
+	private SeatHelper seatHelper;
+
+	@Autowired
+	private StoreHelper storeHelper;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Store store;
+
+	private Event event;
+
+	@BeforeEach
+	void setUp() {
+		store = storeHelper.createStore();
+		event = eventHelper.createEvent(store, "카운터 테스트 콘서트");
+	}
+
+	@Test
+	@DisplayName("여러 slot에 나뉜 증감이 이벤트 현황 하나로 합산된다")
+	void summaryAcrossSlots() {
+		Long eventId = event.getId();
+
+		eventSalesCounterService.seatsMoved(eventId, null, SeatStatus.AVAILABLE, 10, 0);
+		for (int i = 0; i < 3; i++) {
+			eventSalesCounterService.seatMoved(eventId, SeatStatus.AVAILABLE, SeatStatus.RESERVED, 50000);
+		}
+		eventSalesCounterService.seatMoved(eventId, SeatStatus.RESERVED, SeatStatus.SOLD, 50000);
+		eventSalesCounterService.seatMoved(eventId, SeatStatus.RESERVED, SeatStatus.SOLD, 70000);
+		eventSalesCounterService.seatMoved(eventId, SeatStatus.SOLD, SeatStatus.AVAILABLE, 70000);
+		eventSalesCounterService.preRegisterChanged(eventId, 1);
+		eventSalesCounterService.preRegisterChanged(eventId, 1);
+		eventSalesCounterService.preRegisterChanged(eventId, -1);
+
+		Summary summary = eventSalesCounterService.getSummaries(List.of(eventId)).get(eventId);
+
+		assertThat(summary).isEqualTo(new Summary(1, 8, 1, 1, 50000));
+	}
+
+	@Test
+	@DisplayName("재계산은 서비스를 거치지 않은 좌석 변경까지 원본 기준으로 맞춘다")
+	void rebuildFromSourceTables() {
+		seatHelper.createSeat(event, "A1", SeatGrade.R, 100000);
+		seatHelper.createSeat(event, "A2", SeatGrade.R, 100000);
+		Seat sold = seatHelper.createSeat(event, "A3", SeatGrade.VIP, 150000);
+		sold.setSeatStatusForPerf(SeatStatus.SOLD);
+		entityManager.flush();
+
+		// 잘못 누적된 카운터
+		eventSalesCounterService.seatsMoved(event.getId(), null, SeatStatus.AVAILABLE, 99, 0);
+
+		int rebuilt = eventSalesCounterService.rebuild(store.getId());
+		Summary summary = eventSalesCounterService.getSummaries(List.of(event.getId())).get(event.getId());
+
+		assertThat(rebuilt).isEqualTo(1);
+		assertThat(summary).isEqualTo(new Summary(0, 2, 0, 1, 150000));
+	}
+}
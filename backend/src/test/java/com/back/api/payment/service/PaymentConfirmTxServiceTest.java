@@ -0,0 +1,139 @@
+package com.back.api.payment.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.api.payment.order.service.OrderService;
+import com.back.api.payment.payment.service.PaymentConfirmTxService;
+import com.back.api.queue.service.QueueEntryProcessService;
+import com.back.api.seat.service.SeatService;
+import com.back.api.ticket.scheduler.SeatHoldTimer;
+import com.back.api.ticket.service.TicketService;
+import com.back.domain.event.entity.Event;
+import com.back.domain.payment.order.entity.OrderStatus;
+import com.back.domain.payment.order.entity.V2_Order;
+import com.back.domain.payment.order.repository.V2_OrderRepository;
+import com.back.domain.payment.payment.repository.PaymentRepository;
+import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.ticket.entity.Ticket;
+import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.TicketRepository;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.entity.UserRole;
+import com.back.global.properties.PaymentConfirmProperties;
+import com.back.support.factory.EventFactory;
+import com.back.support.factory.SeatFactory;
+import com.back.support.factory.StoreFactory;
+import com.back.support.factory.TicketFactory;
+import com.back.support.factory.UserFactory;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentConfirmTxService 단위 테스트")
+class PaymentConfirmTxServiceTest {
+
+	private static final String ORDER_ID = "order-1";
+	private static final String PAYMENT_KEY = "toss_payment_key";
+	private static final Long AMOUNT = 50_000L;
+	private static final Long USER_ID = 100L;
+	private static final Long TICKET_ID = 10L;
+
+	@Mock
+	private OrderService orderService;
+	@Mock
+	private SeatService seatService;
+	@Mock
+	private SeatHoldTimer seatHoldTimer;
+	@Mock
+	private QueueEntryProcessService queueEntryProcessService;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private V2_OrderRepository v2_orderRepository;
+	@Mock
+	private PaymentRepository paymentRepository;
+	@Mock
+	private TicketRepository ticketRepository;
+
+	private PaymentConfirmTxService paymentConfirmTxService;
+	private TicketService ticketService;
+	private Seat seat;
+	private Ticket ticket;
+
+	@BeforeEach
+	void setUp() {
+		// 홀드 만료 처리(expireHoldIfDue)는 실제 로직으로 확인, 필요한 의존성만 주입
+		ticketService = new TicketService(ticketRepository, null, null, null, seatService, null, null);
+		paymentConfirmTxService = new PaymentConfirmTxService(orderService, ticketService, seatHoldTimer,
+			queueEntryProcessService, eventPublisher, v2_orderRepository, paymentRepository, ticketRepository,
+			new PaymentConfirmProperties());
+
+		User user = UserFactory.fakeUser(UserRole.NORMAL).user();
+		Event event = EventFactory.fakeEvent(StoreFactory.fakeStore(1L));
+		seat = SeatFactory.fakeSeat(event, "A1", SeatGrade.VIP, 50_000);
+		seat.markAsReserved();
+		ticket = TicketFactory.fakeDraftTicket(user, seat, event);
+		ReflectionTestUtils.setField(ticket, "id", TICKET_ID);
+
+		V2_Order order = V2_Order.builder().orderId(ORDER_ID).ticket(ticket).amount(AMOUNT)
+			.status(OrderStatus.PENDING).build();
+		given(orderService.v2_getOrderForPayment(ORDER_ID, USER_ID, AMOUNT)).willReturn(order);
+	}
+
+	@Test
+	@DisplayName("승인 시작 - 홀드를 연장하고 연장된 만료 시각을 홀드 타이머에 등록")
+	void begin_SchedulesExtendedHold() {
+		given(ticketRepository.extendHold(eq(TICKET_ID), eq(TicketStatus.DRAFT), any(), any())).willReturn(1);
+		given(v2_orderRepository.startConfirming(eq(ORDER_ID), eq(PAYMENT_KEY), eq(OrderStatus.PENDING),
+			eq(OrderStatus.CONFIRMING), any())).willReturn(1);
+		LocalDateTime before = LocalDateTime.now();
+
+		paymentConfirmTxService.begin(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID);
+
+		ArgumentCaptor<LocalDateTime> extended = ArgumentCaptor.forClass(LocalDateTime.class);
+		then(ticketRepository).should().extendHold(eq(TICKET_ID), eq(TicketStatus.DRAFT), extended.capture(), any());
+		then(seatHoldTimer).should().scheduleAfterCommit(TICKET_ID, extended.getValue());
+		assertThat(extended.getValue()).isAfterOrEqualTo(before.plusSeconds(600));
+	}
+
+	@Test
+	@DisplayName("PG 거절로 PENDING에 돌아간 주문 - 연장된 만료 시각에 좌석 해제")
+	void rejectedAfterBegin_SeatReleasedAtExtendedHold() {
+		given(ticketRepository.extendHold(eq(TICKET_ID), eq(TicketStatus.DRAFT), any(), any())).willReturn(1);
+		given(v2_orderRepository.startConfirming(eq(ORDER_ID), eq(PAYMENT_KEY), eq(OrderStatus.PENDING),
+			eq(OrderStatus.CONFIRMING), any())).willReturn(1);
+		given(v2_orderRepository.updateStatus(eq(ORDER_ID), eq(OrderStatus.CONFIRMING), eq(OrderStatus.PENDING),
+			any())).willReturn(1);
+		given(ticketRepository.findByIdForUpdate(TICKET_ID)).willReturn(Optional.of(ticket));
+
+		paymentConfirmTxService.begin(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID);
+		assertThat(paymentConfirmTxService.release(ORDER_ID)).isTrue();
+
+		ArgumentCaptor<LocalDateTime> deadline = ArgumentCaptor.forClass(LocalDateTime.class);
+		then(seatHoldTimer).should().scheduleAfterCommit(eq(TICKET_ID), deadline.capture());
+		// extendHold UPDATE 반영 (DB와 같은 상태로)
+		ReflectionTestUtils.setField(ticket, "holdExpiresAt", deadline.getValue());
+
+		// 원래 만료 시각에 타이머가 돌아도 연장된 홀드는 유지
+		assertThat(ticketService.expireHoldIfDue(TICKET_ID, deadline.getValue().minusSeconds(1)))
+			.isEqualTo(new TicketService.HoldExpiry(false, deadline.getValue()));
+		// 등록된 연장 만료 시각에 해제
+		assertThat(ticketService.expireHoldIfDue(TICKET_ID, deadline.getValue()).released()).isTrue();
+		assertThat(ticket.getTicketStatus()).isEqualTo(TicketStatus.FAILED);
+		then(seatService).should().markSeatAsAvailable(seat);
+	}
+}
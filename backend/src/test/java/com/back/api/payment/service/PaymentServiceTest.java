@@ -5,27 +5,39 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 
 import com.back.api.payment.order.service.OrderService;
 import com.back.api.payment.payment.client.PaymentClient;
+import com.back.api.payment.payment.dto.request.V2_PaymentConfirmRequest;
 import com.back.api.payment.payment.dto.response.PaymentConfirmResult;
 import com.back.api.payment.payment.dto.response.PaymentReceiptResponse;
+import com.back.api.payment.payment.dto.response.TossPaymentResponse;
+import com.back.api.payment.payment.dto.response.V2_PaymentConfirmResponse;
+import com.back.api.payment.payment.service.PaymentConfirmTxService;
 import com.back.api.payment.payment.service.PaymentService;
+import com.back.api.payment.payment.service.TossPaymentService;
 import com.back.api.queue.service.QueueEntryProcessService;
 import com.back.api.ticket.service.TicketService;
 import com.back.domain.payment.order.entity.OrderStatus;
+import com.back.domain.payment.payment.entity.ApproveStatus;
 import com.back.domain.seat.entity.SeatGrade;
 import com.back.domain.store.entity.Store;
 import com.back.domain.ticket.entity.TicketStatus;
 import com.back.domain.user.entity.UserRole;
 import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.code.TicketErrorCode;
 import com.back.global.error.exception.ErrorException;
 import com.back.support.factory.EventFactory;
 import com.back.support.factory.OrderFactory;
@@ -59,6 +71,12 @@ class PaymentServiceTest {
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
+	@Mock
+	private TossPaymentService tossPaymentService;
+
+	@Mock
+	private PaymentConfirmTxService paymentConfirmTxService;
+
 	private final Store store = StoreFactory.fakeStore(1L);
 
 	@Test
@@ -145,4 +163,170 @@ class PaymentServiceTest {
 		verify(ticketService, never()).confirmPayment(any(), any());
 		verify(queueEntryProcessService, never()).completePayment(any(), any());
 	}
+
+	@Nested
+	@DisplayName("v2 결제 승인 (PG 호출은 트랜잭션 밖)")
+	class V2ConfirmTest {
+
+		private static final String ORDER_ID = "order-1";
+		private static final String PAYMENT_KEY = "toss_payment_key";
+		private static final Long AMOUNT = 50_000L;
+		private static final Long USER_ID = 100L;
+
+		private final V2_PaymentConfirmRequest request = new V2_PaymentConfirmRequest(ORDER_ID, PAYMENT_KEY, AMOUNT);
+
+		@Test
+		@DisplayName("승인 완료 - CONFIRMING 표시 후 PG 승인, 결과는 별도 트랜잭션에서 반영")
+		void approved_Completed() {
+			TossPaymentResponse approved = tossResponse(ApproveStatus.DONE);
+			V2_PaymentConfirmResponse completed = new V2_PaymentConfirmResponse(ORDER_ID, true);
+			given(paymentConfirmTxService.begin(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID)).willReturn(request);
+			given(tossPaymentService.confirmPayment(request)).willReturn(approved);
+			given(paymentConfirmTxService.complete(ORDER_ID, approved)).willReturn(completed);
+
+			V2_PaymentConfirmResponse response = paymentService.v2_confirmPayment(
+				ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID);
+
+			assertThat(response).isSameAs(completed);
+			var inOrder = inOrder(paymentConfirmTxService, tossPaymentService);
+			inOrder.verify(paymentConfirmTxService).begin(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID);
+			inOrder.verify(tossPaymentService).confirmPayment(request);
+			inOrder.verify(paymentConfirmTxService).complete(ORDER_ID, approved);
+			verify(paymentConfirmTxService, never()).fail(any());
+		}
+
+		@Test
+		@DisplayName("주문/티켓 검증 실패 - PG를 호출하지 않음")
+		void invalidOrder_PgNotCalled() {
+			given(paymentConfirmTxService.begin(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID))
+				.willThrow(new ErrorException(TicketErrorCode.INVALID_TICKET_STATE));
+
+			assertThatThrownBy(() -> paymentService.v2_confirmPayment(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID))
+				.isInstanceOf(ErrorException.class);
+
+			verifyNoInteractions(tossPaymentService);
+		}
+
+		@Test
+		@DisplayName("승인 실패 응답 - Order/Ticket FAILED")
+		void notApproved_Failed() {
+			given(paymentConfirmTxService.begin(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID)).willReturn(request);
+			given(tossPaymentService.confirmPayment(request)).willReturn(tossResponse(ApproveStatus.ABORTED));
+
+			assertThatThrownBy(() -> paymentService.v2_confirmPayment(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.PAYMENT_FAILED);
+
+			verify(paymentConfirmTxService).fail(ORDER_ID);
+			verify(paymentConfirmTxService, never()).complete(any(), any());
+		}
+
+		@Test
+		@DisplayName("PG가 요청을 거절(4xx) - PENDING으로 되돌려 다시 결제 가능")
+		void rejected_ReleasedToPending() {
+			given(paymentConfirmTxService.begin(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID)).willReturn(request);
+			given(tossPaymentService.confirmPayment(request)).willThrow(
+				HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY, null, null));
+
+			assertThatThrownBy(() -> paymentService.v2_confirmPayment(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID))
+				.isInstanceOf(HttpClientErrorException.class);
+
+			verify(paymentConfirmTxService).release(ORDER_ID);
+			verify(paymentConfirmTxService, never()).fail(any());
+		}
+
+		@Test
+		@DisplayName("벌크헤드/서킷 브레이커로 PG를 호출하지 않음 - PENDING으로 되돌려 다시 결제 가능")
+		void pgUnavailable_ReleasedToPending() {
+			given(paymentConfirmTxService.begin(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID)).willReturn(request);
+			given(tossPaymentService.confirmPayment(request))
+				.willThrow(new ErrorException(PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE));
+
+			assertThatThrownBy(() -> paymentService.v2_confirmPayment(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+
+			verify(paymentConfirmTxService).release(ORDER_ID);
+		}
+
+		@Test
+		@DisplayName("PG 타임아웃 - 승인 여부를 모르므로 CONFIRMING 유지 (복구 대기)")
+		void timeout_LeftConfirming() {
+			given(paymentConfirmTxService.begin(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID)).willReturn(request);
+			given(tossPaymentService.confirmPayment(request)).willThrow(new ResourceAccessException("Read timed out"));
+
+			assertThatThrownBy(() -> paymentService.v2_confirmPayment(ORDER_ID, PAYMENT_KEY, AMOUNT, USER_ID))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.PAYMENT_CONFIRM_PENDING);
+
+			verify(paymentConfirmTxService, never()).release(any());
+			verify(paymentConfirmTxService, never()).fail(any());
+			verify(paymentConfirmTxService, never()).complete(any(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("v2 CONFIRMING 주문 복구")
+	class V2RecoveryTest {
+
+		private static final String ORDER_ID = "order-1";
+		private static final String PAYMENT_KEY = "toss_payment_key";
+
+		@Test
+		@DisplayName("PG에서 승인 완료 - 주문 확정")
+		void approvedAtPg_Completed() {
+			TossPaymentResponse approved = tossResponse(ApproveStatus.DONE);
+			given(paymentConfirmTxService.getConfirmingPaymentKey(ORDER_ID)).willReturn(PAYMENT_KEY);
+			given(tossPaymentService.getPayment(PAYMENT_KEY)).willReturn(approved);
+
+			paymentService.v2_recoverConfirmingOrder(ORDER_ID);
+
+			verify(paymentConfirmTxService).complete(ORDER_ID, approved);
+			verify(paymentConfirmTxService, never()).fail(any());
+		}
+
+		@Test
+		@DisplayName("PG에 결제가 없거나 승인되지 않음 - 주문 실패 처리")
+		void notApprovedAtPg_Failed() {
+			given(paymentConfirmTxService.getConfirmingPaymentKey(ORDER_ID)).willReturn(PAYMENT_KEY);
+			given(tossPaymentService.getPayment(PAYMENT_KEY))
+				.willThrow(HttpClientErrorException.create(
+					HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null))
+				.willReturn(tossResponse(ApproveStatus.IN_PROGRESS));
+
+			paymentService.v2_recoverConfirmingOrder(ORDER_ID);
+			paymentService.v2_recoverConfirmingOrder(ORDER_ID);
+
+			verify(paymentConfirmTxService, times(2)).fail(ORDER_ID);
+			verify(paymentConfirmTxService, never()).complete(any(), any());
+		}
+
+		@Test
+		@DisplayName("PG 승인은 됐지만 티켓을 발급할 수 없음 - 복구 대상에서 제외")
+		void approvedButUnissuable_Abandoned() {
+			TossPaymentResponse approved = tossResponse(ApproveStatus.DONE);
+			given(paymentConfirmTxService.getConfirmingPaymentKey(ORDER_ID)).willReturn(PAYMENT_KEY);
+			given(tossPaymentService.getPayment(PAYMENT_KEY)).willReturn(approved);
+			given(paymentConfirmTxService.complete(ORDER_ID, approved))
+				.willThrow(new ErrorException(TicketErrorCode.INVALID_TICKET_STATE));
+
+			paymentService.v2_recoverConfirmingOrder(ORDER_ID);
+
+			verify(paymentConfirmTxService).abandon(ORDER_ID);
+		}
+
+		@Test
+		@DisplayName("이미 확정된 주문 - PG를 조회하지 않음")
+		void alreadyResolved_Skipped() {
+			given(paymentConfirmTxService.getConfirmingPaymentKey(ORDER_ID)).willReturn(null);
+
+			paymentService.v2_recoverConfirmingOrder(ORDER_ID);
+
+			verifyNoInteractions(tossPaymentService);
+		}
+	}
+
+	private static TossPaymentResponse tossResponse(ApproveStatus status) {
+		return new TossPaymentResponse("toss_payment_key", status, "카드", 50_000L, null);
+	}
 }
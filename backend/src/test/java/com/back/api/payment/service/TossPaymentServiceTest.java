@@ -0,0 +1,156 @@
+package com.back.api.payment.service;
+
+import static java.util.concurrent.TimeUnit.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.back.api.payment.payment.config.TossPaymentConfig;
+import com.back.api.payment.payment.dto.request.V2_PaymentConfirmRequest;
+import com.back.api.payment.payment.service.TossPaymentService;
+import com.back.domain.payment.payment.entity.ApproveStatus;
+import com.back.global.error.code.PaymentErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.properties.TossPaymentProperties;
+import com.back.support.stub.StubTossServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TossPaymentService 로컬 PG 서버 테스트")
+class TossPaymentServiceTest {
+
+	private static final V2_PaymentConfirmRequest REQUEST =
+		new V2_PaymentConfirmRequest("order-1", "toss_payment_key", 50_000L);
+
+	private StubTossServer server;
+	private TossPaymentProperties properties;
+	private SimpleMeterRegistry meterRegistry;
+	private CloseableHttpClient httpClient;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = StubTossServer.start();
+		meterRegistry = new SimpleMeterRegistry();
+
+		properties = new TossPaymentProperties();
+		properties.setBaseUrl(server.baseUrl());
+		properties.setReadTimeoutMs(300);
+		properties.getCircuitBreaker().setSlidingWindowSize(4);
+		properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+		properties.getCircuitBreaker().setWaitDurationInOpenStateMs(60_000);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		if (httpClient != null) {
+			httpClient.close();
+		}
+		server.close();
+	}
+
+	@Test
+	@DisplayName("승인 성공 - 응답 반환 + 결과별 소요 시간 기록")
+	void confirm_Success() {
+		TossPaymentService tossPaymentService = newService();
+
+		assertThat(tossPaymentService.confirmPayment(REQUEST).status()).isEqualTo(ApproveStatus.DONE);
+		assertThat(tossPaymentService.getPayment("toss_payment_key").status()).isEqualTo(ApproveStatus.DONE);
+
+		assertThat(count("confirm", "success")).isEqualTo(1);
+		assertThat(count("lookup", "success")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("PG 응답 지연 - 응답 타임아웃에서 끊김")
+	void slowPg_TimedOut() {
+		TossPaymentService tossPaymentService = newService();
+		server.delay(2_000);
+
+		long startAt = System.currentTimeMillis();
+		assertThatThrownBy(() -> tossPaymentService.confirmPayment(REQUEST))
+			.isInstanceOf(ResourceAccessException.class);
+
+		assertThat(System.currentTimeMillis() - startAt).isLessThan(1_500);
+		assertThat(count("confirm", "timeout")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("카드 거절(4xx)은 PG 장애로 집계하지 않음 - 서킷 유지")
+	void rejected_CircuitStaysClosed() {
+		TossPaymentService tossPaymentService = newService();
+		server.respond(400, StubTossServer.REJECTED);
+
+		for (int i = 0; i < 6; i++) {
+			assertThatThrownBy(() -> tossPaymentService.confirmPayment(REQUEST))
+				.isInstanceOf(HttpClientErrorException.class);
+		}
+
+		assertThat(server.requestCount()).isEqualTo(6);
+		assertThat(count("confirm", "rejected")).isEqualTo(6);
+	}
+
+	@Test
+	@DisplayName("PG 5xx가 이어지면 서킷이 열려 PG를 호출하지 않고 바로 실패")
+	void serverErrors_CircuitOpensAndFailsFast() {
+		TossPaymentService tossPaymentService = newService();
+		server.respond(500, StubTossServer.SERVER_ERROR);
+
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> tossPaymentService.confirmPayment(REQUEST))
+				.isInstanceOf(HttpServerErrorException.class);
+		}
+
+		assertThatThrownBy(() -> tossPaymentService.confirmPayment(REQUEST))
+			.isInstanceOf(ErrorException.class)
+			.hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+
+		assertThat(server.requestCount()).isEqualTo(4);
+		assertThat(count("confirm", "circuit_open")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("동시 호출 상한을 넘으면 PG를 호출하지 않고 바로 실패")
+	void bulkheadFull_FailsFast() {
+		properties.setReadTimeoutMs(5_000);
+		properties.getBulkhead().setMaxConcurrentCalls(1);
+		properties.getBulkhead().setMaxWaitMs(0);
+		TossPaymentService tossPaymentService = newService();
+		server.delay(1_000);
+
+		CompletableFuture<?> inFlight = CompletableFuture.runAsync(() -> tossPaymentService.confirmPayment(REQUEST));
+		await().atMost(3, SECONDS).until(() -> server.requestCount() == 1);
+
+		assertThatThrownBy(() -> tossPaymentService.confirmPayment(REQUEST))
+			.isInstanceOf(ErrorException.class)
+			.hasFieldOrPropertyWithValue("errorCode", PaymentErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+
+		inFlight.join();
+		assertThat(server.requestCount()).isEqualTo(1);
+		assertThat(count("confirm", "bulkhead_full")).isEqualTo(1);
+		assertThat(count("confirm", "success")).isEqualTo(1);
+	}
+
+	private TossPaymentService newService() {
+		TossPaymentConfig config = new TossPaymentConfig("test_sk", properties);
+		httpClient = config.tossHttpClient();
+		return new TossPaymentService(config.tossRestClient(httpClient), properties, meterRegistry);
+	}
+
+	private long count(String operation, String outcome) {
+		var timer = meterRegistry.find("payment.gateway.requests")
+			.tags("operation", operation, "outcome", outcome)
+			.timer();
+		return timer == null ? 0 : timer.count();
+	}
+}
@@ -0,0 +1,147 @@
+package com.back.api.queue.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.back.domain.queue.repository.AdmissionRevocationRedisRepository;
+import com.back.global.properties.AdmissionPassProperties;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdmissionPassService 단위 테스트")
+class AdmissionPassServiceTest {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString(new byte[32]);
+	private static final Long EVENT_ID = 1L;
+	private static final Long USER_ID = 100L;
+
+	@Mock
+	private AdmissionRevocationRedisRepository admissionRevocationRedisRepository;
+
+	private AdmissionPassProperties properties;
+	private AdmissionPassService admissionPassService;
+
+	@BeforeEach
+	void setUp() {
+		properties = new AdmissionPassProperties();
+		properties.setClockSkewMs(0);
+		admissionPassService = new AdmissionPassService(admissionRevocationRedisRepository, properties, SECRET);
+
+		given(admissionRevocationRedisRepository.forEachRevokedSince(anyLong(), any())).willReturn(true);
+		admissionPassService.sync();
+	}
+
+	@Nested
+	@DisplayName("검증")
+	class VerifyTest {
+
+		@Test
+		@DisplayName("발급한 입장권은 같은 이벤트/사용자에 대해 유효")
+		void issuedPass_Valid() {
+			String pass = admissionPassService.issue(EVENT_ID, USER_ID, LocalDateTime.now().plusMinutes(15));
+
+			assertThat(admissionPassService.verify(EVENT_ID, USER_ID, pass)).isTrue();
+			assertThat(admissionPassService.verify(EVENT_ID, 101L, pass)).isFalse();
+			assertThat(admissionPassService.verify(2L, USER_ID, pass)).isFalse();
+		}
+
+		@Test
+		@DisplayName("내용을 바꾸거나 만료된 입장권은 거절")
+		void tamperedOrExpired_Rejected() {
+			String pass = admissionPassService.issue(EVENT_ID, USER_ID, LocalDateTime.now().plusMinutes(15));
+			String forged = pass.replaceFirst("^1\\.100\\.", "1.101.");
+			String expired = admissionPassService.issue(EVENT_ID, USER_ID, LocalDateTime.now().minusSeconds(1));
+
+			assertThat(admissionPassService.verify(EVENT_ID, 101L, forged)).isFalse();
+			assertThat(admissionPassService.verify(EVENT_ID, USER_ID, expired)).isFalse();
+			assertThat(admissionPassService.verify(EVENT_ID, USER_ID, null)).isFalse();
+			assertThat(admissionPassService.verify(EVENT_ID, USER_ID, "garbage")).isFalse();
+		}
+
+		@Test
+		@DisplayName("회수 목록 동기화가 오래 실패하면 입장권을 믿지 않음")
+		void staleDenylist_Rejected() {
+			String pass = admissionPassService.issue(EVENT_ID, USER_ID, LocalDateTime.now().plusMinutes(15));
+			properties.setMaxStalenessMs(-1);
+
+			assertThat(admissionPassService.verify(EVENT_ID, USER_ID, pass)).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("회수")
+	class RevokeTest {
+
+		@Test
+		@DisplayName("회수 이전에 발급된 입장권만 거절, 다시 입장해 받은 입장권은 유효")
+		void revokedBeforeReissue() throws InterruptedException {
+			String before = admissionPassService.issue(EVENT_ID, USER_ID, LocalDateTime.now().plusMinutes(15));
+
+			admissionPassService.revoke(EVENT_ID, USER_ID);
+			Thread.sleep(2);
+			String after = admissionPassService.issue(EVENT_ID, USER_ID, LocalDateTime.now().plusMinutes(15));
+
+			assertThat(admissionPassService.verify(EVENT_ID, USER_ID, before)).isFalse();
+			assertThat(admissionPassService.verify(EVENT_ID, USER_ID, after)).isTrue();
+			then(admissionRevocationRedisRepository).should()
+				.revoke(eq(EVENT_ID), eq(USER_ID), anyLong(), anyLong());
+		}
+
+		@Test
+		@DisplayName("다른 노드에서 회수한 입장권은 동기화 후 거절")
+		void revokedOnOtherNode_RejectedAfterSync() {
+			String pass = admissionPassService.issue(EVENT_ID, USER_ID, LocalDateTime.now().plusMinutes(15));
+			long revokedAt = System.currentTimeMillis();
+			given(admissionRevocationRedisRepository.forEachRevokedSince(anyLong(), any())).willAnswer(invocation -> {
+				BiConsumer<String, Long> consumer = invocation.getArgument(1);
+				consumer.accept(AdmissionRevocationRedisRepository.member(EVENT_ID, USER_ID), revokedAt);
+				return true;
+			});
+
+			assertThat(admissionPassService.verify(EVENT_ID, USER_ID, pass)).isTrue();
+			admissionPassService.sync();
+
+			assertThat(admissionPassService.verify(EVENT_ID, USER_ID, pass)).isFalse();
+		}
+
+		@Test
+		@DisplayName("회수 기록에 실패하면 다음 동기화에서 다시 기록하고, 기록된 뒤에는 재시도하지 않음")
+		void revokePublishFailed_RetriedOnSync() {
+			given(admissionRevocationRedisRepository.revoke(eq(EVENT_ID), eq(USER_ID), anyLong(), anyLong()))
+				.willReturn(false, true);
+
+			admissionPassService.revoke(EVENT_ID, USER_ID);
+			admissionPassService.sync();
+			admissionPassService.sync();
+
+			then(admissionRevocationRedisRepository).should(times(2))
+				.revoke(eq(EVENT_ID), eq(USER_ID), anyLong(), anyLong());
+		}
+
+		@Test
+		@DisplayName("기록하지 못한 회수는 보관 기간이 지나도 로컬 목록에 유지")
+		void unpublishedRevocation_KeptLocally() {
+			String pass = admissionPassService.issue(EVENT_ID, USER_ID, LocalDateTime.now().plusMinutes(15));
+			given(admissionRevocationRedisRepository.revoke(eq(EVENT_ID), eq(USER_ID), anyLong(), anyLong()))
+				.willReturn(false);
+
+			admissionPassService.revoke(EVENT_ID, USER_ID);
+			properties.setMaxLeaseSeconds(-1);
+			admissionPassService.sync();
+
+			assertThat(admissionPassService.verify(EVENT_ID, USER_ID, pass)).isFalse();
+		}
+	}
+}
@@ -68,6 +68,9 @@ class QueueEntryProcessServiceTest {
 	@Mock
 	private TicketService ticketService;
 
+	@Mock
+	private AdmissionPassService admissionPassService;
+
 	private QueueSchedulerProperties queueSchedulerProperties;
 
 	private Event testEvent;
@@ -97,7 +100,8 @@ class QueueEntryProcessServiceTest {
 			queueSchedulerProperties,
 			queueEntryReadService,
 			eventRepository,
-			ticketService
+			ticketService,
+			admissionPassService
 		);
 
 		testEvent = EventFactory.fakeEvent(store, "TestEvent");
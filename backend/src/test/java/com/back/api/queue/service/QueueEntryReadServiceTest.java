@@ -53,6 +53,9 @@ class QueueEntryReadServiceTest {
 	@Mock
 	private QueueEntryRedisRepository queueEntryRedisRepository;
 
+	@Mock
+	private AdmissionPassService admissionPassService;
+
 	private Event testEvent;
 	private User testUser;
 	private QueueEntry testQueueEntry;
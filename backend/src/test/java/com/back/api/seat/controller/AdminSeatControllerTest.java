@@ -5,6 +5,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,9 +15,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.back.domain.event.entity.Event;
@@ -26,6 +30,9 @@ import com.back.support.helper.EventHelper;
 import com.back.support.helper.SeatHelper;
 import com.back.support.helper.StoreHelper;
 import com.back.support.helper.TestAuthHelper;
+import com.jayway.jsonpath.JsonPath;
+
+import jakarta.persistence.EntityManager;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -50,6 +57,9 @@ class AdminSeatControllerTest {
 	@Autowired
 	private StoreHelper storeHelper;
 
+	@Autowired
+	private EntityManager entityManager;
+
 	private String token;
 
 	private Event testEvent;
@@ -234,11 +244,11 @@ class AdminSeatControllerTest {
 		}
 
 		@Test
-		@DisplayName("실패: rows > 26 (알파벳 한계 초과)")
+		@DisplayName("실패: rows > 100")
 		void autoCreateSeats_RowsExceedsLimit() throws Exception {
 			String requestBody = """
 				{
-					"rows": 27,
+					"rows": 101,
 					"cols": 5,
 					"defaultGrade": "R",
 					"defaultPrice": 100000
@@ -542,6 +552,135 @@ class AdminSeatControllerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("공연장 좌석 대량 적재 (POST /api/v1/admin/events/{eventId}/seats/import, /layout)")
+	class VenueImportTests {
+
+		@Test
+		@DisplayName("성공: 레이아웃으로 여러 글자 행까지 적재")
+		void importSeatsFromLayout_Success() throws Exception {
+			String requestBody = """
+				{
+					"sections": [
+						{"fromRow": "A", "toRow": "Z", "seatsPerRow": 10, "grade": "R", "price": 100000},
+						{"fromRow": "AA", "toRow": "AB", "seatsPerRow": 5, "grade": "S", "price": 80000}
+					]
+				}
+				""";
+
+			mockMvc.perform(post("/api/v1/admin/events/{eventId}/seats/layout", testEvent.getId())
+					.header("Authorization", "Bearer " + token)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andDo(print())
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.data.createdCount").value(270));
+		}
+
+		@Test
+		@DisplayName("성공: CSV 파일 적재 (헤더/빈 줄 무시)")
+		void importSeatsFromCsv_Success() throws Exception {
+			String csv = """
+				seat_code,grade,price
+				A1,VIP,150000
+				A2,VIP,150000
+
+				AA1,r,100000
+				""";
+
+			mockMvc.perform(multipart("/api/v1/admin/events/{eventId}/seats/import", testEvent.getId())
+					.file(csvFile(csv))
+					.header("Authorization", "Bearer " + token))
+				.andDo(print())
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.data.createdCount").value(3));
+		}
+
+		@Test
+		@DisplayName("실패: 기존 좌석과 중복")
+		void importSeatsFromCsv_DuplicateWithExisting() throws Exception {
+			seatHelper.createSeat(testEvent, "A1", SeatGrade.VIP, 150000);
+			entityManager.flush();
+
+			mockMvc.perform(multipart("/api/v1/admin/events/{eventId}/seats/import", testEvent.getId())
+					.file(csvFile("A1,VIP,150000\nA2,VIP,150000\n"))
+					.header("Authorization", "Bearer " + token))
+				.andDo(print())
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(containsString("VIP:A1")));
+		}
+
+		@Test
+		@DisplayName("실패: 형식이 잘못된 줄은 줄 번호와 함께 거절")
+		void importSeatsFromCsv_InvalidLine() throws Exception {
+			mockMvc.perform(multipart("/api/v1/admin/events/{eventId}/seats/import", testEvent.getId())
+					.file(csvFile("A1,VIP,150000\nA2,GOLD,150000\n"))
+					.header("Authorization", "Bearer " + token))
+				.andDo(print())
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value(containsString("2번째 줄")));
+		}
+
+		private MockMultipartFile csvFile(String content) {
+			return new MockMultipartFile("file", "seats.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	@Nested
+	@DisplayName("관리자 좌석 목록 조회 (GET /api/v1/admin/events/{eventId}/seats, /scroll)")
+	class SeatListTests {
+
+		@BeforeEach
+		void createSeats() {
+			for (String seatCode : new String[] {"AA1", "A10", "Z1", "A2"}) {
+				seatHelper.createSeat(testEvent, seatCode, SeatGrade.R, 100000);
+			}
+			entityManager.flush();
+		}
+
+		@Test
+		@DisplayName("성공: 행 → 번호 자연 정렬 (A2 < A10 < Z1 < AA1)")
+		void getSeatsByEventWithPaging_NaturalOrder() throws Exception {
+			mockMvc.perform(get("/api/v1/admin/events/{eventId}/seats", testEvent.getId())
+					.header("Authorization", "Bearer " + token))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.content[*].seatCode", contains("A2", "A10", "Z1", "AA1")));
+		}
+
+		@Test
+		@DisplayName("성공: 커서로 이어 조회하고 마지막 페이지는 nextCursor 없음")
+		void getSeatsByEventAfter_Cursor() throws Exception {
+			MvcResult first = mockMvc.perform(get("/api/v1/admin/events/{eventId}/seats/scroll", testEvent.getId())
+					.header("Authorization", "Bearer " + token)
+					.param("size", "3"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.seats[*].seatCode", contains("A2", "A10", "Z1")))
+				.andExpect(jsonPath("$.data.nextCursor").isNotEmpty())
+				.andReturn();
+			String cursor = JsonPath.read(first.getResponse().getContentAsString(), "$.data.nextCursor");
+
+			mockMvc.perform(get("/api/v1/admin/events/{eventId}/seats/scroll", testEvent.getId())
+					.header("Authorization", "Bearer " + token)
+					.param("cursor", cursor)
+					.param("size", "3"))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.seats[*].seatCode", contains("AA1")))
+				.andExpect(jsonPath("$.data.nextCursor").value(nullValue()));
+		}
+
+		@Test
+		@DisplayName("실패: 형식이 잘못된 커서")
+		void getSeatsByEventAfter_InvalidCursor() throws Exception {
+			mockMvc.perform(get("/api/v1/admin/events/{eventId}/seats/scroll", testEvent.getId())
+					.header("Authorization", "Bearer " + token)
+					.param("cursor", "GOLD:1:1"))
+				.andDo(print())
+				.andExpect(status().isBadRequest());
+		}
+	}
+
 	@Nested
 	@DisplayName("서비스 레이어 검증 로직 테스트")
 	class ServiceLayerValidationTests {
@@ -643,6 +782,29 @@ class AdminSeatControllerTest {
 				.andExpect(jsonPath("$.data[25].seatCode").value("Z1"));
 		}
 
+		@Test
+		@DisplayName("26행을 넘으면 AA, AB 두 글자 행으로 이어서 생성")
+		void autoCreateSeats_MultiLetterRows() throws Exception {
+			String requestBody = """
+				{
+					"rows": 28,
+					"cols": 1,
+					"defaultGrade": "A",
+					"defaultPrice": 50000
+				}
+				""";
+
+			mockMvc.perform(post("/api/v1/admin/events/{eventId}/seats/auto", testEvent.getId())
+					.header("Authorization", "Bearer " + token)
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(requestBody))
+				.andDo(print())
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.data", hasSize(28)))
+				.andExpect(jsonPath("$.data[26].seatCode").value("AA1"))
+				.andExpect(jsonPath("$.data[27].seatCode").value("AB1"));
+		}
+
 		@Test
 		@DisplayName("최대 열(100) 자동 생성")
 		void autoCreateSeats_MaxCols() throws Exception {
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -116,6 +117,26 @@ class SeatControllerTest {
 				.andDo(print());
 		}
 
+		@Test
+		@DisplayName("ETag가 일치하면 좌석 목록 없이 304를 반환한다")
+		void getSeatsByEvent_NotModified() throws Exception {
+			seatRepository.save(Seat.createSeat(testEvent, "A1", SeatGrade.VIP, 150000));
+			queueEntryRedisRepository.moveToEnteredQueue(testEvent.getId(), user.getId());
+
+			String etag = mockMvc.perform(get("/api/v1/events/{eventId}/seats", testEvent.getId()))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(HttpHeaders.ETAG))
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+
+			mockMvc.perform(get("/api/v1/events/{eventId}/seats", testEvent.getId())
+					.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, etag))
+				.andDo(print());
+		}
+
 		@Test
 		@DisplayName("큐에 입장하지 않은 사용자는 좌석 조회 시 400 오류가 발생한다")
 		void getSeatsByEvent_NotInQueue_Fail() throws Exception {
@@ -128,4 +149,35 @@ class SeatControllerTest {
 				.andDo(print());
 		}
 	}
+
+	@Nested
+	@DisplayName("구역별 좌석 조회 API (/api/v1/events/{eventId}/seats/sections)")
+	class GetSeatSectionsTests {
+
+		@Test
+		@DisplayName("구역별 전체/빈 좌석 수와 선택한 구역 좌석만 조회한다")
+		void getSeatSections_Success() throws Exception {
+			seatRepository.save(Seat.createSeat(testEvent, "A1", SeatGrade.R, 100000));
+			seatRepository.save(Seat.createSeat(testEvent, "A1", SeatGrade.VIP, 150000));
+			seatRepository.save(Seat.createSeat(testEvent, "B2", SeatGrade.VIP, 150000));
+			queueEntryRedisRepository.moveToEnteredQueue(testEvent.getId(), user.getId());
+
+			mockMvc.perform(get("/api/v1/events/{eventId}/seats/sections", testEvent.getId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data", hasSize(2)))
+				.andExpect(jsonPath("$.data[0].grade").value("R"))
+				.andExpect(jsonPath("$.data[0].totalSeats").value(1))
+				.andExpect(jsonPath("$.data[1].grade").value("VIP"))
+				.andExpect(jsonPath("$.data[1].availableSeats").value(2))
+				.andDo(print());
+
+			mockMvc.perform(get("/api/v1/events/{eventId}/seats/sections/{grade}", testEvent.getId(), "VIP"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.message").value("구역 좌석 목록을 조회했습니다."))
+				.andExpect(jsonPath("$.data", hasSize(2)))
+				.andExpect(jsonPath("$.data[0].seatCode").value("A1"))
+				.andExpect(jsonPath("$.data[1].seatCode").value("B2"))
+				.andDo(print());
+		}
+	}
 }
@@ -0,0 +1,290 @@
+package com.back.api.seat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.api.seat.dto.response.SeatMap;
+import com.back.api.seat.dto.response.SeatResponse;
+import com.back.api.seat.dto.response.SeatSectionSummary;
+import com.back.api.seat.dto.response.SeatSections;
+import com.back.api.seat.dto.response.SeatStatusMessage;
+import com.back.domain.event.entity.Event;
+import com.back.domain.event.entity.EventCategory;
+import com.back.domain.event.entity.EventStatus;
+import com.back.domain.seat.entity.Seat;
+import com.back.domain.seat.entity.SeatGrade;
+import com.back.domain.seat.entity.SeatStatus;
+import com.back.domain.seat.repository.SeatMapVersionRedisRepository;
+import com.back.domain.seat.repository.SeatRepository;
+import com.back.domain.seat.repository.SeatRepository.SectionStatusCount;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatMapCache 단위 테스트")
+class SeatMapCacheTest {
+
+	private static final Long EVENT_ID = 1L;
+
+	@Mock
+	private SeatRepository seatRepository;
+
+	@Mock
+	private SeatMapVersionRedisRepository seatMapVersionRedisRepository;
+
+	private SeatMapCache seatMapCache;
+	private List<Seat> seats;
+
+	@BeforeEach
+	void setUp() {
+		seatMapCache = new SeatMapCache(seatRepository, seatMapVersionRedisRepository, new SimpleMeterRegistry());
+
+		Event event = Event.builder()
+			.title("테스트 콘서트")
+			.category(EventCategory.CONCERT)
+			.place("서울 올림픽공원")
+			.minPrice(50000)
+			.maxPrice(150000)
+			.preOpenAt(LocalDateTime.now().minusDays(1))
+			.preCloseAt(LocalDateTime.now().plusDays(5))
+			.ticketOpenAt(LocalDateTime.now().plusDays(6))
+			.ticketCloseAt(LocalDateTime.now().plusDays(9))
+			.eventDate(LocalDateTime.now().plusDays(10))
+			.maxTicketAmount(100)
+			.status(EventStatus.READY)
+			.build();
+		ReflectionTestUtils.setField(event, "id", EVENT_ID);
+
+		seats = List.of(
+			seat(event, 10L, "A1"),
+			seat(event, 11L, "A2")
+		);
+	}
+
+	@Nested
+	@DisplayName("조회")
+	class GetTest {
+
+		@Test
+		@DisplayName("버전이 같으면 DB 조회 없이 캐시된 스냅샷 반환")
+		void sameVersion_ServedFromCache() {
+			given(seatMapVersionRedisRepository.current(EVENT_ID)).willReturn(5L);
+			given(seatRepository.findSortedSeatListByEventId(EVENT_ID)).willReturn(seats);
+
+			SeatMap first = seatMapCache.get(EVENT_ID);
+			SeatMap second = seatMapCache.get(EVENT_ID);
+
+			assertThat(second).isSameAs(first);
+			assertThat(second.etag()).isEqualTo("W/\"1-5\"");
+			then(seatRepository).should(times(1)).findSortedSeatListByEventId(EVENT_ID);
+		}
+
+		@Test
+		@DisplayName("버전이 앞서 있으면 변경 로그로 따라잡기")
+		void newerVersion_CatchUpFromChangeLog() {
+			given(seatMapVersionRedisRepository.current(EVENT_ID)).willReturn(5L, 7L);
+			given(seatRepository.findSortedSeatListByEventId(EVENT_ID)).willReturn(seats);
+			given(seatMapVersionRedisRepository.changesSince(EVENT_ID, 5L, 7L))
+				.willReturn(List.of("6:10:RESERVED", "7:11:SOLD"));
+
+			seatMapCache.get(EVENT_ID);
+			SeatMap caughtUp = seatMapCache.get(EVENT_ID);
+
+			assertThat(caughtUp.version()).isEqualTo(7L);
+			assertThat(caughtUp.seats()).extracting(SeatResponse::seatStatus).containsExactly("RESERVED", "SOLD");
+			then(seatRepository).should(times(1)).findSortedSeatListByEventId(EVENT_ID);
+		}
+
+		@Test
+		@DisplayName("여러 변경을 새 스냅샷 하나에 반영 - 이전 스냅샷과 구역 요약은 그대로")
+		void catchUp_AppliesBatchToOneSnapshot() {
+			given(seatMapVersionRedisRepository.current(EVENT_ID)).willReturn(5L, 8L);
+			given(seatRepository.findSortedSeatListByEventId(EVENT_ID)).willReturn(seats);
+			given(seatMapVersionRedisRepository.changesSince(EVENT_ID, 5L, 8L))
+				.willReturn(List.of("6:10:RESERVED", "7:10:AVAILABLE", "8:11:SOLD"));
+
+			SeatMap before = seatMapCache.get(EVENT_ID);
+			SeatMap caughtUp = seatMapCache.get(EVENT_ID);
+
+			assertThat(caughtUp.version()).isEqualTo(8L);
+			assertThat(caughtUp.seats()).extracting(SeatResponse::seatStatus).containsExactly("AVAILABLE", "SOLD");
+			assertThat(caughtUp.seats().get(0)).isSameAs(before.seats().get(0));
+			assertThat(caughtUp.sectionSummaries()).singleElement()
+				.extracting(SeatSectionSummary::availableSeats).isEqualTo(1);
+			assertThat(before.seats()).extracting(SeatResponse::seatStatus).containsExactly("AVAILABLE", "AVAILABLE");
+			assertThat(before.sectionSummaries()).singleElement()
+				.extracting(SeatSectionSummary::availableSeats).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("변경 로그가 모자라면 DB에서 재적재")
+		void missingChanges_ReloadFromDb() {
+			given(seatMapVersionRedisRepository.current(EVENT_ID)).willReturn(5L, 7L);
+			given(seatRepository.findSortedSeatListByEventId(EVENT_ID)).willReturn(seats);
+			given(seatMapVersionRedisRepository.changesSince(EVENT_ID, 5L, 7L)).willReturn(List.of("7:11:SOLD"));
+
+			seatMapCache.get(EVENT_ID);
+			SeatMap reloaded = seatMapCache.get(EVENT_ID);
+
+			assertThat(reloaded.version()).isEqualTo(7L);
+			then(seatRepository).should(times(2)).findSortedSeatListByEventId(EVENT_ID);
+		}
+
+		@Test
+		@DisplayName("Redis 장애 시 캐시 없이 DB 조회 (ETag 없음)")
+		void redisFailure_FallbackToDb() {
+			given(seatMapVersionRedisRepository.current(EVENT_ID)).willReturn(null);
+			given(seatRepository.findSortedSeatListByEventId(EVENT_ID)).willReturn(seats);
+
+			SeatMap seatMap = seatMapCache.get(EVENT_ID);
+
+			assertThat(seatMap.etag()).isNull();
+			assertThat(seatMapCache.contains(EVENT_ID)).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("구역 조회")
+	class SectionTest {
+
+		private List<Seat> gradedSeats;
+
+		@BeforeEach
+		void setUpSections() {
+			Event event = seats.get(0).getEvent();
+			gradedSeats = List.of(
+				seat(event, 20L, "A1", SeatGrade.R),
+				seat(event, 21L, "A2", SeatGrade.R),
+				seat(event, 10L, "A1", SeatGrade.VIP)
+			);
+		}
+
+		@Test
+		@DisplayName("버전이 있으면 스냅샷의 구역 구간과 요약을 사용")
+		void versioned_ServedFromSnapshot() {
+			given(seatMapVersionRedisRepository.current(EVENT_ID)).willReturn(5L, 6L);
+			given(seatRepository.findSortedSeatListByEventId(EVENT_ID)).willReturn(gradedSeats);
+			given(seatMapVersionRedisRepository.append(EVENT_ID, 21L, "RESERVED")).willReturn(6L);
+
+			SeatMap seatMap = seatMapCache.getSection(EVENT_ID, SeatGrade.R);
+			seatMapCache.applyTransition(message(21L, "RESERVED"));
+			SeatSections sections = seatMapCache.getSections(EVENT_ID);
+
+			assertThat(seatMap.section("R")).extracting(SeatResponse::id).containsExactly(20L, 21L);
+			assertThat(seatMap.section("S")).isEmpty();
+			assertThat(sections.etag()).isEqualTo("W/\"1-6\"");
+			assertThat(sections.sections()).containsExactly(
+				new SeatSectionSummary("R", 2, 1),
+				new SeatSectionSummary("VIP", 1, 1)
+			);
+			then(seatRepository).should(never()).findSectionSeats(any(), any());
+			then(seatRepository).should(times(1)).findSortedSeatListByEventId(EVENT_ID);
+		}
+
+		@Test
+		@DisplayName("Redis 장애 시 해당 구역 좌석과 등급/상태별 집계만 DB 조회")
+		void redisFailure_SectionQueriesOnly() {
+			given(seatMapVersionRedisRepository.current(EVENT_ID)).willReturn(null);
+			given(seatRepository.findSectionSeats(EVENT_ID, SeatGrade.VIP)).willReturn(gradedSeats.subList(2, 3));
+			given(seatRepository.countByGradeAndStatus(EVENT_ID)).willReturn(List.of(
+				count(SeatGrade.R, SeatStatus.AVAILABLE, 1),
+				count(SeatGrade.R, SeatStatus.SOLD, 3),
+				count(SeatGrade.VIP, SeatStatus.RESERVED, 2)
+			));
+
+			SeatMap seatMap = seatMapCache.getSection(EVENT_ID, SeatGrade.VIP);
+			SeatSections sections = seatMapCache.getSections(EVENT_ID);
+
+			assertThat(seatMap.etag()).isNull();
+			assertThat(seatMap.section("VIP")).extracting(SeatResponse::id).containsExactly(10L);
+			assertThat(sections.etag()).isNull();
+			assertThat(sections.sections()).containsExactly(
+				new SeatSectionSummary("R", 4, 1),
+				new SeatSectionSummary("VIP", 2, 0)
+			);
+			then(seatRepository).should(never()).findSortedSeatListByEventId(any());
+		}
+
+		private SectionStatusCount count(SeatGrade grade, SeatStatus status, long seatCount) {
+			return new SectionStatusCount() {
+				@Override
+				public SeatGrade getGrade() {
+					return grade;
+				}
+
+				@Override
+				public SeatStatus getSeatStatus() {
+					return status;
+				}
+
+				@Override
+				public long getSeatCount() {
+					return seatCount;
+				}
+			};
+		}
+	}
+
+	@Nested
+	@DisplayName("상태 전이 반영")
+	class ApplyTransitionTest {
+
+		@Test
+		@DisplayName("직전 버전 스냅샷은 해당 좌석만 교체")
+		void previousVersion_UpdatedInPlace() {
+			given(seatMapVersionRedisRepository.current(EVENT_ID)).willReturn(5L, 6L);
+			given(seatRepository.findSortedSeatListByEventId(EVENT_ID)).willReturn(seats);
+			given(seatMapVersionRedisRepository.append(EVENT_ID, 11L, "RESERVED")).willReturn(6L);
+
+			SeatMap before = seatMapCache.get(EVENT_ID);
+			seatMapCache.applyTransition(message(11L, "RESERVED"));
+			SeatMap after = seatMapCache.get(EVENT_ID);
+
+			assertThat(after.version()).isEqualTo(6L);
+			assertThat(after.seats()).extracting(SeatResponse::seatStatus).containsExactly("AVAILABLE", "RESERVED");
+			assertThat(before.seats()).extracting(SeatResponse::seatStatus).containsExactly("AVAILABLE", "AVAILABLE");
+			then(seatMapVersionRedisRepository).should(never()).changesSince(any(), anyLong(), anyLong());
+			then(seatRepository).should(times(1)).findSortedSeatListByEventId(EVENT_ID);
+		}
+
+		@Test
+		@DisplayName("Redis 기록 실패 시 로컬 스냅샷 폐기")
+		void appendFailure_Evicts() {
+			given(seatMapVersionRedisRepository.current(EVENT_ID)).willReturn(5L);
+			given(seatRepository.findSortedSeatListByEventId(EVENT_ID)).willReturn(seats);
+			given(seatMapVersionRedisRepository.append(EVENT_ID, 10L, "SOLD")).willReturn(null);
+
+			seatMapCache.get(EVENT_ID);
+			seatMapCache.applyTransition(message(10L, "SOLD"));
+
+			assertThat(seatMapCache.contains(EVENT_ID)).isFalse();
+		}
+	}
+
+	private Seat seat(Event event, Long id, String seatCode) {
+		return seat(event, id, seatCode, SeatGrade.VIP);
+	}
+
+	private Seat seat(Event event, Long id, String seatCode, SeatGrade grade) {
+		Seat seat = Seat.createSeat(event, seatCode, grade, 150000);
+		ReflectionTestUtils.setField(seat, "id", id);
+		return seat;
+	}
+
+	private SeatStatusMessage message(Long seatId, String status) {
+		return new SeatStatusMessage(EVENT_ID, seatId, "A", status, 150000, SeatGrade.VIP.name());
+	}
+}
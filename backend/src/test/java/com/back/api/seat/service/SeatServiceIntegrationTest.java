@@ -18,6 +18,7 @@ import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.back.api.queue.service.QueueEntryProcessService;
+import com.back.api.seat.dto.response.SeatResponse;
 import com.back.config.TestRedisConfig;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.repository.EventRepository;
@@ -102,10 +103,10 @@ public class SeatServiceIntegrationTest {
 		// WAITING -> ENTERED 상태로 변경
 		queueEntryProcessService.processEntry(eventId, userId);
 
-		List<Seat> seats = seatService.getSeatsByEvent(eventId, userId);
+		List<SeatResponse> seats = seatService.getSeatsByEvent(eventId, userId, null).seats();
 
 		assertThat(seats).hasSize(3);
-		assertThat(seats).extracting(Seat::getSeatCode).containsExactly("A3", "A2", "A1");
+		assertThat(seats).extracting(SeatResponse::seatCode).containsExactly("A3", "A2", "A1");
 	}
 
 	@Test
@@ -116,7 +117,7 @@ public class SeatServiceIntegrationTest {
 		Long userId = 1L;
 
 		assertThatThrownBy(() ->
-			seatService.getSeatsByEvent(notExistEventId, userId)
+			seatService.getSeatsByEvent(notExistEventId, userId, null)
 		).isInstanceOf(ErrorException.class);
 	}
 
@@ -235,4 +236,38 @@ public class SeatServiceIntegrationTest {
 		).isInstanceOf(ErrorException.class)
 			.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.SEAT_STATUS_TRANSITION);
 	}
+
+	@Test
+	@DisplayName("스탠딩(GA) 수량 배정 - 남은 단위 중 잠기지 않은 행을 예약하고, 부족하면 아무것도 예약하지 않음")
+	void allocateGeneralAdmission_Success_ThenSoldOut() {
+
+		for (int i = 1; i <= 3; i++) {
+			seatHelper.createSeat(event, "GA" + i, SeatGrade.GA, 50000);
+		}
+		Long eventId = event.getId();
+
+		List<Seat> allocated = seatService.allocateGeneralAdmission(eventId, SeatGrade.GA, 2);
+
+		assertThat(allocated).hasSize(2)
+			.allMatch(seat -> seat.getSeatStatus() == SeatStatus.RESERVED);
+
+		assertThatThrownBy(() ->
+			seatService.allocateGeneralAdmission(eventId, SeatGrade.GA, 2)
+		).isInstanceOf(ErrorException.class)
+			.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.GENERAL_ADMISSION_SOLD_OUT);
+
+		assertThat(seatRepository.findByEventIdAndSeatStatus(eventId, SeatStatus.AVAILABLE)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("스탠딩(GA) 좌석은 좌석 지정 선택 불가")
+	void reserveSeat_GeneralAdmission_Fail() {
+
+		Seat seat = seatHelper.createSeat(event, "GA1", SeatGrade.GA, 50000);
+
+		assertThatThrownBy(() ->
+			seatService.reserveSeat(event.getId(), seat.getId(), 1L)
+		).isInstanceOf(ErrorException.class)
+			.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.GENERAL_ADMISSION_NOT_SELECTABLE);
+	}
 }
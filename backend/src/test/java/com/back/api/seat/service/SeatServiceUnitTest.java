@@ -21,8 +21,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.back.api.event.service.EventSalesCounterService;
 import com.back.api.queue.service.QueueEntryReadService;
+import com.back.api.seat.dto.response.SeatMap;
+import com.back.api.seat.dto.response.SeatStatusBatchMessage;
 import com.back.api.seat.dto.response.SeatStatusMessage;
 import com.back.domain.event.entity.Event;
 import com.back.domain.event.entity.EventCategory;
@@ -32,6 +37,7 @@ import com.back.domain.queue.repository.QueueEntryRedisRepository;
 import com.back.domain.seat.entity.Seat;
 import com.back.domain.seat.entity.SeatGrade;
 import com.back.domain.seat.entity.SeatStatus;
+import com.back.domain.seat.repository.SeatClaimRedisRepository;
 import com.back.domain.seat.repository.SeatRepository;
 import com.back.global.error.code.SeatErrorCode;
 import com.back.global.error.exception.ErrorException;
@@ -59,6 +65,15 @@ class SeatServiceUnitTest {
 	@Mock
 	private EventPublisher eventPublisher;
 
+	@Mock
+	private SeatClaimRedisRepository seatClaimRedisRepository;
+
+	@Mock
+	private SeatMapCache seatMapCache;
+
+	@Mock
+	private EventSalesCounterService eventSalesCounterService;
+
 	private Event testEvent;
 	private Seat testSeat;
 	private Long eventId;
@@ -99,25 +114,35 @@ class SeatServiceUnitTest {
 		@DisplayName("정상적으로 좌석 목록 조회")
 		void getSeatsByEvent_Success() {
 			// given
-			List<Seat> expectedSeats = List.of(
-				Seat.createSeat(testEvent, "A1", SeatGrade.VIP, 150000),
-				Seat.createSeat(testEvent, "A2", SeatGrade.VIP, 150000),
-				Seat.createSeat(testEvent, "B1", SeatGrade.R, 100000)
-			);
+			SeatMap expectedSeatMap = SeatMap.of(eventId, 1L, List.of());
 
 			given(eventRepository.existsById(eventId)).willReturn(true);
-			given(queueEntryReadService.isUserEntered(eventId, userId)).willReturn(true);
-			given(seatRepository.findSortedSeatListByEventId(eventId)).willReturn(expectedSeats);
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(seatMapCache.get(eventId)).willReturn(expectedSeatMap);
 
 			// when
-			List<Seat> result = seatService.getSeatsByEvent(eventId, userId);
+			SeatMap result = seatService.getSeatsByEvent(eventId, userId, null);
 
 			// then
-			assertThat(result).hasSize(3);
-			assertThat(result).isEqualTo(expectedSeats);
+			assertThat(result).isSameAs(expectedSeatMap);
 			then(eventRepository).should().existsById(eventId);
-			then(queueEntryReadService).should().isUserEntered(eventId, userId);
-			then(seatRepository).should().findSortedSeatListByEventId(eventId);
+			then(queueEntryReadService).should().isUserEntered(eventId, userId, null);
+			then(seatRepository).should(never()).findSortedSeatListByEventId(any());
+		}
+
+		@Test
+		@DisplayName("좌석 맵이 캐시된 이벤트는 이벤트 존재 확인 생략")
+		void getSeatsByEvent_Cached_SkipsEventLookup() {
+			// given
+			given(seatMapCache.contains(eventId)).willReturn(true);
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(seatMapCache.get(eventId)).willReturn(SeatMap.of(eventId, 1L, List.of()));
+
+			// when
+			seatService.getSeatsByEvent(eventId, userId, null);
+
+			// then
+			then(eventRepository).should(never()).existsById(any());
 		}
 
 		@Test
@@ -127,12 +152,12 @@ class SeatServiceUnitTest {
 			given(eventRepository.existsById(eventId)).willReturn(false);
 
 			// when & then
-			assertThatThrownBy(() -> seatService.getSeatsByEvent(eventId, userId))
+			assertThatThrownBy(() -> seatService.getSeatsByEvent(eventId, userId, null))
 				.isInstanceOf(ErrorException.class)
 				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.NOT_FOUND_EVENT);
 
-			then(queueEntryReadService).should(never()).isUserEntered(any(), any());
-			then(seatRepository).should(never()).findSortedSeatListByEventId(any());
+			then(queueEntryReadService).should(never()).isUserEntered(any(), any(), any());
+			then(seatMapCache).should(never()).get(any());
 		}
 
 		@Test
@@ -140,16 +165,16 @@ class SeatServiceUnitTest {
 		void getSeatsByEvent_NotInQueue_ThrowsException() {
 			// given
 			given(eventRepository.existsById(eventId)).willReturn(true);
-			given(queueEntryReadService.isUserEntered(eventId, userId)).willReturn(false);
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(false);
 
 			// when & then
-			assertThatThrownBy(() -> seatService.getSeatsByEvent(eventId, userId))
+			assertThatThrownBy(() -> seatService.getSeatsByEvent(eventId, userId, null))
 				.isInstanceOf(ErrorException.class)
 				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.NOT_IN_QUEUE);
 
 			then(eventRepository).should().existsById(eventId);
-			then(queueEntryReadService).should().isUserEntered(eventId, userId);
-			then(seatRepository).should(never()).findSortedSeatListByEventId(any());
+			then(queueEntryReadService).should().isUserEntered(eventId, userId, null);
+			then(seatMapCache).should(never()).get(any());
 		}
 	}
 
@@ -161,6 +186,7 @@ class SeatServiceUnitTest {
 		@DisplayName("정상적으로 좌석을 예약한다")
 		void reserveSeat_Success() {
 			// given
+			given(seatClaimRedisRepository.tryClaim(eventId, seatId, userId)).willReturn(true);
 			given(seatRepository.findByEventIdAndId(eventId, seatId)).willReturn(Optional.of(testSeat));
 			given(seatRepository.save(any(Seat.class))).willReturn(testSeat);
 
@@ -179,6 +205,7 @@ class SeatServiceUnitTest {
 		@DisplayName("존재하지 않는 좌석 예약에 실패한다")
 		void reserveSeat_SeatNotFound_ThrowsException() {
 			// given
+			given(seatClaimRedisRepository.tryClaim(eventId, seatId, userId)).willReturn(true);
 			given(seatRepository.findByEventIdAndId(eventId, seatId)).willReturn(Optional.empty());
 
 			// when & then
@@ -194,6 +221,7 @@ class SeatServiceUnitTest {
 		@DisplayName("낙관적 락 충돌 발생 시 SEAT_CONCURRENCY_FAILURE 예외를 던진다")
 		void reserveSeat_OptimisticLockingFailure_ThrowsException() {
 			// given
+			given(seatClaimRedisRepository.tryClaim(eventId, seatId, userId)).willReturn(true);
 			given(seatRepository.findByEventIdAndId(eventId, seatId)).willReturn(Optional.of(testSeat));
 			given(seatRepository.save(any(Seat.class)))
 				.willThrow(new ObjectOptimisticLockingFailureException(Seat.class, seatId));
@@ -203,6 +231,226 @@ class SeatServiceUnitTest {
 				.isInstanceOf(ErrorException.class)
 				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.SEAT_CONCURRENCY_FAILURE);
 		}
+
+		@Test
+		@DisplayName("Redis 선점에 실패하면 DB 조회 없이 SEAT_CONCURRENCY_FAILURE 예외를 던진다")
+		void reserveSeat_ClaimRejected_ThrowsWithoutDbAccess() {
+			// given
+			given(seatClaimRedisRepository.tryClaim(eventId, seatId, userId)).willReturn(false);
+
+			// when & then
+			assertThatThrownBy(() -> seatService.reserveSeat(eventId, seatId, userId))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.SEAT_CONCURRENCY_FAILURE);
+
+			then(seatRepository).shouldHaveNoInteractions();
+			then(eventPublisher).should(never()).publishEvent(any());
+		}
+	}
+
+	@Nested
+	@DisplayName("reserveSeats 테스트")
+	class ReserveSeatsTest {
+
+		private final List<Long> seatIds = List.of(1L, 2L);
+
+		@Test
+		@DisplayName("잠가서 조회한 좌석을 모두 검증한 뒤 RESERVED로 변경한다")
+		void reserveSeats_Success() {
+			// given
+			Seat seatA2 = Seat.createSeat(testEvent, "A2", SeatGrade.VIP, 150000);
+			given(seatClaimRedisRepository.claimAll(eventId, seatIds, userId)).willReturn(seatIds);
+			given(seatRepository.findByEventIdAndIdInForUpdate(eventId, seatIds)).willReturn(List.of(testSeat, seatA2));
+
+			// when
+			List<Seat> result = seatService.reserveSeats(eventId, seatIds, userId);
+
+			// then
+			assertThat(result).containsExactly(testSeat, seatA2);
+			assertThat(result).allMatch(seat -> seat.getSeatStatus() == SeatStatus.RESERVED);
+			then(eventSalesCounterService).should()
+				.seatsMoved(eventId, SeatStatus.AVAILABLE, SeatStatus.RESERVED, 2, 0);
+			then(eventPublisher).should(times(2)).publishEvent(any(SeatStatusMessage.class));
+		}
+
+		@Test
+		@DisplayName("스탠딩(GA) 좌석이 섞여 있으면 어떤 좌석도 변경하지 않고 예외를 던진다")
+		void reserveSeats_GeneralAdmission_ValidatesBeforeChange() {
+			// given
+			Seat gaSeat = Seat.createSeat(testEvent, "GA1", SeatGrade.GA, 50000);
+			given(seatClaimRedisRepository.claimAll(eventId, seatIds, userId)).willReturn(seatIds);
+			given(seatRepository.findByEventIdAndIdInForUpdate(eventId, seatIds)).willReturn(List.of(testSeat, gaSeat));
+
+			// when & then
+			assertThatThrownBy(() -> seatService.reserveSeats(eventId, seatIds, userId))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.GENERAL_ADMISSION_NOT_SELECTABLE);
+
+			assertThat(testSeat.getSeatStatus()).isEqualTo(SeatStatus.AVAILABLE);
+			then(eventSalesCounterService).shouldHaveNoInteractions();
+			then(eventPublisher).shouldHaveNoInteractions();
+		}
+
+		@Test
+		@DisplayName("이미 선택된 좌석이 섞여 있으면 SEAT_ALREADY_RESERVED 예외를 던진다")
+		void reserveSeats_AlreadyReserved_ThrowsException() {
+			// given
+			Seat reservedSeat = Seat.createSeat(testEvent, "A2", SeatGrade.VIP, 150000);
+			reservedSeat.markAsReserved();
+			given(seatClaimRedisRepository.claimAll(eventId, seatIds, userId)).willReturn(seatIds);
+			given(seatRepository.findByEventIdAndIdInForUpdate(eventId, seatIds))
+				.willReturn(List.of(testSeat, reservedSeat));
+
+			// when & then
+			assertThatThrownBy(() -> seatService.reserveSeats(eventId, seatIds, userId))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.SEAT_ALREADY_RESERVED);
+
+			assertThat(testSeat.getSeatStatus()).isEqualTo(SeatStatus.AVAILABLE);
+		}
+
+		@Test
+		@DisplayName("다시 고른 기존 Draft 좌석이 섞인 묶음이 롤백되면 새로 잡은 선점만 해제한다")
+		void reserveSeats_RolledBack_KeepsReselectedClaim() {
+			// given: 2번 좌석은 기존 Draft 좌석을 다시 고른 것 (선점은 이미 본인 소유)
+			Seat reservedSeat = Seat.createSeat(testEvent, "A2", SeatGrade.VIP, 150000);
+			reservedSeat.markAsReserved();
+			given(seatClaimRedisRepository.claimAll(eventId, seatIds, userId)).willReturn(List.of(1L));
+			given(seatRepository.findByEventIdAndIdInForUpdate(eventId, seatIds))
+				.willReturn(List.of(testSeat, reservedSeat));
+
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				// when
+				assertThatThrownBy(() -> seatService.reserveSeats(eventId, seatIds, userId))
+					.isInstanceOf(ErrorException.class);
+				TransactionSynchronizationManager.getSynchronizations()
+					.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+			} finally {
+				TransactionSynchronizationManager.clearSynchronization();
+			}
+
+			// then
+			then(seatClaimRedisRepository).should().releaseAll(eventId, List.of(1L), userId);
+		}
+	}
+
+	@Nested
+	@DisplayName("tryReserveSeats 테스트")
+	class TryReserveSeatsTest {
+
+		private final List<Long> seatIds = List.of(1L, 2L);
+
+		@Test
+		@DisplayName("블록 좌석을 모두 잠그면 RESERVED로 변경해 반환한다")
+		void tryReserveSeats_Success() {
+			// given
+			Seat seatA2 = Seat.createSeat(testEvent, "A2", SeatGrade.VIP, 150000);
+			given(seatClaimRedisRepository.claimAll(eventId, seatIds, userId)).willReturn(seatIds);
+			given(seatRepository.lockAvailableByIdsSkipLocked(eventId, seatIds)).willReturn(List.of(testSeat, seatA2));
+
+			// when
+			List<Seat> result = seatService.tryReserveSeats(eventId, seatIds, userId);
+
+			// then
+			assertThat(result).hasSize(2).allMatch(seat -> seat.getSeatStatus() == SeatStatus.RESERVED);
+			then(seatRepository).should(never()).saveAll(any());
+		}
+
+		@Test
+		@DisplayName("일부 좌석만 잠기면 예외 없이 빈 목록을 반환하고 선점을 돌려준다")
+		void tryReserveSeats_PartiallyLocked_ReturnsEmpty() {
+			// given
+			given(seatClaimRedisRepository.claimAll(eventId, seatIds, userId)).willReturn(seatIds);
+			given(seatRepository.lockAvailableByIdsSkipLocked(eventId, seatIds)).willReturn(List.of(testSeat));
+
+			// when
+			List<Seat> result = seatService.tryReserveSeats(eventId, seatIds, userId);
+
+			// then
+			assertThat(result).isEmpty();
+			assertThat(testSeat.getSeatStatus()).isEqualTo(SeatStatus.AVAILABLE);
+			then(seatClaimRedisRepository).should().releaseAll(eventId, seatIds, userId);
+			then(eventPublisher).shouldHaveNoInteractions();
+		}
+
+		@Test
+		@DisplayName("블록이 본인 Draft 좌석과 겹쳐 실패하면 새로 잡은 선점만 돌려준다")
+		void tryReserveSeats_OverlapsOwnDraft_KeepsExistingClaim() {
+			// given: 2번 좌석은 이미 본인 Draft가 잡고 있음 (RESERVED라 SKIP LOCKED 조회에서 빠짐)
+			given(seatClaimRedisRepository.claimAll(eventId, seatIds, userId)).willReturn(List.of(1L));
+			given(seatRepository.lockAvailableByIdsSkipLocked(eventId, seatIds)).willReturn(List.of(testSeat));
+
+			// when
+			List<Seat> result = seatService.tryReserveSeats(eventId, seatIds, userId);
+
+			// then
+			assertThat(result).isEmpty();
+			then(seatClaimRedisRepository).should().releaseAll(eventId, List.of(1L), userId);
+		}
+	}
+
+	@Nested
+	@DisplayName("markSeatAsAvailableKeepingClaim 테스트")
+	class MarkSeatAsAvailableKeepingClaimTest {
+
+		@Test
+		@DisplayName("좌석은 복구하지만 다시 예약할 좌석이라 선점은 해제하지 않는다")
+		void keepsClaim() {
+			// given
+			testSeat.markAsReserved();
+
+			// when
+			seatService.markSeatAsAvailableKeepingClaim(testSeat);
+
+			// then
+			assertThat(testSeat.getSeatStatus()).isEqualTo(SeatStatus.AVAILABLE);
+			then(seatClaimRedisRepository).shouldHaveNoInteractions();
+		}
+	}
+
+	@Nested
+	@DisplayName("changeReservedSeat 테스트")
+	class ChangeReservedSeatTest {
+
+		@Test
+		@DisplayName("새 좌석을 예약한 뒤 기존 좌석을 해제하고, 예약 좌석 수가 그대로라 카운터는 갱신하지 않는다")
+		void changeReservedSeat_Success() {
+			// given
+			Seat previous = Seat.createSeat(testEvent, "B1", SeatGrade.R, 100000);
+			previous.markAsReserved();
+
+			given(seatClaimRedisRepository.tryClaim(eventId, seatId, userId)).willReturn(true);
+			given(seatRepository.findByEventIdAndId(eventId, seatId)).willReturn(Optional.of(testSeat));
+			given(seatRepository.save(any(Seat.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+			// when
+			Seat result = seatService.changeReservedSeat(eventId, previous, seatId, userId);
+
+			// then
+			assertThat(result.getSeatStatus()).isEqualTo(SeatStatus.RESERVED);
+			assertThat(previous.getSeatStatus()).isEqualTo(SeatStatus.AVAILABLE);
+			then(eventSalesCounterService).shouldHaveNoInteractions();
+			then(eventPublisher).should(times(2)).publishEvent(any(SeatStatusMessage.class));
+		}
+
+		@Test
+		@DisplayName("새 좌석 선점에 실패하면 기존 좌석은 그대로 유지된다")
+		void changeReservedSeat_ClaimRejected_KeepsPrevious() {
+			// given
+			Seat previous = Seat.createSeat(testEvent, "B1", SeatGrade.R, 100000);
+			previous.markAsReserved();
+
+			given(seatClaimRedisRepository.tryClaim(eventId, seatId, userId)).willReturn(false);
+
+			// when & then
+			assertThatThrownBy(() -> seatService.changeReservedSeat(eventId, previous, seatId, userId))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.SEAT_CONCURRENCY_FAILURE);
+
+			assertThat(previous.getSeatStatus()).isEqualTo(SeatStatus.RESERVED);
+			then(seatRepository).shouldHaveNoInteractions();
+		}
 	}
 
 	@Nested
@@ -260,6 +508,53 @@ class SeatServiceUnitTest {
 			assertThat(testSeat.getSeatStatus()).isEqualTo(SeatStatus.AVAILABLE);
 			then(seatRepository).should().save(testSeat);
 			then(eventPublisher).should().publishEvent(any(SeatStatusMessage.class));
+			then(seatClaimRedisRepository).should().releaseAny(testSeat.getEvent().getId(), testSeat.getId());
+		}
+	}
+
+	@Nested
+	@DisplayName("releaseReservedSeats 테스트")
+	class ReleaseReservedSeatsTest {
+
+		@Test
+		@DisplayName("아직 RESERVED인 좌석만 해제하고, 해당 좌석만 메시지 발행/선점 해제한다")
+		void releaseReservedSeats_OnlyChangedSeats() {
+			// given: 3번 좌석은 그 사이 다른 사용자가 잡아 더 이상 대상이 아님
+			List<Long> requested = List.of(1L, 2L, 3L);
+			List<Long> locked = List.of(1L, 2L);
+			given(seatRepository.lockSeatIdsByStatus(eventId, requested, SeatStatus.RESERVED.name()))
+				.willReturn(locked);
+			given(seatRepository.updateSeatStatusIn(eventId, locked, SeatStatus.RESERVED, SeatStatus.AVAILABLE))
+				.willReturn(2);
+
+			// when
+			int released = seatService.releaseReservedSeats(eventId, requested);
+
+			// then
+			assertThat(released).isEqualTo(2);
+			then(eventPublisher).should()
+				.publishEvent(new SeatStatusBatchMessage(eventId, SeatStatus.AVAILABLE.name(), locked));
+			then(seatClaimRedisRepository).should().releaseAny(eventId, locked);
+			then(eventSalesCounterService).should()
+				.seatsMoved(eventId, SeatStatus.RESERVED, SeatStatus.AVAILABLE, 2, 0);
+		}
+
+		@Test
+		@DisplayName("해제할 좌석이 없으면 UPDATE/메시지/선점 해제를 하지 않는다")
+		void releaseReservedSeats_NothingToRelease() {
+			// given
+			List<Long> requested = List.of(1L, 2L);
+			given(seatRepository.lockSeatIdsByStatus(eventId, requested, SeatStatus.RESERVED.name()))
+				.willReturn(List.of());
+
+			// when
+			int released = seatService.releaseReservedSeats(eventId, requested);
+
+			// then
+			assertThat(released).isZero();
+			then(seatRepository).should(never()).updateSeatStatusIn(any(), any(), any(), any());
+			then(eventPublisher).shouldHaveNoInteractions();
+			then(seatClaimRedisRepository).shouldHaveNoInteractions();
 		}
 	}
 
@@ -272,6 +567,7 @@ class SeatServiceUnitTest {
 		@DisplayName("AVAILABLE -> RESERVED 상태 변경이 성공한다")
 		void seatStatus_AvailableToReserved_Success() {
 			// given
+			given(seatClaimRedisRepository.tryClaim(eventId, seatId, userId)).willReturn(true);
 			given(seatRepository.findByEventIdAndId(eventId, seatId)).willReturn(Optional.of(testSeat));
 			given(seatRepository.save(any(Seat.class))).willReturn(testSeat);
 
@@ -321,6 +617,7 @@ class SeatServiceUnitTest {
 		@DisplayName("좌석 예약 시 SeatStatusMessage 이벤트가 발행된다")
 		void reserveSeat_PublishesEvent() {
 			// given
+			given(seatClaimRedisRepository.tryClaim(eventId, seatId, userId)).willReturn(true);
 			given(seatRepository.findByEventIdAndId(eventId, seatId)).willReturn(Optional.of(testSeat));
 			given(seatRepository.save(any(Seat.class))).willReturn(testSeat);
 
@@ -365,6 +662,7 @@ class SeatServiceUnitTest {
 		@DisplayName("좌석 예약 실패 시 이벤트가 발행되지 않는다")
 		void reserveSeat_Failure_DoesNotPublishEvent() {
 			// given
+			given(seatClaimRedisRepository.tryClaim(eventId, seatId, userId)).willReturn(true);
 			given(seatRepository.findByEventIdAndId(eventId, seatId)).willReturn(Optional.empty());
 
 			// when & then
@@ -0,0 +1,93 @@
+package com.back.api.selection.allocator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.back.api.seat.dto.response.SeatResponse;
+import com.back.domain.seat.entity.SeatGrade;
+
+@DisplayName("SeatBlockIndex 단위 테스트")
+class SeatBlockIndexTest {
+
+	private long nextId = 1;
+
+	@Test
+	@DisplayName("앞 행의 중앙에 가장 가까운 연속 빈 좌석 블록을 먼저 반환한다")
+	void frontRowCenterFirst() {
+		List<SeatResponse> seats = new ArrayList<>();
+		seats.addAll(row("A", 10, "R", 4, 5, 6)); // A4~A6 선택됨 → 빈 구간 1~3, 7~10
+		seats.addAll(row("B", 10, "R"));
+
+		List<SeatBlock> blocks = SeatBlockIndex.build(seats).get(SeatGrade.R).findBest(3, 3, row -> 0);
+
+		assertThat(blocks).extracting(SeatBlock::row, SeatBlock::startNumber)
+			.containsExactly(tuple("A", 7), tuple("A", 1), tuple("B", 4));
+		assertThat(blocks.getFirst().seatIds()).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("여러 글자 행은 한 글자 행 뒤에 오고, 등급별로 따로 색인된다")
+	void multiLetterRowsAfterSingleLetter() {
+		List<SeatResponse> seats = new ArrayList<>();
+		seats.addAll(row("AA", 4, "R"));
+		seats.addAll(row("Z", 4, "R"));
+		seats.addAll(row("A", 4, "VIP"));
+
+		Map<SeatGrade, SeatBlockIndex> indexes = SeatBlockIndex.build(seats);
+
+		assertThat(indexes.get(SeatGrade.R).rowCount()).isEqualTo(2);
+		assertThat(indexes.get(SeatGrade.R).findBest(2, 2, row -> 0))
+			.extracting(SeatBlock::row).containsExactly("Z", "AA");
+		assertThat(indexes.get(SeatGrade.VIP).rowCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("경합 페널티가 있는 행은 뒤 행보다 뒤로 밀린다")
+	void contendedRowIsPushedBack() {
+		List<SeatResponse> seats = new ArrayList<>();
+		seats.addAll(row("A", 6, "R"));
+		seats.addAll(row("B", 6, "R"));
+
+		List<SeatBlock> blocks = SeatBlockIndex.build(seats).get(SeatGrade.R)
+			.findBest(2, 1, row -> row.equals("A") ? 2 : 0);
+
+		assertThat(blocks).extracting(SeatBlock::row).containsExactly("B");
+	}
+
+	@Test
+	@DisplayName("연속 빈 좌석이 부족하거나 형식이 다른 좌석 코드는 후보가 되지 않는다")
+	void noBlockWhenNotEnoughAdjacentSeats() {
+		List<SeatResponse> seats = new ArrayList<>();
+		seats.addAll(row("A", 5, "R", 2, 4)); // 빈 좌석 1, 3, 5
+		seats.add(new SeatResponse(nextId++, 1L, "STANDING", "R", 100000, "AVAILABLE"));
+
+		SeatBlockIndex index = SeatBlockIndex.build(seats).get(SeatGrade.R);
+
+		assertThat(index.findBest(2, 3, row -> 0)).isEmpty();
+		assertThat(index.findBest(1, 3, row -> 0)).hasSize(3);
+	}
+
+	private List<SeatResponse> row(String label, int size, String grade, int... reserved) {
+		List<SeatResponse> seats = new ArrayList<>();
+		for (int number = 1; number <= size; number++) {
+			String status = contains(reserved, number) ? "RESERVED" : "AVAILABLE";
+			seats.add(new SeatResponse(nextId++, 1L, label + number, grade, 100000, status));
+		}
+		return seats;
+	}
+
+	private boolean contains(int[] numbers, int number) {
+		for (int n : numbers) {
+			if (n == number) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
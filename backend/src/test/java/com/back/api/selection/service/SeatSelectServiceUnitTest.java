@@ -4,19 +4,30 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.back.api.queue.service.QueueEntryReadService;
+import com.back.api.seat.dto.response.SeatMap;
+import com.back.api.seat.service.SeatMapCache;
 import com.back.api.seat.service.SeatService;
+import com.back.api.selection.allocator.BestAvailableAllocator;
+import com.back.api.selection.allocator.SeatBlock;
+import com.back.api.ticket.scheduler.SeatHoldTimer;
 import com.back.api.ticket.service.TicketService;
 import com.back.domain.event.entity.Event;
 import com.back.domain.seat.entity.Seat;
@@ -28,6 +39,7 @@ import com.back.domain.ticket.entity.TicketStatus;
 import com.back.domain.user.entity.User;
 import com.back.domain.user.entity.UserRole;
 import com.back.global.error.code.SeatErrorCode;
+import com.back.global.error.code.TicketErrorCode;
 import com.back.global.error.exception.ErrorException;
 import com.back.support.factory.EventFactory;
 import com.back.support.factory.SeatFactory;
@@ -51,6 +63,15 @@ class SeatSelectServiceUnitTest {
 	@Mock
 	private QueueEntryReadService queueEntryReadService;
 
+	@Mock
+	private SeatHoldTimer seatHoldTimer;
+
+	@Mock
+	private SeatMapCache seatMapCache;
+
+	@Mock
+	private BestAvailableAllocator bestAvailableAllocator;
+
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
@@ -96,12 +117,13 @@ class SeatSelectServiceUnitTest {
 				.ticketStatus(TicketStatus.DRAFT)
 				.build();
 
-			given(queueEntryReadService.isUserEntered(eventId, userId)).willReturn(true);
-			given(ticketService.getOrCreateDraft(eventId, userId)).willReturn(draftTicket);
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(ticketService.findDrafts(eventId, userId)).willReturn(List.of());
+			given(ticketService.createDraft(eventId, userId)).willReturn(draftTicket);
 			given(seatService.reserveSeat(eventId, seatId, userId)).willReturn(testSeat);
 
 			// when
-			Ticket result = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId);
+			Ticket result = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null);
 
 			// then
 			assertThat(result).isNotNull();
@@ -110,24 +132,64 @@ class SeatSelectServiceUnitTest {
 			assertThat(result.getEvent()).isEqualTo(testEvent);
 			assertThat(result.getSeat()).isEqualTo(testSeat);
 
-			then(queueEntryReadService).should().isUserEntered(eventId, userId);
-			then(ticketService).should().getOrCreateDraft(eventId, userId);
+			then(queueEntryReadService).should().isUserEntered(eventId, userId, null);
+			then(ticketService).should().createDraft(eventId, userId);
 			then(seatService).should().reserveSeat(eventId, seatId, userId);
-			then(seatService).should(never()).markSeatAsAvailable(any());  // 기존 좌석 없음
+			then(seatService).should(never()).changeReservedSeat(any(), any(), any(), any());  // 기존 좌석 없음
+		}
+
+		@Test
+		@DisplayName("기존 Draft가 있으면 새 좌석으로 교체하고 Draft를 재사용한다")
+		void selectSeatAndCreateTicket_ChangeSeat_ReusesDraft() {
+			// given
+			Seat previousSeat = SeatFactory.fakeSeat(testEvent, "B1", SeatGrade.R, 100000);
+			ReflectionTestUtils.setField(previousSeat, "id", 2L);
+			previousSeat.markAsReserved();
+
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(ticketService.findDrafts(eventId, userId)).willReturn(List.of(testTicket));
+			testTicket.assignSeat(previousSeat);
+			given(seatService.changeReservedSeat(eventId, previousSeat, seatId, userId)).willReturn(testSeat);
+
+			// when
+			Ticket result = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null);
+
+			// then
+			assertThat(result).isSameAs(testTicket);
+			assertThat(result.getSeat()).isEqualTo(testSeat);
+			then(ticketService).should(never()).createDraft(any(), any());
+			then(seatService).should(never()).reserveSeat(any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("이미 잡고 있는 좌석을 다시 선택하면 좌석 변경 없이 Draft를 반환한다")
+		void selectSeatAndCreateTicket_SameSeat_NoChange() {
+			// given
+			ReflectionTestUtils.setField(testSeat, "id", seatId);
+
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(ticketService.findDrafts(eventId, userId)).willReturn(List.of(testTicket));
+
+			// when
+			Ticket result = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null);
+
+			// then
+			assertThat(result).isSameAs(testTicket);
+			then(seatService).shouldHaveNoInteractions();
 		}
 
 		@Test
 		@DisplayName("큐에 입장하지 않은 사용자는 좌석 선택에 실패한다")
 		void selectSeatAndCreateTicket_NotInQueue_ThrowsException() {
 			// given
-			given(queueEntryReadService.isUserEntered(eventId, userId)).willReturn(false);
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(false);
 
 			// when & then
-			assertThatThrownBy(() -> seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId))
+			assertThatThrownBy(() -> seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null))
 				.isInstanceOf(ErrorException.class)
 				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.NOT_IN_QUEUE);
 
-			then(ticketService).should(never()).getOrCreateDraft(any(), any());
+			then(ticketService).should(never()).findDrafts(any(), any());
 			then(seatService).should(never()).reserveSeat(any(), any(), any());
 		}
 
@@ -142,17 +204,249 @@ class SeatSelectServiceUnitTest {
 				.ticketStatus(TicketStatus.DRAFT)
 				.build();
 
-			given(queueEntryReadService.isUserEntered(eventId, userId)).willReturn(true);
-			given(ticketService.getOrCreateDraft(eventId, userId)).willReturn(draftTicket);
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(ticketService.findDrafts(eventId, userId)).willReturn(List.of(draftTicket));
 			given(seatService.reserveSeat(eventId, seatId, userId))
 				.willThrow(new ErrorException(SeatErrorCode.SEAT_ALREADY_RESERVED));
 
 			// when & then
-			assertThatThrownBy(() -> seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId))
+			assertThatThrownBy(() -> seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.SEAT_ALREADY_RESERVED);
+
+			then(ticketService).should().findDrafts(eventId, userId);
+		}
+	}
+
+	@Nested
+	@DisplayName("selectSeatAndCreateTicket - Draft가 여러 개인 경우")
+	class SelectSeatWithMultipleDraftsTest {
+
+		@Test
+		@DisplayName("묶음 중 이미 잡고 있는 좌석을 다시 선택하면 해당 좌석의 Draft를 그대로 반환한다")
+		void selectSeat_SeatHeldBySecondDraft_ReturnsThatDraft() {
+			// given
+			Seat otherSeat = SeatFactory.fakeSeat(testEvent, "A2", SeatGrade.VIP, 150000);
+			ReflectionTestUtils.setField(otherSeat, "id", 2L);
+			ReflectionTestUtils.setField(testSeat, "id", seatId);
+			Ticket firstDraft = Ticket.builder()
+				.owner(testUser)
+				.event(testEvent)
+				.seat(otherSeat)
+				.ticketStatus(TicketStatus.DRAFT)
+				.build();
+
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(ticketService.findDrafts(eventId, userId)).willReturn(List.of(firstDraft, testTicket));
+
+			// when
+			Ticket result = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null);
+
+			// then
+			assertThat(result).isSameAs(testTicket);
+			then(seatService).shouldHaveNoInteractions();
+			then(ticketService).should(never()).cancelDrafts(any(), any());
+		}
+
+		@Test
+		@DisplayName("묶음에 없는 좌석을 선택하면 새 좌석을 먼저 잡은 뒤 묶음 Draft를 취소하고 새 Draft를 만든다")
+		void selectSeat_NewSeat_ReplacesDraftGroup() {
+			// given
+			Seat seatA2 = SeatFactory.fakeSeat(testEvent, "A2", SeatGrade.VIP, 150000);
+			Seat seatA3 = SeatFactory.fakeSeat(testEvent, "A3", SeatGrade.VIP, 150000);
+			ReflectionTestUtils.setField(seatA2, "id", 2L);
+			ReflectionTestUtils.setField(seatA3, "id", 3L);
+			Ticket draftA2 = Ticket.builder().owner(testUser).event(testEvent).seat(seatA2)
+				.ticketStatus(TicketStatus.DRAFT).build();
+			Ticket draftA3 = Ticket.builder().owner(testUser).event(testEvent).seat(seatA3)
+				.ticketStatus(TicketStatus.DRAFT).build();
+			Ticket newDraft = Ticket.builder().owner(testUser).event(testEvent).seat(null)
+				.ticketStatus(TicketStatus.DRAFT).build();
+
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(ticketService.findDrafts(eventId, userId)).willReturn(List.of(draftA2, draftA3));
+			given(seatService.reserveSeat(eventId, seatId, userId)).willReturn(testSeat);
+			given(ticketService.createDraft(eventId, userId)).willReturn(newDraft);
+
+			// when
+			Ticket result = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null);
+
+			// then
+			assertThat(result).isSameAs(newDraft);
+			assertThat(result.getSeat()).isEqualTo(testSeat);
+			InOrder inOrder = inOrder(seatService, ticketService);
+			inOrder.verify(seatService).reserveSeat(eventId, seatId, userId);
+			inOrder.verify(ticketService).cancelDrafts(eventId, userId);
+			then(seatService).should(never()).changeReservedSeat(any(), any(), any(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("deselectSeatAndCancelTicket 테스트")
+	class DeselectSeatTest {
+
+		@Test
+		@DisplayName("해당 좌석을 잡고 있는 Draft의 좌석만 해제한다")
+		void deselect_Success() {
+			// given
+			given(ticketService.findDraftBySeat(eventId, seatId, userId)).willReturn(Optional.of(testTicket));
+
+			// when
+			seatSelectionService.deselectSeatAndCancelTicket(eventId, seatId, userId);
+
+			// then
+			then(seatService).should().markSeatAsAvailable(testSeat);
+			assertThat(testTicket.hasSeat()).isFalse();
+			assertThat(testTicket.getTicketStatus()).isEqualTo(TicketStatus.DRAFT);
+		}
+
+		@Test
+		@DisplayName("해당 좌석을 잡고 있는 Draft가 없으면 SEAT_NOT_SELECTED 예외를 던진다")
+		void deselect_NotSelected_ThrowsException() {
+			// given
+			given(ticketService.findDraftBySeat(eventId, seatId, userId)).willReturn(Optional.empty());
+
+			// when & then
+			assertThatThrownBy(() -> seatSelectionService.deselectSeatAndCancelTicket(eventId, seatId, userId))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.SEAT_NOT_SELECTED);
+
+			then(seatService).shouldHaveNoInteractions();
+		}
+	}
+
+	@Nested
+	@DisplayName("selectSeats 테스트")
+	class SelectSeatsTest {
+
+		@Test
+		@DisplayName("중복을 제거한 id 오름차순으로 일괄 예약하고 좌석마다 Draft Ticket을 생성한다")
+		void selectSeats_Success() {
+			// given
+			Seat seatA1 = SeatFactory.fakeSeat(testEvent, "A1", SeatGrade.VIP, 150000);
+			Seat seatA2 = SeatFactory.fakeSeat(testEvent, "A2", SeatGrade.VIP, 150000);
+			List<Ticket> drafts = List.of(testTicket, testTicket);
+
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(seatService.reserveSeats(eventId, List.of(3L, 7L), userId)).willReturn(List.of(seatA1, seatA2));
+			given(ticketService.createDraftTickets(eventId, List.of(seatA1, seatA2), userId)).willReturn(drafts);
+
+			// when
+			List<Ticket> result = seatSelectionService.selectSeats(eventId, List.of(7L, 3L, 7L), userId, null);
+
+			// then
+			assertThat(result).isEqualTo(drafts);
+			then(ticketService).should().validatePurchaseLimit(eventId, userId, 2);
+			then(ticketService).should().cancelDrafts(eventId, userId, List.of(3L, 7L));
+			then(seatHoldTimer).should(times(2)).scheduleAfterCommit(any(), any());
+		}
+
+		@Test
+		@DisplayName("구매 한도를 넘으면 좌석을 예약하지 않는다")
+		void selectSeats_LimitExceeded_ThrowsException() {
+			// given
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			willThrow(new ErrorException(TicketErrorCode.TICKET_LIMIT_EXCEEDED))
+				.given(ticketService).validatePurchaseLimit(eventId, userId, 3);
+
+			// when & then
+			assertThatThrownBy(() -> seatSelectionService.selectSeats(eventId, List.of(1L, 2L, 3L), userId, null))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", TicketErrorCode.TICKET_LIMIT_EXCEEDED);
+
+			then(ticketService).should(never()).cancelDrafts(any(), any(), any());
+			then(seatService).should(never()).reserveSeats(any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("하나라도 선택할 수 없으면 예외가 전파되어 Draft Ticket을 생성하지 않는다")
+		void selectSeats_AnySeatTaken_ThrowsException() {
+			// given
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(seatService.reserveSeats(eventId, List.of(1L, 2L), userId))
+				.willThrow(new ErrorException(SeatErrorCode.SEAT_ALREADY_RESERVED));
+
+			// when & then
+			assertThatThrownBy(() -> seatSelectionService.selectSeats(eventId, List.of(1L, 2L), userId, null))
 				.isInstanceOf(ErrorException.class)
 				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.SEAT_ALREADY_RESERVED);
 
-			then(ticketService).should().getOrCreateDraft(eventId, userId);
+			then(ticketService).should(never()).createDraftTickets(any(), any(), any());
+		}
+	}
+
+	@Nested
+	@DisplayName("selectBestAvailable 테스트")
+	class SelectBestAvailableTest {
+
+		private final SeatMap seatMap = new SeatMap(1L, 1L, List.of(), Map.of());
+		private final SeatBlock first = new SeatBlock("A", 5, List.of(5L, 6L), 0);
+		private final SeatBlock second = new SeatBlock("B", 5, List.of(15L, 16L), 10_000);
+
+		@Test
+		@DisplayName("선점 충돌 시 다음 후보 블록으로 재시도한 뒤 기존 Draft를 정리하고 Draft를 생성한다")
+		void conflictThenNextBlock_Success() {
+			// given
+			Seat seatB5 = SeatFactory.fakeSeat(testEvent, "B5", SeatGrade.R, 100000);
+			Seat seatB6 = SeatFactory.fakeSeat(testEvent, "B6", SeatGrade.R, 100000);
+			List<Ticket> drafts = List.of(testTicket, testTicket);
+
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(seatMapCache.get(eventId)).willReturn(seatMap);
+			given(bestAvailableAllocator.candidates(seatMap, SeatGrade.R, 2)).willReturn(List.of(first, second));
+			given(seatService.tryReserveSeats(eventId, first.seatIds(), userId)).willReturn(List.of());
+			given(seatService.tryReserveSeats(eventId, second.seatIds(), userId)).willReturn(List.of(seatB5, seatB6));
+			given(ticketService.createDraftTickets(eventId, List.of(seatB5, seatB6), userId)).willReturn(drafts);
+
+			// when
+			List<Ticket> result = seatSelectionService.selectBestAvailable(eventId, SeatGrade.R, 2, userId, null);
+
+			// then
+			assertThat(result).isEqualTo(drafts);
+			then(bestAvailableAllocator).should().recordConflict(eventId, SeatGrade.R, first);
+			then(bestAvailableAllocator).should().recordAllocation(eventId, SeatGrade.R, second);
+			then(ticketService).should().cancelDrafts(eventId, userId);
+			then(seatHoldTimer).should(times(2)).scheduleAfterCommit(any(), any());
+		}
+
+		@Test
+		@DisplayName("모든 후보 선점에 실패하면 기존 Draft를 유지하고 예외가 발생한다")
+		void allCandidatesFail_ThrowsException() {
+			// given
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(seatMapCache.get(eventId)).willReturn(seatMap);
+			given(bestAvailableAllocator.candidates(seatMap, SeatGrade.R, 2)).willReturn(List.of(first));
+			given(seatService.tryReserveSeats(eventId, first.seatIds(), userId)).willReturn(List.of());
+
+			// when & then
+			assertThatThrownBy(() -> seatSelectionService.selectBestAvailable(eventId, SeatGrade.R, 2, userId, null))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", SeatErrorCode.SEAT_BLOCK_NOT_AVAILABLE);
+
+			then(ticketService).should(never()).cancelDrafts(any(), any());
+			then(ticketService).should(never()).createDraftTickets(any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("스탠딩(GA) 등급은 좌석 맵/후보 탐색 없이 남은 단위를 수량만큼 배정한다")
+		void generalAdmission_AllocatesAnyUnits() {
+			// given
+			Seat ga1 = SeatFactory.fakeSeat(testEvent, "GA1", SeatGrade.GA, 50000);
+			Seat ga2 = SeatFactory.fakeSeat(testEvent, "GA2", SeatGrade.GA, 50000);
+			List<Ticket> drafts = List.of(testTicket, testTicket);
+
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(seatService.allocateGeneralAdmission(eventId, SeatGrade.GA, 2)).willReturn(List.of(ga1, ga2));
+			given(ticketService.createDraftTickets(eventId, List.of(ga1, ga2), userId)).willReturn(drafts);
+
+			// when
+			List<Ticket> result = seatSelectionService.selectBestAvailable(eventId, SeatGrade.GA, 2, userId, null);
+
+			// then
+			assertThat(result).isEqualTo(drafts);
+			then(bestAvailableAllocator).shouldHaveNoInteractions();
+			then(seatMapCache).shouldHaveNoInteractions();
+			then(ticketService).should().cancelDrafts(eventId, userId);
 		}
 	}
 
@@ -173,12 +467,12 @@ class SeatSelectServiceUnitTest {
 
 			testSeat.markAsReserved(); // 예약 상태로 변경
 
-			given(queueEntryReadService.isUserEntered(eventId, userId)).willReturn(true);
-			given(ticketService.getOrCreateDraft(eventId, userId)).willReturn(draftTicket);
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(ticketService.findDrafts(eventId, userId)).willReturn(List.of(draftTicket));
 			given(seatService.reserveSeat(eventId, seatId, userId)).willReturn(testSeat);
 
 			// when
-			Ticket result = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId);
+			Ticket result = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null);
 
 			// then
 			assertThat(result.getSeat().getSeatStatus()).isEqualTo(SeatStatus.RESERVED);
@@ -200,18 +494,18 @@ class SeatSelectServiceUnitTest {
 				.ticketStatus(TicketStatus.DRAFT)
 				.build();
 
-			given(queueEntryReadService.isUserEntered(eventId, userId)).willReturn(true);
-			given(ticketService.getOrCreateDraft(eventId, userId)).willReturn(draftTicket);
+			given(queueEntryReadService.isUserEntered(eventId, userId, null)).willReturn(true);
+			given(ticketService.findDrafts(eventId, userId)).willReturn(List.of(draftTicket));
 			given(seatService.reserveSeat(eventId, seatId, userId))
 				.willThrow(new RuntimeException("좌석 예약 실패"));
 
 			// when & then
-			assertThatThrownBy(() -> seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId))
+			assertThatThrownBy(() -> seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null))
 				.isInstanceOf(RuntimeException.class)
 				.hasMessage("좌석 예약 실패");
 
 			// Draft Ticket은 조회되었지만, 좌석 예약 실패로 트랜잭션 롤백
-			then(ticketService).should().getOrCreateDraft(eventId, userId);
+			then(ticketService).should().findDrafts(eventId, userId);
 			then(seatService).should().reserveSeat(eventId, seatId, userId);
 		}
 	}
@@ -2,6 +2,7 @@ package com.back.api.selection.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -19,6 +20,7 @@ import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.back.api.queue.service.AdmissionPassService;
 import com.back.api.queue.service.QueueEntryProcessService;
 import com.back.config.TestRedisConfig;
 import com.back.domain.event.entity.Event;
@@ -38,12 +40,13 @@ import com.back.domain.user.entity.UserActiveStatus;
 import com.back.domain.user.entity.UserRole;
 import com.back.domain.user.repository.UserRepository;
 import com.back.global.error.exception.ErrorException;
+import com.back.global.logging.SqlRequestStats;
 import com.back.support.data.TestUser;
 import com.back.support.factory.EventFactory;
 import com.back.support.factory.UserFactory;
 import com.back.support.helper.StoreHelper;
 
-@SpringBootTest
+@SpringBootTest(properties = "monitoring.sql.enabled=true") // SqlMetricsDataSource로 SQL 집계 (쿼리 수 회귀 테스트)
 @ActiveProfiles("test")
 @Import(TestRedisConfig.class)
 public class SeatSelectionServiceIntegrationTest {
@@ -69,6 +72,9 @@ public class SeatSelectionServiceIntegrationTest {
 	@Autowired
 	private QueueEntryProcessService queueEntryProcessService;
 
+	@Autowired
+	private AdmissionPassService admissionPassService;
+
 	@Autowired
 	private PasswordEncoder passwordEncoder;
 
@@ -117,7 +123,7 @@ public class SeatSelectionServiceIntegrationTest {
 		// WAITING -> ENTERED 상태로 변경
 		queueEntryProcessService.processEntry(eventId, userId);
 
-		Ticket draftTicket = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId);
+		Ticket draftTicket = seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null);
 
 		// 티켓 검증
 		assertThat(draftTicket).isNotNull();
@@ -172,7 +178,7 @@ public class SeatSelectionServiceIntegrationTest {
 
 			executor.submit(() -> {
 				try {
-					seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, uid);
+					seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, uid, null);
 					success.incrementAndGet();
 				} catch (ErrorException | ObjectOptimisticLockingFailureException e) {
 					failure.incrementAndGet();
@@ -203,7 +209,54 @@ public class SeatSelectionServiceIntegrationTest {
 		// 큐에 입장하지 않음
 
 		assertThatThrownBy(() ->
-			seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId)
+			seatSelectionService.selectSeatAndCreateTicket(eventId, seatId, userId, null)
 		).isInstanceOf(ErrorException.class);
 	}
+
+	@Test
+	@DisplayName("좌석 선택/교체 트랜잭션은 유저/이벤트 조회 없이 최소한의 SQL만 실행")
+	void selectSeatAndCreateTicket_StatementCount() {
+
+		Seat first = seatRepository.save(Seat.createSeat(event, "A1", SeatGrade.VIP, 150000));
+		Seat second = seatRepository.save(Seat.createSeat(event, "A2", SeatGrade.VIP, 150000));
+
+		Long eventId = event.getId();
+		Long userId = user.getId();
+
+		queueEntryRepository.save(new QueueEntry(user, event, 1));
+		queueEntryProcessService.processEntry(eventId, userId);
+
+		// 입장권으로 대기열 조회 생략 → 좌석 선택 트랜잭션의 SQL만 측정
+		admissionPassService.sync();
+		String pass = admissionPassService.issue(eventId, userId, LocalDateTime.now().plusMinutes(15));
+
+		// 임계치는 경고 로그가 나지 않도록 최대값 (SELECT 문장별 집계만 사용)
+		SqlRequestStats created = SqlRequestStats.start("select", Integer.MAX_VALUE);
+		try {
+			seatSelectionService.selectSeatAndCreateTicket(eventId, first.getId(), userId, pass);
+		} finally {
+			SqlRequestStats.finish();
+		}
+
+		SqlRequestStats swapped = SqlRequestStats.start("swap", Integer.MAX_VALUE);
+		Ticket changed;
+		try {
+			changed = seatSelectionService.selectSeatAndCreateTicket(eventId, second.getId(), userId, pass);
+		} finally {
+			SqlRequestStats.finish();
+		}
+
+		// Draft+기존 좌석 조회, 새 좌석 조회, 새 좌석 UPDATE, 기존 좌석 UPDATE, Draft UPDATE
+		assertThat(swapped.getStatements()).isLessThanOrEqualTo(5);
+		assertThat(created.getSelectCounts().keySet())
+			.noneMatch(sql -> sql.toLowerCase().matches("(?s).*\\b(users|events)\\b.*"));
+		assertThat(swapped.getSelectCounts().keySet())
+			.noneMatch(sql -> sql.toLowerCase().matches("(?s).*\\b(users|events)\\b.*"));
+
+		assertThat(changed.getSeat().getId()).isEqualTo(second.getId());
+		assertThat(seatRepository.findById(first.getId()).orElseThrow().getSeatStatus())
+			.isEqualTo(SeatStatus.AVAILABLE);
+		assertThat(seatRepository.findById(second.getId()).orElseThrow().getSeatStatus())
+			.isEqualTo(SeatStatus.RESERVED);
+	}
 }
@@ -84,9 +84,9 @@ class DraftTicketExpirationSchedulerTest {
 	@Transactional
 	@DisplayName("좌석이 할당된 만료된 Draft 티켓을 정상적으로 처리한다")
 	void expireDraftTicket_withSeat_success() throws Exception {
-		// given: 5분 이상 경과한 Draft 티켓 생성 (좌석 할당됨)
+		// given: 홀드 만료 시각이 지난 Draft 티켓 생성 (좌석 할당됨)
 		Ticket ticket = ticketHelper.createDraftTicket(user, seat, event);
-		setCreatedAt(ticket, LocalDateTime.now().minusMinutes(10));
+		setHoldExpiresAt(ticket, LocalDateTime.now().minusMinutes(10));
 
 		// 좌석을 RESERVED 상태로 변경
 		seat.markAsReserved();
@@ -113,7 +113,7 @@ class DraftTicketExpirationSchedulerTest {
 	@Transactional
 	@DisplayName("좌석이 없는 만료된 Draft 티켓도 정상적으로 처리한다")
 	void expireDraftTicket_withoutSeat_success() throws Exception {
-		// given: 5분 이상 경과한 Draft 티켓 생성 (좌석 없음)
+		// given: 홀드 만료 시각이 지난 Draft 티켓 생성 (좌석 없음)
 		Ticket ticket = Ticket.builder()
 			.owner(user)
 			.event(event)
@@ -121,7 +121,7 @@ class DraftTicketExpirationSchedulerTest {
 			.ticketStatus(TicketStatus.DRAFT)
 			.build();
 		ticketRepository.save(ticket);
-		setCreatedAt(ticket, LocalDateTime.now().minusMinutes(10));
+		setHoldExpiresAt(ticket, LocalDateTime.now().minusMinutes(10));
 
 		// 트랜잭션 커밋하여 스케줄러가 데이터를 볼 수 있도록 함
 		TestTransaction.flagForCommit();
@@ -158,7 +158,7 @@ class DraftTicketExpirationSchedulerTest {
 	void expireDraftTicket_paidTicket_ignored() throws Exception {
 		// given: 만료 시간이 지난 PAID 티켓
 		Ticket ticket = ticketHelper.createPaidTicket(user, seat, event);
-		setCreatedAt(ticket, LocalDateTime.now().minusMinutes(10));
+		setHoldExpiresAt(ticket, LocalDateTime.now().minusMinutes(10));
 
 		// 트랜잭션 커밋하여 스케줄러가 데이터를 볼 수 있도록 함
 		TestTransaction.flagForCommit();
@@ -185,9 +185,9 @@ class DraftTicketExpirationSchedulerTest {
 		Ticket ticket2 = ticketHelper.createDraftTicket(user, seat2, event);
 		Ticket ticket3 = ticketHelper.createDraftTicket(user, seat3, event);
 
-		setCreatedAt(ticket1, LocalDateTime.now().minusMinutes(10));
-		setCreatedAt(ticket2, LocalDateTime.now().minusMinutes(10));
-		setCreatedAt(ticket3, LocalDateTime.now().minusMinutes(10));
+		setHoldExpiresAt(ticket1, LocalDateTime.now().minusMinutes(10));
+		setHoldExpiresAt(ticket2, LocalDateTime.now().minusMinutes(10));
+		setHoldExpiresAt(ticket3, LocalDateTime.now().minusMinutes(10));
 
 		// 좌석들을 RESERVED 상태로 변경
 		seat.markAsReserved();
@@ -236,8 +236,8 @@ class DraftTicketExpirationSchedulerTest {
 			.build();
 		ticketRepository.save(ticketWithoutSeat);
 
-		setCreatedAt(ticketWithSeat, LocalDateTime.now().minusMinutes(10));
-		setCreatedAt(ticketWithoutSeat, LocalDateTime.now().minusMinutes(10));
+		setHoldExpiresAt(ticketWithSeat, LocalDateTime.now().minusMinutes(10));
+		setHoldExpiresAt(ticketWithoutSeat, LocalDateTime.now().minusMinutes(10));
 
 		seat.markAsReserved();
 		seatRepository.save(seat);
@@ -264,12 +264,12 @@ class DraftTicketExpirationSchedulerTest {
 	// ========== Helper Methods ==========
 
 	/**
-	 * Reflection을 사용하여 createAt 필드를 수정
+	 * Reflection을 사용하여 holdExpiresAt 필드를 수정
 	 */
-	private void setCreatedAt(Ticket ticket, LocalDateTime time) throws Exception {
-		Field createAtField = ticket.getClass().getSuperclass().getDeclaredField("createAt");
-		createAtField.setAccessible(true);
-		createAtField.set(ticket, time);
+	private void setHoldExpiresAt(Ticket ticket, LocalDateTime time) throws Exception {
+		Field holdExpiresAtField = ticket.getClass().getDeclaredField("holdExpiresAt");
+		holdExpiresAtField.setAccessible(true);
+		holdExpiresAtField.set(ticket, time);
 		ticketRepository.saveAndFlush(ticket);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.back.api.ticket.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HierarchicalTimingWheel 단위 테스트")
+class HierarchicalTimingWheelTest {
+
+	private static final long START = 1_000_000L;
+	private static final long TICK = 100L;
+	private static final int SIZE = 8; // 1단계 800ms, 2단계 6.4초
+
+	private HierarchicalTimingWheel<String> wheel;
+	private List<String> expired;
+
+	@BeforeEach
+	void setUp() {
+		wheel = new HierarchicalTimingWheel<>(TICK, SIZE, START);
+		expired = new ArrayList<>();
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지난 뒤 한 tick 안에 만료되고, 먼저 만료되지 않는다")
+	void expiresWithinOneTickAfterDeadline() {
+		wheel.add("a", START + 250);
+
+		wheel.advanceTo(START + 249, expired::add);
+		assertThat(expired).isEmpty();
+
+		wheel.advanceTo(START + 300, expired::add);
+		assertThat(expired).containsExactly("a");
+	}
+
+	@Test
+	@DisplayName("1단계 범위를 넘는 항목은 상위 휠을 거쳐 제 시각에 만료된다")
+	void overflowEntriesCascadeDown() {
+		wheel.add("near", START + 500);
+		wheel.add("far", START + 3_050);
+		wheel.add("farther", START + 20_000);
+
+		wheel.advanceTo(START + 3_000, expired::add);
+		assertThat(expired).containsExactly("near");
+
+		wheel.advanceTo(START + 3_100, expired::add);
+		assertThat(expired).containsExactly("near", "far");
+
+		wheel.advanceTo(START + 19_999, expired::add);
+		assertThat(expired).containsExactly("near", "far");
+
+		wheel.advanceTo(START + 20_100, expired::add);
+		assertThat(expired).containsExactly("near", "far", "farther");
+	}
+
+	@Test
+	@DisplayName("이미 지난 만료 시각은 등록하지 않고 false 반환")
+	void pastDeadlineIsRejected() {
+		wheel.advanceTo(START + 1_000, expired::add);
+
+		assertThat(wheel.add("late", START + 500)).isFalse();
+		assertThat(wheel.add("ok", START + 1_500)).isTrue();
+	}
+}
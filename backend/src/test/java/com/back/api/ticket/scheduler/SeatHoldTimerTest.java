@@ -0,0 +1,100 @@
+package com.back.api.ticket.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.back.api.ticket.service.TicketService;
+import com.back.api.ticket.service.TicketService.HoldExpiry;
+import com.back.domain.ticket.repository.TicketHoldRedisRepository;
+import com.back.global.properties.SeatHoldProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatHoldTimer 단위 테스트")
+class SeatHoldTimerTest {
+
+	private static final Long TICKET_ID = 1L;
+
+	@Mock
+	private TicketService ticketService;
+
+	@Mock
+	private TicketHoldRedisRepository ticketHoldRedisRepository;
+
+	// Redis 만료 대기열 대신 (ticketId → 만료 시각)
+	private final Map<Long, Long> deadlines = new ConcurrentHashMap<>();
+
+	private SeatHoldTimer seatHoldTimer;
+
+	@BeforeEach
+	void setUp() {
+		SeatHoldProperties properties = new SeatHoldProperties();
+		properties.getWheel().setTickMs(10);
+		properties.getWheel().setRetryDelayMs(50);
+		seatHoldTimer = new SeatHoldTimer(ticketService, ticketHoldRedisRepository, properties,
+			new SimpleMeterRegistry());
+
+		given(ticketHoldRedisRepository.add(anyLong(), anyLong())).willAnswer(invocation -> {
+			deadlines.put(invocation.getArgument(0), invocation.getArgument(1));
+			return true;
+		});
+		given(ticketHoldRedisRepository.claimDue(anyLong(), anyInt())).willAnswer(invocation -> {
+			long now = invocation.getArgument(0);
+			List<Long> due = deadlines.entrySet().stream()
+				.filter(entry -> entry.getValue() <= now)
+				.map(Map.Entry::getKey)
+				.toList();
+			due.forEach(deadlines::remove);
+			return due;
+		});
+		seatHoldTimer.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		seatHoldTimer.stop();
+	}
+
+	@Test
+	@DisplayName("해제 중 예외(DB 타임아웃 등) - 대기열에 다시 등록해 재시도")
+	void releaseFailed_Retried() {
+		given(ticketService.expireHoldIfDue(eq(TICKET_ID), any()))
+			.willThrow(new IllegalStateException("lock wait timeout"))
+			.willReturn(HoldExpiry.RELEASED);
+
+		seatHoldTimer.scheduleAfterCommit(TICKET_ID, LocalDateTime.now().minusSeconds(1));
+
+		then(ticketService).should(timeout(2_000).times(2)).expireHoldIfDue(eq(TICKET_ID), any());
+		then(ticketHoldRedisRepository).should(timeout(2_000).times(2)).add(eq(TICKET_ID), anyLong());
+		assertThat(deadlines).doesNotContainKey(TICKET_ID);
+	}
+
+	@Test
+	@DisplayName("연장된 홀드 - 현재 만료 시각으로 다시 등록")
+	void extendedHold_Rescheduled() {
+		LocalDateTime extended = LocalDateTime.now().plusMinutes(10);
+		long extendedMs = extended.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		given(ticketService.expireHoldIfDue(eq(TICKET_ID), any())).willReturn(new HoldExpiry(false, extended));
+
+		seatHoldTimer.scheduleAfterCommit(TICKET_ID, LocalDateTime.now().minusSeconds(1));
+
+		then(ticketHoldRedisRepository).should(timeout(2_000)).add(TICKET_ID, extendedMs);
+		then(ticketService).should(times(1)).expireHoldIfDue(eq(TICKET_ID), any());
+	}
+}
@@ -0,0 +1,143 @@
+package com.back.api.ticket.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.back.api.ticket.dto.response.TicketResponse;
+import com.back.domain.ticket.repository.MyTicketRedisRepository;
+import com.back.domain.ticket.repository.MyTicketRedisRepository.Snapshot;
+import com.back.domain.ticket.repository.TicketRepository;
+import com.back.global.properties.TicketListCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MyTicketCache 단위 테스트")
+class MyTicketCacheTest {
+
+	private static final Long USER_ID = 100L;
+
+	@Mock
+	private MyTicketRedisRepository myTicketRedisRepository;
+
+	@Mock
+	private TicketRepository ticketRepository;
+
+	private MyTicketCache myTicketCache;
+	private AtomicInteger loads;
+	private Supplier<List<TicketResponse>> loader;
+
+	@BeforeEach
+	void setUp() {
+		myTicketCache = new MyTicketCache(myTicketRedisRepository, ticketRepository, new TicketListCacheProperties(),
+			new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+
+		loads = new AtomicInteger();
+		TicketResponse ticket = new TicketResponse(1L, 10L, "공연", "A1", "VIP", 100000, "SOLD", "ISSUED",
+			LocalDateTime.of(2026, 1, 1, 12, 0), null);
+		loader = () -> {
+			loads.incrementAndGet();
+			return List.of(ticket);
+		};
+	}
+
+	@Test
+	@DisplayName("처음 조회만 DB, 버전이 같으면 로컬 캐시")
+	void firstLoadThenLocalHit() {
+		given(myTicketRedisRepository.find(USER_ID)).willReturn(new Snapshot(0L, null));
+
+		List<TicketResponse> first = myTicketCache.get(USER_ID, loader);
+		List<TicketResponse> second = myTicketCache.get(USER_ID, loader);
+
+		assertThat(loads).hasValue(1);
+		assertThat(second).isEqualTo(first);
+		then(myTicketRedisRepository).should().saveIfVersion(eq(USER_ID), eq(0L), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("다른 노드가 저장한 Redis 목록은 DB 없이 사용")
+	void redisHit() {
+		given(myTicketRedisRepository.find(USER_ID)).willReturn(new Snapshot(0L, null));
+		List<TicketResponse> loaded = myTicketCache.get(USER_ID, loader);
+		ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+		then(myTicketRedisRepository).should().saveIfVersion(eq(USER_ID), eq(0L), json.capture(), any());
+
+		MyTicketCache otherNode = new MyTicketCache(myTicketRedisRepository, ticketRepository,
+			new TicketListCacheProperties(),
+			new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+		given(myTicketRedisRepository.find(USER_ID)).willReturn(new Snapshot(0L, json.getValue()));
+
+		assertThat(otherNode.get(USER_ID, loader)).isEqualTo(loaded);
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("상태 전이로 버전이 바뀌면 로컬 목록을 버리고 다시 적재")
+	void versionChanged_Reload() {
+		given(myTicketRedisRepository.find(USER_ID)).willReturn(new Snapshot(0L, null));
+		myTicketCache.get(USER_ID, loader);
+
+		given(myTicketRedisRepository.find(USER_ID)).willReturn(new Snapshot(1L, null));
+		myTicketCache.get(USER_ID, loader);
+
+		assertThat(loads).hasValue(2);
+		then(myTicketRedisRepository).should().saveIfVersion(eq(USER_ID), eq(1L), anyString(), any());
+	}
+
+	@Test
+	@DisplayName("Redis 장애 시 매번 DB 조회")
+	void redisDown_LoadEveryTime() {
+		given(myTicketRedisRepository.find(USER_ID)).willReturn(null);
+
+		myTicketCache.get(USER_ID, loader);
+		myTicketCache.get(USER_ID, loader);
+
+		assertThat(loads).hasValue(2);
+		then(myTicketRedisRepository).should(never()).saveIfVersion(any(), anyLong(), any(), any());
+	}
+
+	@Test
+	@DisplayName("트랜잭션 밖 무효화는 즉시 버전 증가")
+	void evictOutsideTransaction() {
+		myTicketCache.evictAfterCommit(List.of(USER_ID, USER_ID));
+
+		then(myTicketRedisRepository).should().invalidate(eq(Set.of(USER_ID)), any());
+	}
+
+	@Test
+	@DisplayName("이벤트 수정 시 해당 이벤트 티켓 소유자 무효화")
+	void evictEvent() {
+		given(ticketRepository.findOwnerIdsByEventIdAndTicketStatusIn(eq(10L), anyList()))
+			.willReturn(List.of(USER_ID, 200L));
+
+		myTicketCache.evictEventAfterCommit(10L);
+
+		then(myTicketRedisRepository).should().invalidate(eq(Set.of(USER_ID, 200L)), any());
+	}
+
+	@Test
+	@DisplayName("좌석 소유자가 없으면 무효화하지 않음")
+	void evictSeat_NoOwner() {
+		given(ticketRepository.findOwnerIdsBySeatIdAndTicketStatusIn(eq(5L), anyList())).willReturn(List.of());
+
+		myTicketCache.evictSeatAfterCommit(5L);
+
+		then(myTicketRedisRepository).should(never()).invalidate(any(), any());
+	}
+}
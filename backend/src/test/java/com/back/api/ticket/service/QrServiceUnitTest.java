@@ -0,0 +1,284 @@
+package com.back.api.ticket.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.back.api.ticket.dto.request.QrScanRequest;
+import com.back.api.ticket.dto.response.QrScanBatchResponse;
+import com.back.api.ticket.dto.response.QrValidationResponse;
+import com.back.api.ticket.service.TicketGateCache.GateTicket;
+import com.back.domain.ticket.entity.TicketStatus;
+import com.back.domain.ticket.repository.TicketEntryRedisRepository;
+import com.back.global.error.code.TicketErrorCode;
+import com.back.global.error.exception.ErrorException;
+import com.back.global.properties.SiteProperties;
+import com.back.global.properties.TicketGateProperties;
+import com.back.global.utils.JwtUtil;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QrService 입장 검증 단위 테스트")
+class QrServiceUnitTest {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+	private static final Long TICKET_ID = 10L;
+	private static final Long EVENT_ID = 1L;
+	private static final Long USER_ID = 100L;
+	private static final String DEVICE_ID = "gate-01";
+	private static final String DEVICE_KEY = "gate-01-key";
+
+	@Mock
+	private TicketService ticketService;
+
+	@Mock
+	private TicketGateCache ticketGateCache;
+
+	@Mock
+	private TicketEntryRedisRepository ticketEntryRedisRepository;
+
+	@Mock
+	private MyTicketCache myTicketCache;
+
+	private TicketGateProperties properties;
+	private QrService qrService;
+	private GateTicket issued;
+
+	@BeforeEach
+	void setUp() {
+		properties = new TicketGateProperties();
+		properties.getBatch().getDevices().put(DEVICE_ID, DEVICE_KEY);
+		qrService = new QrService(new SiteProperties(), ticketService, ticketGateCache,
+			ticketEntryRedisRepository, properties, myTicketCache);
+		ReflectionTestUtils.setField(qrService, "qrSecret", SECRET);
+
+		issued = new GateTicket(TICKET_ID, EVENT_ID, "공연", LocalDateTime.now(), "A1", USER_ID, "nick",
+			TicketStatus.ISSUED);
+	}
+
+	private String token(Long eventId) {
+		return JwtUtil.sign(SECRET, 60, Map.of(
+			"ticketId", TICKET_ID,
+			"eventId", eventId,
+			"userId", USER_ID,
+			"iat", Instant.now().getEpochSecond()
+		));
+	}
+
+	@Test
+	@DisplayName("처음 스캔: Redis 기록 1번 + 조건부 UPDATE 1번으로 입장 처리")
+	void firstScan_Entered() {
+		given(ticketGateCache.get(TICKET_ID)).willReturn(Optional.of(issued));
+		given(ticketEntryRedisRepository.markEntered(eq(TICKET_ID), anyLong(), any())).willReturn(true);
+		given(ticketService.markUsed(List.of(TICKET_ID))).willReturn(Set.of(TICKET_ID));
+
+		QrValidationResponse response = qrService.validateAndProcessEntry(token(EVENT_ID));
+
+		assertThat(response.isValid()).isTrue();
+		assertThat(response.seatCode()).isEqualTo("A1");
+		assertThat(response.ownerNickname()).isEqualTo("nick");
+		then(ticketGateCache).should().markUsed(issued);
+		then(myTicketCache).should().evictAfterCommit(List.of(USER_ID));
+	}
+
+	@Test
+	@DisplayName("이미 기록된 티켓은 DB 반영 없이 거절")
+	void alreadyEntered_Rejected() {
+		given(ticketGateCache.get(TICKET_ID)).willReturn(Optional.of(issued));
+		given(ticketEntryRedisRepository.markEntered(eq(TICKET_ID), anyLong(), any())).willReturn(false);
+
+		QrValidationResponse response = qrService.validateAndProcessEntry(token(EVENT_ID));
+
+		assertThat(response.isValid()).isFalse();
+		assertThat(response.message()).isEqualTo("이미 입장 처리된 티켓입니다.");
+		then(ticketService).should(never()).markUsed(any());
+	}
+
+	@Test
+	@DisplayName("캐시 이후 상태가 바뀐 티켓은 기록을 되돌리고 거절")
+	void statusChangedInDb_Rejected() {
+		given(ticketGateCache.get(TICKET_ID)).willReturn(Optional.of(issued));
+		given(ticketEntryRedisRepository.markEntered(eq(TICKET_ID), anyLong(), any())).willReturn(true);
+		given(ticketService.markUsed(List.of(TICKET_ID))).willReturn(Set.of());
+
+		QrValidationResponse response = qrService.validateAndProcessEntry(token(EVENT_ID));
+
+		assertThat(response.isValid()).isFalse();
+		then(ticketEntryRedisRepository).should().unmark(TICKET_ID);
+		then(ticketGateCache).should().evict(TICKET_ID);
+		then(ticketGateCache).should(never()).markUsed(any());
+	}
+
+	@Test
+	@DisplayName("다른 이벤트의 토큰이면 거절")
+	void eventMismatch_Rejected() {
+		given(ticketGateCache.get(TICKET_ID)).willReturn(Optional.of(issued));
+
+		QrValidationResponse response = qrService.validateAndProcessEntry(token(2L));
+
+		assertThat(response.isValid()).isFalse();
+		assertThat(response.message()).isEqualTo(TicketErrorCode.TICKET_EVENT_MISMATCH.getMessage());
+		then(ticketEntryRedisRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("없는 티켓이면 예외")
+	void unknownTicket_Throws() {
+		given(ticketGateCache.get(TICKET_ID)).willReturn(Optional.empty());
+
+		assertThatThrownBy(() -> qrService.validateAndProcessEntry(token(EVENT_ID)))
+			.isInstanceOf(ErrorException.class);
+	}
+
+	@Nested
+	@DisplayName("일괄 동기화")
+	class BatchTest {
+
+		private static final Long ENTERED_TICKET_ID = 11L;
+
+		// 스캔 당시 발급된 토큰 (동기화 시점에는 만료)
+		private String tokenIssuedAt(Long ticketId, Instant issuedAt) {
+			return Jwts.builder()
+				.claims(Map.of("ticketId", ticketId, "eventId", EVENT_ID, "userId", USER_ID))
+				.issuedAt(Date.from(issuedAt))
+				.expiration(Date.from(issuedAt.plusSeconds(60)))
+				.signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+				.compact();
+		}
+
+		private QrScanRequest scan(Long ticketId, Instant scannedAt) {
+			return new QrScanRequest(ticketId, tokenIssuedAt(ticketId, scannedAt.minusSeconds(5)),
+				LocalDateTime.ofInstant(scannedAt, ZoneId.systemDefault()));
+		}
+
+		@Test
+		@DisplayName("스캔 시각 기준으로 검증하고 Redis 파이프라인/UPDATE 1번씩으로 스캔별 결과 반환")
+		void batch_PerScanResults() {
+			Instant scannedAt = Instant.now().minus(Duration.ofMinutes(10));
+			GateTicket entered = new GateTicket(ENTERED_TICKET_ID, EVENT_ID, "공연", LocalDateTime.now(), "A2",
+				101L, "nick2", TicketStatus.ISSUED);
+			given(ticketGateCache.getAll(any())).willReturn(Map.of(TICKET_ID, issued, ENTERED_TICKET_ID, entered));
+			given(ticketEntryRedisRepository.markEnteredAll(any(), any())).willReturn(Set.of(TICKET_ID));
+			given(ticketService.markUsed(List.of(TICKET_ID))).willReturn(Set.of(TICKET_ID));
+
+			QrScanBatchResponse response = qrService.validateAndProcessEntries(DEVICE_ID, DEVICE_KEY, List.of(
+				scan(TICKET_ID, scannedAt),
+				scan(ENTERED_TICKET_ID, scannedAt),
+				scan(TICKET_ID, scannedAt.plusSeconds(1)),
+				scan(12L, Instant.now().minus(Duration.ofHours(2)))
+			));
+
+			assertThat(response.enteredCount()).isEqualTo(1);
+			assertThat(response.rejectedCount()).isEqualTo(3);
+			assertThat(response.results()).extracting(QrValidationResponse::isValid)
+				.containsExactly(true, false, false, false);
+			assertThat(response.results().get(1).message()).isEqualTo("이미 입장 처리된 티켓입니다.");
+			assertThat(response.results().get(2).message()).isEqualTo("이미 입장 처리된 티켓입니다.");
+			assertThat(response.results().get(3).message())
+				.isEqualTo(TicketErrorCode.INVALID_QR_SCANNED_AT.getMessage());
+			then(ticketEntryRedisRepository).should().markEnteredAll(
+				eq(Map.of(TICKET_ID, scannedAt.getEpochSecond(), ENTERED_TICKET_ID, scannedAt.getEpochSecond())),
+				any());
+			then(ticketGateCache).should().markUsed(issued);
+			then(ticketEntryRedisRepository).should().saveLastSync(eq(DEVICE_ID), anyLong(), any());
+		}
+
+		@Test
+		@DisplayName("등록되지 않은 단말이나 키가 틀리면 스캔을 보지 않고 거절")
+		void unregisteredDevice_Rejected() {
+			List<QrScanRequest> scans = List.of(scan(TICKET_ID, Instant.now()));
+
+			assertThatThrownBy(() -> qrService.validateAndProcessEntries(null, null, scans))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", TicketErrorCode.UNAUTHORIZED_GATE_DEVICE);
+			assertThatThrownBy(() -> qrService.validateAndProcessEntries(DEVICE_ID, "wrong", scans))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", TicketErrorCode.UNAUTHORIZED_GATE_DEVICE);
+			then(ticketEntryRedisRepository).shouldHaveNoInteractions();
+		}
+
+		@Test
+		@DisplayName("단말의 마지막 동기화 이전으로 소급한 스캔은 오프라인 허용 범위 안이어도 거절")
+		void scannedBeforeLastSync_Rejected() {
+			Instant now = Instant.now();
+			given(ticketEntryRedisRepository.findLastSync(DEVICE_ID))
+				.willReturn(now.minus(Duration.ofMinutes(1)).getEpochSecond());
+			given(ticketGateCache.getAll(any())).willReturn(Map.of());
+			given(ticketEntryRedisRepository.markEnteredAll(any(), any())).willReturn(Set.of());
+
+			QrScanBatchResponse response = qrService.validateAndProcessEntries(DEVICE_ID, DEVICE_KEY,
+				List.of(scan(TICKET_ID, now.minus(Duration.ofMinutes(10)))));
+
+			assertThat(response.results().getFirst().message())
+				.isEqualTo(TicketErrorCode.INVALID_QR_SCANNED_AT.getMessage());
+		}
+
+		@Test
+		@DisplayName("스캔 시각 이후에 발급된 토큰은 거절")
+		void tokenIssuedAfterScan_Rejected() {
+			given(ticketGateCache.getAll(any())).willReturn(Map.of());
+			given(ticketEntryRedisRepository.markEnteredAll(any(), any())).willReturn(Set.of());
+			Instant scannedAt = Instant.now().minus(Duration.ofMinutes(5));
+			QrScanRequest backdated = new QrScanRequest(TICKET_ID, tokenIssuedAt(TICKET_ID, scannedAt.plusSeconds(20)),
+				LocalDateTime.ofInstant(scannedAt, ZoneId.systemDefault()));
+
+			QrScanBatchResponse response = qrService.validateAndProcessEntries(
+				DEVICE_ID, DEVICE_KEY, List.of(backdated));
+
+			assertThat(response.results().getFirst().message())
+				.isEqualTo(TicketErrorCode.INVALID_TICKET_QR_TOKEN.getMessage());
+			then(ticketService).should(never()).markUsed(any());
+		}
+
+		@Test
+		@DisplayName("요청한 티켓과 토큰의 티켓이 다르면 거절")
+		void tokenForOtherTicket_Rejected() {
+			given(ticketGateCache.getAll(any())).willReturn(Map.of());
+			given(ticketEntryRedisRepository.markEnteredAll(any(), any())).willReturn(Set.of());
+			Instant scannedAt = Instant.now();
+			QrScanRequest forged = new QrScanRequest(TICKET_ID, tokenIssuedAt(13L, scannedAt),
+				LocalDateTime.ofInstant(scannedAt, ZoneId.systemDefault()));
+
+			QrScanBatchResponse response = qrService.validateAndProcessEntries(DEVICE_ID, DEVICE_KEY, List.of(forged));
+
+			assertThat(response.enteredCount()).isZero();
+			assertThat(response.results().getFirst().message())
+				.isEqualTo(TicketErrorCode.INVALID_TICKET_QR_TOKEN.getMessage());
+			then(ticketService).should(never()).markUsed(any());
+		}
+
+		@Test
+		@DisplayName("최대 스캔 수 초과 시 예외")
+		void tooLarge_Throws() {
+			properties.getBatch().setMaxSize(1);
+			Instant now = Instant.now();
+			List<QrScanRequest> scans = List.of(scan(TICKET_ID, now), scan(11L, now));
+
+			assertThatThrownBy(() -> qrService.validateAndProcessEntries(DEVICE_ID, DEVICE_KEY, scans))
+				.isInstanceOf(ErrorException.class)
+				.hasFieldOrPropertyWithValue("errorCode", TicketErrorCode.QR_SCAN_BATCH_TOO_LARGE);
+		}
+	}
+}
@@ -2,6 +2,7 @@ package com.back.api.ticket.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.back.api.ticket.dto.response.TicketResponse;
@@ -385,4 +387,48 @@ class TicketServiceIntegrationTest {
 			.isInstanceOf(ErrorException.class)
 			.hasMessageContaining("티켓 상태가 유효하지 않습니다");
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("만료 Draft 일괄 처리 - id keyset chunk로 만료 티켓만 FAILED, 좌석 AVAILABLE 복구")
+	void expireDueHolds_keysetChunks_success() {
+
+		Seat seat2 = seatHelper.createSeat(event, "A2", SeatGrade.VIP);
+		Seat seat3 = seatHelper.createSeat(event, "A3", SeatGrade.VIP);
+		Ticket expired1 = createDraftWithHold(seat, LocalDateTime.now().minusMinutes(10));
+		Ticket expired2 = createDraftWithHold(seat2, LocalDateTime.now().minusMinutes(10));
+		Ticket notExpired = createDraftWithHold(seat3, LocalDateTime.now().plusMinutes(10));
+		LocalDateTime expiredBefore = LocalDateTime.now();
+
+		TicketService.ExpiredHolds first = ticketService.expireDueHolds(expiredBefore, 0, 1);
+		TicketService.ExpiredHolds second = ticketService.expireDueHolds(expiredBefore, first.lastTicketId(), 1);
+		TicketService.ExpiredHolds done = ticketService.expireDueHolds(expiredBefore, second.lastTicketId(), 1);
+
+		assertThat(first.lastTicketId()).isEqualTo(expired1.getId());
+		assertThat(second.lastTicketId()).isEqualTo(expired2.getId());
+		assertThat(first.expired() + second.expired()).isEqualTo(2);
+		assertThat(done).isNull();
+
+		assertThat(ticketRepository.findById(expired1.getId()).orElseThrow().getTicketStatus())
+			.isEqualTo(TicketStatus.FAILED);
+		assertThat(ticketRepository.findById(expired2.getId()).orElseThrow().getTicketStatus())
+			.isEqualTo(TicketStatus.FAILED);
+		assertThat(ticketRepository.findById(notExpired.getId()).orElseThrow().getTicketStatus())
+			.isEqualTo(TicketStatus.DRAFT);
+
+		assertThat(seatRepository.findById(seat.getId()).orElseThrow().getSeatStatus())
+			.isEqualTo(SeatStatus.AVAILABLE);
+		assertThat(seatRepository.findById(seat2.getId()).orElseThrow().getSeatStatus())
+			.isEqualTo(SeatStatus.AVAILABLE);
+		assertThat(seatRepository.findById(seat3.getId()).orElseThrow().getSeatStatus())
+			.isEqualTo(SeatStatus.RESERVED);
+	}
+
+	private Ticket createDraftWithHold(Seat draftSeat, LocalDateTime holdExpiresAt) {
+		draftSeat.markAsReserved();
+		seatRepository.saveAndFlush(draftSeat);
+
+		Ticket draft = ticketHelper.createDraftTicket(user, draftSeat, event);
+		ReflectionTestUtils.setField(draft, "holdExpiresAt", holdExpiresAt);
+		return ticketRepository.saveAndFlush(draft);
+	}
+}
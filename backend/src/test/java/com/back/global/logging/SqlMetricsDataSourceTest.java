@@ -0,0 +1,86 @@
+package com.back.global.logging;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("SqlMetricsDataSource 단위 테스트")
+class SqlMetricsDataSourceTest {
+
+	private SqlMetricsDataSource dataSource;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		dataSource = new SqlMetricsDataSource(new DriverManagerDataSource(
+			"jdbc:h2:mem:sql_metrics;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE IF NOT EXISTS metric_rows (id BIGINT PRIMARY KEY)");
+			statement.execute("MERGE INTO metric_rows KEY (id) VALUES (1), (2), (3)");
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		SqlRequestStats.finish();
+	}
+
+	@Test
+	@DisplayName("요청 동안 실행한 SQL 수, 조회 행 수, 커넥션 점유 시간을 집계한다")
+	void recordsStatementsRowsAndConnectionHold() throws SQLException {
+		SqlRequestStats stats = SqlRequestStats.start("GET /test", 0);
+
+		try (Connection connection = dataSource.getConnection()) {
+			for (long id = 1; id <= 2; id++) {
+				try (PreparedStatement ps = connection.prepareStatement("SELECT id FROM metric_rows WHERE id >= ?")) {
+					ps.setLong(1, id);
+					try (ResultSet rs = ps.executeQuery()) {
+						while (rs.next()) {
+							rs.getLong(1);
+						}
+					}
+				}
+			}
+		}
+
+		assertThat(stats.getStatements()).isEqualTo(2);
+		assertThat(stats.getRowsFetched()).isEqualTo(5);
+		assertThat(stats.getConnectionHeldNanos()).isPositive();
+	}
+
+	@Test
+	@DisplayName("반복된 SELECT를 SQL 문장별로 센다")
+	void countsRepeatedSelects() throws SQLException {
+		SqlRequestStats stats = SqlRequestStats.start("GET /test", 2);
+
+		try (Connection connection = dataSource.getConnection()) {
+			for (long id = 1; id <= 3; id++) {
+				try (PreparedStatement ps = connection.prepareStatement("SELECT id FROM metric_rows WHERE id = ?")) {
+					ps.setLong(1, id);
+					ps.executeQuery().close();
+				}
+			}
+		}
+
+		assertThat(stats.getSelectCounts()).containsEntry("SELECT id FROM metric_rows WHERE id = ?", 3);
+	}
+
+	@Test
+	@DisplayName("요청 밖 스레드의 커넥션은 감싸지 않는다")
+	void outsideRequest_NotTracked() throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			assertThat(Proxy.isProxyClass(connection.getClass())).isFalse();
+		}
+	}
+}
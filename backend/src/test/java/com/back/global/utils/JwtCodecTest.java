@@ -0,0 +1,63 @@
+package com.back.global.utils;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+@DisplayName("JwtCodec 단위 테스트")
+class JwtCodecTest {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+	private static final String OTHER_SECRET = Base64.getEncoder().encodeToString(new byte[] {
+		1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30,
+		31, 32});
+
+	@Test
+	@DisplayName("secret별로 같은 인스턴스를 재사용")
+	void sameSecret_SameCodec() {
+		assertThat(JwtCodec.of(SECRET)).isSameAs(JwtCodec.of(SECRET));
+		assertThat(JwtCodec.of(SECRET)).isNotSameAs(JwtCodec.of(OTHER_SECRET));
+	}
+
+	@Test
+	@DisplayName("서명한 토큰은 같은 secret으로만 검증되고 claims는 불변")
+	void signAndVerify() {
+		String token = JwtCodec.of(SECRET).sign(60, Map.of("id", 1L, "tokenType", "access"));
+
+		Claims claims = JwtCodec.of(SECRET).claimsOrNull(token);
+
+		assertThat(claims).containsEntry("tokenType", "access");
+		assertThat(((Number)claims.get("id")).longValue()).isEqualTo(1L);
+		assertThatThrownBy(() -> claims.put("id", 2L)).isInstanceOf(UnsupportedOperationException.class);
+		assertThat(JwtCodec.of(OTHER_SECRET).claimsOrNull(token)).isNull();
+		assertThat(JwtCodec.of(SECRET).claimsOrNull("garbage")).isNull();
+	}
+
+	@Test
+	@DisplayName("지정 시각 기준 검증: 지금은 만료됐어도 그 시각에 유효했으면 통과")
+	void verifiedAt() {
+		Instant issuedAt = Instant.now().minusSeconds(600);
+		String token = Jwts.builder()
+			.claims(Map.of("ticketId", 1L))
+			.issuedAt(Date.from(issuedAt))
+			.expiration(Date.from(issuedAt.plusSeconds(60)))
+			.signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+			.compact();
+		JwtCodec codec = JwtCodec.of(SECRET);
+
+		assertThat(codec.claimsOrNull(token)).isNull();
+		assertThat(codec.claimsOrNull(token, issuedAt.plusSeconds(30))).isNotNull();
+		assertThat(codec.claimsOrNull(token, issuedAt.plusSeconds(60))).isNull();
+		assertThat(JwtCodec.of(OTHER_SECRET).claimsOrNull(token, issuedAt.plusSeconds(30))).isNull();
+	}
+}
@@ -0,0 +1,83 @@
+package com.back.global.websocket.admission;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.back.global.properties.WebSocketProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ConnectAdmissionController 단위 테스트")
+class ConnectAdmissionControllerTest {
+
+	private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+
+	private SimpleMeterRegistry meterRegistry;
+	private ConnectAdmissionController controller;
+
+	@BeforeEach
+	void setUp() {
+		WebSocketProperties properties = new WebSocketProperties();
+		properties.getAdmission().setBurstCapacity(3);
+		properties.getAdmission().setRefillPerSecond(10);
+		properties.getAdmission().setRetryAfterJitterMs(0);
+
+		meterRegistry = new SimpleMeterRegistry();
+		controller = new ConnectAdmissionController(properties, meterRegistry, clock::get);
+	}
+
+	@Test
+	@DisplayName("버킷 용량만큼은 즉시 수락")
+	void acceptsUpToBurstCapacity() {
+		assertThat(controller.tryAcquire()).isZero();
+		assertThat(controller.tryAcquire()).isZero();
+		assertThat(controller.tryAcquire()).isZero();
+	}
+
+	@Test
+	@DisplayName("버킷 소진 시 다음 토큰 보충까지의 시간을 retry-after로 반환")
+	void defersWhenBucketIsEmpty() {
+		for (int i = 0; i < 3; i++) {
+			controller.tryAcquire();
+		}
+
+		long retryAfterMs = controller.tryAcquire();
+
+		assertThat(retryAfterMs).isEqualTo(100L);
+		assertThat(meterRegistry.get("websocket.connect.admission").tag("result", "deferred").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("보충 간격이 지나면 다시 수락")
+	void acceptsAfterRefill() {
+		for (int i = 0; i < 3; i++) {
+			controller.tryAcquire();
+		}
+		assertThat(controller.tryAcquire()).isPositive();
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+		assertThat(controller.tryAcquire()).isZero();
+		assertThat(controller.tryAcquire()).isPositive();
+	}
+
+	@Test
+	@DisplayName("비활성화 시 항상 수락")
+	void alwaysAcceptsWhenDisabled() {
+		WebSocketProperties properties = new WebSocketProperties();
+		properties.getAdmission().setEnabled(false);
+		properties.getAdmission().setBurstCapacity(1);
+		ConnectAdmissionController disabled =
+			new ConnectAdmissionController(properties, new SimpleMeterRegistry(), clock::get);
+
+		assertThat(disabled.tryAcquire()).isZero();
+		assertThat(disabled.tryAcquire()).isZero();
+	}
+}
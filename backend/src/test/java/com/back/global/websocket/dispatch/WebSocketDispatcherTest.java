@@ -0,0 +1,185 @@
+package com.back.global.websocket.dispatch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import com.back.global.properties.WebSocketProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebSocketDispatcher 단위 테스트")
+class WebSocketDispatcherTest {
+
+	@Mock
+	private SimpMessagingTemplate messagingTemplate;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private SimpleMeterRegistry meterRegistry;
+	private WebSocketProperties properties;
+	private WebSocketDispatcher dispatcher;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		properties = new WebSocketProperties();
+		properties.getDispatch().setShards(2);
+		properties.getDispatch().setBufferSize(16);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (dispatcher != null) {
+			dispatcher.stop();
+		}
+	}
+
+	@Nested
+	@DisplayName("전송 순서")
+	class Ordering {
+
+		@Test
+		@DisplayName("같은 destination의 프레임은 발행 순서대로 전송")
+		void keepsOrderPerDestination() {
+			dispatcher = new WebSocketDispatcher(messagingTemplate, objectMapper, properties, meterRegistry);
+			String destination = "/topic/users/1/queue";
+
+			dispatcher.dispatch(destination, "WAITING");
+			dispatcher.dispatch(destination, "ENTERED");
+			dispatcher.dispatch(destination, "COMPLETED");
+			dispatcher.start();
+			dispatcher.stop();
+
+			InOrder inOrder = inOrder(messagingTemplate);
+			inOrder.verify(messagingTemplate).convertAndSend(destination, (Object)"WAITING");
+			inOrder.verify(messagingTemplate).convertAndSend(destination, (Object)"ENTERED");
+			inOrder.verify(messagingTemplate).convertAndSend(destination, (Object)"COMPLETED");
+		}
+
+		@Test
+		@DisplayName("배치 안에서 같은 conflationKey는 마지막 프레임만 전송")
+		void coalescesSameKeyWithinBatch() {
+			dispatcher = new WebSocketDispatcher(messagingTemplate, objectMapper, properties, meterRegistry);
+			String destination = "/topic/events/1/queue";
+
+			dispatcher.dispatch(destination, "snapshot-1", destination);
+			dispatcher.dispatch(destination, "snapshot-2", destination);
+			dispatcher.start();
+			dispatcher.stop();
+
+			then(messagingTemplate).should(never())
+				.convertAndSend(eq(destination), eq((Object)"snapshot-1"), any(MessageHeaders.class));
+			then(messagingTemplate).should()
+				.convertAndSend(eq(destination), eq((Object)"snapshot-2"), any(MessageHeaders.class));
+			assertThat(meterRegistry.get("websocket.dispatch.coalesced").counter().count()).isEqualTo(1.0);
+		}
+	}
+
+	@Nested
+	@DisplayName("binary 프레임")
+	class BinaryFrames {
+
+		@Test
+		@DisplayName("binaryFrames 설정 시 JSON 바이트를 octet-stream으로 전송")
+		void sendsJsonBytesAsOctetStream() throws Exception {
+			properties.getEndpoint().setBinaryFrames(true);
+			dispatcher = new WebSocketDispatcher(messagingTemplate, objectMapper, properties, meterRegistry);
+			String destination = "/topic/events/1/seats";
+			Map<String, Object> payload = Map.of("seatId", 10);
+
+			dispatcher.dispatch(destination, payload, destination + ":10");
+			dispatcher.start();
+			dispatcher.stop();
+
+			ArgumentCaptor<MessageHeaders> headers = ArgumentCaptor.forClass(MessageHeaders.class);
+			Object expectedPayload = objectMapper.writeValueAsBytes(payload);
+			then(messagingTemplate).should()
+				.convertAndSend(eq(destination), eq(expectedPayload), headers.capture());
+			assertThat(headers.getValue().get(MessageHeaders.CONTENT_TYPE))
+				.isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+		}
+
+		@Test
+		@DisplayName("binaryDestinations에 없는 destination은 binaryFrames 설정이어도 JSON 그대로 전송")
+		void keepsJsonForOtherDestinations() {
+			properties.getEndpoint().setBinaryFrames(true);
+			dispatcher = new WebSocketDispatcher(messagingTemplate, objectMapper, properties, meterRegistry);
+			String destination = "/topic/users/1/queue";
+
+			dispatcher.dispatch(destination, "ENTERED");
+			dispatcher.start();
+			dispatcher.stop();
+
+			then(messagingTemplate).should().convertAndSend(destination, (Object)"ENTERED");
+		}
+
+		@Test
+		@DisplayName("기본 설정은 binary 프레임을 쓰지 않는다")
+		void disabledByDefault() {
+			dispatcher = new WebSocketDispatcher(messagingTemplate, objectMapper, properties, meterRegistry);
+			String destination = "/topic/events/1/seats";
+
+			dispatcher.dispatch(destination, "AVAILABLE");
+			dispatcher.start();
+			dispatcher.stop();
+
+			then(messagingTemplate).should().convertAndSend(destination, (Object)"AVAILABLE");
+		}
+	}
+
+	@Nested
+	@DisplayName("버퍼 포화")
+	class Overflow {
+
+		@Test
+		@DisplayName("DROP 정책이면 버퍼 크기를 넘는 프레임은 버려지고 집계")
+		void dropsWhenFull() {
+			properties.getDispatch().setShards(1);
+			properties.getDispatch().setBufferSize(2);
+			properties.getDispatch().setOverflowPolicy(WebSocketDispatcher.OverflowPolicy.DROP);
+			dispatcher = new WebSocketDispatcher(messagingTemplate, objectMapper, properties, meterRegistry);
+
+			dispatcher.dispatch("/topic/a", "1");
+			dispatcher.dispatch("/topic/a", "2");
+			dispatcher.dispatch("/topic/a", "3");
+
+			assertThat(meterRegistry.get("websocket.dispatch.dropped").counter().count()).isEqualTo(1.0);
+			assertThat(meterRegistry.get("websocket.dispatch.depth").tag("shard", "0").gauge().value())
+				.isEqualTo(2.0);
+		}
+
+		@Test
+		@DisplayName("CALLER_RUNS 정책이면 호출 스레드에서 바로 전송")
+		void callerRunsWhenFull() {
+			properties.getDispatch().setShards(1);
+			properties.getDispatch().setBufferSize(2);
+			properties.getDispatch().setOverflowPolicy(WebSocketDispatcher.OverflowPolicy.CALLER_RUNS);
+			dispatcher = new WebSocketDispatcher(messagingTemplate, objectMapper, properties, meterRegistry);
+
+			dispatcher.dispatch("/topic/a", "1");
+			dispatcher.dispatch("/topic/a", "2");
+			dispatcher.dispatch("/topic/a", "3");
+
+			then(messagingTemplate).should().convertAndSend("/topic/a", (Object)"3");
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.back.global.websocket.outbound;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import com.back.global.properties.WebSocketProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("OutboundBackpressureInterceptor 단위 테스트")
+class OutboundBackpressureInterceptorTest {
+
+	private static final String SESSION_ID = "session-1";
+
+	private SimpleMeterRegistry meterRegistry;
+	private OutboundBackpressureInterceptor interceptor;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		interceptor = new OutboundBackpressureInterceptor(meterRegistry, new WebSocketProperties());
+		interceptor.handleSessionConnect(connectEvent(SESSION_ID));
+	}
+
+	@Test
+	@DisplayName("같은 키의 최신 프레임이 대기 중이면 이전 프레임은 전송 생략")
+	void olderFrameIsConflated() {
+		Message<?> older = interceptor.preSend(outbound(SESSION_ID, "seat:1", "RESERVED"), null);
+		Message<?> newer = interceptor.preSend(outbound(SESSION_ID, "seat:1", "AVAILABLE"), null);
+
+		assertThat(interceptor.beforeHandle(older, null, null)).isNull();
+		assertThat(interceptor.beforeHandle(newer, null, null)).isNotNull();
+		interceptor.afterMessageHandled(newer, null, null, null);
+
+		assertThat(droppedCount("conflated")).isEqualTo(1.0);
+		assertThat(interceptor.getTotalQueuedBytes()).isZero();
+	}
+
+	@Test
+	@DisplayName("키가 다른 프레임은 모두 전송")
+	void differentKeysAreKept() {
+		Message<?> seat1 = interceptor.preSend(outbound(SESSION_ID, "seat:1", "RESERVED"), null);
+		Message<?> seat2 = interceptor.preSend(outbound(SESSION_ID, "seat:2", "RESERVED"), null);
+
+		assertThat(interceptor.beforeHandle(seat1, null, null)).isNotNull();
+		assertThat(interceptor.beforeHandle(seat2, null, null)).isNotNull();
+		assertThat(droppedCount("conflated")).isZero();
+	}
+
+	@Test
+	@DisplayName("키가 없는 프레임은 대기 바이트만 집계")
+	void framesWithoutKeyAreOnlyCounted() {
+		Message<?> message = interceptor.preSend(outbound(SESSION_ID, null, "ENTERED"), null);
+
+		assertThat(interceptor.getTotalQueuedBytes()).isEqualTo("ENTERED".length());
+		assertThat(interceptor.beforeHandle(message, null, null)).isSameAs(message);
+
+		interceptor.afterMessageHandled(message, null, null, null);
+		assertThat(interceptor.getTotalQueuedBytes()).isZero();
+	}
+
+	@Test
+	@DisplayName("전송 제한 초과로 종료된 세션은 eviction으로 집계")
+	void slowSessionCloseIsCountedAsEviction() {
+		interceptor.preSend(outbound(SESSION_ID, null, "ENTERED"), null);
+
+		interceptor.handleSessionDisconnect(disconnectEvent(SESSION_ID, CloseStatus.SESSION_NOT_RELIABLE));
+
+		assertThat(meterRegistry.get("websocket.sessions.evicted").counter().count()).isEqualTo(1.0);
+		assertThat(interceptor.getTotalQueuedBytes()).isZero();
+	}
+
+	private double droppedCount(String reason) {
+		return meterRegistry.get("websocket.outbound.frames.dropped").tag("reason", reason).counter().count();
+	}
+
+	private Message<byte[]> outbound(String sessionId, String conflationKey, String body) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(sessionId);
+		if (conflationKey != null) {
+			accessor.setHeader(OutboundBackpressureInterceptor.CONFLATION_KEY_HEADER, conflationKey);
+		}
+		accessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(body.getBytes(), accessor.getMessageHeaders());
+	}
+
+	private SessionConnectEvent connectEvent(String sessionId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+		accessor.setSessionId(sessionId);
+		return new SessionConnectEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+	}
+
+	private SessionDisconnectEvent disconnectEvent(String sessionId, CloseStatus closeStatus) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+		accessor.setSessionId(sessionId);
+		return new SessionDisconnectEvent(
+			this,
+			MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()),
+			sessionId,
+			closeStatus
+		);
+	}
+}
@@ -6,11 +6,14 @@ import com.back.domain.seat.entity.SeatGrade;
 
 public class SeatFactory extends BaseFactory {
 
+	// 좌석 지정 선택이 가능한 등급 (스탠딩 GA 제외)
+	private static final SeatGrade[] RESERVED_GRADES = {SeatGrade.VIP, SeatGrade.R, SeatGrade.S, SeatGrade.A};
+
 	public static Seat fakeSeat(Event event) {
 		return Seat.createSeat(
 			event,
 			faker.regexify("[A-Z][0-9]{1,2}"),
-			faker.options().option(SeatGrade.values()),
+			faker.options().option(RESERVED_GRADES),
 			faker.number().numberBetween(50000, 200000)
 		);
 	}
@@ -19,7 +22,7 @@ public class SeatFactory extends BaseFactory {
 		return Seat.createSeat(
 			event,
 			seatCode,
-			faker.options().option(SeatGrade.values()),
+			faker.options().option(RESERVED_GRADES),
 			faker.number().numberBetween(50000, 200000)
 		);
 	}
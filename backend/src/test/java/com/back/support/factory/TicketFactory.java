@@ -19,6 +19,7 @@ public class TicketFactory extends BaseFactory {
 			.seat(seat)
 			.event(event)
 			.ticketStatus(TicketStatus.DRAFT)
+			.holdExpiresAt(LocalDateTime.now().plusMinutes(5))
 			.build();
 	}
 
@@ -0,0 +1,97 @@
+package com.back.support.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 테스트용 로컬 PG 서버 (토스페이먼츠 결제 승인/조회 API 흉내)
+ * - 응답 상태/본문/지연을 테스트마다 바꿔 PG 장애 상황을 재현
+ * - 받은 요청 수로 벌크헤드/서킷 브레이커가 PG 호출을 막았는지 확인
+ */
+public class StubTossServer implements AutoCloseable {
+
+	public static final String APPROVED = """
+		{"paymentKey":"toss_payment_key","status":"DONE","method":"카드","totalAmount":50000}
+		""";
+	public static final String REJECTED = """
+		{"code":"REJECT_CARD_COMPANY","message":"카드사에서 거절했습니다."}
+		""";
+	public static final String SERVER_ERROR = """
+		{"code":"FAILED_INTERNAL_SYSTEM_PROCESSING","message":"내부 시스템 처리 작업이 실패했습니다."}
+		""";
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final AtomicInteger requests = new AtomicInteger();
+
+	private volatile int status = 200;
+	private volatile String body = APPROVED;
+	private volatile long delayMs;
+
+	private StubTossServer(HttpServer server) {
+		this.server = server;
+		server.createContext("/v1/payments", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	public static StubTossServer start() throws IOException {
+		return new StubTossServer(HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0));
+	}
+
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	public void respond(int status, String body) {
+		this.status = status;
+		this.body = body;
+	}
+
+	public void delay(long delayMs) {
+		this.delayMs = delayMs;
+	}
+
+	public int requestCount() {
+		return requests.get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requests.incrementAndGet();
+		try (InputStream in = exchange.getRequestBody()) {
+			in.readAllBytes();
+		}
+
+		if (delayMs > 0) {
+			try {
+				Thread.sleep(delayMs);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				exchange.close();
+				return;
+			}
+		}
+
+		byte[] response = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, response.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(response);
+		}
+	}
+}
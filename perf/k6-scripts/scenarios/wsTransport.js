@@ -0,0 +1,106 @@
+import ws from "k6/ws";
+import { check } from "k6";
+import { Counter, Trend } from "k6/metrics";
+
+/**
+ * STOMP over WebSocket 연결/구독 시나리오 (transport 비교용)
+ * - native : /ws-native (permessage-deflate, binary 프레임)
+ * - sockjs : /ws/{server}/{session}/websocket (SockJS websocket transport, text 프레임 + SockJS 인코딩)
+ */
+
+export const stompConnectedTime = new Trend("stomp_connected_time", true);
+export const stompFramesReceived = new Counter("stomp_frames_received");
+export const stompBytesReceived = new Counter("stomp_bytes_received");
+export const stompConnectDeferred = new Counter("stomp_connect_deferred");
+
+const NULL = "\u0000";
+
+function stompFrame(command, headers, body = "") {
+  const lines = [command];
+  Object.entries(headers).forEach(([k, v]) => lines.push(`${k}:${v}`));
+  return `${lines.join("\n")}\n\n${body}${NULL}`;
+}
+
+function randomSockJsPath() {
+  const server = Math.floor(Math.random() * 1000);
+  const session = Math.random().toString(36).substring(2, 10);
+  return `${server}/${session}`;
+}
+
+/**
+ * @param {string} wsBaseUrl - ws://host:port
+ * @param {"native"|"sockjs"} transport
+ * @param {string} jwt
+ * @param {number} eventId - 구독할 이벤트 (대기열/좌석 토픽)
+ * @param {number} holdSeconds - 연결 유지 시간
+ */
+export function connectStomp(wsBaseUrl, transport, jwt, eventId, holdSeconds, testId) {
+  const isNative = transport === "native";
+  const url = isNative
+    ? `${wsBaseUrl}/ws-native`
+    : `${wsBaseUrl}/ws/${randomSockJsPath()}/websocket`;
+
+  const params = {
+    tags: { transport, test_id: testId },
+    compression: isNative ? "deflate" : "",
+  };
+
+  const startedAt = Date.now();
+  const tags = { transport };
+
+  const send = (socket, frame) => socket.send(isNative ? frame : JSON.stringify([frame]));
+
+  const onStompFrame = (socket, frame, size) => {
+    stompFramesReceived.add(1, tags);
+    stompBytesReceived.add(size, tags);
+
+    if (frame.startsWith("CONNECTED")) {
+      stompConnectedTime.add(Date.now() - startedAt, tags);
+      send(socket, stompFrame("SUBSCRIBE", { id: "queue", destination: `/topic/events/${eventId}/queue` }));
+      send(socket, stompFrame("SUBSCRIBE", { id: "seats", destination: `/topic/events/${eventId}/seats` }));
+    } else if (frame.startsWith("ERROR")) {
+      if (frame.includes("retry-after")) {
+        stompConnectDeferred.add(1, tags);
+      }
+      socket.close();
+    }
+  };
+
+  const connectFrame = stompFrame("CONNECT", {
+    "accept-version": "1.2",
+    "heart-beat": "0,0",
+    Authorization: `Bearer ${jwt}`,
+  });
+
+  const res = ws.connect(url, params, (socket) => {
+    socket.on("open", () => {
+      if (isNative) {
+        send(socket, connectFrame);
+      }
+    });
+
+    socket.on("message", (data) => {
+      if (isNative) {
+        onStompFrame(socket, data, data.length);
+        return;
+      }
+
+      // SockJS: o(open) / h(heartbeat) / a[...](메시지 배열) / c[...](close)
+      if (data === "o") {
+        send(socket, connectFrame);
+      } else if (data.startsWith("a")) {
+        JSON.parse(data.substring(1)).forEach((frame) => onStompFrame(socket, frame, data.length));
+      }
+    });
+
+    socket.on("binaryMessage", (data) => {
+      stompFramesReceived.add(1, tags);
+      stompBytesReceived.add(data.byteLength, tags);
+    });
+
+    socket.setTimeout(() => socket.close(), holdSeconds * 1000);
+  });
+
+  check(res, { "handshake 101": (r) => r && r.status === 101 });
+  return res;
+}
@@ -0,0 +1,79 @@
+import { connectStomp } from "../scenarios/wsTransport.js";
+import { generateJWT } from "../util/jwt.js";
+
+/**
+ * WebSocket transport 비교 부하 테스트 (native vs SockJS)
+ * - 같은 VU 수/연결 유지 시간으로 두 transport를 순차 실행
+ * - transport 태그로 stomp_connected_time, stomp_bytes_received, ws_connecting 비교
+ *
+ * 실행 예: k6 run -e JWT_SECRET=... -e CONNECTIONS=5000 tests/wsTransport.test.js
+ */
+const CONNECTIONS = parseInt(__ENV.CONNECTIONS || "1000", 10);
+const RAMP = __ENV.RAMP || "30s";
+const HOLD_SECONDS = parseInt(__ENV.HOLD_SECONDS || "60", 10);
+
+function rampScenario(transport, startTime) {
+  return {
+    executor: "ramping-vus",
+    exec: transport,
+    startTime,
+    stages: [
+      { duration: RAMP, target: CONNECTIONS },
+      { duration: `${HOLD_SECONDS}s`, target: CONNECTIONS },
+      { duration: "10s", target: 0 },
+    ],
+    gracefulRampDown: "10s",
+    tags: { transport },
+  };
+}
+
+export const options = {
+  scenarios: {
+    native: rampScenario("native", "0s"),
+    sockjs: rampScenario("sockjs", `${parseInt(RAMP, 10) + HOLD_SECONDS + 30}s`),
+  },
+  thresholds: {
+    "stomp_connected_time{transport:native}": ["p(95)<1000"],
+    "stomp_connected_time{transport:sockjs}": ["p(95)<1000"],
+  },
+};
+
+export function setup() {
+  const secret = __ENV.JWT_SECRET;
+  if (!secret) {
+    throw new Error("JWT_SECRET 환경변수가 필요합니다.");
+  }
+
+  const tokens = Array.from({ length: CONNECTIONS }, (_, i) => {
+    const userId = i + 1;
+    return generateJWT(
+      {
+        id: userId,
+        email: `test${userId}@test.com`,
+        nickname: `PerfUser${userId}`
+      },
+      secret
+    );
+  });
+
+  return {
+    tokens,
+    testId: new Date().toISOString().replace(/[:.]/g, "-"),
+  };
+}
+
+function run(transport, data) {
+  const wsBaseUrl = (__ENV.BASE_URL || "http://host.docker.internal:8080").replace(/^http/, "ws");
+  const eventId = parseInt(__ENV.EVENT_ID || "3", 10);
+  const jwt = data.tokens[(__VU - 1) % data.tokens.length];
+
+  connectStomp(wsBaseUrl, transport, jwt, eventId, HOLD_SECONDS, data.testId);
+}
+
+export function native(data) {
+  run("native", data);
+}
+
+export function sockjs(data) {
+  run("sockjs", data);
+}